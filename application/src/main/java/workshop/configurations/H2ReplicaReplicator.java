@@ -0,0 +1,82 @@
+package workshop.configurations;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The stand-in replication for the local development and tests only: periodically copies the whole primary H2
+ * database into the replica H2 one with the H2 'SCRIPT' command, so that the replica lags behind the primary for
+ * up to 'datasource.replica.h2Replicator.delayMillis' as a real asynchronous replica does.
+ * <p>
+ * While the copy is being applied the replica is recreated, so the {@link ReplicaRoutingDataSource} is suspended and
+ * all the reads go to the primary until the copy is complete. If the current replica reads aren't finished within
+ * 'datasource.replica.h2Replicator.suspendTimeoutMillis' the copy is skipped until the next time.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"datasource.replica.enabled", "datasource.replica.h2Replicator.enabled"},
+					   havingValue = "true")
+public class H2ReplicaReplicator {
+
+	private final DataSource primaryDataSource;
+	private final ReplicaRoutingDataSource replicaRoutingDataSource;
+	private final long suspendTimeoutMillis;
+	private final String replicaUrl;
+	private final String replicaUsername;
+	private final String replicaPassword;
+
+	public H2ReplicaReplicator(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		ReplicaRoutingDataSource replicaRoutingDataSource,
+		@Value("${datasource.replica.h2Replicator.suspendTimeoutMillis:5000}") long suspendTimeoutMillis,
+		@Value("${datasource.replica.url}") String replicaUrl,
+		@Value("${datasource.replica.username}") String replicaUsername,
+		@Value("${datasource.replica.password}") String replicaPassword) {
+		this.primaryDataSource = primaryDataSource;
+		this.replicaRoutingDataSource = replicaRoutingDataSource;
+		this.suspendTimeoutMillis = suspendTimeoutMillis;
+		this.replicaUrl = replicaUrl;
+		this.replicaUsername = replicaUsername;
+		this.replicaPassword = replicaPassword;
+	}
+
+	@Scheduled(fixedDelayString = "${datasource.replica.h2Replicator.delayMillis:1000}")
+	public void replicate() throws SQLException, InterruptedException {
+		long start = System.currentTimeMillis();
+		List<String> script = new ArrayList<>();
+		try (Connection primary = primaryDataSource.getConnection();
+			 Statement scriptStatement = primary.createStatement();
+			 ResultSet scriptLines = scriptStatement.executeQuery("SCRIPT NOSETTINGS")) {
+			while (scriptLines.next()) {
+				script.add(scriptLines.getString(1));
+			}
+		}
+		if (!replicaRoutingDataSource.suspendReplica(suspendTimeoutMillis)) {
+			log.warn("The replica reads aren't finished within {} ms, the replication is skipped", suspendTimeoutMillis);
+			return;
+		}
+		//The replica pool is read-only so the separate connection is used
+		try (Connection replica = DriverManager.getConnection(replicaUrl, replicaUsername, replicaPassword);
+			 Statement replicaStatement = replica.createStatement()) {
+			replicaStatement.execute("DROP ALL OBJECTS");
+			for (String statement : script) {
+				replicaStatement.execute(statement);
+			}
+			if (!replica.getAutoCommit()) {
+				replica.commit();
+			}
+		} finally {
+			replicaRoutingDataSource.resumeReplica();
+		}
+		log.trace("{} statements are replicated in {} ms", script.size(), System.currentTimeMillis() - start);
+	}
+}
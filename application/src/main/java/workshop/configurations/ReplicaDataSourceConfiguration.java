@@ -0,0 +1,83 @@
+package workshop.configurations;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * If 'datasource.replica.enabled=true' the single Hikari pool is replaced with the {@link ReplicaRoutingDataSource}
+ * over two pools: the primary one (from the usual 'spring.datasource.*' properties) and the replica one
+ * (from 'datasource.replica.*'). All the 'readOnly = true' transactions are routed to the replica.
+ * <p>
+ * For the local development both pools can point to two H2 instances which are kept in sync by
+ * {@link H2ReplicaReplicator} ('datasource.replica.h2Replicator.enabled=true').
+ * <p>
+ * (!) Hibernate releases the connection after every transaction instead of holding it for the whole Session, as
+ * within the open-in-view Session the first transaction would fix the route for all the following ones (e.g. the
+ * read-only 'findById' would make the next update to be written through the replica connection).
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfiguration {
+
+	@Value("${datasource.replica.stickToPrimaryMillis:5000}")
+	private long stickToPrimaryMillis;
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		HikariDataSource primaryDataSource =
+			dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		primaryDataSource.setPoolName("primaryPool");
+		return primaryDataSource;
+	}
+
+	/**
+	 * The replica connections are read-only so the accidental writes fail instead of being lost on the next sync.
+	 */
+	@Bean
+	@ConfigurationProperties("datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+		@Value("${datasource.replica.url}") String url,
+		@Value("${datasource.replica.username}") String username,
+		@Value("${datasource.replica.password}") String password,
+		DataSourceProperties dataSourceProperties) {
+		HikariDataSource replicaDataSource = new HikariDataSource();
+		replicaDataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+		replicaDataSource.setJdbcUrl(url);
+		replicaDataSource.setUsername(username);
+		replicaDataSource.setPassword(password);
+		replicaDataSource.setReadOnly(true);
+		replicaDataSource.setPoolName("replicaPool");
+		return replicaDataSource;
+	}
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+		return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, stickToPrimaryMillis);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer connectionReleaseAfterTransactionCustomizer() {
+		return hibernateProperties -> hibernateProperties.put(
+			"hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+	}
+}
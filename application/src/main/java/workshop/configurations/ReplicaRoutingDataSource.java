@@ -0,0 +1,259 @@
+package workshop.configurations;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Routes the connections of the 'readOnly = true' transactions to the replica DataSource and all the others to the
+ * primary one.
+ * <p>
+ * As the replica lags behind the primary, the reads of an authenticated User are stuck to the primary for
+ * 'stickToPrimaryMillis' after the commit of their own read-write transaction, so the Users always see what they
+ * have just written. Every read-write transaction is counted as a write.
+ * <p>
+ * (!) Has to be wrapped into {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} as the
+ * transaction managers obtain the connection before the transaction 'readOnly' flag is exposed by
+ * {@link TransactionSynchronizationManager}.
+ * <p>
+ * The replica can be {@link #suspendReplica(long)}ed (e.g. while it is being refreshed) so all the reads are routed to
+ * the primary until it is {@link #resumeReplica()}d.
+ * <p>
+ * Up to {@link #LAST_WRITES_MAX_SIZE} last writes are remembered. Over it the writes out of the lag guard are removed
+ * first and then the oldest ones, so the reads of the Users evicted that way may go to the replica earlier.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	/**
+	 * The key of the resource bound to the read-write transaction to register its write synchronization only once.
+	 */
+	private static final Object WRITE_TRANSACTION_KEY = new Object();
+	/**
+	 * To prevent the unbounded growth of the last writes by the Users which don't read anymore.
+	 */
+	static final int LAST_WRITES_MAX_SIZE = 10000;
+	/**
+	 * The oldest writes are evicted by the batches of this size so the eviction isn't repeated on every next write.
+	 */
+	private static final int LAST_WRITES_EVICTION_SIZE = LAST_WRITES_MAX_SIZE / 10;
+
+	private final ConcurrentMap<String, Long> lastWritesNanos = new ConcurrentHashMap<>();
+	private final long stickToPrimaryNanos;
+	private final DataSource primary;
+	private final DataSource replica;
+	/**
+	 * The replica connections which are not closed yet.
+	 */
+	private final AtomicInteger replicaConnections = new AtomicInteger();
+	private volatile boolean replicaSuspended;
+
+	/**
+	 * @param primary              The DataSource for all the read-write transactions and the statements outside them.
+	 * @param replica              The DataSource for the read-only transactions.
+	 * @param stickToPrimaryMillis The replication lag guard: how long a User reads from the primary after their write.
+	 */
+	public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long stickToPrimaryMillis) {
+		this.stickToPrimaryNanos = TimeUnit.MILLISECONDS.toNanos(stickToPrimaryMillis);
+		this.primary = primary;
+		this.replica = replica;
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		targetDataSources.put(Route.PRIMARY, primary);
+		targetDataSources.put(Route.REPLICA, replica);
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return getRoutedConnection(DataSource::getConnection);
+	}
+
+	/**
+	 * Is routed the same way as {@link #getConnection()}, the credentials are passed to the chosen DataSource.
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return getRoutedConnection(dataSource -> dataSource.getConnection(username, password));
+	}
+
+	/**
+	 * Routes all the new reads to the primary and waits for the current replica connections to be closed.
+	 *
+	 * @return False if the replica connections haven't been closed within the given time. The replica is resumed then.
+	 */
+	public boolean suspendReplica(long timeoutMillis) throws InterruptedException {
+		replicaSuspended = true;
+		long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		while (replicaConnections.get() > 0) {
+			if (System.nanoTime() > deadlineNanos) {
+				resumeReplica();
+				return false;
+			}
+			TimeUnit.MILLISECONDS.sleep(5);
+		}
+		return true;
+	}
+
+	public void resumeReplica() {
+		replicaSuspended = false;
+	}
+
+	private Connection getRoutedConnection(ConnectionGetter connectionGetter) throws SQLException {
+		Object lookupKey = determineCurrentLookupKey();
+		if (Route.REPLICA.equals(lookupKey)) {
+			return getReplicaConnection(connectionGetter);
+		}
+		return connectionGetter.getConnection(primary);
+	}
+
+	/**
+	 * The counter is incremented before checking the suspension and the suspension is set before checking the counter,
+	 * so either the suspending thread waits for this connection or this one goes to the primary.
+	 */
+	private Connection getReplicaConnection(ConnectionGetter connectionGetter) throws SQLException {
+		replicaConnections.incrementAndGet();
+		if (replicaSuspended) {
+			replicaConnections.decrementAndGet();
+			log.trace("The replica is suspended, the read is routed to the primary");
+			return connectionGetter.getConnection(primary);
+		}
+		Connection replicaConnection;
+		try {
+			replicaConnection = connectionGetter.getConnection(replica);
+		} catch (SQLException | RuntimeException e) {
+			replicaConnections.decrementAndGet();
+			throw e;
+		}
+		AtomicBoolean closed = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(
+			Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+				if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+					replicaConnections.decrementAndGet();
+				}
+				try {
+					return method.invoke(replicaConnection, args);
+				} catch (InvocationTargetException e) {
+					throw e.getTargetException();
+				}
+			});
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return Route.PRIMARY;
+		}
+		String username = getCurrentUsername();
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			registerWrite(username);
+			return Route.PRIMARY;
+		}
+		if (username != null && isStuckToPrimary(username)) {
+			log.trace("Reads of {} are stuck to the primary after the recent write", username);
+			return Route.PRIMARY;
+		}
+		return Route.REPLICA;
+	}
+
+	/**
+	 * Remembers the User's write time after the commit of the current read-write transaction.
+	 */
+	private void registerWrite(@Nullable String username) {
+		if (username == null || TransactionSynchronizationManager.hasResource(WRITE_TRANSACTION_KEY)) {
+			return;
+		}
+		TransactionSynchronizationManager.bindResource(WRITE_TRANSACTION_KEY, username);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRANSACTION_KEY);
+				if (status == TransactionSynchronization.STATUS_COMMITTED) {
+					if (lastWritesNanos.size() >= LAST_WRITES_MAX_SIZE && !lastWritesNanos.containsKey(username)) {
+						evictLastWrites();
+					}
+					lastWritesNanos.put(username, System.nanoTime());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Removes the writes out of the lag guard and, if there are still too many of them, the oldest ones.
+	 * The concurrent writes may exceed the max size by the amount of the committing threads.
+	 */
+	private synchronized void evictLastWrites() {
+		lastWritesNanos.values().removeIf(writeNanos -> !isWithinLag(writeNanos));
+		int exceedingSize = lastWritesNanos.size() - (LAST_WRITES_MAX_SIZE - LAST_WRITES_EVICTION_SIZE);
+		if (exceedingSize <= 0) {
+			return;
+		}
+		long nowNanos = System.nanoTime();
+		lastWritesNanos.entrySet().stream()
+			.sorted(Comparator.comparingLong(lastWrite -> lastWrite.getValue() - nowNanos))
+			.limit(exceedingSize)
+			.collect(Collectors.toList())
+			.forEach(oldestWrite -> lastWritesNanos.remove(oldestWrite.getKey(), oldestWrite.getValue()));
+		log.debug("{} oldest writes within the lag guard are evicted", exceedingSize);
+	}
+
+	private boolean isStuckToPrimary(String username) {
+		Long lastWriteNanos = lastWritesNanos.get(username);
+		if (lastWriteNanos == null) {
+			return false;
+		} else if (isWithinLag(lastWriteNanos)) {
+			return true;
+		}
+		lastWritesNanos.remove(username, lastWriteNanos);
+		return false;
+	}
+
+	private boolean isWithinLag(long writeNanos) {
+		return System.nanoTime() - writeNanos < stickToPrimaryNanos;
+	}
+
+	@Nullable
+	private String getCurrentUsername() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated() ||
+			authentication instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		return authentication.getName();
+	}
+
+	int getLastWritesSize() {
+		return lastWritesNanos.size();
+	}
+
+	public enum Route {
+		PRIMARY, REPLICA
+	}
+
+	@FunctionalInterface
+	private interface ConnectionGetter {
+
+		Connection getConnection(DataSource dataSource) throws SQLException;
+	}
+}
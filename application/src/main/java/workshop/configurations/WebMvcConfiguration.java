@@ -3,6 +3,7 @@ package workshop.configurations;
 import lombok.AccessLevel;
 import lombok.Setter;
 import nz.net.ultraq.thymeleaf.LayoutDialect;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -11,6 +12,7 @@ import org.springframework.hateoas.config.EnableEntityLinks;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.*;
 import org.thymeleaf.spring5.SpringTemplateEngine;
+import workshop.controllers.utils.StatementsCountInterceptor;
 import workshop.http.ResponseHeadersInternalFilter;
 
 import java.util.List;
@@ -42,6 +44,14 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
 	@Value("${Content-Language}")
 	private String headerContentLanguageValue;
 	
+	@Autowired
+	private StatementsCountInterceptor statementsCountInterceptor;
+	
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(statementsCountInterceptor);
+	}
+	
 	@Override
 	public void addCorsMappings(CorsRegistry registry) {
 		registry
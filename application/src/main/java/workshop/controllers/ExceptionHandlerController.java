@@ -10,12 +10,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.lang.Nullable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.validation.BindingResult;
@@ -29,7 +32,9 @@ import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import workshop.controllers.utils.UserMessagesCreator;
 import workshop.exceptions.*;
+import workshop.internal.entities.WorkshopEntity;
 import workshop.internal.services.serviceUtils.JsonServiceUtils;
+import workshop.internal.services.serviceUtils.WorkshopEntitiesRegistry;
 
 import javax.persistence.*;
 import javax.servlet.ServletException;
@@ -62,6 +67,9 @@ public class ExceptionHandlerController {
 	@Autowired
 	private UserMessagesCreator userMessagesCreator;
 	
+	@Autowired
+	private WorkshopEntitiesRegistry workshopEntitiesRegistry;
+	
 	@Value("${spring.servlet.multipart.max-request-size}")
 	private String maxUploadImageSize;
 	
@@ -205,6 +213,13 @@ public class ExceptionHandlerController {
 				iae.getHttpStatus() != null ? iae.getHttpStatus() : HttpStatus.UNPROCESSABLE_ENTITY,
 				message);
 			
+		} else if (wx instanceof TooManyRequestsException) {
+			TooManyRequestsException tmr = (TooManyRequestsException) wx;
+			return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(tmr.getRetryAfterSeconds()))
+				.contentType(MediaType.APPLICATION_JSON_UTF8)
+				.body("{\"errorMessage\":\"" + message + "\"}");
+			
 		} else if (wx instanceof UuidAuthenticationException) {
 			UuidAuthenticationException uuidex = (UuidAuthenticationException) wx;
 			log.info(uuidex.getMessage(), uuidex);
@@ -232,7 +247,14 @@ public class ExceptionHandlerController {
 	@ExceptionHandler({PersistenceException.class})
 	@ResponseBody
 	public ResponseEntity<String> catchWorkshopExceptions(PersistenceException exception, Locale locale) {
-		if (exception instanceof EntityExistsException) {
+		if (exception instanceof OptimisticLockException) {
+			log.debug(exception.getMessage(), exception);
+			Object entity = ((OptimisticLockException) exception).getEntity();
+			return entity instanceof WorkshopEntity ?
+				getVersionConflictResponse(entity.getClass().getName(), ((WorkshopEntity) entity).getIdentifier(), locale) :
+				getVersionConflictResponse(null, null, locale);
+			
+		} else if (exception instanceof EntityExistsException) {
 			log.debug(exception.getMessage(), exception);
 			return getResponseEntityWithErrorMessage(HttpStatus.UNPROCESSABLE_ENTITY,
 				messageSource.getMessage("error.entityIdExists", null, locale));
@@ -263,6 +285,22 @@ public class ExceptionHandlerController {
 		}
 	}
 	
+	/**
+	 * The concurrently updated WorkshopEntity (see {@link WorkshopEntity#getVersion()}).
+	 * Usually thrown by the transaction commit as the Spring exception instead of {@link OptimisticLockException}.
+	 */
+	@ExceptionHandler({OptimisticLockingFailureException.class})
+	@ResponseBody
+	public ResponseEntity<String> optimisticLockFailure(OptimisticLockingFailureException exception, Locale locale) {
+		log.debug(exception.getMessage(), exception);
+		if (exception instanceof ObjectOptimisticLockingFailureException) {
+			ObjectOptimisticLockingFailureException objectException = (ObjectOptimisticLockingFailureException) exception;
+			return getVersionConflictResponse(
+				objectException.getPersistentClassName(), objectException.getIdentifier(), locale);
+		}
+		return getVersionConflictResponse(null, null, locale);
+	}
+	
 	@ExceptionHandler({IllegalArgumentException.class})
 	@ResponseBody
 	public ResponseEntity<String> illegalArgumentsFailure(IllegalArgumentException iex) {
@@ -303,6 +341,25 @@ public class ExceptionHandlerController {
 		return getResponseEntityWithErrorMessage(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected internal error occurred!");
 	}
 	
+	/**
+	 * @return 409 with '{"errorMessage":"...","currentVersion":5}' so the client can reload the WorkshopEntity
+	 * and reapply its changes over the current version. Without 'currentVersion' if it is unknown or the
+	 * WorkshopEntity has been removed.
+	 */
+	private ResponseEntity<String> getVersionConflictResponse(
+		@Nullable String entityClassName, @Nullable Object identifier, Locale locale) {
+		Long currentVersion = null;
+		if (entityClassName != null && identifier instanceof Long) {
+			currentVersion = workshopEntitiesRegistry.findDescriptorByClassName(entityClassName)
+				.map(WorkshopEntitiesRegistry.WorkshopEntityDescriptor::getService)
+				.flatMap(workshopEntitiesService -> workshopEntitiesService.findVersion((Long) identifier))
+				.orElse(null);
+		}
+		String messageBody = "{\"errorMessage\":\"" + messageSource.getMessage("error.versionConflict", null, locale) +
+			"\"" + (currentVersion != null ? ",\"currentVersion\":" + currentVersion : "") + "}";
+		return ResponseEntity.status(HttpStatus.CONFLICT).contentType(MediaType.APPLICATION_JSON_UTF8).body(messageBody);
+	}
+	
 	private ResponseEntity<String> getResponseEntityWithErrorMessage(HttpStatus httpStatus, @Nullable String messageBody)
 		throws IllegalArgumentException {
 		if (httpStatus == null) {
@@ -10,119 +10,119 @@
 -- CREATE SCHEMA IF NOT EXISTS INTERNAL;
 -- CREATE SCHEMA IF NOT EXISTS EXTERNAL;
 
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (200, 'AuthorityPermission', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (201, 'Classifier', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (202, 'Department', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (203, 'Employee', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (204, 'ExternalAuthority', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (205, 'InternalAuthority', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (206, 'Order', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (207, 'Phone', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (208, 'Position', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (209, 'Task', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (210, 'User', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, NAME, CREATED)
-VALUES (211, 'WorkshopEntityType', CURRENT_TIMESTAMP());
-
-
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (101, CURRENT_TIMESTAMP(), 'ADMIN_READ', 'WorkshopEntities with READ permission for this InternalAuthority');
-
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (102, CURRENT_TIMESTAMP(), 'ADMIN_WRITE', 'WorkshopEntities with WRITE permission for this InternalAuthority');
-
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (103, CURRENT_TIMESTAMP(), 'ADMIN_FULL', 'WorkshopEntities with FULL permission for this InternalAuthority');
-
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (104, CURRENT_TIMESTAMP(), 'WORKSHOP_READ', 'WorkshopEntities with READ permission for this InternalAuthority');
-
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (105, CURRENT_TIMESTAMP(), 'WORKSHOP_WRITE',
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (200, 0, 'AuthorityPermission', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (201, 0, 'Classifier', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (202, 0, 'Department', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (203, 0, 'Employee', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (204, 0, 'ExternalAuthority', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (205, 0, 'InternalAuthority', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (206, 0, 'Order', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (207, 0, 'Phone', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (208, 0, 'Position', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (209, 0, 'Task', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (210, 0, 'User', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.WORKSHOP_ENTITY_TYPE (ID, VERSION, NAME, CREATED)
+VALUES (211, 0, 'WorkshopEntityType', CURRENT_TIMESTAMP());
+
+
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (101, 0, CURRENT_TIMESTAMP(), 'ADMIN_READ', 'WorkshopEntities with READ permission for this InternalAuthority');
+
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (102, 0, CURRENT_TIMESTAMP(), 'ADMIN_WRITE', 'WorkshopEntities with WRITE permission for this InternalAuthority');
+
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (103, 0, CURRENT_TIMESTAMP(), 'ADMIN_FULL', 'WorkshopEntities with FULL permission for this InternalAuthority');
+
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (104, 0, CURRENT_TIMESTAMP(), 'WORKSHOP_READ', 'WorkshopEntities with READ permission for this InternalAuthority');
+
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (105, 0, CURRENT_TIMESTAMP(), 'WORKSHOP_WRITE',
 		'WorkshopEntities with WRITE permission for this InternalAuthority');
 
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (106, CURRENT_TIMESTAMP(), 'WORKSHOP_FULL', 'WorkshopEntities with FULL permission for this InternalAuthority');
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (106, 0, CURRENT_TIMESTAMP(), 'WORKSHOP_FULL', 'WorkshopEntities with FULL permission for this InternalAuthority');
 
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (107, CURRENT_TIMESTAMP(), 'HR_READ', 'WorkshopEntities with READ permission for this InternalAuthority');
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (107, 0, CURRENT_TIMESTAMP(), 'HR_READ', 'WorkshopEntities with READ permission for this InternalAuthority');
 
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (108, CURRENT_TIMESTAMP(), 'HR_WRITE', 'WorkshopEntities with WRITE permission for this InternalAuthority');
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (108, 0, CURRENT_TIMESTAMP(), 'HR_WRITE', 'WorkshopEntities with WRITE permission for this InternalAuthority');
 
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (109, CURRENT_TIMESTAMP(), 'HR_FULL', 'WorkshopEntities with FULL permission for this InternalAuthority');
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (109, 0, CURRENT_TIMESTAMP(), 'HR_FULL', 'WorkshopEntities with FULL permission for this InternalAuthority');
 
-INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (110, CURRENT_TIMESTAMP(), 'EMPLOYEE_READ',
+INSERT INTO INTERNAL.INTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (110, 0, CURRENT_TIMESTAMP(), 'EMPLOYEE_READ',
 		'Basic permission as the marker for being employed. HAS TO BE PRESENT AT ALL THE POSITIONS!!!');
 
 --
 
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (140, 'GET', 101, CURRENT_TIMESTAMP(), 'For ADMIN_READ');
-
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (141, 'GET', 102, CURRENT_TIMESTAMP(), 'For ADMIN_WRITE');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (142, 'PUT', 102, CURRENT_TIMESTAMP(), 'For ADMIN_WRITE');
-
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (143, 'GET', 103, CURRENT_TIMESTAMP(), 'For ADMIN_FULL');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (144, 'PUT', 103, CURRENT_TIMESTAMP(), 'For ADMIN_FULL');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (145, 'POST', 103, CURRENT_TIMESTAMP(), 'For ADMIN_FULL');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (160, 'DELETE', 103, CURRENT_TIMESTAMP(), 'For ADMIN_FULL');
-
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (146, 'GET', 104, CURRENT_TIMESTAMP(), 'For WORKSHOP_READ');
-
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (147, 'GET', 105, CURRENT_TIMESTAMP(), 'For WORKSHOP_WRITE');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (148, 'PUT', 105, CURRENT_TIMESTAMP(), 'For WORKSHOP_WRITE');
-
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (149, 'GET', 106, CURRENT_TIMESTAMP(), 'For WORKSHOP_FULL');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (150, 'PUT', 106, CURRENT_TIMESTAMP(), 'For WORKSHOP_FULL');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (151, 'POST', 106, CURRENT_TIMESTAMP(), 'For WORKSHOP_FULL');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (161, 'DELETE', 106, CURRENT_TIMESTAMP(), 'For WORKSHOP_FULL');
-
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (152, 'GET', 107, CURRENT_TIMESTAMP(), 'For HR_READ');
-
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (153, 'GET', 108, CURRENT_TIMESTAMP(), 'For HR_WRITE');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (154, 'PUT', 108, CURRENT_TIMESTAMP(), 'For HR_WRITE');
-
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (155, 'GET', 109, CURRENT_TIMESTAMP(), 'For HR_FULL');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (156, 'PUT', 109, CURRENT_TIMESTAMP(), 'For HR_FULL');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (157, 'POST', 109, CURRENT_TIMESTAMP(), 'For HR_FULL');
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (162, 'DELETE', 109, CURRENT_TIMESTAMP(), 'For HR_FULL');
-
-INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
-VALUES (158, 'GET', 110, CURRENT_TIMESTAMP(), 'For EMPLOYEE_READ');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (140, 0, 'GET', 101, CURRENT_TIMESTAMP(), 'For ADMIN_READ');
+
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (141, 0, 'GET', 102, CURRENT_TIMESTAMP(), 'For ADMIN_WRITE');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (142, 0, 'PUT', 102, CURRENT_TIMESTAMP(), 'For ADMIN_WRITE');
+
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (143, 0, 'GET', 103, CURRENT_TIMESTAMP(), 'For ADMIN_FULL');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (144, 0, 'PUT', 103, CURRENT_TIMESTAMP(), 'For ADMIN_FULL');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (145, 0, 'POST', 103, CURRENT_TIMESTAMP(), 'For ADMIN_FULL');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (160, 0, 'DELETE', 103, CURRENT_TIMESTAMP(), 'For ADMIN_FULL');
+
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (146, 0, 'GET', 104, CURRENT_TIMESTAMP(), 'For WORKSHOP_READ');
+
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (147, 0, 'GET', 105, CURRENT_TIMESTAMP(), 'For WORKSHOP_WRITE');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (148, 0, 'PUT', 105, CURRENT_TIMESTAMP(), 'For WORKSHOP_WRITE');
+
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (149, 0, 'GET', 106, CURRENT_TIMESTAMP(), 'For WORKSHOP_FULL');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (150, 0, 'PUT', 106, CURRENT_TIMESTAMP(), 'For WORKSHOP_FULL');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (151, 0, 'POST', 106, CURRENT_TIMESTAMP(), 'For WORKSHOP_FULL');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (161, 0, 'DELETE', 106, CURRENT_TIMESTAMP(), 'For WORKSHOP_FULL');
+
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (152, 0, 'GET', 107, CURRENT_TIMESTAMP(), 'For HR_READ');
+
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (153, 0, 'GET', 108, CURRENT_TIMESTAMP(), 'For HR_WRITE');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (154, 0, 'PUT', 108, CURRENT_TIMESTAMP(), 'For HR_WRITE');
+
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (155, 0, 'GET', 109, CURRENT_TIMESTAMP(), 'For HR_FULL');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (156, 0, 'PUT', 109, CURRENT_TIMESTAMP(), 'For HR_FULL');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (157, 0, 'POST', 109, CURRENT_TIMESTAMP(), 'For HR_FULL');
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (162, 0, 'DELETE', 109, CURRENT_TIMESTAMP(), 'For HR_FULL');
+
+INSERT INTO INTERNAL.AUTHORITY_PERMISSIONS (ID, VERSION, PERMISSION_TYPE, INTERNAL_AUTHORITY_ID, CREATED, DESCRIPTION)
+VALUES (158, 0, 'GET', 110, CURRENT_TIMESTAMP(), 'For EMPLOYEE_READ');
 
 --
 
@@ -515,61 +515,61 @@ VALUES (207, 158);
 
 --
 
-INSERT INTO INTERNAL.DEPARTMENTS (ID, NAME, CREATED)
-VALUES (1, 'SITE MANAGEMENT', PARSEDATETIME('17-09-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.DEPARTMENTS (ID, NAME, CREATED)
-VALUES (2, 'HR', PARSEDATETIME('17-09-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.DEPARTMENTS (ID, NAME, CREATED)
-VALUES (3, 'MANAGEMENT', PARSEDATETIME('17-09-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.DEPARTMENTS (ID, NAME, CREATED)
-VALUES (4, 'TECHNICAL DEPARTMENT', PARSEDATETIME('17-09-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.DEPARTMENTS (ID, VERSION, NAME, CREATED)
+VALUES (1, 0, 'SITE MANAGEMENT', PARSEDATETIME('17-09-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.DEPARTMENTS (ID, VERSION, NAME, CREATED)
+VALUES (2, 0, 'HR', PARSEDATETIME('17-09-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.DEPARTMENTS (ID, VERSION, NAME, CREATED)
+VALUES (3, 0, 'MANAGEMENT', PARSEDATETIME('17-09-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.DEPARTMENTS (ID, VERSION, NAME, CREATED)
+VALUES (4, 0, 'TECHNICAL DEPARTMENT', PARSEDATETIME('17-09-2010 12:00', 'dd-MM-yyyy hh:mm'));
 
 --
 
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
-VALUES (11, 'Administrator', 'Администратор сайта с доступом ко всем разделам.', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 1);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
-VALUES (12, 'Senior personnel manager', 'Старший работник отдела кадров', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 2);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
-VALUES (13, 'Personnel manager', 'Работник отдела кадров', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 2);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
-VALUES (14, 'Senior manager', 'Старший менеджер по управлению заказами', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 3);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
-VALUES (15, 'Manager', 'Менеджер по управлению заказами', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 3);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
-VALUES (16, 'Senior technician', 'Старший техник', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 4);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
-VALUES (17, 'Technician', 'Техник', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 4);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
+VALUES (11, 0, 'Administrator', 'Администратор сайта с доступом ко всем разделам.', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 1);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
+VALUES (12, 0, 'Senior personnel manager', 'Старший работник отдела кадров', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 2);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
+VALUES (13, 0, 'Personnel manager', 'Работник отдела кадров', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 2);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
+VALUES (14, 0, 'Senior manager', 'Старший менеджер по управлению заказами', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 3);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
+VALUES (15, 0, 'Manager', 'Менеджер по управлению заказами', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 3);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
+VALUES (16, 0, 'Senior technician', 'Старший техник', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 4);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, DEPARTMENT_ID)
+VALUES (17, 0, 'Technician', 'Техник', PARSEDATETIME('27-09-2010 12:00', 'dd-MM-yyyy hh:mm'), 4);
 
 -- ALL PASSWORDS ARE THE SAME AS BCryptPasswordEncoder.encode STRING "12345" FOR THE SIMPLICITY
 
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
 								LANGUAGE_TAG)
-VALUES (21, DATE '1970-02-14', 'admin@workshop.pro', 'Feofan', 'Mudovski',
+VALUES (21, 0, DATE '1970-02-14', 'admin@workshop.pro', 'Feofan', 'Mudovski',
 		'$2a$10$3ZP75a6hiK0jjPgIYSqDPeAHy954ynYFDK6OibhJg4Wc4F4JfVOqa', PARSEDATETIME('20-12-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 11, 'ru');
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
 								LANGUAGE_TAG)
-VALUES (22, DATE '1985-11-18', 'neotlozhka@workshop.pro', 'Ambulatoriya', 'Neotlozhnaya',
+VALUES (22, 0, DATE '1985-11-18', 'neotlozhka@workshop.pro', 'Ambulatoriya', 'Neotlozhnaya',
 		'$2a$10$IOQse1xvam3Wqm6MC5fc4.IxZNTnNLQXiRR4CRkOQ8ynkJakzHqqu', PARSEDATETIME('20-12-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 12, 'ru');
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
 								LANGUAGE_TAG)
-VALUES (23, DATE '1999-01-05', 'bozhena@workshop.pro', 'Skolota', 'Bozhenova',
+VALUES (23, 0, DATE '1999-01-05', 'bozhena@workshop.pro', 'Skolota', 'Bozhenova',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', PARSEDATETIME('20-12-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 13, 'en');
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
 								LANGUAGE_TAG)
-VALUES (24, DATE '1991-10-09', 'petro@workshop.pro', 'Oktavian', 'Petrov',
+VALUES (24, 0, DATE '1991-10-09', 'petro@workshop.pro', 'Oktavian', 'Petrov',
 		'$2a$10$zvHjaq7bDWCD' || '.mAm/RPgDOK1F6Mp7RK5OvJPVyZpl96bbForV/LcG', PARSEDATETIME('20-12-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 14, 'ru');
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
 								LANGUAGE_TAG)
-VALUES (25, DATE '1973-03-21', 'sobolev@workshop.pro', 'Kirill', 'Sobolev',
+VALUES (25, 0, DATE '1973-03-21', 'sobolev@workshop.pro', 'Kirill', 'Sobolev',
 		'$2a$10$EgyGzvUTWH' || '.uOqTT6LkzgeixVYug7ixwZ85TbqXvtyoudCIlSP1v.', PARSEDATETIME('20-12-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 15, 'en');
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
 								LANGUAGE_TAG)
-VALUES (26, DATE '1983-07-25', 'kukushkin@workshop.pro', 'Leonid', 'Kukushkind',
+VALUES (26, 0, DATE '1983-07-25', 'kukushkin@workshop.pro', 'Leonid', 'Kukushkind',
 		'$2a$10$5pGjiQHPqtinyM0PaIwjx' || '.NdNfK6vbBlzIk.6sLW9Z3UEmbj5Rz12', PARSEDATETIME('20-12-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 16, 'ru');
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED, IS_ENABLED, POSITION_ID,
 								LANGUAGE_TAG)
-VALUES (27, DATE '1979-08-20', 'puzdoy@workshop.pro', 'Semion', 'Puzdoy',
+VALUES (27, 0, DATE '1979-08-20', 'puzdoy@workshop.pro', 'Semion', 'Puzdoy',
 		'$2a$10$9wFRh0Sr4bu2JmWWX/3pjetFJOPmJf4kj2EyU65IxJUiN8TDqILH.', PARSEDATETIME('20-12-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 17, 'ru');
 
 INSERT INTO INTERNAL.POSITIONS_TO_INTERNAL_AUTHORITIES (POSITION_ID, INTERNAL_AUTHORITY_ID)
@@ -627,155 +627,155 @@ VALUES (17, 104);
 INSERT INTO INTERNAL.POSITIONS_TO_INTERNAL_AUTHORITIES (POSITION_ID, INTERNAL_AUTHORITY_ID)
 VALUES (17, 110);
 
-INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY)
-VALUES (250, 'Вилка', 'Переборка, ТО, смена масел, покраска и т.п.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 21);
-INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY)
-VALUES (251, 'Амортизатор', 'Ремонт, ТО, тюнинг.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 22);
-INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY)
-VALUES (252, 'Рама', 'Сварка, ремонт, покраска и т.п.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 21);
-INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY)
-VALUES (253, 'Привод', 'Цепь, кассета, манетки, переключатель.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 24);
-INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY)
-VALUES (254, 'Колёса', 'Сборка, протяжка спиц, смена покрышек, удаление проколов.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 24);
-INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY)
-VALUES (255, 'Общее обслуживание', 'Диагностика, осмотр, настройка и т.п.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 21);
-
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (280, 'Замена масла в демпфере', NULL, 1500.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 250);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (281, 'Переборка воздушной камеры', 'Замена смазки, резинок', 1200.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 250);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (282, 'Общее ТО', 'Разбор, замена необходимы резинок, смена масел и т.п.', 2500.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE,
+INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY)
+VALUES (250, 0, 'Вилка', 'Переборка, ТО, смена масел, покраска и т.п.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 21);
+INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY)
+VALUES (251, 0, 'Амортизатор', 'Ремонт, ТО, тюнинг.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 22);
+INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY)
+VALUES (252, 0, 'Рама', 'Сварка, ремонт, покраска и т.п.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 21);
+INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY)
+VALUES (253, 0, 'Привод', 'Цепь, кассета, манетки, переключатель.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 24);
+INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY)
+VALUES (254, 0, 'Колёса', 'Сборка, протяжка спиц, смена покрышек, удаление проколов.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 24);
+INSERT INTO INTERNAL.CLASSIFIERS_GROUPS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY)
+VALUES (255, 0, 'Общее обслуживание', 'Диагностика, осмотр, настройка и т.п.', PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 21);
+
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (280, 0, 'Замена масла в демпфере', NULL, 1500.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 250);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (281, 0, 'Переборка воздушной камеры', 'Замена смазки, резинок', 1200.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 250);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (282, 0, 'Общее ТО', 'Разбор, замена необходимы резинок, смена масел и т.п.', 2500.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE,
 		25, 250);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (283, 'Замена масла в демпфере отскока', NULL, 2000.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 251);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (284, 'Переборка воздушной камеры амортизатора', 'Замена смазки, резинок', 2800.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE,
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (283, 0, 'Замена масла в демпфере отскока', NULL, 2000.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 251);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (284, 0, 'Переборка воздушной камеры амортизатора', 'Замена смазки, резинок', 2800.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE,
 		24, 251);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (285, 'Общее ТО амортизатора', 'Разбор, замена необходимы резинок, смена масел и т.п.', 2900.00,
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (285, 0, 'Общее ТО амортизатора', 'Разбор, замена необходимы резинок, смена масел и т.п.', 2900.00,
 		PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 26, 251);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (286, 'Точечная сварка', 'Алюминивые рамы', 4000.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 252);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (287, 'Ремонт трещин', 'Карбоновые рамы', 4350.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 252);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (288, 'Покраска', 'Всей рамы', 5340.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 252);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (289, 'Настройка переключения', NULL, 300.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 253);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (290, 'Восстановление разорванной цепи', NULL, 200.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 253);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (291, 'Замена кассеты', 'Кассета заказчика', 250.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 253);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (292, 'Сборка колеса', 'Из деталей заказчика', 1000.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 254);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (293, 'Протяжка спиц', NULL, 500.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 254);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (294, 'Замена покрышек', NULL, 450.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 254);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (295, 'Общая смазка привода', NULL, 400.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 255);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (296, 'Диагностика неисправностей', NULL, 0.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 255);
-INSERT INTO INTERNAL.CLASSIFIERS (ID, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
-VALUES (297, 'Замена педалей', 'Педали заказчика', 350.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 255);
-
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (31, 'Mobile', '1-234-56-35', 21, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (32, 'Mobile', '1-863-45-23', 22, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (33, 'Mobile', '1-843-42-58', 22, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (34, 'Mobile', '1-356-35-38', 23, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (35, 'Mobile', '1-864-34-34', 24, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (36, 'Mobile', '1-883-25-53', 24, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (37, 'Mobile', '1-267-46-53', 25, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (38, 'Mobile', '1-927-93-82', 25, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (39, 'Mobile', '1-294-72-99', 26, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (40, 'Mobile', '1-924-77-42', 27, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (41, 'Mobile', '1-864-72-62', 27, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (286, 0, 'Точечная сварка', 'Алюминивые рамы', 4000.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 252);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (287, 0, 'Ремонт трещин', 'Карбоновые рамы', 4350.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 252);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (288, 0, 'Покраска', 'Всей рамы', 5340.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 252);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (289, 0, 'Настройка переключения', NULL, 300.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 253);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (290, 0, 'Восстановление разорванной цепи', NULL, 200.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 253);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (291, 0, 'Замена кассеты', 'Кассета заказчика', 250.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 253);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (292, 0, 'Сборка колеса', 'Из деталей заказчика', 1000.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 254);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (293, 0, 'Протяжка спиц', NULL, 500.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 254);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (294, 0, 'Замена покрышек', NULL, 450.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 254);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (295, 0, 'Общая смазка привода', NULL, 400.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 255);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (296, 0, 'Диагностика неисправностей', NULL, 0.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 24, 255);
+INSERT INTO INTERNAL.CLASSIFIERS (ID, VERSION, NAME, DESCRIPTION, PRICE, CREATED, IS_OFFICIAL, CREATED_BY, CLASSIFIERS_GROUP_ID)
+VALUES (297, 0, 'Замена педалей', 'Педали заказчика', 350.00, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), TRUE, 25, 255);
+
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (31, 0, 'Mobile', '1-234-56-35', 21, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (32, 0, 'Mobile', '1-863-45-23', 22, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (33, 0, 'Mobile', '1-843-42-58', 22, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (34, 0, 'Mobile', '1-356-35-38', 23, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (35, 0, 'Mobile', '1-864-34-34', 24, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (36, 0, 'Mobile', '1-883-25-53', 24, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (37, 0, 'Mobile', '1-267-46-53', 25, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (38, 0, 'Mobile', '1-927-93-82', 25, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (39, 0, 'Mobile', '1-294-72-99', 26, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (40, 0, 'Mobile', '1-924-77-42', 27, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (41, 0, 'Mobile', '1-864-72-62', 27, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'));
 
 --
 
-INSERT INTO EXTERNAL.EXTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (120, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'READ-PROFILE', 'Self profile reading');
+INSERT INTO EXTERNAL.EXTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (120, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'READ-PROFILE', 'Self profile reading');
 
-INSERT INTO EXTERNAL.EXTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (121, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'WRITE-PROFILE', 'Self profile writing');
+INSERT INTO EXTERNAL.EXTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (121, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'WRITE-PROFILE', 'Self profile writing');
 
-INSERT INTO EXTERNAL.EXTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (122, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'READ-ORDER', 'Order and Task reading.');
+INSERT INTO EXTERNAL.EXTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (122, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'READ-ORDER', 'Order and Task reading.');
 
-INSERT INTO EXTERNAL.EXTERNAL_AUTHORITIES (ID, CREATED, NAME, DESCRIPTION)
-VALUES (123, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'WRITE-ORDER', 'Order and Task creation.');
+INSERT INTO EXTERNAL.EXTERNAL_AUTHORITIES (ID, VERSION, CREATED, NAME, DESCRIPTION)
+VALUES (123, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'WRITE-ORDER', 'Order and Task creation.');
 
 --
 
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
-VALUES (91, PARSEDATETIME('17-09-1978', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'),
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
+VALUES (91, 0, PARSEDATETIME('17-09-1978', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'),
         'sebastian-pidorin@mail.pro', 'Себастьян', 'Пидорин',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', 'ru', TRUE);
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
-VALUES (92, PARSEDATETIME('17-09-1970', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'vasya@meail.pro', 'Василий', 'Премудрый',
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
+VALUES (92, 0, PARSEDATETIME('17-09-1970', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'vasya@meail.pro', 'Василий', 'Премудрый',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', 'en', TRUE);
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
-VALUES (93, PARSEDATETIME('17-09-1960', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'john@mailto.com', 'John', 'Smith',
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
+VALUES (93, 0, PARSEDATETIME('17-09-1960', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'john@mailto.com', 'John', 'Smith',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', 'en', TRUE);
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
-VALUES (94, PARSEDATETIME('17-09-1965', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'loui@mail.eu', 'Louis', '',
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
+VALUES (94, 0, PARSEDATETIME('17-09-1965', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'loui@mail.eu', 'Louis', '',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', 'en', TRUE);
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
-VALUES (95, PARSEDATETIME('17-09-1975', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'petrovich@mailing.org', '', 'Петрович',
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
+VALUES (95, 0, PARSEDATETIME('17-09-1975', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'petrovich@mailing.org', '', 'Петрович',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', 'ru', TRUE);
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
-VALUES (96, PARSEDATETIME('17-09-1980', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'zdorovie@mail.prod', 'Татьяна', 'Малышева',
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
+VALUES (96, 0, PARSEDATETIME('17-09-1980', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'zdorovie@mail.prod', 'Татьяна', 'Малышева',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', 'ru', TRUE);
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
-VALUES (97, PARSEDATETIME('17-09-1985', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'rapas@email.lv', 'Noumie', 'Rapas',
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
+VALUES (97, 0, PARSEDATETIME('17-09-1985', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'rapas@email.lv', 'Noumie', 'Rapas',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', 'en', TRUE);
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
-VALUES (98, PARSEDATETIME('17-09-1990', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'putin@emailvor.net', 'Владислава', 'Путислава',
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
+VALUES (98, 0, PARSEDATETIME('17-09-1990', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'putin@emailvor.net', 'Владислава', 'Путислава',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', 'ru', TRUE);
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
-VALUES (99, PARSEDATETIME('17-09-1995', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'dobrynya@pro.mail', 'Добрыня', 'Никитич',
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, LANGUAGE_TAG, ENABLED)
+VALUES (99, 0, PARSEDATETIME('17-09-1995', 'dd-MM-yyyy'), PARSEDATETIME('17-09-2018 15:25', 'dd-MM-yyyy hh:mm'), 'dobrynya@pro.mail', 'Добрыня', 'Никитич',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', 'ru', TRUE);
 
 --
 
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (45, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+7-956-556-55-25', 91);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (46, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Рабочий', '+7-(956)-5562233', 91);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (47, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '8569875056', 92);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (48, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '8-(650)-546-5459', 93);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (49, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Второй', '+7-546254-8565', 93);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (50, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+7-956-784-55-33', 94);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (51, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Mobile', '8(555)784 55 33', 94);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (52, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+7-556-5486214', 95);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (53, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Mobile', '856-526-88-88', 96);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (54, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Home', '(852)546-54-85', 97);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (55, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+8-955-888-55-55', 97);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (56, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Рабочий', '+7-956-714-55-33', 98);
-INSERT INTO INTERNAL.PHONES (ID, CREATED, NAME, PHONE, USER_ID)
-VALUES (57, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+7-956-774-88-33', 99);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (45, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+7-956-556-55-25', 91);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (46, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Рабочий', '+7-(956)-5562233', 91);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (47, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '8569875056', 92);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (48, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '8-(650)-546-5459', 93);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (49, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Второй', '+7-546254-8565', 93);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (50, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+7-956-784-55-33', 94);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (51, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Mobile', '8(555)784 55 33', 94);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (52, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+7-556-5486214', 95);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (53, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Mobile', '856-526-88-88', 96);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (54, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Home', '(852)546-54-85', 97);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (55, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+8-955-888-55-55', 97);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (56, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Рабочий', '+7-956-714-55-33', 98);
+INSERT INTO INTERNAL.PHONES (ID, VERSION, CREATED, NAME, PHONE, USER_ID)
+VALUES (57, 0, PARSEDATETIME('20-10-2010 12:00', 'dd-MM-yyyy hh:mm'), 'Мобильный', '+7-956-774-88-33', 99);
 
 -- USERS TO EXTERNAL_AUTHORITIES
 
@@ -838,96 +838,96 @@ VALUES (98, 122);
 
 -- ORDERS
 
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED, MESSAGE_TO_USER)
-VALUES (61, 24, 25, 91, 3670.00, 'Ремонт клапана телескопического подседела',
+VALUES (61, 0, 24, 25, 91, 3670.00, 'Ремонт клапана телескопического подседела',
 		PARSEDATETIME('17-09-2012 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-09-2012 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-09-2012 18:00', 'dd-MM-yyyy hh:mm'), 'Заказ можно забрать в любое время.');
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
-VALUES (62, 24, 25, 91, 4690.00, 'Общее ТО с покраской',
+VALUES (62, 0, 24, 25, 91, 4690.00, 'Общее ТО с покраской',
 		PARSEDATETIME('17-03-2012 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-03-2012 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-03-2012 18:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED, MESSAGE_TO_USER)
-VALUES (63, 24, 25, 91, 2370.00, 'Замена подшипников',
+VALUES (63, 0, 24, 25, 91, 2370.00, 'Замена подшипников',
 		PARSEDATETIME('17-11-2012 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-11-2012 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-11-2012 18:00', 'dd-MM-yyyy hh:mm'), 'При заборе Заказа необходимо доплатить 500 рублей.');
 
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED, DEADLINE,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED, DEADLINE,
 							 FINISHED)
-VALUES (64, 27, 25, 92, 2450.00, 'Замена цепи и ремонт прокола',
+VALUES (64, 0, 27, 25, 92, 2450.00, 'Замена цепи и ремонт прокола',
 		PARSEDATETIME('27-09-2014 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-09-2014 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('30-09-2014 18:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
-VALUES (65, 25, 25, 92, 2770.00, 'Ремонт заднего переключателя',
+VALUES (65, 0, 25, 25, 92, 2770.00, 'Ремонт заднего переключателя',
 		PARSEDATETIME('17-04-2015 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-04-2015 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-04-2015 18:00', 'dd-MM-yyyy hh:mm'));
 
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
-VALUES (66, 26, 26, 93, 1070.00, 'Ремонт седла',
+VALUES (66, 0, 26, 26, 93, 1070.00, 'Ремонт седла',
 		PARSEDATETIME('17-04-2016 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-04-2016 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-04-2016 18:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
-VALUES (67, 24, 27, 93, 5000.00, 'Сварка трещины на раме',
+VALUES (67, 0, 24, 27, 93, 5000.00, 'Сварка трещины на раме',
 		PARSEDATETIME('17-10-2017 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-10-2017 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-10-2017 18:00', 'dd-MM-yyyy hh:mm'));
 
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
-VALUES (68, 24, 25, 94, 1470.00, 'Ремонт проколов',
+VALUES (68, 0, 24, 25, 94, 1470.00, 'Ремонт проколов',
 		PARSEDATETIME('17-02-2017 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-02-2017 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-02-2017 18:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
 
-VALUES (69, 25, 24, 95, 7830.00, 'Тюнинг заднего амортизатора',
+VALUES (69, 0, 25, 24, 95, 7830.00, 'Тюнинг заднего амортизатора',
 		PARSEDATETIME('17-08-2018 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-08-2018 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-08-2018 18:00', 'dd-MM-yyyy hh:mm'));
 
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
-VALUES (70, 24, 25, 96, 2670.00, 'Смазка втулок (передняя и задняя)',
+VALUES (70, 0, 24, 25, 96, 2670.00, 'Смазка втулок (передняя и задняя)',
 		PARSEDATETIME('17-07-2018 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-07-2018 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-07-2018 18:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
-VALUES (71, 24, 25, 97, 15670.00, 'Ремонт воздушной вилки',
+VALUES (71, 0, 24, 25, 97, 15670.00, 'Ремонт воздушной вилки',
 		PARSEDATETIME('17-07-2017 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-07-2017 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-07-2017 18:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
-VALUES (72, 24, 25, 98, 10670.00, 'Ремонт амортизатора',
+VALUES (72, 0, 24, 25, 98, 10670.00, 'Ремонт амортизатора',
 		PARSEDATETIME('17-05-2017 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-05-2017 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-05-2017 18:00', 'dd-MM-yyyy hh:mm'));
-INSERT INTO INTERNAL.ORDERS (ID, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID, OVERALL_PRICE, DESCRIPTION, CREATED,
 							 DEADLINE, FINISHED)
-VALUES (73, 24, 25, 99, 1670.00, 'Сборка переднего колеса',
+VALUES (73, 0, 24, 25, 99, 1670.00, 'Сборка переднего колеса',
 		PARSEDATETIME('17-04-2019 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-04-2019 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-04-2019 18:00', 'dd-MM-yyyy hh:mm'));
 
 -- TASKS
 
-INSERT INTO INTERNAL.TASKS (ID, CREATED_BY, MODIFIED_BY, APPOINTED_TO, ORDER_ID, PRICE, NAME, CREATED, FINISHED,
+INSERT INTO INTERNAL.TASKS (ID, VERSION, CREATED_BY, MODIFIED_BY, APPOINTED_TO, ORDER_ID, PRICE, NAME, CREATED, FINISHED,
                             DEADLINE)
-VALUES (80, 24, 25, 25, 61, 780.00, 'Ремонт клапана', PARSEDATETIME('17-09-2012 18:47', 'dd-MM-yyyy hh:mm'),
+VALUES (80, 0, 24, 25, 25, 61, 780.00, 'Ремонт клапана', PARSEDATETIME('17-09-2012 18:47', 'dd-MM-yyyy hh:mm'),
         PARSEDATETIME('18-09-2012 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-09-2012 18:47', 'dd-MM-yyyy hh:mm') );
 
-INSERT INTO INTERNAL.TASKS (ID, CREATED_BY, MODIFIED_BY, APPOINTED_TO, ORDER_ID, PRICE, NAME, CREATED, FINISHED,
+INSERT INTO INTERNAL.TASKS (ID, VERSION, CREATED_BY, MODIFIED_BY, APPOINTED_TO, ORDER_ID, PRICE, NAME, CREATED, FINISHED,
 							DEADLINE)
-VALUES (81, 24, 25, 25, 61, 1000.00, 'Полировка штока', PARSEDATETIME('17-09-2012 18:47', 'dd-MM-yyyy hh:mm'),
+VALUES (81, 0, 24, 25, 25, 61, 1000.00, 'Полировка штока', PARSEDATETIME('17-09-2012 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('18-09-2012 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-09-2012 18:47', 'dd-MM-yyyy hh:mm') );
-INSERT INTO INTERNAL.TASKS (ID, CREATED_BY, MODIFIED_BY, APPOINTED_TO, ORDER_ID, PRICE, NAME, CREATED, FINISHED,
+INSERT INTO INTERNAL.TASKS (ID, VERSION, CREATED_BY, MODIFIED_BY, APPOINTED_TO, ORDER_ID, PRICE, NAME, CREATED, FINISHED,
 							DEADLINE)
-VALUES (82, 24, 25, 25, 62, 880.00, 'ТО привода', PARSEDATETIME('17-03-2012 18:47', 'dd-MM-yyyy hh:mm'),
+VALUES (82, 0, 24, 25, 25, 62, 880.00, 'ТО привода', PARSEDATETIME('17-03-2012 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('20-03-2012 18:47', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('22-03-2012 18:47', 'dd-MM-yyyy hh:mm') );
 
-INSERT INTO INTERNAL.TASKS (ID, CREATED_BY, MODIFIED_BY, APPOINTED_TO, ORDER_ID, PRICE, NAME, CREATED, FINISHED,
+INSERT INTO INTERNAL.TASKS (ID, VERSION, CREATED_BY, MODIFIED_BY, APPOINTED_TO, ORDER_ID, PRICE, NAME, CREATED, FINISHED,
 							DEADLINE)
-VALUES (83, 24, 25, 25, 62, 1200.00, 'Покраска перьев', PARSEDATETIME('17-03-2012 18:47', 'dd-MM-yyyy hh:mm'),
+VALUES (83, 0, 24, 25, 25, 62, 1200.00, 'Покраска перьев', PARSEDATETIME('17-03-2012 18:47', 'dd-MM-yyyy hh:mm'),
 		PARSEDATETIME('21-03-2012 18:45', 'dd-MM-yyyy hh:mm'), PARSEDATETIME('21-03-2012 18:47', 'dd-MM-yyyy hh:mm') );
 
 -- TASKS TO CLASSIFIERS
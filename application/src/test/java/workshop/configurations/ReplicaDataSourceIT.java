@@ -0,0 +1,191 @@
+package workshop.configurations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import workshop.internal.entities.Department;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.Position;
+import workshop.internal.services.DepartmentsService;
+import workshop.internal.services.EmployeesService;
+import workshop.internal.services.PositionsService;
+import workshop.security.PermissionMatrix;
+
+import javax.imageio.ImageIO;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The primary and the replica are two separate in-memory H2 databases, the replication is only performed by the
+ * explicit {@link H2ReplicaReplicator#replicate()} calls.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@PropertySource("classpath:applicationTest.properties")
+@TestPropertySource(properties = {
+	"datasource.replica.enabled=true",
+	"datasource.replica.url=jdbc:h2:mem:workshopReplicaIT;DB_CLOSE_DELAY=-1;USER=Admin;PASSWORD=Admin",
+	"datasource.replica.stickToPrimaryMillis=0",
+	"datasource.replica.h2Replicator.enabled=true",
+	"datasource.replica.h2Replicator.delayMillis=3600000"})
+@AutoConfigureMockMvc
+@DirtiesContext
+class ReplicaDataSourceIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private H2ReplicaReplicator h2ReplicaReplicator;
+	@Autowired
+	private PermissionMatrix permissionMatrix;
+	@Autowired
+	private DepartmentsService departmentsService;
+	@Autowired
+	private PositionsService positionsService;
+	@Autowired
+	private EmployeesService employeesService;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private DataSource dataSource;
+	@Value("${spring.datasource.url}")
+	private String primaryUrl;
+	@Value("${datasource.replica.url}")
+	private String replicaUrl;
+
+	@BeforeEach
+	public void methodPreparation() throws Exception {
+		h2ReplicaReplicator.replicate();
+		//The matrix may have been built before the first replication
+		permissionMatrix.rebuild();
+	}
+
+	@Test
+	@WithMockUser(username = "employee@workshop.pro", authorities = {"ADMIN_FULL"})
+	@DisplayName("The write after the read within the same request has to be routed to the primary")
+	public void write_After_Read_Within_One_Request_Should_Go_To_Primary() throws Exception {
+		//GIVEN an Employee which is replicated
+		Department department = departmentsService.persistEntity(new Department("Department replica"));
+		Position position = positionsService.persistEntity(new Position("Position replica", department));
+		Employee employee = employeesService.persistEntity(new Employee(
+			"Replica", "Employee", "12345", "replica@workshop.pro", LocalDate.now().minusYears(30), position));
+		h2ReplicaReplicator.replicate();
+		entityManagerFactory.getCache().evictAll();
+
+		MockMultipartFile photo = new MockMultipartFile("photo", "photo.png", "image/png", getPngImage());
+
+		//WHEN the photo endpoint reads the Employee (the replica) and then updates it (has to be the primary)
+		mockMvc.perform(MockMvcRequestBuilders.multipart("/internal/employees/" + employee.getIdentifier() + "/photo")
+			.file(photo))
+			.andDo(MockMvcResultHandlers.print())
+			.andExpect(MockMvcResultMatchers.status().isOk());
+
+		//THEN the new photo is only in the primary until the next replication
+		assertNotNull(getPhotoHash(primaryUrl, employee.getIdentifier()));
+		assertNull(getPhotoHash(replicaUrl, employee.getIdentifier()));
+
+		//WHEN
+		h2ReplicaReplicator.replicate();
+
+		//THEN
+		assertEquals(getPhotoHash(primaryUrl, employee.getIdentifier()), getPhotoHash(replicaUrl, employee.getIdentifier()));
+	}
+
+	@Test
+	@DisplayName("The reads have to succeed while the replica is being refreshed")
+	public void reads_Should_Succeed_While_Replica_Is_Refreshed() throws Exception {
+		//GIVEN
+		TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		AtomicBoolean isReplicating = new AtomicBoolean(true);
+		ExecutorService readers = Executors.newFixedThreadPool(4);
+
+		//WHEN the reads are performed during the continuous replication
+		List<Future<Integer>> reads = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			reads.add(readers.submit(() -> {
+				int readsCount = 0;
+				while (isReplicating.get()) {
+					Integer authoritiesCount = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(
+						"SELECT COUNT(*) FROM INTERNAL.INTERNAL_AUTHORITIES", Integer.class));
+					assertNotNull(authoritiesCount);
+					assertTrue(authoritiesCount > 0);
+					readsCount++;
+				}
+				return readsCount;
+			}));
+		}
+		try {
+			for (int i = 0; i < 20; i++) {
+				h2ReplicaReplicator.replicate();
+			}
+		} finally {
+			isReplicating.set(false);
+			readers.shutdown();
+			assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+		}
+
+		//THEN none of the reads has failed
+		for (Future<Integer> read : reads) {
+			assertTrue(read.get() > 0);
+		}
+	}
+
+	private String getPhotoHash(String url, long employeeIdentifier) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "Admin", "Admin");
+			 PreparedStatement statement =
+				 connection.prepareStatement("SELECT PHOTO_HASH FROM INTERNAL.EMPLOYEES WHERE ID = ?")) {
+			statement.setLong(1, employeeIdentifier);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				assertTrue(resultSet.next());
+				return resultSet.getString(1);
+			}
+		}
+	}
+
+	private byte[] getPngImage() throws IOException {
+		BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream imageBytes = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", imageBytes);
+		return imageBytes.toByteArray();
+	}
+}
@@ -0,0 +1,188 @@
+package workshop.configurations;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+	
+	private DataSource primary;
+	private DataSource replica;
+	private Connection primaryConnection;
+	private Connection replicaConnection;
+	
+	@BeforeEach
+	public void init() throws SQLException {
+		primary = mock(DataSource.class);
+		replica = mock(DataSource.class);
+		primaryConnection = mock(Connection.class);
+		replicaConnection = mock(Connection.class);
+		when(primary.getConnection()).thenReturn(primaryConnection);
+		when(replica.getConnection()).thenReturn(replicaConnection);
+		when(primaryConnection.unwrap(Connection.class)).thenReturn(primaryConnection);
+		when(replicaConnection.unwrap(Connection.class)).thenReturn(replicaConnection);
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			"user@workshop.pro", "12345", Collections.singletonList(new SimpleGrantedAuthority("USER"))));
+	}
+	
+	@AfterEach
+	public void clear() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.clear();
+		SecurityContextHolder.clearContext();
+	}
+	
+	@Test
+	public void readOnly_Transactions_Should_Be_Routed_To_Replica_And_Others_To_Primary() throws SQLException {
+		//GIVEN
+		ReplicaRoutingDataSource routingDataSource = getRoutingDataSource(5000);
+		
+		//WHEN
+		Connection outsideTransaction = routingDataSource.getConnection();
+		Connection readOnlyTransaction = getConnectionWithinTransaction(routingDataSource, true);
+		
+		//THEN
+		assertSame(primaryConnection, outsideTransaction.unwrap(Connection.class));
+		assertSame(replicaConnection, readOnlyTransaction.unwrap(Connection.class));
+	}
+	
+	@Test
+	public void reads_Should_Stick_To_Primary_After_Users_Own_Write() throws SQLException {
+		//GIVEN
+		ReplicaRoutingDataSource routingDataSource = getRoutingDataSource(5000);
+		
+		//WHEN
+		Connection writeTransaction = getConnectionWithinTransaction(routingDataSource, false);
+		Connection readOnlyTransaction = getConnectionWithinTransaction(routingDataSource, true);
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			"another@workshop.pro", "12345", Collections.singletonList(new SimpleGrantedAuthority("USER"))));
+		Connection anotherUserReadOnlyTransaction = getConnectionWithinTransaction(routingDataSource, true);
+		
+		//THEN
+		assertSame(primaryConnection, writeTransaction.unwrap(Connection.class));
+		assertSame(primaryConnection, readOnlyTransaction.unwrap(Connection.class));
+		assertSame(replicaConnection, anotherUserReadOnlyTransaction.unwrap(Connection.class));
+	}
+	
+	@Test
+	public void reads_Should_Return_To_Replica_After_Lag_Guard_Expires() throws SQLException {
+		//GIVEN
+		ReplicaRoutingDataSource routingDataSource = getRoutingDataSource(0);
+		
+		//WHEN
+		getConnectionWithinTransaction(routingDataSource, false);
+		Connection readOnlyTransaction = getConnectionWithinTransaction(routingDataSource, true);
+		
+		//THEN
+		assertSame(replicaConnection, readOnlyTransaction.unwrap(Connection.class));
+	}
+	
+	@Test
+	public void reads_Should_Go_To_Primary_While_Replica_Is_Suspended() throws SQLException, InterruptedException {
+		//GIVEN
+		ReplicaRoutingDataSource routingDataSource = getRoutingDataSource(0);
+		Connection openReplicaConnection = getConnectionWithinTransaction(routingDataSource, true);
+		
+		//WHEN the replica connection isn't closed
+		boolean suspended = routingDataSource.suspendReplica(50);
+		
+		//THEN the replica cannot be suspended under the current read
+		assertFalse(suspended);
+		Connection anotherReplicaConnection = getConnectionWithinTransaction(routingDataSource, true);
+		assertSame(replicaConnection, anotherReplicaConnection.unwrap(Connection.class));
+		
+		//WHEN
+		openReplicaConnection.close();
+		anotherReplicaConnection.close();
+		suspended = routingDataSource.suspendReplica(50);
+		
+		//THEN
+		assertTrue(suspended);
+		assertSame(primaryConnection, getConnectionWithinTransaction(routingDataSource, true).unwrap(Connection.class));
+		
+		//WHEN
+		routingDataSource.resumeReplica();
+		
+		//THEN
+		assertSame(replicaConnection, getConnectionWithinTransaction(routingDataSource, true).unwrap(Connection.class));
+	}
+	
+	@Test
+	public void connections_With_Credentials_Should_Be_Routed_The_Same_Way() throws SQLException {
+		//GIVEN
+		ReplicaRoutingDataSource routingDataSource = getRoutingDataSource(0);
+		when(primary.getConnection("Admin", "Password")).thenReturn(primaryConnection);
+		when(replica.getConnection("Admin", "Password")).thenReturn(replicaConnection);
+		
+		//WHEN
+		Connection outsideTransaction = routingDataSource.getConnection("Admin", "Password");
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		Connection readOnlyTransaction = routingDataSource.getConnection("Admin", "Password");
+		
+		//THEN
+		assertSame(primaryConnection, outsideTransaction.unwrap(Connection.class));
+		assertSame(replicaConnection, readOnlyTransaction.unwrap(Connection.class));
+		verify(replica, never()).getConnection();
+	}
+	
+	@Test
+	public void last_Writes_Within_Lag_Guard_Should_Be_Bounded() throws SQLException {
+		//GIVEN the writes of the different Users which never expire
+		ReplicaRoutingDataSource routingDataSource = getRoutingDataSource(3600000);
+		
+		//WHEN
+		for (int i = 0; i <= ReplicaRoutingDataSource.LAST_WRITES_MAX_SIZE; i++) {
+			SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				"user" + i + "@workshop.pro", "12345", Collections.singletonList(new SimpleGrantedAuthority("USER"))));
+			getConnectionWithinTransaction(routingDataSource, false);
+		}
+		
+		//THEN the oldest writes are evicted and the latest one is still stuck to the primary
+		assertTrue(routingDataSource.getLastWritesSize() <= ReplicaRoutingDataSource.LAST_WRITES_MAX_SIZE);
+		assertSame(primaryConnection, getConnectionWithinTransaction(routingDataSource, true).unwrap(Connection.class));
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			"user0@workshop.pro", "12345", Collections.singletonList(new SimpleGrantedAuthority("USER"))));
+		assertSame(replicaConnection, getConnectionWithinTransaction(routingDataSource, true).unwrap(Connection.class));
+	}
+	
+	private ReplicaRoutingDataSource getRoutingDataSource(long stickToPrimaryMillis) {
+		ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replica, stickToPrimaryMillis);
+		routingDataSource.afterPropertiesSet();
+		return routingDataSource;
+	}
+	
+	/**
+	 * Imitates the committed transaction the way the transaction managers do.
+	 */
+	private Connection getConnectionWithinTransaction(ReplicaRoutingDataSource routingDataSource, boolean readOnly)
+		throws SQLException {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+		try {
+			return routingDataSource.getConnection();
+		} finally {
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+			TransactionSynchronizationManager.clear();
+		}
+	}
+}
@@ -8,10 +8,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.domain.Sort;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -21,6 +23,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import workshop.controllers.internal.rest.DepartmentsRestController;
 import workshop.controllers.internal.rest.PositionsRestController;
+import workshop.internal.dao.StatementsCountInspector;
 import workshop.internal.entities.Classifier;
 import workshop.internal.entities.Department;
 import workshop.internal.entities.Position;
@@ -29,15 +32,20 @@ import workshop.internal.services.DepartmentsService;
 import workshop.internal.services.PositionsService;
 import workshop.internal.services.serviceUtils.JsonServiceUtils;
 
+import javax.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
 @PropertySource("classpath:applicationTest.properties")
+@TestPropertySource(properties = {"statementBudget.failOnExceed=true"})
 @AutoConfigureMockMvc
 @DirtiesContext
 class WorkshopRestControllerAbstractIT {
@@ -55,6 +63,10 @@ class WorkshopRestControllerAbstractIT {
 	@Autowired
 	private JsonServiceUtils jsonServiceUtils;
 	@Autowired
+	private StatementsCountInspector statementsCountInspector;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
 	private MockMvc mockMvc;
 	private Department departmentOne;
 	private Position positionOne;
@@ -190,5 +202,113 @@ class WorkshopRestControllerAbstractIT {
 		
 	}
 	
+	@Test
+	@Order(6)
+	@WithMockUser(username = "employee@workshop.pro", authorities = {"ADMIN_FULL"})
+	public void full_Entity_Should_Be_Rendered_Within_The_Statements_Budget() throws Exception {
+		//GIVEN the Department with the Positions collection (and their InternalAuthorities) to be batch loaded
+		Department department = departmentsService.persistEntity(new Department("Department with many Positions"));
+		List<Position> positions = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			positions.add(new Position("Position budgeted " + i, department));
+		}
+		positionsService.persistEntities(positions);
+		entityManagerFactory.getCache().evictAll();
+		
+		MockHttpServletRequestBuilder request = MockMvcRequestBuilders.request(
+			"GET",
+			URI.create("/internal/departments/" + department.getIdentifier()))
+			.accept(MediaTypes.HAL_JSON_UTF8);
+		
+		//WHEN
+		//The statements over the budget are rejected with 'statementBudget.failOnExceed=true'
+		statementsCountInspector.begin("Department with many Positions");
+		ResultActions resultActions = mockMvc.perform(request);
+		int statementsCount = statementsCountInspector.end();
+		
+		//THEN the 100 Positions and their 100 InternalAuthorities collections are loaded by the single batches
+		resultActions
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers
+				.content().string(Matchers.containsString("\"name\":\"Position budgeted 99\"")));
+		assertTrue(statementsCountInspector.isFailOnExceed());
+		assertTrue(statementsCount > 0 && statementsCount <= 10, "Statements executed: " + statementsCount);
+		//The scope is unbound after the request
+		assertTrue(statementsCountInspector.getCurrentCount() == 0);
+	}
+	
+	@Test
+	@Order(7)
+	@WithMockUser(username = "employee@workshop.pro", authorities = {"ADMIN_FULL"})
+	public void import_With_Invalid_WorkshopEntity_Should_Return_Its_Violations_And_Import_Nothing() throws Exception {
+		//GIVEN the second Classifier is without the name and with the negative price
+		classifiersService.persistEntity(new Classifier("Classifier existing before import", "", true, BigDecimal.ONE));
+		Classifier validClassifier = new Classifier();
+		validClassifier.setName("Classifier imported valid");
+		validClassifier.setPrice(BigDecimal.TEN);
+		Classifier invalidClassifier = new Classifier();
+		invalidClassifier.setName(" ");
+		invalidClassifier.setPrice(BigDecimal.valueOf(-1));
+		
+		String jsonClassifiers = "[" + jsonServiceUtils.workshopEntityObjectsToJson(validClassifier) + "," +
+			jsonServiceUtils.workshopEntityObjectsToJson(invalidClassifier) + "]";
+		
+		MockHttpServletRequestBuilder request = MockMvcRequestBuilders.request(
+			"POST",
+			URI.create("/internal/classifiers/import"))
+			.contentType(MediaType.APPLICATION_JSON_UTF8)
+			.content(jsonClassifiers)
+			.accept(MediaTypes.HAL_JSON_UTF8);
+		
+		//WHEN
+		ResultActions resultActions = mockMvc.perform(request);
+		
+		//THEN
+		resultActions
+			.andDo(MockMvcResultHandlers.print())
+			.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+			.andExpect(MockMvcResultMatchers.content().string(Matchers.containsString("[1].name")))
+			.andExpect(MockMvcResultMatchers.content().string(Matchers.containsString("[1].price")))
+			.andExpect(MockMvcResultMatchers.content().string(Matchers.not(Matchers.containsString("[0]."))));
+		//The whole import is rolled back
+		assertTrue(classifiersService.findAllEntities(100, 0, "created", Sort.Direction.DESC).stream()
+			.noneMatch(classifier -> "Classifier imported valid".equals(classifier.getName())));
+	}
 	
-}
\ No newline at end of file
+	@Test
+	@Order(8)
+	@WithMockUser(username = "employee@workshop.pro", authorities = {"ADMIN_FULL"})
+	public void getAll_Should_Return_Summaries_With_Identifier_Only_References() throws Exception {
+		//GIVEN
+		Department department = departmentsService.persistEntity(new Department("Department of summaries"));
+		Position position = new Position("Position summary", department);
+		position.setDescription("Position summary description");
+		positionsService.persistEntity(position);
+		
+		MockHttpServletRequestBuilder request = MockMvcRequestBuilders.request(
+			"GET",
+			URI.create("/internal/positions?filter=department.identifier==" + department.getIdentifier()))
+			.accept(MediaTypes.HAL_JSON_UTF8);
+		
+		//WHEN
+		ResultActions resultActions = mockMvc.perform(request);
+		
+		//THEN the basic properties and the self Link are presented as before
+		//but the references are only their identifiers and the collections are omitted
+		resultActions
+			.andDo(MockMvcResultHandlers.print())
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].identifier").isNumber())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Position summary"))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].description")
+				.value("Position summary description"))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].created").exists())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].links[?(@.rel == 'self')]").exists())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].department.identifier")
+				.value(department.getIdentifier().intValue()))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].department.name").doesNotExist())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].department.created").doesNotExist())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].internalAuthorities").doesNotExist());
+	}
+}
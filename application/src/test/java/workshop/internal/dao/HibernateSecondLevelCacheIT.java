@@ -37,8 +37,9 @@ import static org.junit.jupiter.api.Assertions.*;
 @SpringBootTest
 @AutoConfigureTestEntityManager
 @DirtiesContext
-//Adds the Hibernate statistics support during the tests
-@TestPropertySource(properties = {"spring.jpa.properties.hibernate.generate_statistics=true"})
+//Adds the Hibernate statistics support during the tests and samples them on every request
+@TestPropertySource(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+	"persistenceMetrics.sampleMillis=0"})
 @Sql(scripts = {"classpath:testImport.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 public class HibernateSecondLevelCacheIT {
 	
@@ -48,6 +49,8 @@ public class HibernateSecondLevelCacheIT {
 	private EntityManagerFactory entityManagerFactory;
 	@Autowired
 	private OrdersService ordersService;
+	@Autowired
+	private PersistenceMetrics persistenceMetrics;
 	
 	@AfterEach
 	@DisplayName("Clears all the Database, the second-level cache and Hibernate Sessions Statistics.")
@@ -202,4 +205,30 @@ public class HibernateSecondLevelCacheIT {
 			"workshop.internal.entities.Task").getHitCount());
 	}
 	
+	@Test
+	public void persistence_Metrics_Should_Show_Order_Region_Hits_And_Misses() {
+		//GIVEN
+		ordersService.findById(10501L);
+		ordersService.findById(10501L);
+		
+		//WHEN
+		PersistenceMetrics.Snapshot snapshot = persistenceMetrics.getSnapshot();
+		
+		//THEN
+		assertTrue(snapshot.isStatisticsEnabled());
+		PersistenceMetrics.RegionSnapshot orderRegion = snapshot.getRegions().stream()
+			.filter(region -> region.getRegionName().equals("workshop.internal.entities.Order"))
+			.findFirst()
+			.orElseThrow(() -> new AssertionError("No Order region!"));
+		assertAll(
+			() -> assertEquals(1, orderRegion.getPuts()),
+			() -> assertEquals(1, orderRegion.getHits()),
+			() -> assertEquals(1, orderRegion.getMisses()),
+			() -> assertEquals(0.5, orderRegion.getHitRate()),
+			() -> assertTrue(snapshot.getEntityLoads() >= 1),
+			() -> assertFalse(snapshot.getConnectionPools().isEmpty()),
+			() -> assertTrue(snapshot.getConnectionPools().get(0).getAcquisitions() > 0)
+		);
+	}
+	
 }
@@ -12,6 +12,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureTestEntityManager;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -27,12 +28,17 @@ import workshop.internal.entities.*;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
+import javax.persistence.OptimisticLockException;
 import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceUnitUtil;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -70,6 +76,8 @@ class WorkshopEntitiesDaoAbstractIT {
 	@PersistenceContext
 	EntityManager entityManager;
 	@Autowired
+	StatementsCountInspector statementsCountInspector;
+	@Autowired
 	EntityManagerFactory emf; //To support transactions with emf.getEntityManager();
 	
 	@Test
@@ -656,4 +664,352 @@ class WorkshopEntitiesDaoAbstractIT {
 		assertEquals(3, totalPositionsByInternalAuthority);
 		assertEquals(0, totalPositionsByUnknownAuthority);
 	}
-}
\ No newline at end of file
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void count_All_Tasks_By_Order_Should_Count_Only_Tasks_Of_This_Order() {
+		//GIVEN
+		Order order1 = new Order();
+		order1.setDescription("Order to count 1");
+		Order order2 = new Order();
+		order2.setDescription("Order to count 2");
+		ordersDao.persistEntities(Arrays.asList(order1, order2));
+		
+		Task task1 = new Task("Task to count 1", order1);
+		Task task2 = new Task("Task to count 2", order1);
+		Task task3 = new Task("Task to count 3", order2);
+		tasksDao.persistEntities(Arrays.asList(task1, task2, task3));
+		
+		//WHEN
+		long totalTasksByOrder1 = tasksDao.countAllTasksByOrder(order1.getIdentifier());
+		long totalTasksByOrder2 = tasksDao.countAllTasksByOrder(order2.getIdentifier());
+		long totalTasksByUnknownOrder = tasksDao.countAllTasksByOrder(100501L);
+		
+		//THEN
+		assertEquals(2, totalTasksByOrder1);
+		assertEquals(1, totalTasksByOrder2);
+		assertEquals(0, totalTasksByUnknownOrder);
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void persist_Batch_Should_Insert_All_Entities_With_Distinct_Identifiers_And_Clear_Context() {
+		//GIVEN
+		long departmentsBefore = departmentsDao.countAllEntities();
+		List<Department> batch = new ArrayList<>();
+		for (int i = 1; i <= 120; i++) {
+			batch.add(new Department("Imported department " + i));
+		}
+		
+		//WHEN
+		departmentsDao.persistBatch(batch);
+		
+		//THEN
+		assertEquals(departmentsBefore + 120, departmentsDao.countAllEntities());
+		assertEquals(120, batch.stream().map(Department::getIdentifier).distinct().count());
+		assertFalse(entityManager.contains(batch.get(0)));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void bulk_Update_And_Remove_By_Ids_Should_Affect_Only_Existing_Given_Tasks() {
+		//GIVEN
+		Order order = new Order();
+		order.setDescription("Order for bulk operations");
+		ordersDao.persistEntity(order);
+		Task task1 = new Task("Bulk task 1", order);
+		Task task2 = new Task("Bulk task 2", order);
+		Task task3 = new Task("Bulk task 3", order);
+		tasksDao.persistEntities(Arrays.asList(task1, task2, task3));
+		List<Long> idsToProcess = Arrays.asList(task1.getIdentifier(), task2.getIdentifier(), 100501L);
+		
+		//WHEN
+		int updatedCount = tasksDao.updatePropertyForIds(idsToProcess, "name", "Bulk updated task");
+		
+		//THEN
+		assertEquals(2, updatedCount);
+		assertEquals("Bulk updated task", tasksDao.findById(task1.getIdentifier()).get().getName());
+		assertEquals("Bulk task 3", tasksDao.findById(task3.getIdentifier()).get().getName());
+		assertThrows(IllegalArgumentException.class,
+			() -> tasksDao.updatePropertyForIds(idsToProcess, "classifiers", "1"));
+		
+		//WHEN
+		int removedCount = tasksDao.removeAllByIds(idsToProcess);
+		
+		//THEN
+		assertEquals(2, removedCount);
+		assertFalse(tasksDao.findById(task1.getIdentifier()).isPresent());
+		assertFalse(tasksDao.findById(task2.getIdentifier()).isPresent());
+		assertEquals(1, tasksDao.countAllTasksByOrder(order.getIdentifier()));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void summary_Graph_Should_Leave_Tasks_Lazy_And_Detail_Graph_Should_Load_Them() {
+		//GIVEN
+		Order order = new Order();
+		order.setDescription("Order with fetch profiles");
+		ordersDao.persistEntity(order);
+		entityManager.flush();
+		entityManager.clear();
+		//The second level cache would hide the statements
+		emf.getCache().evictAll();
+		statementsCountInspector.begin("Orders page without Tasks");
+		ordersDao.findAllEntities(100, 0, "created", Sort.Direction.DESC);
+		int pageStatementsWithoutTasks = statementsCountInspector.end();
+		
+		tasksDao.persistEntities(Arrays.asList(new Task("Task 1", order), new Task("Task 2", order)));
+		entityManager.flush();
+		entityManager.clear();
+		emf.getCache().evictAll();
+		PersistenceUnitUtil persistenceUnitUtil = emf.getPersistenceUnitUtil();
+		
+		//WHEN
+		statementsCountInspector.begin("Orders page with Tasks");
+		List<Order> ordersPage = ordersDao.findAllEntities(100, 0, "created", Sort.Direction.DESC).get();
+		int pageStatements = statementsCountInspector.end();
+		
+		//THEN the Tasks don't add any statements to the page and are only loaded on demand
+		assertTrue(ordersPage.stream().noneMatch(pagedOrder -> persistenceUnitUtil.isLoaded(pagedOrder, "tasks")));
+		assertEquals(pageStatementsWithoutTasks, pageStatements);
+		Order pagedOrder = ordersPage.stream()
+			.filter(o -> o.getIdentifier().equals(order.getIdentifier())).findFirst().get();
+		statementsCountInspector.begin("Paged Order Tasks");
+		assertEquals(2, pagedOrder.getTasks().size());
+		assertEquals(1, statementsCountInspector.end());
+		
+		//WHEN
+		entityManager.clear();
+		emf.getCache().evictAll();
+		statementsCountInspector.begin("Order by id");
+		Order orderById = ordersDao.findById(order.getIdentifier()).get();
+		int detailStatements = statementsCountInspector.end();
+		
+		//THEN the Tasks with their associations are loaded by the same statements
+		assertTrue(detailStatements > 0);
+		assertTrue(persistenceUnitUtil.isLoaded(orderById, "tasks"));
+		statementsCountInspector.begin("Order by id Tasks");
+		assertEquals(2, orderById.getTasks().size());
+		orderById.getTasks().forEach(task -> task.getClassifiers().size());
+		assertEquals(0, statementsCountInspector.end());
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void streamAll_Should_Stream_Only_Filtered_Entities_In_Identifier_Order_By_Chunks() {
+		//GIVEN
+		List<Department> departments = new ArrayList<>();
+		for (int i = 1; i <= 7; i++) {
+			departments.add(new Department("Department streamed " + i));
+		}
+		departmentsDao.persistEntities(departments);
+		entityManager.flush();
+		entityManager.clear();
+		
+		//WHEN
+		List<Long> streamedIds;
+		try (Stream<Department> streamed = departmentsDao.streamAll(
+			(cb, root) -> cb.like(root.get("name"), "Department streamed %"), 3)) {
+			streamedIds = streamed.map(Department::getIdentifier).collect(Collectors.toList());
+		}
+		
+		//THEN
+		List<Long> expectedIds = departments.stream().map(Department::getIdentifier).sorted().collect(Collectors.toList());
+		assertEquals(expectedIds, streamedIds);
+		assertThrows(IllegalArgumentException.class, () -> departmentsDao.streamAll(null, 0));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void existence_Checks_Should_Not_Load_Entities_And_Should_Not_Throw_On_Misses() {
+		//GIVEN
+		User user = new User("existence.check@workshop.pro");
+		usersDao.persistEntity(user);
+		entityManager.flush();
+		entityManager.clear();
+		
+		//WHEN
+		boolean isExistByEmail = usersDao.existsByProperty("email", "existence.check@workshop.pro");
+		boolean isExistByAbsentEmail = usersDao.existsByProperty("email", "absent.email@workshop.pro");
+		boolean isExistById = usersDao.isExist(user.getIdentifier());
+		boolean isExistByAbsentId = usersDao.isExist(Long.MAX_VALUE);
+		
+		//THEN
+		assertTrue(isExistByEmail);
+		assertFalse(isExistByAbsentEmail);
+		assertTrue(isExistById);
+		assertFalse(isExistByAbsentId);
+		assertThrows(IllegalArgumentException.class, () -> usersDao.existsByProperty("absentProperty", "value"));
+	}
+	
+	@ParameterizedTest
+	@ValueSource(strings = {"name", "created"})
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void keyset_Pages_Should_Be_Equal_To_Offset_Pages_In_Both_Directions(String orderBy) {
+		//GIVEN
+		for (int i = 1; i <= 9; i++) {
+			departmentsDao.persistEntity(new Department("Department keyset " + i));
+		}
+		List<Department> firstPage = departmentsDao.findAllEntities(3, 0, orderBy, Sort.Direction.DESC).get();
+		List<Department> secondPage = departmentsDao.findAllEntities(3, 1, orderBy, Sort.Direction.DESC).get();
+		
+		//WHEN
+		KeysetCursor afterFirstPage = KeysetCursor.decode(KeysetCursor.encodeFrom(
+			firstPage.get(2), orderBy, Sort.Direction.DESC, false));
+		List<Department> secondPageByKeyset =
+			departmentsDao.findAllEntities(3, orderBy, Sort.Direction.DESC, afterFirstPage).get();
+		
+		KeysetCursor beforeSecondPage = KeysetCursor.decode(KeysetCursor.encodeFrom(
+			secondPage.get(0), orderBy, Sort.Direction.DESC, true));
+		List<Department> firstPageByKeyset =
+			departmentsDao.findAllEntities(3, orderBy, Sort.Direction.DESC, beforeSecondPage).get();
+		
+		//THEN
+		assertEquals(secondPage, secondPageByKeyset);
+		assertEquals(firstPage, firstPageByKeyset);
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void keyset_Pages_Should_Not_Be_Ordered_By_Nullable_Properties() {
+		//GIVEN
+		Department department = departmentsDao.persistEntity(new Department("Department nullable keyset")).get();
+		department.setModified(ZonedDateTime.now());
+		KeysetCursor cursor = new KeysetCursor(
+			"modified", Sort.Direction.ASC, false, department.getIdentifier(), department.getModified().toString());
+		
+		//WHEN THEN
+		assertNull(KeysetCursor.encodeFrom(department, "modified", Sort.Direction.ASC, false));
+		assertThrows(IllegalArgumentException.class,
+			() -> departmentsDao.findAllEntities(3, "modified", Sort.Direction.ASC, cursor));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void filtered_Pages_And_Counts_Should_Contain_Only_Matching_Entities() {
+		//GIVEN
+		for (int i = 1; i <= 5; i++) {
+			departmentsDao.persistEntity(new Department("Department filter " + i));
+		}
+		entityManager.flush();
+		
+		//WHEN
+		EntityFilter filter = departmentsDao.parseFilter(
+			"name>=Department filter 2;name<=Department filter 5;name!=Department filter 4");
+		List<Department> filteredDepartments =
+			departmentsDao.findAllEntities(10, 0, "name", Sort.Direction.ASC, filter).get();
+		long filteredCount = departmentsDao.countAllEntities(filter);
+		
+		//THEN
+		assertEquals(Arrays.asList("Department filter 2", "Department filter 3", "Department filter 5"),
+			filteredDepartments.stream().map(Department::getName).collect(Collectors.toList()));
+		assertEquals(3, filteredCount);
+		assertThrows(IllegalArgumentException.class, () -> departmentsDao.parseFilter("name=~Department"));
+		assertThrows(IllegalArgumentException.class, () -> departmentsDao.parseFilter("positions==1"));
+		assertThrows(IllegalArgumentException.class, () -> departmentsDao.parseFilter("absentProperty==1"));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	@DisplayName("The date only values have to mean the start of the UTC day whatever the JVM TimeZone is")
+	public void date_Only_Values_Should_Be_Parsed_As_Start_Of_UTC_Day() {
+		//GIVEN the Orders right at the start of the UTC day and just before it
+		Order startOfDayOrder = new Order();
+		startOfDayOrder.setDescription("OrderAtStartOfUtcDay");
+		startOfDayOrder.setOverallPrice(BigDecimal.valueOf(10.31));
+		startOfDayOrder.setDeadline(ZonedDateTime.of(2021, 3, 15, 0, 0, 0, 0, ZoneOffset.UTC));
+		
+		Order previousDayOrder = new Order();
+		previousDayOrder.setDescription("OrderBeforeStartOfUtcDay");
+		previousDayOrder.setOverallPrice(BigDecimal.valueOf(10.32));
+		previousDayOrder.setDeadline(ZonedDateTime.of(2021, 3, 14, 23, 30, 0, 0, ZoneOffset.UTC));
+		
+		ordersDao.persistEntities(Arrays.asList(startOfDayOrder, previousDayOrder));
+		entityManager.flush();
+		
+		//WHEN
+		Optional<List<Order>> ordersByDate = ordersDao.findByProperty("deadline", "2021-03-15");
+		EntityFilter filter = ordersDao.parseFilter("deadline>=2021-03-15;deadline<2021-03-16");
+		List<Order> filteredOrders = ordersDao.findAllEntities(10, 0, "deadline", Sort.Direction.ASC, filter).get();
+		
+		//THEN
+		assertTrue(ordersByDate.isPresent());
+		assertEquals(Collections.singletonList("OrderAtStartOfUtcDay"),
+			ordersByDate.get().stream().map(Order::getDescription).collect(Collectors.toList()));
+		assertEquals(Collections.singletonList("OrderAtStartOfUtcDay"),
+			filteredOrders.stream().map(Order::getDescription).collect(Collectors.toList()));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void summaries_Should_Be_Transient_With_Basic_Properties_And_Reference_Identifiers_Only() {
+		//GIVEN
+		Department department = departmentsDao.persistEntity(new Department("Department summaries")).get();
+		for (int i = 1; i <= 3; i++) {
+			positionsDao.persistEntity(new Position("Position summary " + i, department));
+		}
+		entityManager.flush();
+		entityManager.clear();
+		EntityFilter filter = positionsDao.parseFilter("department.identifier==" + department.getIdentifier());
+		
+		//WHEN
+		List<Position> summaries = positionsDao.findAllSummaries(10, 0, "name", Sort.Direction.ASC, filter).get();
+		
+		//THEN
+		assertEquals(Arrays.asList("Position summary 1", "Position summary 2", "Position summary 3"),
+			summaries.stream().map(Position::getName).collect(Collectors.toList()));
+		summaries.forEach(summary -> {
+			assertFalse(entityManager.contains(summary));
+			assertNotNull(summary.getIdentifier());
+			assertEquals(department.getIdentifier(), summary.getDepartment().getIdentifier());
+			assertNull(summary.getDepartment().getName());
+		});
+		assertSame(summaries.get(0).getDepartment(), summaries.get(1).getDepartment());
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	@Transactional
+	public void stale_And_Unversioned_Copies_Should_Be_Rejected() {
+		//GIVEN
+		Department department = departmentsDao.persistEntity(new Department("Department versioned")).get();
+		entityManager.flush();
+		entityManager.clear();
+		Department staleCopy = departmentsDao.findById(department.getIdentifier()).get();
+		Department unversionedCopy = departmentsDao.findById(department.getIdentifier()).get();
+		entityManager.clear();
+		
+		Department currentCopy = departmentsDao.findById(department.getIdentifier()).get();
+		currentCopy.setName("Department versioned 1");
+		entityManager.flush();
+		entityManager.clear();
+		
+		//WHEN
+		unversionedCopy.setVersion(null);
+		unversionedCopy.setName("Department versioned 2");
+		
+		//THEN
+		assertThrows(IllegalArgumentException.class, () -> departmentsDao.mergeEntity(unversionedCopy));
+		assertEquals(Long.valueOf(1), departmentsDao.findVersion(department.getIdentifier()).get());
+		assertEquals("Department versioned 1", departmentsDao.findById(department.getIdentifier()).get().getName());
+		entityManager.clear();
+		
+		staleCopy.setName("Department versioned stale");
+		RuntimeException conflict = assertThrows(RuntimeException.class, () -> {
+			departmentsDao.mergeEntity(staleCopy);
+			entityManager.flush();
+		});
+		assertTrue(conflict instanceof OptimisticLockException || conflict instanceof OptimisticLockingFailureException);
+	}
+}
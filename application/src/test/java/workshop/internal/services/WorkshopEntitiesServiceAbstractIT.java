@@ -13,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.annotation.Rollback;
@@ -20,6 +21,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 import workshop.internal.entities.*;
 import workshop.exceptions.EntityNotFoundException;
+import workshop.exceptions.PersistenceFailureException;
+import workshop.internal.services.serviceUtils.WorkshopEntitiesRegistry;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -58,6 +61,8 @@ class WorkshopEntitiesServiceAbstractIT {
 	private PhonesService phonesService;
 	@Autowired
 	private UsersService usersService;
+	@Autowired
+	private WorkshopEntitiesRegistry workshopEntitiesRegistry;
 	
 	@Test
 	@DisplayName("EntitiesServiceAbstract subclasses initializes and autowires successfully")
@@ -81,6 +86,24 @@ class WorkshopEntitiesServiceAbstractIT {
 		assertEquals("The Department to be stored", departmentPersisted.getName());
 	}
 	
+	@Test
+	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
+	public void detached_Copies_Without_The_Version_Should_Not_Be_Merged() {
+		//GIVEN
+		Department department = departmentsService.persistEntity(new Department("The Department unversioned"));
+		Department unversionedCopy = new Department("The Department unversioned renamed");
+		unversionedCopy.setIdentifier(department.getIdentifier());
+		
+		//WHEN
+		PersistenceFailureException exception =
+			assertThrows(PersistenceFailureException.class, () -> departmentsService.mergeEntity(unversionedCopy));
+		
+		//THEN
+		assertEquals(HttpStatus.PRECONDITION_REQUIRED, exception.getHttpStatus());
+		assertEquals(Long.valueOf(0), departmentsService.findVersion(department.getIdentifier()).get());
+		assertEquals("The Department unversioned", departmentsService.findById(department.getIdentifier()).getName());
+	}
+	
 	@Test
 	@Transactional
 	public void taskService_Should_Find_Task_By_Id() {
@@ -549,12 +572,36 @@ class WorkshopEntitiesServiceAbstractIT {
 		
 		//WHEN
 		WorkshopEntitiesServiceAbstract workshopEntitiesService =
-			WorkshopEntitiesServiceAbstract.getWorkshopEntitiesServiceBeanByEntityType(workshopEntityType);
+			workshopEntitiesRegistry.getWorkshopEntitiesService(workshopEntityType);
 		
 		//THEN
 		assertEquals(workshopEntityType, workshopEntitiesService.getEntityClass().getSimpleName());
 	}
 	
+	@Test
+	public void workshopEntities_Registry_Should_Be_Built_From_Metamodel_With_Services_And_Controller_Paths() {
+		//GIVEN
+		WorkshopEntitiesRegistry.WorkshopEntityDescriptor orderDescriptor =
+			workshopEntitiesRegistry.findDescriptor("Order").orElseThrow(() -> new AssertionError("No Order!"));
+		
+		//WHEN
+		Order order = new Order();
+		
+		//THEN
+		assertAll(
+			() -> assertTrue(WorkshopEntitiesRegistry.getWorkshopEntitiesNames().containsAll(
+				Arrays.asList("Order", "Task", "ClassifiersGroup", "InternalAuthority", "WorkshopEntityType"))),
+			() -> assertThrows(UnsupportedOperationException.class,
+				() -> WorkshopEntitiesRegistry.getWorkshopEntitiesNames().add("Anything")),
+			() -> assertEquals(Order.class, orderDescriptor.getEntityClass()),
+			() -> assertEquals(Order.class, orderDescriptor.getService().getEntityClass()),
+			() -> assertEquals(Order.class, orderDescriptor.getDao().getEntityClass()),
+			() -> assertEquals("/internal/orders", orderDescriptor.getControllerPath()),
+			() -> assertEquals("Order", order.getWorkshopEntityName()),
+			() -> assertFalse(workshopEntitiesRegistry.findDescriptor("Orders").isPresent())
+		);
+	}
+	
 	@ParameterizedTest
 	@ValueSource(strings = {"Department", "Position", "Employee"})
 	@WithMockUser(username = "admin@workshop.pro", password = "12345", authorities = {"ADMIN_FULL"})
@@ -578,7 +625,7 @@ class WorkshopEntitiesServiceAbstractIT {
 		
 		//WHEN
 		WorkshopEntitiesServiceAbstract workshopEntitiesService =
-			WorkshopEntitiesServiceAbstract.getWorkshopEntitiesServiceBeanByEntityType(workshopEntityType);
+			workshopEntitiesRegistry.getWorkshopEntitiesService(workshopEntityType);
 		
 		//THEN
 		List<WorkshopEntity> workshopEntityByProperty = null;
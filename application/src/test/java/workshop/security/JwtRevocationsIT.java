@@ -0,0 +1,126 @@
+package workshop.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import workshop.internal.entities.Department;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.InternalAuthority;
+import workshop.internal.entities.Position;
+import workshop.internal.services.DepartmentsService;
+import workshop.internal.services.EmployeesService;
+import workshop.internal.services.InternalAuthoritiesService;
+import workshop.internal.services.PositionsService;
+
+import javax.servlet.http.Cookie;
+import java.time.LocalDate;
+import java.util.Collections;
+
+/**
+ * The JWTs of the removed Employees must not be restored from their claims whichever way the Employees are removed.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@PropertySource("classpath:applicationTest.properties")
+@AutoConfigureMockMvc
+@DirtiesContext
+class JwtRevocationsIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JwtUtils jwtUtils;
+	@Autowired
+	private EmployeesDetailsService employeesDetailsService;
+	@Autowired
+	private DepartmentsService departmentsService;
+	@Autowired
+	private PositionsService positionsService;
+	@Autowired
+	private EmployeesService employeesService;
+	@Autowired
+	private InternalAuthoritiesService internalAuthoritiesService;
+	@Autowired
+	private PermissionMatrix permissionMatrix;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Value("${internalAuthCookieName}")
+	private String internalAuthCookieName;
+
+	@Test
+	@DisplayName("The JWT of the Employee removed in bulk has to be rejected")
+	public void jwt_Of_Employee_Removed_In_Bulk_Should_Be_Rejected() throws Exception {
+		//GIVEN
+		Employee employee = persistEmployee("bulk.removed@workshop.pro");
+		String jwt = getJwt(employee);
+		performWithJwt(employee, jwt).andExpect(MockMvcResultMatchers.status().isOk());
+
+		//WHEN the entity callbacks aren't invoked
+		employeesService.removeAllByIds(Collections.singletonList(employee.getIdentifier()));
+
+		//THEN the login page redirection
+		performWithJwt(employee, jwt).andExpect(MockMvcResultMatchers.status().is3xxRedirection());
+	}
+
+	@Test
+	@DisplayName("The JWT of the Employee removed bypassing this application instance has to be rejected")
+	public void jwt_Of_Employee_Removed_By_Another_Instance_Should_Be_Rejected() throws Exception {
+		//GIVEN
+		Employee employee = persistEmployee("another.instance.removed@workshop.pro");
+		String jwt = getJwt(employee);
+		performWithJwt(employee, jwt).andExpect(MockMvcResultMatchers.status().isOk());
+
+		//WHEN no events are published as by another application instance
+		new TransactionTemplate(transactionManager).execute(status ->
+			jdbcTemplate.update("DELETE FROM INTERNAL.EMPLOYEES WHERE ID = ?", employee.getIdentifier()));
+		//As the scheduled check does
+		permissionMatrix.checkRevocations();
+
+		//THEN the login page redirection
+		performWithJwt(employee, jwt).andExpect(MockMvcResultMatchers.status().is3xxRedirection());
+	}
+
+	private Employee persistEmployee(String email) {
+		InternalAuthority adminFull = internalAuthoritiesService.findByProperty("name", "ADMIN_FULL").get(0);
+		Department department = departmentsService.persistEntity(new Department("Department of " + email));
+		Position position = new Position("Position of " + email, department);
+		position.addInternalAuthority(adminFull);
+		position = positionsService.persistEntity(position);
+		return employeesService.persistEntity(
+			new Employee("First", "Last", "12345", email, LocalDate.now().minusYears(25), position));
+	}
+
+	private String getJwt(Employee employee) {
+		UserDetailsEmployee userDetailsEmployee = employeesDetailsService.loadUserByUsername(employee.getEmail());
+		return jwtUtils.generateJwt(new UsernamePasswordAuthenticationToken(
+			userDetailsEmployee, "", userDetailsEmployee.getAuthorities()));
+	}
+
+	private ResultActions performWithJwt(Employee employee, String jwt) throws Exception {
+		MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+			.get("/internal/employees/" + employee.getIdentifier())
+			.cookie(new Cookie(internalAuthCookieName, jwt))
+			.accept(MediaTypes.HAL_JSON_UTF8);
+		return mockMvc.perform(request).andDo(MockMvcResultHandlers.print());
+	}
+}
@@ -33,6 +33,7 @@ public class ExternalConfiguration {
 				skip(destination.getExternalAuthorities());
 				skip(destination.getOrders());
 				skip(destination.getIsEnabled());
+				skip(destination.getPhotoHash());
 			}
 		});
 		
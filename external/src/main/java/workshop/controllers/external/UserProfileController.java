@@ -3,6 +3,7 @@ package workshop.controllers.external;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,15 +16,20 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import workshop.controllers.WorkshopControllerAbstract;
+import workshop.controllers.utils.PhotoResponseWriter;
 import workshop.controllers.utils.UserMessagesCreator;
+import workshop.exceptions.IllegalArgumentsException;
 import workshop.external.dto.UserDto;
+import workshop.internal.entities.Photo;
 import workshop.internal.entities.User;
 import workshop.internal.entities.hibernateValidation.Merge;
 import workshop.exceptions.EntityNotFoundException;
+import workshop.internal.services.PhotosService;
 import workshop.internal.services.UsersService;
 
 import javax.validation.groups.Default;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Locale;
 
 @Slf4j
@@ -43,6 +49,12 @@ public class UserProfileController extends WorkshopControllerAbstract {
 	@Autowired
 	private UsersService usersService;
 	
+	@Autowired
+	private PhotosService photosService;
+	
+	@Autowired
+	private PhotoResponseWriter photoResponseWriter;
+	
 	/**
 	 * By every request adds the "user" attribute as the {@link User} obtained from the given {@link Authentication}
 	 * if that User is present and not 'Anonymous'.
@@ -88,8 +100,17 @@ public class UserProfileController extends WorkshopControllerAbstract {
 		return "redirect:/profile";
 	}
 	
+	/**
+	 * @param thumbnail   True to get the pre-generated thumbnail for the lists and previews.
+	 * @param ifNoneMatch The cached photo ETag to get 304 if it is still the same photo.
+	 * @param range       The single byte range to get only that part of the photo.
+	 * @return The photo streamed from the {@link PhotosService} store or 404 if the User doesn't have a photo.
+	 */
 	@GetMapping(path = "/{userDtoId}/photo")
 	public ResponseEntity getPhoto(@PathVariable(name = "userDtoId") Long userDtoId,
+								   @RequestParam(name = "thumbnail", required = false, defaultValue = "false") boolean thumbnail,
+								   @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+								   @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
 								   Authentication authentication,
 								   Locale locale) {
 		User user = usersService.findByLogin(authentication.getName());
@@ -98,7 +119,12 @@ public class UserProfileController extends WorkshopControllerAbstract {
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(getMessageSource().getMessage(
 				"message.loginNotValidForRequestedPhoto", null, locale));
 		}
-		return ResponseEntity.ok(user.getPhoto());
+		if (user.getPhotoHash() == null) {
+			return ResponseEntity.notFound().build();
+		}
+		Photo photo = photosService.findByHash(user.getPhotoHash());
+		return photoResponseWriter.write(photo, thumbnail,
+			thumbnail ? photosService.getThumbnailPath(photo) : photosService.getContentPath(photo), ifNoneMatch, range);
 	}
 	
 	/**
@@ -122,10 +148,9 @@ public class UserProfileController extends WorkshopControllerAbstract {
 			return "redirect:/profile";
 		}
 		User user = usersService.findByLogin(authentication.getName());
-		try {
-			user.setPhoto(photo.getBytes());
-			usersService.mergeEntity(user);
-		} catch (IOException e) {
+		try (InputStream photoContent = photo.getInputStream()) {
+			photosService.replacePhoto(usersService, user.getIdentifier(), photoContent, photo.getContentType());
+		} catch (IOException | IllegalArgumentsException e) {
 			log.debug(e.getMessage(), e);
 			redirectAttributes.addAttribute("userMessage", getMessageSource().getMessage(
 				"message.photoUploadError", null, locale));
@@ -145,8 +170,7 @@ public class UserProfileController extends WorkshopControllerAbstract {
 				getMessageSource().getMessage("message.loginNotValidForRequestedPhoto", null, locale));
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(jsonMessageForUser);
 		}
-		user.setPhoto(null);
-		usersService.mergeEntity(user);
+		photosService.removePhoto(usersService, user.getIdentifier());
 		return ResponseEntity.ok().build();
 	}
 	
@@ -7,17 +7,15 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
-import workshop.internal.entities.WorkshopEntity;
-import workshop.internal.services.UsersService;
-import workshop.internal.services.WorkshopEntitiesServiceAbstract;
-
-import java.util.List;
+import workshop.internal.services.serviceUtils.WorkshopEntitiesRegistry;
 
 @Slf4j
 @Controller
 @RequestMapping(path = "/ajax")
 public class SearchAjaxController {
 	
+	@Autowired
+	private WorkshopEntitiesRegistry workshopEntitiesRegistry;
 	
 	/**
 	 * @param workshopEntityType {@link String} as a representation for {@link workshop.internal.entities.WorkshopEntityType}
@@ -37,10 +35,7 @@ public class SearchAjaxController {
 		@RequestParam(name = "propertyName") String propertyName,
 		@RequestParam(name = "propertyValue") String propertyValue) {
 		
-		List<WorkshopEntity> workshopEntities =
-			WorkshopEntitiesServiceAbstract.findByWorkshopEntityType(workshopEntityType, propertyName, propertyValue);
-		
-		if (workshopEntities.size() > 0) {
+		if (workshopEntitiesRegistry.existsByWorkshopEntityType(workshopEntityType, propertyName, propertyValue)) {
 			return ResponseEntity.ok("");
 		} else {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
@@ -83,8 +83,10 @@ public class UserDto implements Serializable {
 	
 	private Set<@Valid ExternalAuthority> externalAuthorities;
 	
-	@Size(max = 5242880, message = "{validation.photoSize}")
-	private byte[] photo;
+	/**
+	 * {@link User#getPhotoHash()} to show the photo. The photo itself is only uploaded and served separately.
+	 */
+	private String photoHash;
 	
 	public User getUser() {
 		if (this.phones != null && this.phones.size() > 0) {
@@ -0,0 +1,32 @@
+package workshop.applicationEvents;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+import workshop.internal.entities.WorkshopEntity;
+
+/**
+ * Is published when an {@link workshop.internal.entities.Employee}, {@link workshop.internal.entities.User},
+ * {@link workshop.internal.entities.Position} or {@link workshop.internal.entities.ExternalAuthority} is updated or
+ * removed so the Authentications already built from them are not valid anymore.
+ */
+@Getter
+public class AuthenticationsChangedEvent extends ApplicationEvent {
+	
+	private Class<? extends WorkshopEntity> changedEntityClass;
+	private Long changedEntityIdentifier;
+	
+	public AuthenticationsChangedEvent(WorkshopEntity changedEntity) {
+		super(changedEntity);
+		this.changedEntityClass = changedEntity.getClass();
+		this.changedEntityIdentifier = changedEntity.getIdentifier();
+	}
+	
+	/**
+	 * For the WorkshopEntities changed by the bulk statements without being loaded.
+	 */
+	public AuthenticationsChangedEvent(Class<? extends WorkshopEntity> changedEntityClass, Long changedEntityIdentifier) {
+		super(changedEntityClass);
+		this.changedEntityClass = changedEntityClass;
+		this.changedEntityIdentifier = changedEntityIdentifier;
+	}
+}
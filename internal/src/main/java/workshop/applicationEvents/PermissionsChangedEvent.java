@@ -0,0 +1,37 @@
+package workshop.applicationEvents;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.lang.Nullable;
+import workshop.internal.entities.AuthorityPermission;
+import workshop.internal.entities.InternalAuthority;
+import workshop.internal.entities.WorkshopEntity;
+
+/**
+ * Is published when an {@link InternalAuthority}, {@link AuthorityPermission} or
+ * {@link workshop.internal.entities.WorkshopEntityType} is persisted, updated or removed so the compiled permissions
+ * of the affected InternalAuthorities have to be rebuilt.
+ */
+@Getter
+public class PermissionsChangedEvent extends ApplicationEvent {
+	
+	private Class<? extends WorkshopEntity> changedEntityClass;
+	private Long changedEntityIdentifier;
+	/**
+	 * The InternalAuthority the changed AuthorityPermission belongs to. Null for all the other changed WorkshopEntities
+	 * and the AuthorityPermissions of ExternalAuthorities.
+	 */
+	@Nullable
+	private Long internalAuthorityIdentifier;
+	
+	public PermissionsChangedEvent(WorkshopEntity changedEntity) {
+		super(changedEntity);
+		this.changedEntityClass = changedEntity.getClass();
+		this.changedEntityIdentifier = changedEntity.getIdentifier();
+		if (changedEntity instanceof AuthorityPermission &&
+			((AuthorityPermission) changedEntity).getInternalAuthority() != null) {
+			this.internalAuthorityIdentifier =
+				((AuthorityPermission) changedEntity).getInternalAuthority().getIdentifier();
+		}
+	}
+}
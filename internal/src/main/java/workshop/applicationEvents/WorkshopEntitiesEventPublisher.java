@@ -49,6 +49,44 @@ public class WorkshopEntitiesEventPublisher implements ApplicationEventPublisher
 		log.debug("UserPasswordResetEvent for the User.ID={} has been published.", uuid.getPasswordResetUser().getIdentifier());
 	}
 	
+	/**
+	 * Does nothing until the ApplicationContext is set, e.g. for the WorkshopEntities persisted without Spring.
+	 */
+	public static void publishPermissionsChangedEvent(WorkshopEntity changedEntity) {
+		if (applicationEventPublisher == null) {
+			return;
+		}
+		applicationEventPublisher.publishEvent(new PermissionsChangedEvent(changedEntity));
+		log.debug("PermissionsChangedEvent for the {}.ID={} has been published.",
+			changedEntity.getWorkshopEntityName(), changedEntity.getIdentifier());
+	}
+	
+	/**
+	 * Does nothing until the ApplicationContext is set, e.g. for the WorkshopEntities persisted without Spring.
+	 */
+	public static void publishAuthenticationsChangedEvent(WorkshopEntity changedEntity) {
+		if (applicationEventPublisher == null) {
+			return;
+		}
+		applicationEventPublisher.publishEvent(new AuthenticationsChangedEvent(changedEntity));
+		log.debug("AuthenticationsChangedEvent for the {}.ID={} has been published.",
+			changedEntity.getWorkshopEntityName(), changedEntity.getIdentifier());
+	}
+	
+	/**
+	 * The same as {@link #publishAuthenticationsChangedEvent(WorkshopEntity)} for the WorkshopEntities changed by the
+	 * bulk statements, as their entity callbacks aren't invoked.
+	 */
+	public static void publishAuthenticationsChangedEvent(
+		Class<? extends WorkshopEntity> changedEntityClass, Long changedEntityIdentifier) {
+		if (applicationEventPublisher == null) {
+			return;
+		}
+		applicationEventPublisher.publishEvent(new AuthenticationsChangedEvent(changedEntityClass, changedEntityIdentifier));
+		log.debug("AuthenticationsChangedEvent for the {}.ID={} has been published.",
+			changedEntityClass.getSimpleName(), changedEntityIdentifier);
+	}
+	
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
 		WorkshopEntitiesEventPublisher.applicationEventPublisher = applicationEventPublisher;
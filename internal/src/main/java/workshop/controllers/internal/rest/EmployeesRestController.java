@@ -10,6 +10,7 @@ import org.springframework.hateoas.ExposesResourceFor;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.Resources;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +19,10 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import workshop.controllers.utils.PhotoResponseWriter;
+import workshop.exceptions.EntityNotFoundException;
+import workshop.exceptions.IllegalArgumentsException;
 import workshop.internal.entities.*;
 import workshop.internal.entities.hibernateValidation.Persist;
 import workshop.internal.entities.hibernateValidation.Merge;
@@ -25,6 +30,8 @@ import workshop.internal.hateoasResources.*;
 import workshop.internal.services.*;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
 
 @Slf4j
 @Getter
@@ -55,6 +62,10 @@ public class EmployeesRestController extends WorkshopRestControllerAbstract<Empl
 	private PhonesService phonesService;
 	@Autowired
 	private PositionsService positionsService;
+	@Autowired
+	private PhotosService photosService;
+	@Autowired
+	private PhotoResponseWriter photoResponseWriter;
 	
 	/**
 	 * @param employeesService By this instance we set the concrete instance of WorkshopServiceAbstract
@@ -518,12 +529,55 @@ public class EmployeesRestController extends WorkshopRestControllerAbstract<Empl
 		}
 	}
 	
+	/**
+	 * Streams the given photo into the {@link PhotosService} store and sets it to the Employee instead of the previous
+	 * one.
+	 *
+	 * @param id    Employee.ID
+	 * @param photo The image file.
+	 * @return The renewed Employee with the new 'photoHash' as a Resource.
+	 * @throws IllegalArgumentsException 422 if the photo is empty, too large or not an image.
+	 */
 	@PostMapping(path = "/{id}/photo", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
-	public ResponseEntity<String> photo(@RequestParam(name = "photo") MultipartFile photo) {
-		
-		
-		//TODO: to complete
+	@PreAuthorize("hasPermission('Employee', 'put')")
+	public ResponseEntity<String> photo(@PathVariable(name = "id") Long id,
+										@RequestParam(name = "photo") MultipartFile photo) {
+		Employee employeeWithPhoto;
+		try (InputStream photoContent = photo.getInputStream()) {
+			employeeWithPhoto = photosService.replacePhoto(
+				getWorkshopEntitiesService(), id, photoContent, photo.getContentType());
+		} catch (IOException e) {
+			throw new IllegalArgumentsException(e.getMessage(), "message.photoUploadError",
+				HttpStatus.UNPROCESSABLE_ENTITY, e);
+		}
+		Resource<Employee> employeeResource = getWorkshopEntityResourceAssembler().toResource(employeeWithPhoto);
+		String jsonEmployeeResource = getJsonServiceUtils().workshopEntityObjectsToJson(employeeResource);
+		return ResponseEntity.ok(jsonEmployeeResource);
+	}
+	
+	/**
+	 * @param id          Employee.ID
+	 * @param thumbnail   True to get the pre-generated thumbnail for the lists.
+	 * @param ifNoneMatch The cached photo ETag to get 304 if it is still the same photo.
+	 * @param range       The single byte range to get only that part of the photo.
+	 * @return The photo streamed from the {@link PhotosService} store.
+	 * @throws EntityNotFoundException 404 if the Employee doesn't have a photo.
+	 */
+	@GetMapping(path = "/{id}/photo", produces = {MediaType.ALL_VALUE})
+	@PreAuthorize("hasPermission('Employee', 'get')")
+	public ResponseEntity<StreamingResponseBody> getPhoto(
+		@PathVariable(name = "id") Long id,
+		@RequestParam(name = "thumbnail", required = false, defaultValue = "false") boolean thumbnail,
+		@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+		@RequestHeader(name = HttpHeaders.RANGE, required = false) String range) {
 		
-		return null;
+		Employee employee = getWorkshopEntitiesService().findById(id);
+		if (employee.getPhotoHash() == null) {
+			throw new EntityNotFoundException("Employee.ID=" + id + " doesn't have a photo!", "httpStatus.notFound",
+				HttpStatus.NOT_FOUND);
+		}
+		Photo photo = photosService.findByHash(employee.getPhotoHash());
+		return photoResponseWriter.write(photo, thumbnail,
+			thumbnail ? photosService.getThumbnailPath(photo) : photosService.getContentPath(photo), ifNoneMatch, range);
 	}
 }
@@ -0,0 +1,32 @@
+package workshop.controllers.internal.rest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import workshop.internal.dao.PersistenceMetrics;
+import workshop.internal.services.serviceUtils.JsonServiceUtils;
+
+/**
+ * The 2nd level cache regions, query cache, entity loads, flushes, slowest queries and connection pools statistics
+ * for the administrators. See {@link PersistenceMetrics}.
+ */
+@RestController
+@RequestMapping(path = "/internal/metrics", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class PersistenceMetricsRestController {
+
+	@Autowired
+	private PersistenceMetrics persistenceMetrics;
+
+	@Autowired
+	private JsonServiceUtils jsonServiceUtils;
+
+	@GetMapping(path = "/persistence")
+	@PreAuthorize("hasAnyAuthority('ADMIN_READ', 'ADMIN_WRITE', 'ADMIN_FULL')")
+	public ResponseEntity<String> getPersistenceMetrics() {
+		return ResponseEntity.ok(jsonServiceUtils.persistenceMetricsToJson(persistenceMetrics.getSnapshot()));
+	}
+}
@@ -46,7 +46,14 @@ public interface WorkshopRestController<T extends WorkshopEntity> {
 	
 	//The controller methods are the following...
 	
-	ResponseEntity<String> getAll(Integer pageSize, Integer pageNum, String orderBy, String order, WebRequest webRequest);
+	ResponseEntity<String> getAll(
+		Integer pageSize,
+		Integer pageNum,
+		String orderBy,
+		String order,
+		String after,
+		String filter,
+		WebRequest webRequest);
 	
 	ResponseEntity<String> getOne(Long id, WebRequest webRequest);
 	
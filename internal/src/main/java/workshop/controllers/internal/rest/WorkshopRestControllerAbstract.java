@@ -20,7 +20,11 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.SmartValidator;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.WebRequest;
@@ -30,12 +34,17 @@ import workshop.internal.entities.hibernateValidation.Merge;
 import workshop.exceptions.IllegalArgumentsException;
 import workshop.exceptions.InvalidMethodArgumentsException;
 import workshop.internal.hateoasResources.WorkshopEntitiesResourceAssemblerAbstract;
+import workshop.internal.services.ImportReport;
 import workshop.internal.services.WorkshopEntitiesServiceAbstract;
 import workshop.internal.services.serviceUtils.JsonServiceUtils;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.groups.Default;
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 
 /**
@@ -74,6 +83,8 @@ public abstract class WorkshopRestControllerAbstract<T extends WorkshopEntity> i
 	@Autowired
 	private JsonServiceUtils jsonServiceUtils;
 	@Autowired
+	private SmartValidator smartValidator;
+	@Autowired
 	private WorkshopEntitiesServiceAbstract<T> workshopEntitiesService;
 	@Autowired
 	private WorkshopEntitiesResourceAssemblerAbstract<T> workshopEntityResourceAssembler;
@@ -121,8 +132,19 @@ public abstract class WorkshopRestControllerAbstract<T extends WorkshopEntity> i
 	 *                 Default = {@link #DEFAULT_ORDER_BY}
 	 * @param order    @Nullable. 'asc' or 'desc' (ascending or descending) order.
 	 *                 Default = {@link #DEFAULT_ORDER}
+	 * @param after    @Nullable. An opaque keyset cursor from the 'nextPage' or 'previousPage' Links. If presented
+	 *                 the page is selected right after (or before) the boundary WorkshopEntity the cursor points to
+	 *                 instead of skipping 'pageNum * pageSize' rows, so 'pageNum' is only used as the current page
+	 *                 number for the end Users.
+	 * @param filter   @Nullable. Semicolon separated conditions by the indexed (or whitelisted) properties joined
+	 *                 with 'AND', e.g. 'deadline<2026-12-01;appointedTo.identifier==42;price>=100'.
+	 *                 See {@link workshop.internal.dao.EntityFilter} for the syntax.
 	 * @return Paged and sorted WorkshopEntities collection with embedded navigation Links through it (i.e. prevPage,
 	 * nextPage etc). Also every WorkshopEntity has its own self-link to be obtained as a HATEOAS resource.
+	 * The WorkshopEntities are only their summaries (see {@link WorkshopEntitiesServiceAbstract#findAllSummaries})
+	 * so the full one has to be obtained by its self-link: their basic properties and Links are the same as of the
+	 * full ones, but the nested WorkshopEntities contain only their 'identifier' (e.g. "department":{"identifier":300})
+	 * and the nested collections are omitted.
 	 */
 	@Override
 	@GetMapping
@@ -132,10 +154,12 @@ public abstract class WorkshopRestControllerAbstract<T extends WorkshopEntity> i
 		@RequestParam(value = "pageNum", required = false, defaultValue = "1") Integer pageNum,
 		@RequestParam(name = "order-by", required = false, defaultValue = "${default.orderBy}") String orderBy,
 		@RequestParam(name = "order", required = false, defaultValue = "${default.order}") String order,
+		@RequestParam(name = "after", required = false) String after,
+		@RequestParam(name = "filter", required = false) String filter,
 		@Nullable WebRequest webRequest) {
 		
 		Pageable pageRequest = getPageable(pageSize, pageNum, orderBy, order);
-		Page<T> entitiesPage = workshopEntitiesService.findAllEntities(pageRequest);
+		Page<T> entitiesPage = workshopEntitiesService.findAllSummaries(pageRequest, after, filter);
 		
 		Resources<Resource<T>> entitiesPageResources = workshopEntityResourceAssembler.toPagedResources(entitiesPage);
 		
@@ -187,6 +211,29 @@ public abstract class WorkshopRestControllerAbstract<T extends WorkshopEntity> i
 	}
 	
 	
+	/**
+	 * The bulk import of the new WorkshopEntities from the JSON array in the request body.
+	 * The array is read incrementally while the WorkshopEntities are persisted by batches, so the request size is not
+	 * limited by the memory. The whole import is performed within a single transaction.
+	 *
+	 * @param request With the JSON array of new WorkshopEntities (without identifiers) as the body.
+	 * @return The import statistics (the amount of imported WorkshopEntities, rows per second and the batches
+	 * latency).
+	 * @throws InvalidMethodArgumentsException 422 with the field errors of the first WorkshopEntity which doesn't pass
+	 *                                         the {@link Persist} validation. Their field names are prefixed with the
+	 *                                         WorkshopEntity index within the array (e.g. '[3].name') and the whole
+	 *                                         import is rolled back.
+	 */
+	@PostMapping(path = "/import", consumes = {MediaType.APPLICATION_JSON_UTF8_VALUE, MediaType.APPLICATION_JSON_VALUE})
+	@PreAuthorize("hasPermission(#webRequest, 'post')")
+	public ResponseEntity<String> postAll(HttpServletRequest request, WebRequest webRequest) throws IOException {
+		
+		Iterator<T> entitiesIterator =
+			jsonServiceUtils.workshopEntitiesFromJsonArray(request.getInputStream(), workshopEntityClass);
+		ImportReport importReport = workshopEntitiesService.importEntities(validatedForPersist(entitiesIterator));
+		return new ResponseEntity<>(jsonServiceUtils.importReportToJson(importReport), HttpStatus.CREATED);
+	}
+	
 	@Override
 	@PutMapping(path = "/{id}", consumes = {MediaType.APPLICATION_JSON_UTF8_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
 	@PreAuthorize("hasPermission(#webRequest, 'put')")
@@ -265,6 +312,44 @@ public abstract class WorkshopRestControllerAbstract<T extends WorkshopEntity> i
 	 *
 	 * @throws InvalidMethodArgumentsException to be processed by ExceptionHandlerController.validationFailure()
 	 */
+	/**
+	 * As the imported WorkshopEntities are read one by one, every one of them is validated against the {@link Persist}
+	 * group as the {@link #postOne(WorkshopEntity, BindingResult, WebRequest)} one does, right before it is passed to
+	 * the batch.
+	 */
+	private Iterator<T> validatedForPersist(Iterator<T> entitiesIterator) {
+		return new Iterator<T>() {
+			private int index = 0;
+			
+			@Override
+			public boolean hasNext() {
+				return entitiesIterator.hasNext();
+			}
+			
+			@Override
+			public T next() {
+				T workshopEntity = entitiesIterator.next();
+				if (workshopEntity != null) {
+					BindingResult entityBindingResult =
+						new BeanPropertyBindingResult(workshopEntity, workshopEntityClassName);
+					smartValidator.validate(workshopEntity, entityBindingResult, Persist.class);
+					if (entityBindingResult.hasErrors()) {
+						BindingResult importBindingResult = new MapBindingResult(new HashMap<>(), workshopEntityClassName);
+						String fieldPrefix = "[" + index + "].";
+						entityBindingResult.getFieldErrors().forEach(fieldError -> importBindingResult.addError(
+							new FieldError(workshopEntityClassName, fieldPrefix + fieldError.getField(),
+								fieldError.getRejectedValue(), fieldError.isBindingFailure(), fieldError.getCodes(),
+								fieldError.getArguments(), fieldError.getDefaultMessage())));
+						throw new InvalidMethodArgumentsException("The imported " + workshopEntityClassName +
+							" Json object with index=" + index + " has errors!", importBindingResult);
+					}
+				}
+				index++;
+				return workshopEntity;
+			}
+		};
+	}
+	
 	protected void validateBindingResult(BindingResult bindingResult) throws InvalidMethodArgumentsException {
 		if (bindingResult.hasErrors()) { //To be processed by ExceptionHandlerController.validationFailure()
 			throw new InvalidMethodArgumentsException(
@@ -0,0 +1,126 @@
+package workshop.controllers.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.*;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import workshop.exceptions.EntityNotFoundException;
+import workshop.internal.entities.Photo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Serves the photos from the {@link workshop.internal.services.serviceUtils.PhotoFileStore} directly from their files
+ * with the {@link FileChannel#transferTo(long, long, WritableByteChannel)} so they are never read into the memory.
+ * <p>
+ * As the stored photos are immutable, their hashes are used as the strong ETags ('If-None-Match' is answered with
+ * 304) and the single byte ranges are supported ('Range' is answered with 206). The multiple ranges are ignored and
+ * the whole photo is served.
+ */
+@Slf4j
+@Component
+public class PhotoResponseWriter {
+
+	private static final String THUMBNAIL_ETAG_SUFFIX = "-thumb";
+
+	/**
+	 * @param photo       The metadata of the photo to be served.
+	 * @param thumbnail   True to serve the pre-generated thumbnail (if the photo has one) instead of the photo itself.
+	 * @param path        The path of the photo or thumbnail file.
+	 * @param ifNoneMatch The 'If-None-Match' request header value.
+	 * @param range       The 'Range' request header value.
+	 * @return 200, 206, 304 or 416 response with the photo streaming body.
+	 * @throws EntityNotFoundException If the file is missing from the store.
+	 */
+	public ResponseEntity<StreamingResponseBody> write(Photo photo,
+													   boolean thumbnail,
+													   Path path,
+													   @Nullable String ifNoneMatch,
+													   @Nullable String range) throws EntityNotFoundException {
+		if (!Files.isRegularFile(path)) {
+			throw new EntityNotFoundException("The file of Photo.hash=" + photo.getHash() + " is missing!",
+				"httpStatus.notFound", HttpStatus.NOT_FOUND);
+		}
+		boolean servesThumbnail = thumbnail && photo.getThumbnailLength() > 0;
+		long length = servesThumbnail ? photo.getThumbnailLength() : photo.getContentLength();
+		String eTag = "\"" + photo.getHash() + (servesThumbnail ? THUMBNAIL_ETAG_SUFFIX : "") + "\"";
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag(eTag);
+		//The Users' photos are private and have to be revalidated, which is cheap with the ETag
+		headers.setCacheControl(CacheControl.noCache().cachePrivate().getHeaderValue());
+		headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (ifNoneMatch != null && isMatching(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+		}
+		headers.setContentType(servesThumbnail ? MediaType.IMAGE_JPEG : MediaType.parseMediaType(photo.getContentType()));
+		if (range == null || range.isEmpty()) {
+			headers.setContentLength(length);
+			return ResponseEntity.ok().headers(headers).body(out -> transfer(path, 0, length, out));
+		}
+		long start;
+		long end;
+		try {
+			List<HttpRange> httpRanges = HttpRange.parseRanges(range);
+			if (httpRanges.size() != 1) {
+				log.trace("Multiple ranges={} of the photo {} are ignored", range, photo.getHash());
+				headers.setContentLength(length);
+				return ResponseEntity.ok().headers(headers).body(out -> transfer(path, 0, length, out));
+			}
+			start = httpRanges.get(0).getRangeStart(length);
+			end = httpRanges.get(0).getRangeEnd(length);
+			if (start > end) {
+				throw new IllegalArgumentException("Range=" + range + " is not satisfiable!");
+			}
+		} catch (IllegalArgumentException e) {
+			log.debug("Range={} of the photo {} is not satisfiable: {}", range, photo.getHash(), e.getMessage());
+			headers.remove(HttpHeaders.CONTENT_TYPE);
+			headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+			return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+		}
+		long count = end - start + 1;
+		headers.setContentLength(count);
+		headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+		return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(headers)
+			.body(out -> transfer(path, start, count, out));
+	}
+
+	/**
+	 * The weak comparison as it is required for 'If-None-Match'.
+	 */
+	private boolean isMatching(String ifNoneMatch, String eTag) {
+		for (String requestedETag : ifNoneMatch.split(",")) {
+			requestedETag = requestedETag.trim();
+			if (requestedETag.startsWith("W/")) {
+				requestedETag = requestedETag.substring(2);
+			}
+			if (requestedETag.equals("*") || requestedETag.equals(eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void transfer(Path path, long position, long count, OutputStream out) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			WritableByteChannel outChannel = Channels.newChannel(out);
+			while (count > 0) {
+				long transferred = fileChannel.transferTo(position, count, outChannel);
+				if (transferred <= 0) {
+					break;
+				}
+				position += transferred;
+				count -= transferred;
+			}
+		}
+	}
+}
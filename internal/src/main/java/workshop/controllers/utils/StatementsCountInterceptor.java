@@ -0,0 +1,41 @@
+package workshop.controllers.utils;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import workshop.internal.dao.StatementsCountInspector;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Binds the {@link StatementsCountInspector} scope to every handled request, so the SQL statements of the
+ * controllers, services and the lazy loadings during the rendering are counted against the request budget.
+ */
+@Component
+public class StatementsCountInterceptor implements AsyncHandlerInterceptor {
+
+	@Autowired
+	private StatementsCountInspector statementsCountInspector;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		statementsCountInspector.begin(request.getMethod() + " " + request.getRequestURI());
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+								Exception ex) {
+		statementsCountInspector.end();
+	}
+
+	/**
+	 * The asynchronous (e.g. streaming) responses are completed within another thread so the scope is unbound here.
+	 */
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+											   Object handler) {
+		statementsCountInspector.end();
+	}
+}
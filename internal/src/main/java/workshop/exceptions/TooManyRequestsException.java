@@ -0,0 +1,25 @@
+package workshop.exceptions;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Is thrown when a request is rejected before doing any expensive work (e.g. a password hashing) as the application
+ * is overloaded or the client exceeds its limits. Is always returned as 429 with the 'Retry-After' header.
+ */
+public class TooManyRequestsException extends WorkshopException {
+
+	/**
+	 * The seconds the client has to wait before the next attempt. Is sent as the 'Retry-After' header.
+	 */
+	@Getter
+	private final long retryAfterSeconds;
+
+	/**
+	 * @see WorkshopException#WorkshopException(String, String, HttpStatus)
+	 */
+	public TooManyRequestsException(String message, long retryAfterSeconds) {
+		super(message, "httpStatus.tooManyRequests", HttpStatus.TOO_MANY_REQUESTS);
+		this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+	}
+}
@@ -7,7 +7,6 @@ import workshop.internal.entities.AuthorityPermission;
 import workshop.internal.entities.WorkshopEntityType;
 
 import javax.persistence.PersistenceException;
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.*;
 import java.util.List;
 import java.util.Optional;
@@ -44,21 +43,21 @@ public class AuthorityPermissionsDao extends WorkshopEntitiesDaoAbstract<Authori
 		Predicate workshopEntityTypeIdEquals = cb.equal(joinPermissionOnEntityType.get("identifier"), workshopEntityTypeId);
 		joinPermissionOnEntityType.on(workshopEntityTypeIdEquals);
 		
-		if (order.isAscending()) {
-			cq.orderBy(cb.asc(permissionRoot.get(orderBy)));
-		} else {
-			cq.orderBy(cb.desc(permissionRoot.get(orderBy)));
-		}
-		TypedQuery<AuthorityPermission> typedQuery = getEntityManager().createQuery(cq);
-		typedQuery.setMaxResults(pageSize);
-		typedQuery.setFirstResult(pageSize * pageNum);
+		cq.select(permissionRoot);
 		
-		List<AuthorityPermission> permissionsByEntityType = typedQuery.getResultList();
+		return getPagedResultList(cq, permissionRoot, pageSize, pageNum, orderBy, order);
+	}
+	
+	public long countAuthorityPermissionsByWorkshopEntityType(Long workshopEntityTypeId) {
+		
+		verifyIdForNull(workshopEntityTypeId);
+		log.debug("Received WorkshopEntityType.ID={} to count its AuthorityPermissions", workshopEntityTypeId);
 		
-		if (permissionsByEntityType != null && !permissionsByEntityType.isEmpty()) {
-			return Optional.of(permissionsByEntityType);
-		} else {
-			return Optional.empty();
-		}
+		return getEntityManager().createQuery(
+			"SELECT COUNT (p.identifier) FROM workshop.internal.entities.AuthorityPermission p " +
+				"JOIN p.workshopEntityTypes t WHERE t.identifier=:workshopEntityTypeId",
+			Long.class)
+			.setParameter("workshopEntityTypeId", workshopEntityTypeId)
+			.getSingleResult();
 	}
 }
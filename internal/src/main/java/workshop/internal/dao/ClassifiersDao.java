@@ -1,16 +1,17 @@
 package workshop.internal.dao;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import workshop.internal.entities.Classifier;
 import workshop.internal.entities.Task;
 
 import javax.persistence.PersistenceException;
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.*;
 import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Repository
 public class ClassifiersDao extends WorkshopEntitiesDaoAbstract<Classifier, Long> {
 	
@@ -53,22 +54,21 @@ public class ClassifiersDao extends WorkshopEntitiesDaoAbstract<Classifier, Long
 		Predicate taskIdEqual = cb.equal(leftJoinClassifierTasks.get("identifier"), taskId);
 		leftJoinClassifierTasks.on(taskIdEqual);
 		
-		if (order.isAscending()) {
-			cq.orderBy(cb.asc(classifierRoot.get(orderBy)));
-		} else {
-			cq.orderBy(cb.desc(classifierRoot.get(orderBy)));
-		}
-		TypedQuery<Classifier> typedQuery = getEntityManager().createQuery(cq);
-		typedQuery.setMaxResults(pageSize);
-		typedQuery.setFirstResult(pageSize * pageNum);
+		cq.select(classifierRoot);
 		
-		List<Classifier> classifiersByTask = typedQuery.getResultList();
-		
-		if (classifiersByTask != null && !classifiersByTask.isEmpty()) {
-			return Optional.of(classifiersByTask);
-		} else {
-			return Optional.empty();
-		}
+		return getPagedResultList(cq, classifierRoot, pageSize, pageNum, orderBy, order);
 	}
 	
+	public long countClassifiersByTask(Long taskId) {
+		
+		verifyIdForNull(taskId);
+		log.debug("Received Task.ID={} to count its Classifiers", taskId);
+		
+		return getEntityManager().createQuery(
+			"SELECT COUNT (c.identifier) FROM workshop.internal.entities.Classifier c " +
+				"JOIN c.tasks t WHERE t.identifier=:taskId",
+			Long.class)
+			.setParameter("taskId", taskId)
+			.getSingleResult();
+	}
 }
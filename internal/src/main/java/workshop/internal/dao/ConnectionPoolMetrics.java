@@ -0,0 +1,125 @@
+package workshop.internal.dao;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how long the threads wait for the connections from every Hikari pool (the primary one and the replica one if
+ * 'datasource.replica.enabled=true').
+ * The tracker is set to every {@link HikariDataSource} bean before its pool is started, so every acquisition is
+ * recorded by Hikari itself with just a few atomic additions.
+ * (!) The pools with the already set MetricsTrackerFactory or MetricRegistry are left as they are.
+ */
+@Slf4j
+@Component
+public class ConnectionPoolMetrics implements MetricsTrackerFactory, BeanPostProcessor {
+
+	private final Map<String, PoolTracker> poolTrackers = new ConcurrentHashMap<>();
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+		if (bean instanceof HikariDataSource) {
+			HikariDataSource hikariDataSource = (HikariDataSource) bean;
+			if (hikariDataSource.getMetricsTrackerFactory() == null && hikariDataSource.getMetricRegistry() == null) {
+				hikariDataSource.setMetricsTrackerFactory(this);
+				log.debug("The connections wait time of the '{}' DataSource is tracked", beanName);
+			}
+		}
+		return bean;
+	}
+
+	@Override
+	public IMetricsTracker create(String poolName, PoolStats poolStats) {
+		return poolTrackers.computeIfAbsent(poolName, name -> new PoolTracker(name, poolStats));
+	}
+
+	public Collection<PoolTracker> getPoolTrackers() {
+		return Collections.unmodifiableCollection(poolTrackers.values());
+	}
+
+	/**
+	 * The cumulative wait times of a single pool and its current state.
+	 * The {@link PoolStats} are refreshed by Hikari not more often than once a second.
+	 */
+	public static class PoolTracker implements IMetricsTracker {
+
+		@Getter
+		private final String poolName;
+		private final PoolStats poolStats;
+		private final LongAdder acquisitionsCount = new LongAdder();
+		private final LongAdder acquisitionsNanos = new LongAdder();
+		private final LongAccumulator maxAcquisitionNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder timeoutsCount = new LongAdder();
+
+		private PoolTracker(String poolName, PoolStats poolStats) {
+			this.poolName = poolName;
+			this.poolStats = poolStats;
+		}
+
+		@Override
+		public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+			acquisitionsCount.increment();
+			acquisitionsNanos.add(elapsedAcquiredNanos);
+			maxAcquisitionNanos.accumulate(elapsedAcquiredNanos);
+		}
+
+		@Override
+		public void recordConnectionTimeout() {
+			timeoutsCount.increment();
+		}
+
+		public long getAcquisitionsCount() {
+			return acquisitionsCount.sum();
+		}
+
+		public double getTotalWaitMillis() {
+			return (double) acquisitionsNanos.sum() / TimeUnit.MILLISECONDS.toNanos(1);
+		}
+
+		/**
+		 * @return 0.0 if no connections have been acquired yet.
+		 */
+		public double getAverageWaitMillis() {
+			long count = acquisitionsCount.sum();
+			return count == 0 ? 0.0 : getTotalWaitMillis() / count;
+		}
+
+		public double getMaxWaitMillis() {
+			return (double) maxAcquisitionNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+		}
+
+		public long getTimeoutsCount() {
+			return timeoutsCount.sum();
+		}
+
+		public int getActiveConnections() {
+			return poolStats.getActiveConnections();
+		}
+
+		public int getIdleConnections() {
+			return poolStats.getIdleConnections();
+		}
+
+		public int getPendingThreads() {
+			return poolStats.getPendingThreads();
+		}
+
+		public int getMaxConnections() {
+			return poolStats.getMaxConnections();
+		}
+	}
+}
@@ -1,20 +1,30 @@
 package workshop.internal.dao;
 
 import workshop.internal.entities.Employee;
+import workshop.internal.entities.Position;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.NoResultException;
 import javax.persistence.PersistenceException;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Repository
@@ -28,6 +38,19 @@ public class EmployeesDao extends WorkshopEntitiesDaoAbstract<Employee, Long> {
 	}
 	
 	/**
+	 * The summary of Employee for the lists without the write-only 'password'.
+	 */
+	@Override
+	protected Set<String> getSummaryPropertyNames() {
+		Set<String> summaryPropertyNames = super.getSummaryPropertyNames();
+		summaryPropertyNames.remove("password");
+		return summaryPropertyNames;
+	}
+	
+	/**
+	 * The Employee is loaded with the {@link FetchProfile#DETAIL} graph (including its Position InternalAuthorities)
+	 * as it is used for the authentication.
+	 *
 	 * @param email Employee's email
 	 * @return Optional.of(Employee) or Optional.empty() of nothing has been found.
 	 * @throws PersistenceException NonUniqueResultException - if more than one result
@@ -49,6 +72,7 @@ public class EmployeesDao extends WorkshopEntitiesDaoAbstract<Employee, Long> {
 		Predicate emailEqual = cb.equal(root.get("email"), email);
 		cq.where(emailEqual);
 		TypedQuery<Employee> typedQuery = getEntityManager().createQuery(cq);
+		setFetchProfile(typedQuery, FetchProfile.DETAIL);
 		try {
 			Employee employee = typedQuery.getSingleResult();
 			return Optional.of(employee);
@@ -57,6 +81,33 @@ public class EmployeesDao extends WorkshopEntitiesDaoAbstract<Employee, Long> {
 		}
 	}
 	
+	/**
+	 * Only the identifiers and the 'modified' of the Employees and of their Positions are selected by the primary keys
+	 * (by chunks), so every application instance can periodically check whether the authorities it has restored from
+	 * the JWTs are still current.
+	 *
+	 * @param employeesIds Employees.ID
+	 * @return The latest 'modified' of every existing Employee and its Position in epoch millis (0 if they have never
+	 * been modified) by the Employees identifiers. The removed Employees are absent.
+	 */
+	public Map<Long, Long> findAuthenticationsModifiedMillis(Collection<Long> employeesIds) {
+		Map<Long, Long> modifiedMillis = new HashMap<>(employeesIds.size());
+		for (List<Long> idsChunk : getIdsChunks(employeesIds)) {
+			CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
+			CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+			Root<Employee> root = cq.from(Employee.class);
+			Join<Employee, Position> position = root.join("position", JoinType.LEFT);
+			cq.multiselect(root.get("identifier"), root.get("modified"), position.get("modified"));
+			cq.where(root.get("identifier").in(idsChunk));
+			for (Tuple modified : getEntityManager().createQuery(cq).getResultList()) {
+				modifiedMillis.put(modified.get(0, Long.class), Math.max(
+					toEpochMillis(modified.get(1, ZonedDateTime.class)),
+					toEpochMillis(modified.get(2, ZonedDateTime.class))));
+			}
+		}
+		return modifiedMillis;
+	}
+	
 	/**
 	 * @param pageSize   Amount of Employees at once
 	 * @param pageNum    Zero-based pagination.
@@ -91,23 +142,9 @@ public class EmployeesDao extends WorkshopEntitiesDaoAbstract<Employee, Long> {
 		
 		cq.where(positionIdEqual);
 		
-		if (order.isAscending()) {
-			cq.orderBy(cb.asc(employeeRoot.get(orderBy)));
-		} else {
-			cq.orderBy(cb.desc(employeeRoot.get(orderBy)));
-		}
+		cq.select(employeeRoot);
 		
-		TypedQuery<Employee> typedQuery = getEntityManager().createQuery(cq);
-		typedQuery.setMaxResults(pageSize);
-		typedQuery.setFirstResult(pageSize * pageNum);
-		
-		List<Employee> employeesByPosition = typedQuery.getResultList();
-		
-		if (employeesByPosition != null && !employeesByPosition.isEmpty()) {
-			return Optional.of(employeesByPosition);
-		} else {
-			return Optional.empty();
-		}
+		return getPagedResultList(cq, employeeRoot, pageSize, pageNum, orderBy, order);
 	}
 	
 /*
@@ -132,4 +169,21 @@ public class EmployeesDao extends WorkshopEntitiesDaoAbstract<Employee, Long> {
 		return Optional.of(entityManager.find(Employee.class, employeeId));
 	}
 */
+	
+	public long countAllEmployeesByPosition(Long positionId) {
+		
+		verifyIdForNull(positionId);
+		log.debug("Received Position.ID={} to count its Employees", positionId);
+		
+		return getEntityManager().createQuery(
+			"SELECT COUNT (e.identifier) FROM workshop.internal.entities.Employee e " +
+				"WHERE e.position.identifier=:positionId",
+			Long.class)
+			.setParameter("positionId", positionId)
+			.getSingleResult();
+	}
+	
+	private long toEpochMillis(@Nullable ZonedDateTime modified) {
+		return modified == null ? 0 : modified.toInstant().toEpochMilli();
+	}
 }
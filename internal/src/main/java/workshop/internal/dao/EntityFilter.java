@@ -0,0 +1,189 @@
+package workshop.internal.dao;
+
+import lombok.Getter;
+import workshop.internal.entities.utils.EntityPropertyRegistry;
+import workshop.internal.entities.utils.EntityPropertyRegistry.EntityProperty;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The parsed and verified filter expression for the paged WorkshopEntities lists, e.g.
+ * 'deadline<2026-12-01T00:00+03:00;appointedTo.identifier==42;price>=100'.
+ * <p>
+ * The conditions are separated by ';' and joined with 'AND'. Every condition is 'property operator value' where
+ * the operator is one of '==', '!=', '>', '>=', '<', '<=' and the property is either a filterable property of the
+ * WorkshopEntity or 'reference.identifier' of its ManyToOne or OneToOne association.
+ * Only the indexed (see {@link EntityProperty#isIndexed()}) or explicitly whitelisted properties are allowed so that
+ * a filter cannot cause the full table scan by accident.
+ * <p>
+ * The expression is parsed once and then the same instance is compiled into the predicates of both the page and
+ * the count queries. The values are passed as the Criteria literals which Hibernate binds as the parameters
+ * ('hibernate.criteria.literal_handling_mode=bind').
+ */
+@Getter
+public final class EntityFilter {
+
+	/**
+	 * To prevent the abusive expressions with dozens of predicates.
+	 */
+	static final int MAX_CONDITIONS = 10;
+	private static final Pattern CONDITION_PATTERN =
+		Pattern.compile("^\\s*([A-Za-z][A-Za-z0-9]*)(\\.identifier)?\\s*(==|!=|>=|<=|>|<)\\s*(.+?)\\s*$");
+
+	private final String expression;
+	private final List<Condition> conditions;
+
+	private EntityFilter(String expression, List<Condition> conditions) {
+		this.expression = expression;
+		this.conditions = Collections.unmodifiableList(conditions);
+	}
+
+	/**
+	 * @param expression     The filter expression from the end Users.
+	 * @param registry       The properties of the WorkshopEntity to be filtered.
+	 * @param isWhitelisted  Decides whether a not indexed property is allowed to be filtered by.
+	 * @param valueParser    Parses the String value into the property type.
+	 * @return The verified filter with all the values parsed.
+	 * @throws IllegalArgumentException If the expression is malformed, contains too many conditions, unknown, not
+	 *                                  filterable or not allowed properties, or the values cannot be parsed.
+	 */
+	public static EntityFilter parse(String expression,
+									 EntityPropertyRegistry registry,
+									 java.util.function.Predicate<String> isWhitelisted,
+									 BiFunction<EntityProperty, String, Object> valueParser)
+		throws IllegalArgumentException {
+		if (expression == null || expression.trim().isEmpty()) {
+			throw new IllegalArgumentException("Filter expression cannot be null or empty!");
+		}
+		String[] conditionExpressions = expression.split(";");
+		if (conditionExpressions.length > MAX_CONDITIONS) {
+			throw new IllegalArgumentException(
+				"Filter expression cannot contain more than " + MAX_CONDITIONS + " conditions!");
+		}
+		List<Condition> conditions = new ArrayList<>(conditionExpressions.length);
+		for (String conditionExpression : conditionExpressions) {
+			Matcher matcher = CONDITION_PATTERN.matcher(conditionExpression);
+			if (!matcher.matches()) {
+				throw new IllegalArgumentException("Filter condition '" + conditionExpression + "' is malformed!");
+			}
+			String propertyName = matcher.group(1);
+			boolean byReference = matcher.group(2) != null;
+			Operator operator = Operator.of(matcher.group(3));
+			String value = matcher.group(4);
+
+			EntityProperty property = registry.getProperty(propertyName).orElseThrow(() ->
+				new IllegalArgumentException("There is no '" + propertyName + "' property to filter by!"));
+			if (byReference ? !property.isReference() : !property.isFilterable()) {
+				throw new IllegalArgumentException("'" + propertyName + "' property cannot be filtered by" +
+					(property.isReference() ? " other than 'identifier'!" : "!"));
+			} else if (!byReference && !property.isSortable() && operator.isRange()) {
+				throw new IllegalArgumentException("'" + propertyName + "' property can only be compared for equality!");
+			} else if (!property.isIndexed() && !isWhitelisted.test(propertyName)) {
+				throw new IllegalArgumentException("'" + propertyName + "' property is neither indexed nor allowed " +
+					"to be filtered by!");
+			}
+			Object parsedValue;
+			try {
+				parsedValue = byReference ? Long.valueOf(value) : valueParser.apply(property, value);
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Value=" + value + " is not an identifier!", e);
+			}
+			conditions.add(new Condition(propertyName, byReference, operator, parsedValue));
+		}
+		return new EntityFilter(expression, conditions);
+	}
+
+	/**
+	 * @param cb   CriteriaBuilder of the query.
+	 * @param from The Root (or Join) of the filtered WorkshopEntities.
+	 * @return The conjunction of all the conditions.
+	 */
+	public Predicate toPredicate(CriteriaBuilder cb, From<?, ?> from) {
+		Predicate[] predicates = new Predicate[conditions.size()];
+		for (int i = 0; i < conditions.size(); i++) {
+			predicates[i] = conditions.get(i).toPredicate(cb, from);
+		}
+		return cb.and(predicates);
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+	@Getter
+	public static final class Condition {
+
+		private final String propertyName;
+		private final boolean byReference;
+		private final Operator operator;
+		private final Object value;
+
+		private Condition(String propertyName, boolean byReference, Operator operator, Object value) {
+			this.propertyName = propertyName;
+			this.byReference = byReference;
+			this.operator = operator;
+			this.value = value;
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private Predicate toPredicate(CriteriaBuilder cb, From<?, ?> from) {
+			Path<Comparable> path = byReference ?
+				from.get(propertyName).get("identifier") : from.get(propertyName);
+			Comparable comparableValue = (Comparable) value;
+			switch (operator) {
+				case EQUAL:
+					return cb.equal(path, value);
+				case NOT_EQUAL:
+					return cb.notEqual(path, value);
+				case GREATER:
+					return cb.greaterThan(path, comparableValue);
+				case GREATER_OR_EQUAL:
+					return cb.greaterThanOrEqualTo(path, comparableValue);
+				case LESS:
+					return cb.lessThan(path, comparableValue);
+				case LESS_OR_EQUAL:
+					return cb.lessThanOrEqualTo(path, comparableValue);
+				default:
+					throw new IllegalStateException("Unsupported operator " + operator);
+			}
+		}
+	}
+
+	@Getter
+	public enum Operator {
+
+		EQUAL("==", false),
+		NOT_EQUAL("!=", false),
+		GREATER(">", true),
+		GREATER_OR_EQUAL(">=", true),
+		LESS("<", true),
+		LESS_OR_EQUAL("<=", true);
+
+		private final String sign;
+		private final boolean range;
+
+		Operator(String sign, boolean range) {
+			this.sign = sign;
+			this.range = range;
+		}
+
+		static Operator of(String sign) {
+			for (Operator operator : values()) {
+				if (operator.sign.equals(sign)) {
+					return operator;
+				}
+			}
+			throw new IllegalArgumentException("Unsupported operator '" + sign + "'!");
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package workshop.internal.dao;
 
+import lombok.extern.slf4j.Slf4j;
 import workshop.internal.entities.ExternalAuthority;
 import workshop.internal.entities.User;
 import workshop.exceptions.InternalServerErrorException;
@@ -8,11 +9,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.PersistenceException;
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.*;
 import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Repository
 public class ExternalAuthoritiesDao extends WorkshopEntitiesDaoAbstract<ExternalAuthority, Long> {
 	
@@ -49,23 +50,11 @@ public class ExternalAuthoritiesDao extends WorkshopEntitiesDaoAbstract<External
 		Root<User> userRoot = cqa.from(User.class);
 		Predicate userIdEqual = cb.equal(userRoot.get("identifier"), userId);
 		cqa.where(userIdEqual);
-		Join<User, ExternalAuthority> userAuthorityJoin = userRoot.join("grantedAuthorities");
+		Join<User, ExternalAuthority> userAuthorityJoin = userRoot.join("externalAuthorities");
 		CriteriaQuery<ExternalAuthority> criteriaQuery = cqa.select(userAuthorityJoin);
-		if (order.isAscending()) {
-			criteriaQuery.orderBy(cb.asc(userRoot.get(orderBy)));
-		} else {
-			criteriaQuery.orderBy(cb.desc(userRoot.get(orderBy)));
-		}
-		TypedQuery<ExternalAuthority> authorityTypedQuery = getEntityManager().createQuery(criteriaQuery);
-		authorityTypedQuery.setMaxResults(pageSize);
-		authorityTypedQuery.setFirstResult(pageSize * pageNum);
 		try {
-			List<ExternalAuthority> grantedAuthorities = authorityTypedQuery.getResultList();
-			if (grantedAuthorities != null && !grantedAuthorities.isEmpty()) {
-				return Optional.of(grantedAuthorities);
-			} else {
-				return Optional.empty();
-			}
+			//ExternalAuthorities have to be ordered by their own properties, not the User's ones
+			return getPagedResultList(criteriaQuery, userAuthorityJoin, pageSize, pageNum, orderBy, order);
 		} catch (PersistenceException e) {
 			throw new InternalServerErrorException(
 				e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
@@ -73,4 +62,16 @@ public class ExternalAuthoritiesDao extends WorkshopEntitiesDaoAbstract<External
 		//TODO: to test
 	}
 	
+	public long countAllGrantedAuthoritiesByUser(Long userId) {
+		
+		verifyIdForNull(userId);
+		log.debug("Received User.ID={} to count its ExternalAuthorities", userId);
+		
+		return getEntityManager().createQuery(
+			"SELECT COUNT (a.identifier) FROM workshop.internal.entities.User u " +
+				"JOIN u.externalAuthorities a WHERE u.identifier=:userId",
+			Long.class)
+			.setParameter("userId", userId)
+			.getSingleResult();
+	}
 }
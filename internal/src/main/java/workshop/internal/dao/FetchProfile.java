@@ -0,0 +1,36 @@
+package workshop.internal.dao;
+
+import lombok.Getter;
+
+/**
+ * The set of associations to be loaded together with a WorkshopEntity by the only SQL statement.
+ * Every profile corresponds to the {@link javax.persistence.NamedEntityGraph} named as "EntityName.profileName"
+ * (e.g. "Order.summary") and is passed to the queries as the 'javax.persistence.fetchgraph' hint.
+ * If a WorkshopEntity doesn't have such a graph, only its default (LAZY or EAGER) mappings are used.
+ * <p>
+ * {@link #SUMMARY} is used for the paged lists so it must contain only single-valued (ManyToOne, OneToOne)
+ * associations as the collections joined with 'LIMIT' and 'OFFSET' make Hibernate to page in memory.
+ * <p>
+ * {@link #DETAIL} is used for the single WorkshopEntity lookups and may also contain the collections.
+ */
+@Getter
+public enum FetchProfile {
+
+	SUMMARY("summary"),
+	DETAIL("detail");
+
+	public static final String FETCH_GRAPH_HINT = "javax.persistence.fetchgraph";
+
+	private final String profileName;
+
+	FetchProfile(String profileName) {
+		this.profileName = profileName;
+	}
+
+	/**
+	 * @return The name of the {@link javax.persistence.NamedEntityGraph} for the given WorkshopEntity class.
+	 */
+	public String getGraphName(Class<?> entityClass) {
+		return entityClass.getSimpleName() + "." + profileName;
+	}
+}
@@ -0,0 +1,134 @@
+package workshop.internal.dao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.*;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Explains every {@link JpqlTemplateCache} template of every DAO at the startup and warns about the ones the
+ * DataBase executes with the full table scan, so a finder without the supporting index declared in the
+ * {@link javax.persistence.Table#indexes()} (or {@link javax.persistence.JoinTable#indexes()}) is noticed before it
+ * becomes slow.
+ * The DAOs register their finder templates beforehand (see {@link WorkshopEntitiesDaoAbstract#getFinderAssociations()}
+ * and {@link WorkshopEntitiesDaoAbstract#getFinderCollections()}).
+ * <p>
+ * Every template is translated into SQL by Hibernate and explained as 'EXPLAIN sql' with all the parameters set to
+ * null. The plans are searched for the 'indexAdvisor.scanMarkers' ('tableScan' for H2 and 'Seq Scan' for
+ * PostgreSQL).
+ * (!) The DataBases with the cost-based optimizers prefer the full scans for the almost empty tables, so the warnings
+ * are only reliable for the DataBase filled with the representative data.
+ */
+@Slf4j
+@Component
+public class IndexAdvisor {
+
+	@Value("${indexAdvisor.enabled:false}")
+	private boolean enabled;
+	@Value("${indexAdvisor.scanMarkers:tableScan,Seq Scan}")
+	private String[] scanMarkers;
+	@PersistenceContext
+	private EntityManager entityManager;
+	@Autowired
+	private List<WorkshopEntitiesDaoAbstract<?, ?>> workshopEntitiesDaos;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+	public void explainTemplates() {
+		if (!enabled) {
+			log.debug("The index advisor is disabled");
+			return;
+		}
+		SessionFactoryImplementor sessionFactory =
+			entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+		int explainedCount = 0;
+		int scansCount = 0;
+		for (WorkshopEntitiesDaoAbstract<?, ?> workshopEntitiesDao : workshopEntitiesDaos) {
+			workshopEntitiesDao.registerFinderTemplates();
+			for (Map.Entry<JpqlTemplateCache.Key, String> template :
+				workshopEntitiesDao.getJpqlTemplateCache().getTemplates().entrySet()) {
+				String plan = explain(sessionFactory, template.getValue());
+				if (plan == null) {
+					continue;
+				}
+				explainedCount++;
+				if (isScanning(plan)) {
+					scansCount++;
+					log.warn("The query {} doesn't use any index! JPQL: {}, plan: {}",
+						template.getKey(), template.getValue(), plan);
+				} else {
+					log.trace("The query {} plan: {}", template.getKey(), plan);
+				}
+			}
+		}
+		log.info("The index advisor has explained {} query templates, {} of them scan the whole tables",
+			explainedCount, scansCount);
+	}
+
+	/**
+	 * @return The whole plan as a single line or null if the template cannot be translated or explained.
+	 */
+	private String explain(SessionFactoryImplementor sessionFactory, String jpql) {
+		String[] sqlStrings;
+		try {
+			HQLQueryPlan queryPlan =
+				sessionFactory.getQueryPlanCache().getHQLQueryPlan(jpql, false, Collections.emptyMap());
+			sqlStrings = queryPlan.getSqlStrings();
+		} catch (RuntimeException e) {
+			log.debug("The template cannot be translated into SQL: {}. JPQL: {}", e.getMessage(), jpql);
+			return null;
+		}
+		StringBuilder plan = new StringBuilder();
+		for (String sql : sqlStrings) {
+			try {
+				plan.append(entityManager.unwrap(Session.class).doReturningWork(connection -> explainSql(connection, sql)));
+			} catch (RuntimeException e) {
+				log.debug("The SQL cannot be explained: {}. SQL: {}", e.getMessage(), sql);
+				return null;
+			}
+		}
+		return plan.toString();
+	}
+
+	private String explainSql(Connection connection, String sql) throws SQLException {
+		StringBuilder plan = new StringBuilder();
+		try (PreparedStatement explainStatement = connection.prepareStatement("EXPLAIN " + sql)) {
+			int parametersCount = explainStatement.getParameterMetaData().getParameterCount();
+			for (int i = 1; i <= parametersCount; i++) {
+				explainStatement.setObject(i, null);
+			}
+			try (ResultSet planRows = explainStatement.executeQuery()) {
+				int columnsCount = planRows.getMetaData().getColumnCount();
+				while (planRows.next()) {
+					for (int i = 1; i <= columnsCount; i++) {
+						plan.append(planRows.getString(i)).append(' ');
+					}
+				}
+			}
+		}
+		return plan.toString().replaceAll("\\s+", " ").trim();
+	}
+
+	private boolean isScanning(String plan) {
+		for (String scanMarker : scanMarkers) {
+			if (!scanMarker.trim().isEmpty() && plan.contains(scanMarker.trim())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
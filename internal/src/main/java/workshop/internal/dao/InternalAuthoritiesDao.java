@@ -7,7 +7,6 @@ import workshop.internal.entities.InternalAuthority;
 import workshop.internal.entities.Position;
 
 import javax.persistence.PersistenceException;
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.*;
 import java.util.List;
 import java.util.Optional;
@@ -52,20 +51,21 @@ public class InternalAuthoritiesDao extends WorkshopEntitiesDaoAbstract<Internal
 		Predicate positionIdEquals = cb.equal(authorityPositionJoin.get("identifier"), positionId);
 		authorityPositionJoin.on(positionIdEquals);
 		
-		if (order.isAscending()) {
-			cq.orderBy(cb.asc(authorityRoot.get("created")));
-		} else {
-			cq.orderBy(cb.desc(authorityRoot.get("created")));
-		}
-		TypedQuery<InternalAuthority> typedQuery = getEntityManager().createQuery(cq);
-		typedQuery.setMaxResults(pageSize);
-		typedQuery.setFirstResult(pageNum * pageSize);
+		cq.select(authorityRoot);
 		
-		List<InternalAuthority> authoritiesByPosition = typedQuery.getResultList();
-		if (authoritiesByPosition != null && !authoritiesByPosition.isEmpty()) {
-			return Optional.of(authoritiesByPosition);
-		} else {
-			return Optional.empty();
-		}
+		return getPagedResultList(cq, authorityRoot, pageSize, pageNum, orderBy, order);
+	}
+	
+	public long countInternalAuthoritiesByPosition(Long positionId) {
+		
+		verifyIdForNull(positionId);
+		log.debug("Received Position.ID={} to count its InternalAuthorities", positionId);
+		
+		return getEntityManager().createQuery(
+			"SELECT COUNT (a.identifier) FROM workshop.internal.entities.InternalAuthority a " +
+				"JOIN a.positions p WHERE p.identifier=:positionId",
+			Long.class)
+			.setParameter("positionId", positionId)
+			.getSingleResult();
 	}
 }
@@ -0,0 +1,166 @@
+package workshop.internal.dao;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The per-DAO cache of the parameterised JPQL query templates.
+ * Every template is built only once for a {@link Key} and all the varying values (identifiers, emails, property
+ * values etc) are passed as the named parameters. So the JPQL String is always the same for the same Key and the
+ * Hibernate query plan cache is hit instead of translating a new Criteria tree (where numeric values are rendered as
+ * literals and produce a new plan for every identifier) on every call.
+ * <p>
+ * The property names within the templates have to be verified against the {@link
+ * workshop.internal.entities.utils.EntityPropertyRegistry} before being passed as the parts of a Key.
+ */
+@Slf4j
+public class JpqlTemplateCache {
+
+	private final Map<Key, String> templates = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final Set<Key> translatedKeys = ConcurrentHashMap.newKeySet();
+	private final AtomicLong translationNanos = new AtomicLong();
+	private final AtomicLong translatedHits = new AtomicLong();
+
+	/**
+	 * @param key             The unique description of the query.
+	 * @param templateBuilder Builds the JPQL with the named parameters if it is absent for the given Key.
+	 * @return The cached or a newly built JPQL template.
+	 */
+	public String getTemplate(Key key, Supplier<String> templateBuilder) {
+		String template = templates.get(key);
+		if (template != null) {
+			hits.incrementAndGet();
+			return template;
+		}
+		return templates.computeIfAbsent(key, absentKey -> {
+			String builtTemplate = templateBuilder.get();
+			misses.incrementAndGet();
+			log.debug("JPQL template for {} is built: {}", absentKey, builtTemplate);
+			return builtTemplate;
+		});
+	}
+
+	/**
+	 * Creates the query from the cached template. The first creation for every Key is timed as the translation of its
+	 * JPQL (the HQL parsing and the SQL rendering to fill the Hibernate query plan cache), all the following ones
+	 * only look the plan up and are counted as the translated hits.
+	 *
+	 * @param key             The unique description of the query.
+	 * @param templateBuilder Builds the JPQL with the named parameters if it is absent for the given Key.
+	 * @param queryCreator    Creates the query from the JPQL, e.g. {@link javax.persistence.EntityManager#createQuery}.
+	 * @param <Q>             The query type.
+	 * @return The created query.
+	 */
+	public <Q> Q createQuery(Key key, Supplier<String> templateBuilder, Function<String, Q> queryCreator) {
+		String template = getTemplate(key, templateBuilder);
+		if (translatedKeys.contains(key)) {
+			translatedHits.incrementAndGet();
+			return queryCreator.apply(template);
+		}
+		long start = System.nanoTime();
+		Q query = queryCreator.apply(template);
+		long elapsedNanos = System.nanoTime() - start;
+		//Only the successfully created query is counted, the concurrent first creations are counted once
+		if (translatedKeys.add(key)) {
+			translationNanos.addAndGet(elapsedNanos);
+		} else {
+			translatedHits.incrementAndGet();
+		}
+		return query;
+	}
+
+	/**
+	 * @return The unmodifiable view of all the built templates.
+	 */
+	public Map<Key, String> getTemplates() {
+		return Collections.unmodifiableMap(templates);
+	}
+
+	public int getTemplatesCount() {
+		return templates.size();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return From 0.0 to 1.0 or 0.0 if no templates have been requested yet.
+	 */
+	public double getHitRate() {
+		long hitsCount = hits.get();
+		long requestsCount = hitsCount + misses.get();
+		return requestsCount == 0 ? 0.0 : (double) hitsCount / requestsCount;
+	}
+
+	/**
+	 * @return The amount of the queries created by {@link #createQuery} from the already translated templates.
+	 */
+	public long getTranslatedHits() {
+		return translatedHits.get();
+	}
+
+	/**
+	 * The estimated time saved on translating the queries. Every translated hit is counted as the average time the
+	 * first {@link #createQuery} of a template took, as it is the one which has translated the JPQL.
+	 */
+	public double getSavedTranslationMillis() {
+		int translationsCount = translatedKeys.size();
+		if (translationsCount == 0) {
+			return 0.0;
+		}
+		double averageTranslationNanos = (double) translationNanos.get() / translationsCount;
+		return averageTranslationNanos * translatedHits.get() / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"JpqlTemplateCache{templates=%d, hits=%d, misses=%d, hitRate=%.3f, translatedHits=%d, savedMillis=%.3f}",
+			getTemplatesCount(), getHits(), getMisses(), getHitRate(), getTranslatedHits(), getSavedTranslationMillis());
+	}
+
+	/**
+	 * The unique description of a query template.
+	 * The nullable parts are absent in the queries without the 'WHERE' or 'ORDER BY' clauses.
+	 */
+	@Value
+	public static class Key {
+
+		private String entityName;
+		@Nullable
+		private String property;
+		@Nullable
+		private String operator;
+		@Nullable
+		private String orderBy;
+		@Nullable
+		private Sort.Direction direction;
+
+		public static Key of(String entityName, @Nullable String property, @Nullable String operator) {
+			return new Key(entityName, property, operator, null, null);
+		}
+
+		public static Key of(String entityName, @Nullable String property, @Nullable String operator,
+							 String orderBy, Sort.Direction direction) {
+			return new Key(entityName, property, operator, orderBy, direction);
+		}
+	}
+}
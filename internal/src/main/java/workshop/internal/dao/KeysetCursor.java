@@ -0,0 +1,120 @@
+package workshop.internal.dao;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import workshop.internal.entities.WorkshopEntity;
+import workshop.internal.entities.utils.EntityPropertyRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * An opaque pointer to a boundary WorkshopEntity of a page for the keyset (seek) pagination.
+ * Instead of 'OFFSET pageNum*pageSize' the next (or previous) page is selected by
+ * 'WHERE (orderBy, identifier) > (boundaryValue, boundaryIdentifier)' so that the database can start from the index
+ * position and page 4000 costs the same as page 1.
+ * <p>
+ * The end Users receive it only as the encoded String within 'nextPage' or 'previousPage' Links and have to pass it
+ * back unchanged as the 'after' request parameter.
+ * <p>
+ * 'backward' = true means the cursor points to the first WorkshopEntity of a page and the previous page (before it)
+ * has to be obtained.
+ * <p>
+ * (!) The rows with NULL 'orderBy' can never be reached by the seek predicate, so only the not
+ * {@link workshop.internal.entities.utils.EntityPropertyRegistry.EntityProperty#isNullable()} properties can be
+ * paged by the cursors.
+ */
+@Getter
+public final class KeysetCursor {
+
+	private static final String DELIMITER = "\n";
+
+	private final String orderBy;
+	private final Sort.Direction order;
+	private final boolean backward;
+	private final Long identifier;
+	/**
+	 * String representation of the boundary 'orderBy' property value. Has to be parsed into the property type
+	 * before passing it into a CriteriaQuery.
+	 */
+	private final String orderByValue;
+
+	public KeysetCursor(String orderBy, Sort.Direction order, boolean backward, Long identifier, String orderByValue) {
+		if (orderBy == null || orderBy.isEmpty() || order == null || identifier == null || orderByValue == null) {
+			throw new IllegalArgumentException("Cursor orderBy, order, identifier or orderByValue cannot be null!");
+		}
+		this.orderBy = orderBy;
+		this.order = order;
+		this.backward = backward;
+		this.identifier = identifier;
+		this.orderByValue = orderByValue;
+	}
+
+	/**
+	 * @param workshopEntity The boundary (first or last) WorkshopEntity of the current page.
+	 * @param orderBy        The property the page is ordered by.
+	 * @param order          The direction the page is ordered in.
+	 * @param backward       True if the cursor has to point to the previous page.
+	 * @return The encoded cursor or null if the 'orderBy' property is nullable or the given WorkshopEntity doesn't have
+	 * its value, so the cursor cannot be created and the offset pagination has to be used.
+	 */
+	@Nullable
+	public static String encodeFrom(
+		WorkshopEntity workshopEntity, String orderBy, Sort.Direction order, boolean backward) {
+		if (workshopEntity == null || workshopEntity.getIdentifier() == null) {
+			return null;
+		}
+		Object orderByValue = getPropertyValue(workshopEntity, orderBy);
+		if (orderByValue == null) {
+			return null;
+		}
+		return new KeysetCursor(orderBy, order, backward, workshopEntity.getIdentifier(), orderByValue.toString())
+			.encode();
+	}
+
+	/**
+	 * @param encodedCursor The opaque String received from the end Users as the 'after' parameter.
+	 * @return The decoded KeysetCursor
+	 * @throws IllegalArgumentException If the given String is not a valid encoded cursor.
+	 */
+	public static KeysetCursor decode(String encodedCursor) throws IllegalArgumentException {
+		if (encodedCursor == null || encodedCursor.isEmpty()) {
+			throw new IllegalArgumentException("Encoded cursor cannot be null or empty!");
+		}
+		String decoded = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+		//The orderByValue is the last one as it may contain any symbols
+		String[] parts = decoded.split(DELIMITER, 5);
+		if (parts.length != 5) {
+			throw new IllegalArgumentException("The given cursor=" + encodedCursor + " is malformed!");
+		}
+		try {
+			return new KeysetCursor(
+				parts[0], Sort.Direction.fromString(parts[1]), Boolean.parseBoolean(parts[2]), Long.valueOf(parts[3]),
+				parts[4]);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("The given cursor=" + encodedCursor + " is malformed!", e);
+		}
+	}
+
+	public String encode() {
+		String raw = orderBy + DELIMITER + order.name() + DELIMITER + backward + DELIMITER + identifier + DELIMITER +
+			orderByValue;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return True if this cursor was created for the same ordering.
+	 */
+	public boolean isCompatibleWith(String orderBy, Sort.Direction order) {
+		return this.orderBy.equals(orderBy) && this.order.equals(order);
+	}
+
+	@Nullable
+	private static Object getPropertyValue(WorkshopEntity workshopEntity, String propertyName) {
+		return EntityPropertyRegistry.of(workshopEntity.getClass()).getProperty(propertyName)
+			.filter(property -> !property.isNullable())
+			.map(property -> property.getValue(workshopEntity))
+			.orElse(null);
+	}
+}
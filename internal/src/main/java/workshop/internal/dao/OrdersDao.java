@@ -1,5 +1,6 @@
 package workshop.internal.dao;
 
+import lombok.extern.slf4j.Slf4j;
 import workshop.internal.entities.Order;
 import workshop.exceptions.InternalServerErrorException;
 import org.springframework.data.domain.Sort;
@@ -7,14 +8,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.PersistenceException;
-import javax.persistence.TypedQuery;
-import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
-import javax.persistence.criteria.Predicate;
-import javax.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 @Repository
 public class OrdersDao extends WorkshopEntitiesDaoAbstract<Order, Long> {
 	
@@ -23,6 +23,11 @@ public class OrdersDao extends WorkshopEntitiesDaoAbstract<Order, Long> {
 		super.setKeyClass(Long.class);
 	}
 	
+	@Override
+	protected Set<String> getFinderAssociations() {
+		return new HashSet<>(Arrays.asList("createdFor", "createdBy", "modifiedBy"));
+	}
+	
 	/**
 	 * @param pageSize Amount of Tasks to be returned at once. Min = 1
 	 * @param pageNum  Zero based index.
@@ -45,27 +50,11 @@ public class OrdersDao extends WorkshopEntitiesDaoAbstract<Order, Long> {
 																Long employeeId) {
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Order> cq = cb.createQuery(Order.class);
-		Root<Order> orderRoot = cq.from(Order.class);
-		
-		Predicate modifiedByPredicate = cb.equal(orderRoot.get("modifiedBy").get("identifier"), employeeId);
-		cq.where(modifiedByPredicate);
-		
-		TypedQuery<Order> ordersTypedQuery = getEntityManager().createQuery(cq);
-		ordersTypedQuery.setMaxResults(pageSize);
-		ordersTypedQuery.setFirstResult(pageNum * pageSize);
-		
 		try {
-			List<Order> modifiedByOrders = ordersTypedQuery.getResultList();
-			if (modifiedByOrders != null && !modifiedByOrders.isEmpty()) {
-				return Optional.of(modifiedByOrders);
-			} else {
-				return Optional.empty();
-			}
+			return findAllEntitiesByAssociation("modifiedBy", employeeId, pageSize, pageNum, orderBy, order);
 		} catch (PersistenceException e) {
 			throw new InternalServerErrorException(
-				  e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
+				e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
 		}
 	}
 	
@@ -91,24 +80,8 @@ public class OrdersDao extends WorkshopEntitiesDaoAbstract<Order, Long> {
 																 Long employeeId) {
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Order> cq = cb.createQuery(Order.class);
-		Root<Order> orderRoot = cq.from(Order.class);
-		
-		Predicate createdByPredicate = cb.equal(orderRoot.get("createdBy").get("identifier"), employeeId);
-		cq.where(createdByPredicate);
-		
-		TypedQuery<Order> ordersTypedQuery = getEntityManager().createQuery(cq);
-		ordersTypedQuery.setMaxResults(pageSize);
-		ordersTypedQuery.setFirstResult(pageNum * pageSize);
-		
 		try {
-			List<Order> createdByOrders = ordersTypedQuery.getResultList();
-			if (createdByOrders != null && !createdByOrders.isEmpty()) {
-				return Optional.of(createdByOrders);
-			} else {
-				return Optional.empty();
-			}
+			return findAllEntitiesByAssociation("createdBy", employeeId, pageSize, pageNum, orderBy, order);
 		} catch (PersistenceException e) {
 			throw new InternalServerErrorException(
 				e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
@@ -137,28 +110,23 @@ public class OrdersDao extends WorkshopEntitiesDaoAbstract<Order, Long> {
 																Long userId) {
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Order> cq = cb.createQuery(Order.class);
-		Root<Order> orderRoot = cq.from(Order.class);
-		
-		Predicate createdForPredicate = cb.equal(orderRoot.get("createdFor").get("identifier"), userId);
-		cq.where(createdForPredicate);
-		
-		TypedQuery<Order> ordersTypedQuery = getEntityManager().createQuery(cq);
-		ordersTypedQuery.setMaxResults(pageSize);
-		ordersTypedQuery.setFirstResult(pageNum * pageSize);
-		
 		try {
-			List<Order> createdForOrders = ordersTypedQuery.getResultList();
-			if (createdForOrders != null && !createdForOrders.isEmpty()) {
-				return Optional.of(createdForOrders);
-			} else {
-				return Optional.empty();
-			}
+			return findAllEntitiesByAssociation("createdFor", userId, pageSize, pageNum, orderBy, order);
 		} catch (PersistenceException e) {
 			throw new InternalServerErrorException(
 				e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
 		}
 	}
 	
+	public long countAllOrdersModifiedByEmployee(Long employeeId) {
+		return countAllEntitiesByAssociation("modifiedBy", employeeId);
+	}
+	
+	public long countAllOrdersCreatedByEmployee(Long employeeId) {
+		return countAllEntitiesByAssociation("createdBy", employeeId);
+	}
+	
+	public long countAllOrdersCreatedForUser(Long userId) {
+		return countAllEntitiesByAssociation("createdFor", userId);
+	}
 }
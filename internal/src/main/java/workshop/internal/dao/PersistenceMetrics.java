@@ -0,0 +1,338 @@
+package workshop.internal.dao;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnit;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Samples the Hibernate {@link Statistics} (2nd level cache regions, query cache, entity loads and fetches, flushes
+ * and the slowest queries), the Ehcache JCache evictions and the {@link ConnectionPoolMetrics} for the
+ * '/internal/metrics/persistence' endpoint and binds the same counters as the Micrometer meters.
+ * <p>
+ * The Statistics are just the atomic counters Hibernate increments anyway (with
+ * 'hibernate.generate_statistics=true'), so the only expense is collecting them into a {@link Snapshot}. Thus a
+ * Snapshot is reused for 'persistenceMetrics.sampleMillis' whatever the amount of requests is.
+ * The meters read the counters directly when the {@link MeterRegistry} is scraped. Only the connection pools started
+ * before the binding get their meters (the lazily started replica pool may not).
+ * <p>
+ * (!) The Hibernate region statistics don't include evictions so they are read from the
+ * 'javax.cache:type=CacheStatistics' MBeans Ehcache registers with 'jsr107:defaults enable-statistics="true"'.
+ */
+@Slf4j
+@Component
+public class PersistenceMetrics implements MeterBinder {
+
+	private static final String EHCACHE_STATISTICS_MBEANS = "javax.cache:type=CacheStatistics,*";
+	private static final String METER_PREFIX = "workshop.persistence.";
+
+	@Value("${persistenceMetrics.sampleMillis:1000}")
+	private long sampleMillis;
+	@Value("${persistenceMetrics.slowestQueries:10}")
+	private int slowestQueriesCount;
+	@PersistenceUnit
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private ConnectionPoolMetrics connectionPoolMetrics;
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * @return The Snapshot taken not earlier than 'persistenceMetrics.sampleMillis' ago.
+	 */
+	public Snapshot getSnapshot() {
+		Snapshot currentSnapshot = snapshot;
+		if (currentSnapshot == null || System.currentTimeMillis() - currentSnapshot.getSampledAt() >= sampleMillis) {
+			currentSnapshot = sample();
+			snapshot = currentSnapshot;
+		}
+		return currentSnapshot;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		Statistics statistics = getStatistics();
+		bindCounter(meterRegistry, "entities.loads", statistics, Statistics::getEntityLoadCount);
+		bindCounter(meterRegistry, "entities.fetches", statistics, Statistics::getEntityFetchCount);
+		bindCounter(meterRegistry, "collections.loads", statistics, Statistics::getCollectionLoadCount);
+		bindCounter(meterRegistry, "collections.fetches", statistics, Statistics::getCollectionFetchCount);
+		bindCounter(meterRegistry, "flushes", statistics, Statistics::getFlushCount);
+		bindCounter(meterRegistry, "statements.prepared", statistics, Statistics::getPrepareStatementCount);
+		bindCounter(meterRegistry, "queries.executions", statistics, Statistics::getQueryExecutionCount);
+		bindCounter(meterRegistry, "queryCache.hits", statistics, Statistics::getQueryCacheHitCount);
+		bindCounter(meterRegistry, "queryCache.misses", statistics, Statistics::getQueryCacheMissCount);
+		bindCounter(meterRegistry, "queryCache.puts", statistics, Statistics::getQueryCachePutCount);
+		Gauge.builder(METER_PREFIX + "queries.maxTime", statistics, Statistics::getQueryExecutionMaxTime)
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+
+		for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+			CacheRegionStatistics regionStatistics = getRegionStatistics(statistics, regionName);
+			if (regionStatistics == null) {
+				continue;
+			}
+			bindRegionCounter(meterRegistry, "hits", regionName, regionStatistics, CacheRegionStatistics::getHitCount);
+			bindRegionCounter(meterRegistry, "misses", regionName, regionStatistics, CacheRegionStatistics::getMissCount);
+			bindRegionCounter(meterRegistry, "puts", regionName, regionStatistics, CacheRegionStatistics::getPutCount);
+			FunctionCounter.builder(METER_PREFIX + "cache.evictions", regionName, this::getEvictionsCount)
+				.tag("region", regionName)
+				.register(meterRegistry);
+		}
+		for (ConnectionPoolMetrics.PoolTracker poolTracker : connectionPoolMetrics.getPoolTrackers()) {
+			FunctionCounter.builder(METER_PREFIX + "connections.acquisitions", poolTracker,
+				ConnectionPoolMetrics.PoolTracker::getAcquisitionsCount)
+				.tag("pool", poolTracker.getPoolName())
+				.register(meterRegistry);
+			FunctionCounter.builder(METER_PREFIX + "connections.wait", poolTracker,
+				ConnectionPoolMetrics.PoolTracker::getTotalWaitMillis)
+				.tag("pool", poolTracker.getPoolName())
+				.baseUnit("milliseconds")
+				.register(meterRegistry);
+			Gauge.builder(METER_PREFIX + "connections.pending", poolTracker,
+				ConnectionPoolMetrics.PoolTracker::getPendingThreads)
+				.tag("pool", poolTracker.getPoolName())
+				.register(meterRegistry);
+		}
+		log.debug("The persistence metrics are bound to {}", meterRegistry.getClass().getSimpleName());
+	}
+
+	private Snapshot sample() {
+		Statistics statistics = getStatistics();
+		Map<String, Long> evictionsByRegions = getEvictionsByRegions();
+
+		List<RegionSnapshot> regions = new ArrayList<>();
+		for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+			CacheRegionStatistics regionStatistics = getRegionStatistics(statistics, regionName);
+			if (regionStatistics != null) {
+				regions.add(new RegionSnapshot(regionName, regionStatistics.getHitCount(),
+					regionStatistics.getMissCount(), regionStatistics.getPutCount(),
+					evictionsByRegions.getOrDefault(regionName, -1L)));
+			}
+		}
+		List<QuerySnapshot> slowestQueries = new ArrayList<>();
+		for (String query : statistics.getQueries()) {
+			QueryStatistics queryStatistics = statistics.getQueryStatistics(query);
+			slowestQueries.add(new QuerySnapshot(query, queryStatistics.getExecutionCount(),
+				queryStatistics.getExecutionMaxTime(), queryStatistics.getExecutionAvgTime(),
+				queryStatistics.getExecutionRowCount()));
+		}
+		slowestQueries.sort(Comparator.comparingLong(QuerySnapshot::getMaxTimeMillis).reversed());
+		if (slowestQueries.size() > slowestQueriesCount) {
+			slowestQueries = new ArrayList<>(slowestQueries.subList(0, slowestQueriesCount));
+		}
+		List<PoolSnapshot> pools = new ArrayList<>();
+		for (ConnectionPoolMetrics.PoolTracker poolTracker : connectionPoolMetrics.getPoolTrackers()) {
+			pools.add(new PoolSnapshot(poolTracker.getPoolName(), poolTracker.getAcquisitionsCount(),
+				poolTracker.getAverageWaitMillis(), poolTracker.getMaxWaitMillis(), poolTracker.getTimeoutsCount(),
+				poolTracker.getActiveConnections(), poolTracker.getIdleConnections(), poolTracker.getPendingThreads(),
+				poolTracker.getMaxConnections()));
+		}
+		return new Snapshot(System.currentTimeMillis(), statistics.isStatisticsEnabled(),
+			regions,
+			statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount(),
+			statistics.getEntityLoadCount(), statistics.getEntityFetchCount(),
+			statistics.getCollectionLoadCount(), statistics.getCollectionFetchCount(),
+			statistics.getFlushCount(), statistics.getPrepareStatementCount(), statistics.getQueryExecutionCount(),
+			slowestQueries, pools);
+	}
+
+	private Statistics getStatistics() {
+		return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+	}
+
+	/**
+	 * @return Null for the query results and timestamps regions as they are covered by the query cache counters.
+	 */
+	@Nullable
+	private CacheRegionStatistics getRegionStatistics(Statistics statistics, String regionName) {
+		try {
+			return statistics.getDomainDataRegionStatistics(regionName);
+		} catch (IllegalArgumentException e) {
+			log.trace("{} is not a domain data region", regionName);
+			return null;
+		}
+	}
+
+	/**
+	 * @return The JCache evictions by the cache names which are the same as the Hibernate region names.
+	 */
+	private Map<String, Long> getEvictionsByRegions() {
+		Map<String, Long> evictionsByRegions = new HashMap<>();
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		try {
+			for (ObjectName objectName : mBeanServer.queryNames(new ObjectName(EHCACHE_STATISTICS_MBEANS), null)) {
+				Object evictions = mBeanServer.getAttribute(objectName, "CacheEvictions");
+				evictionsByRegions.merge(objectName.getKeyProperty("Cache"), ((Number) evictions).longValue(), Long::sum);
+			}
+		} catch (Exception e) {
+			log.debug("The Ehcache statistics MBeans cannot be read: {}", e.getMessage());
+		}
+		return evictionsByRegions;
+	}
+
+	private double getEvictionsCount(String regionName) {
+		return getEvictionsByRegions().getOrDefault(regionName, 0L);
+	}
+
+	private void bindCounter(MeterRegistry meterRegistry, String name, Statistics statistics,
+							 ToDoubleFunction<Statistics> counter) {
+		FunctionCounter.builder(METER_PREFIX + name, statistics, counter).register(meterRegistry);
+	}
+
+	private void bindRegionCounter(MeterRegistry meterRegistry, String name, String regionName,
+								   CacheRegionStatistics regionStatistics,
+								   ToDoubleFunction<CacheRegionStatistics> counter) {
+		FunctionCounter.builder(METER_PREFIX + "cache." + name, regionStatistics, counter)
+			.tag("region", regionName)
+			.register(meterRegistry);
+	}
+
+	private static double hitRate(long hits, long misses) {
+		long accesses = hits + misses;
+		return accesses == 0 ? 0.0 : (double) hits / accesses;
+	}
+
+	/**
+	 * All the counters are cumulative since the startup.
+	 */
+	@Getter
+	public static class Snapshot {
+
+		private final long sampledAt;
+		private final boolean statisticsEnabled;
+		private final List<RegionSnapshot> regions;
+		private final long queryCacheHits;
+		private final long queryCacheMisses;
+		private final long queryCachePuts;
+		private final long entityLoads;
+		private final long entityFetches;
+		private final long collectionLoads;
+		private final long collectionFetches;
+		private final long flushes;
+		private final long preparedStatements;
+		private final long queryExecutions;
+		private final List<QuerySnapshot> slowestQueries;
+		private final List<PoolSnapshot> connectionPools;
+
+		private Snapshot(long sampledAt, boolean statisticsEnabled, List<RegionSnapshot> regions,
+						 long queryCacheHits, long queryCacheMisses, long queryCachePuts,
+						 long entityLoads, long entityFetches, long collectionLoads, long collectionFetches,
+						 long flushes, long preparedStatements, long queryExecutions,
+						 List<QuerySnapshot> slowestQueries, List<PoolSnapshot> connectionPools) {
+			this.sampledAt = sampledAt;
+			this.statisticsEnabled = statisticsEnabled;
+			this.regions = Collections.unmodifiableList(regions);
+			this.queryCacheHits = queryCacheHits;
+			this.queryCacheMisses = queryCacheMisses;
+			this.queryCachePuts = queryCachePuts;
+			this.entityLoads = entityLoads;
+			this.entityFetches = entityFetches;
+			this.collectionLoads = collectionLoads;
+			this.collectionFetches = collectionFetches;
+			this.flushes = flushes;
+			this.preparedStatements = preparedStatements;
+			this.queryExecutions = queryExecutions;
+			this.slowestQueries = Collections.unmodifiableList(slowestQueries);
+			this.connectionPools = Collections.unmodifiableList(connectionPools);
+		}
+
+		/**
+		 * @return From 0.0 to 1.0 or 0.0 if the query cache has not been accessed yet.
+		 */
+		public double getQueryCacheHitRate() {
+			return hitRate(queryCacheHits, queryCacheMisses);
+		}
+	}
+
+	@Getter
+	public static class RegionSnapshot {
+
+		private final String regionName;
+		private final long hits;
+		private final long misses;
+		private final long puts;
+		/**
+		 * -1 if the Ehcache statistics MBean of the region is not registered.
+		 */
+		private final long evictions;
+
+		private RegionSnapshot(String regionName, long hits, long misses, long puts, long evictions) {
+			this.regionName = regionName;
+			this.hits = hits;
+			this.misses = misses;
+			this.puts = puts;
+			this.evictions = evictions;
+		}
+
+		/**
+		 * @return From 0.0 to 1.0 or 0.0 if the region has not been accessed yet.
+		 */
+		public double getHitRate() {
+			return hitRate(hits, misses);
+		}
+	}
+
+	@Getter
+	public static class QuerySnapshot {
+
+		private final String query;
+		private final long executions;
+		private final long maxTimeMillis;
+		private final long averageTimeMillis;
+		private final long rows;
+
+		private QuerySnapshot(String query, long executions, long maxTimeMillis, long averageTimeMillis, long rows) {
+			this.query = query;
+			this.executions = executions;
+			this.maxTimeMillis = maxTimeMillis;
+			this.averageTimeMillis = averageTimeMillis;
+			this.rows = rows;
+		}
+	}
+
+	@Getter
+	public static class PoolSnapshot {
+
+		private final String poolName;
+		private final long acquisitions;
+		private final double averageWaitMillis;
+		private final double maxWaitMillis;
+		private final long timeouts;
+		private final int activeConnections;
+		private final int idleConnections;
+		private final int pendingThreads;
+		private final int maxConnections;
+
+		private PoolSnapshot(String poolName, long acquisitions, double averageWaitMillis, double maxWaitMillis,
+							 long timeouts, int activeConnections, int idleConnections, int pendingThreads,
+							 int maxConnections) {
+			this.poolName = poolName;
+			this.acquisitions = acquisitions;
+			this.averageWaitMillis = averageWaitMillis;
+			this.maxWaitMillis = maxWaitMillis;
+			this.timeouts = timeouts;
+			this.activeConnections = activeConnections;
+			this.idleConnections = idleConnections;
+			this.pendingThreads = pendingThreads;
+			this.maxConnections = maxConnections;
+		}
+	}
+}
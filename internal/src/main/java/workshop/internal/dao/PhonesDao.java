@@ -5,15 +5,15 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import workshop.internal.entities.Employee;
 import workshop.internal.entities.Phone;
-import workshop.internal.entities.User;
 import workshop.exceptions.InternalServerErrorException;
 
 import javax.persistence.PersistenceException;
 import javax.persistence.Query;
-import javax.persistence.TypedQuery;
-import javax.persistence.criteria.*;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Repository
@@ -24,6 +24,11 @@ public class PhonesDao extends WorkshopEntitiesDaoAbstract<Phone, Long> {
 		super.setKeyClass(Long.class);
 	}
 	
+	@Override
+	protected Set<String> getFinderAssociations() {
+		return new HashSet<>(Arrays.asList("user", "employee"));
+	}
+	
 	/**
 	 * @param pageSize Amount of Tasks to be returned at once. Min = 1
 	 * @param pageNum  Zero based index.
@@ -45,33 +50,7 @@ public class PhonesDao extends WorkshopEntitiesDaoAbstract<Phone, Long> {
 		Sort.Direction order,
 		Long userId) throws PersistenceException {
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
-		pageSize = pageSize == 0 ? getPAGE_SIZE_DEFAULT() : pageSize;
-		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Phone> cq = cb.createQuery(Phone.class);
-		
-		Root<Phone> phoneRoot = cq.from(Phone.class);
-		
-		Join<Phone, User> joinPhoneUser = phoneRoot.join("user", JoinType.INNER);
-		Predicate userIdEqual = cb.equal(joinPhoneUser.get("identifier"), userId);
-		joinPhoneUser.on(userIdEqual);
-		
-		if (order.isAscending()) {
-			cq.orderBy(cb.asc(phoneRoot.get(orderBy)));
-		} else {
-			cq.orderBy(cb.desc(phoneRoot.get(orderBy)));
-		}
-		TypedQuery<Phone> typedQuery = getEntityManager().createQuery(cq);
-		typedQuery.setMaxResults(pageSize);
-		typedQuery.setFirstResult(pageSize * pageNum);
-		
-		List<Phone> phonesByEmployee = typedQuery.getResultList();
-		
-		if (phonesByEmployee != null && !phonesByEmployee.isEmpty()) {
-			return Optional.of(phonesByEmployee);
-		} else {
-			return Optional.empty();
-		}
+		return findAllEntitiesByAssociation("user", userId, pageSize, pageNum, orderBy, order);
 	}
 	
 	/**
@@ -96,33 +75,7 @@ public class PhonesDao extends WorkshopEntitiesDaoAbstract<Phone, Long> {
 		Long employeeId) throws PersistenceException {
 		
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
-		pageSize = pageSize == 0 ? getPAGE_SIZE_DEFAULT() : pageSize;
-		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Phone> cq = cb.createQuery(Phone.class);
-		
-		Root<Phone> phoneRoot = cq.from(Phone.class);
-		
-		Join<Phone, Employee> joinPhoneEmployee = phoneRoot.join("employee", JoinType.INNER);
-		Predicate employeeIdEqual = cb.equal(joinPhoneEmployee.get("identifier"), employeeId);
-		joinPhoneEmployee.on(employeeIdEqual);
-		
-		if (order.isAscending()) {
-			cq.orderBy(cb.asc(phoneRoot.get(orderBy)));
-		} else {
-			cq.orderBy(cb.desc(phoneRoot.get(orderBy)));
-		}
-		TypedQuery<Phone> typedQuery = getEntityManager().createQuery(cq);
-		typedQuery.setMaxResults(pageSize);
-		typedQuery.setFirstResult(pageSize * pageNum);
-		
-		List<Phone> phonesByEmployee = typedQuery.getResultList();
-		
-		if (phonesByEmployee != null && !phonesByEmployee.isEmpty()) {
-			return Optional.of(phonesByEmployee);
-		} else {
-			return Optional.empty();
-		}
+		return findAllEntitiesByAssociation("employee", employeeId, pageSize, pageNum, orderBy, order);
 	}
 	
 	/**
@@ -144,4 +97,12 @@ public class PhonesDao extends WorkshopEntitiesDaoAbstract<Phone, Long> {
 		}
 		return Optional.of(getEntityManager().find(Employee.class, employeeId));
 	}
+	
+	public long countAllPhonesByUser(Long userId) {
+		return countAllEntitiesByAssociation("user", userId);
+	}
+	
+	public long countAllPhonesByEmployee(Long employeeId) {
+		return countAllEntitiesByAssociation("employee", employeeId);
+	}
 }
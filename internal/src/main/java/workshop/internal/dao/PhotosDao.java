@@ -0,0 +1,73 @@
+package workshop.internal.dao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import workshop.internal.entities.Photo;
+
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceException;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Repository
+public class PhotosDao extends WorkshopEntitiesDaoAbstract<Photo, Long> {
+
+	public PhotosDao() {
+		setEntityClass(Photo.class);
+		setKeyClass(Long.class);
+	}
+
+	/**
+	 * @param hash {@link Photo#getHash()}
+	 * @return Optional.of(Photo) or Optional.empty() if nothing has been found.
+	 * @throws IllegalArgumentException If the hash is null or empty.
+	 */
+	public Optional<Photo> findByHash(String hash) throws IllegalArgumentException, PersistenceException {
+		if (hash == null || hash.isEmpty()) {
+			throw new IllegalArgumentException("Photo hash cannot be null or empty!");
+		}
+		List<Photo> photos = getEntityManager().createQuery(
+			"SELECT p FROM workshop.internal.entities.Photo p WHERE p.hash = :hash", Photo.class)
+			.setParameter("hash", hash)
+			.getResultList();
+		return photos.isEmpty() ? Optional.empty() : Optional.of(photos.get(0));
+	}
+
+	/**
+	 * The {@link #findByHash(String)} which keeps the found Photo row locked until the end of the current transaction,
+	 * so its references cannot be counted (and the row removed) by another transaction in the meantime.
+	 *
+	 * @param hash {@link Photo#getHash()}
+	 * @return Optional.of(Photo) or Optional.empty() if nothing has been found. Nothing is locked then.
+	 * @throws IllegalArgumentException If the hash is null or empty.
+	 */
+	public Optional<Photo> findByHashForUpdate(String hash) throws IllegalArgumentException, PersistenceException {
+		if (hash == null || hash.isEmpty()) {
+			throw new IllegalArgumentException("Photo hash cannot be null or empty!");
+		}
+		List<Photo> photos = getEntityManager().createQuery(
+			"SELECT p FROM workshop.internal.entities.Photo p WHERE p.hash = :hash", Photo.class)
+			.setParameter("hash", hash)
+			.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+			.getResultList();
+		return photos.isEmpty() ? Optional.empty() : Optional.of(photos.get(0));
+	}
+
+	/**
+	 * @param hash {@link Photo#getHash()}
+	 * @return The number of Users and Employees still referring to the photo with the given hash.
+	 */
+	public long countReferences(String hash) throws PersistenceException {
+		long usersReferences = getEntityManager().createQuery(
+			"SELECT COUNT (u.identifier) FROM workshop.internal.entities.User u WHERE u.photoHash = :hash", Long.class)
+			.setParameter("hash", hash)
+			.getSingleResult();
+		long employeesReferences = getEntityManager().createQuery(
+			"SELECT COUNT (e.identifier) FROM workshop.internal.entities.Employee e WHERE e.photoHash = :hash", Long.class)
+			.setParameter("hash", hash)
+			.getSingleResult();
+		log.debug("Photo.hash={} is referred by {} Users and {} Employees", hash, usersReferences, employeesReferences);
+		return usersReferences + employeesReferences;
+	}
+}
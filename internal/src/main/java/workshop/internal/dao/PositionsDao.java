@@ -5,14 +5,12 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
-import workshop.internal.entities.Department;
-import workshop.internal.entities.InternalAuthority;
 import workshop.internal.entities.Position;
 
-import javax.persistence.TypedQuery;
-import javax.persistence.criteria.*;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Getter
@@ -25,6 +23,16 @@ public class PositionsDao extends WorkshopEntitiesDaoAbstract<Position, Long> {
 		this.setKeyClass(Long.class);
 	}
 	
+	@Override
+	protected Set<String> getFinderAssociations() {
+		return Collections.singleton("department");
+	}
+	
+	@Override
+	protected Set<String> getFinderCollections() {
+		return Collections.singleton("internalAuthorities");
+	}
+	
 	/**
 	 * If 'order' OR 'orderBy' is null the default ordering will be applied as descending by 'created' property.
 	 *
@@ -51,31 +59,8 @@ public class PositionsDao extends WorkshopEntitiesDaoAbstract<Position, Long> {
 		log.debug("Received pageable of: pageSize={}, pageNum={}, orderBy={}, order={}, for Department.ID={}",
 			pageSize, pageNum, orderBy, order.name(), departmentId);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Position> cq = cb.createQuery(Position.class);
-		
-		Root<Position> positionRoot = cq.from(Position.class);
-		Join<Position, Department> departmentJoin = positionRoot.join("department");
-		Predicate departmentIdEqual = cb.equal(departmentJoin.get("identifier"), departmentId);
-		departmentJoin.on(departmentIdEqual);
-		cq.select(positionRoot);
-		
-		if (order.isAscending()) {
-			cq.orderBy(cb.asc(positionRoot.get(orderBy)));
-		} else {
-			cq.orderBy(cb.desc(positionRoot.get(orderBy)));
-		}
-		TypedQuery<Position> typedQuery = getEntityManager().createQuery(cq);
-		typedQuery.setFirstResult(pageNum * pageSize);
-		typedQuery.setMaxResults(pageSize);
 		try {
-			List<Position> departmentPositions = typedQuery.getResultList();
-			if (departmentPositions != null && !departmentPositions.isEmpty()) {
-				sortEntitiesResultList(departmentPositions, orderBy, order);
-				return Optional.of(departmentPositions);
-			} else {
-				return Optional.empty();
-			}
+			return findAllEntitiesByAssociation("department", departmentId, pageSize, pageNum, orderBy, order);
 		} catch (Exception e) {
 			log.error(e.getMessage(), e);
 			return Optional.empty();
@@ -83,17 +68,7 @@ public class PositionsDao extends WorkshopEntitiesDaoAbstract<Position, Long> {
 	}
 	
 	public long countAllPositionsByDepartment(Long departmentId) {
-		
-		verifyIdForNull(departmentId);
-		log.debug("Received Department.ID={} to count its Positions", departmentId);
-		
-		Long totalPositionsByDepartment = getEntityManager().createQuery(
-			"SELECT COUNT (p.identifier) FROM workshop.internal.entities.Position p " +
-				"WHERE p.department.identifier=:departmentId",
-			Long.class)
-			.setParameter("departmentId", departmentId)
-			.getSingleResult();
-		return totalPositionsByDepartment;
+		return countAllEntitiesByAssociation("department", departmentId);
 	}
 	
 	/**
@@ -114,46 +89,12 @@ public class PositionsDao extends WorkshopEntitiesDaoAbstract<Position, Long> {
 		log.debug("Received pageable of: pageSize={}, pageNum={}, orderBy={}, order={}, for InternalAuthority.ID={}",
 			pageSize, pageNum, orderBy, order.name(), internalAuthorityId);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Position> cq = cb.createQuery(Position.class);
-		
-		Root<Position> positionRoot = cq.from(Position.class);
-		
-		Join<Position, InternalAuthority> positionAuthorityJoin = positionRoot.join("internalAuthorities", JoinType.INNER);
-		Predicate authorityIdEquals =
-			cb.equal(positionAuthorityJoin.get("identifier"), internalAuthorityId);
-		positionAuthorityJoin.on(authorityIdEquals);
-		
-		if (order.isAscending()) {
-			cb.asc(positionRoot.get(orderBy));
-		} else {
-			cb.desc(positionRoot.get(orderBy));
-		}
-		TypedQuery<Position> positionsByAuthorityQuery = getEntityManager().createQuery(cq);
-		positionsByAuthorityQuery.setMaxResults(pageSize);
-		positionsByAuthorityQuery.setFirstResult(pageNum * pageSize);
-		
-		List<Position> positionsByAuthority = positionsByAuthorityQuery.getResultList();
-		
-		if (positionsByAuthority == null || positionsByAuthority.isEmpty()) {
-			return Optional.empty();
-		} else {
-			return Optional.of(positionsByAuthority);
-		}
+		return findAllEntitiesByCollectionMember(
+			"internalAuthorities", internalAuthorityId, pageSize, pageNum, orderBy, order);
 	}
 	
 	public long countAllPositionsByInternalAuthority(Long internalAuthorityId) {
-		
-		verifyIdForNull(internalAuthorityId);
-		log.debug("Received InternalAuthority.ID={} to count its Positions", internalAuthorityId);
-		
-		Long totalPositionsByDepartment = getEntityManager().createQuery(
-			"SELECT COUNT (pos.identifier) FROM workshop.internal.entities.Position pos " +
-				"JOIN pos.internalAuthorities ia WHERE ia.identifier=:internalAuthorityId",
-			Long.class)
-			.setParameter("internalAuthorityId", internalAuthorityId)
-			.getSingleResult();
-		return totalPositionsByDepartment;
+		return countAllEntitiesByCollectionMember("internalAuthorities", internalAuthorityId);
 	}
 	
 }
\ No newline at end of file
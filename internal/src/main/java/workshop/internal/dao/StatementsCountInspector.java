@@ -0,0 +1,122 @@
+package workshop.internal.dao;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import workshop.exceptions.InternalServerErrorException;
+
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares within the bound scope (e.g. a single HTTP request bound by
+ * {@link workshop.controllers.utils.StatementsCountInterceptor}) so the N+1 selects are noticed as soon as an
+ * endpoint exceeds its 'statementBudget.perRequest'.
+ * <p>
+ * Outside a bound scope (startup, scheduled tasks etc) the statements are not counted. The scopes can be nested
+ * (e.g. a test measuring a request), the statements of the inner scope are counted within the outer ones too.
+ * With 'statementBudget.failOnExceed=true' (for the tests) the first statement over the budget is rejected with
+ * {@link InternalServerErrorException}, otherwise the exceeded scope is only logged when it ends.
+ */
+@Slf4j
+@Getter
+@Component
+public class StatementsCountInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+	private static final ThreadLocal<Scope> scopes = new ThreadLocal<>();
+
+	private final int budget;
+	private final boolean failOnExceed;
+
+	public StatementsCountInspector(@Value("${statementBudget.perRequest:50}") int budget,
+									@Value("${statementBudget.failOnExceed:false}") boolean failOnExceed) {
+		this.budget = budget;
+		this.failOnExceed = failOnExceed;
+	}
+
+	/**
+	 * Registers this instance as the Hibernate 'hibernate.session_factory.statement_inspector'.
+	 */
+	@Override
+	public void customize(Map<String, Object> hibernateProperties) {
+		hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+	}
+
+	/**
+	 * @return The given SQL as it is.
+	 * @throws InternalServerErrorException If the budget of the current scope is exceeded and
+	 *                                      {@link #failOnExceed} is true.
+	 */
+	@Override
+	public String inspect(String sql) throws InternalServerErrorException {
+		Scope scope = scopes.get();
+		if (scope == null) {
+			return sql;
+		}
+		for (Scope countedScope = scope; countedScope != null; countedScope = countedScope.outer) {
+			countedScope.count++;
+		}
+		if (failOnExceed && scope.count > budget) {
+			throw new InternalServerErrorException(
+				scope.name + " has exceeded the budget of " + budget + " SQL statements with: " + sql,
+				"httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+		return sql;
+	}
+
+	/**
+	 * Binds a new scope to the current thread. The unfinished one (if any) becomes its outer scope until it ends.
+	 *
+	 * @param scopeName The description of the scope for the logs (e.g. 'GET /internal/positions').
+	 */
+	public void begin(String scopeName) {
+		scopes.set(new Scope(scopeName, scopes.get()));
+	}
+
+	/**
+	 * Unbinds the current scope and binds its outer one back (if any).
+	 *
+	 * @return The amount of the statements counted within the scope or 0 if no scope has been bound.
+	 */
+	public int end() {
+		Scope scope = scopes.get();
+		if (scope == null) {
+			return 0;
+		}
+		if (scope.outer == null) {
+			scopes.remove();
+		} else {
+			scopes.set(scope.outer);
+		}
+		if (scope.count > budget) {
+			log.warn("{} has executed {} SQL statements with the budget of {}", scope.name, scope.count, budget);
+		} else {
+			log.trace("{} has executed {} SQL statements", scope.name, scope.count);
+		}
+		return scope.count;
+	}
+
+	/**
+	 * @return The amount of the statements counted within the current scope so far or 0 if no scope has been bound.
+	 */
+	public int getCurrentCount() {
+		Scope scope = scopes.get();
+		return scope == null ? 0 : scope.count;
+	}
+
+	private static class Scope {
+
+		private final String name;
+		private final Scope outer;
+		private int count;
+
+		private Scope(String name, Scope outer) {
+			this.name = name;
+			this.outer = outer;
+		}
+	}
+}
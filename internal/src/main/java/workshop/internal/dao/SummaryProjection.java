@@ -0,0 +1,118 @@
+package workshop.internal.dao;
+
+import lombok.extern.slf4j.Slf4j;
+import workshop.internal.entities.WorkshopEntity;
+import workshop.internal.entities.utils.EntityPropertyRegistry;
+import workshop.internal.entities.utils.EntityPropertyRegistry.EntityProperty;
+
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * The Tuple projection of a WorkshopEntity for the paged lists: only its basic single-valued columns and the
+ * identifiers of its references are selected, so neither the large objects nor the associated WorkshopEntities
+ * are read from the DataBase.
+ * <p>
+ * Every Tuple is turned into a new transient instance of the WorkshopEntity which is never attached to the
+ * persistence context (so it is neither dirty-checked nor put into the second-level cache). Its references are the
+ * transient stubs with the 'identifier' only and its collections are not set.
+ * (!) Such instances are only for the reading (e.g. for JSON) and must never be merged back.
+ *
+ * @param <T> The WorkshopEntity type.
+ */
+@Slf4j
+final class SummaryProjection<T extends WorkshopEntity> {
+
+	private final Class<T> entityClass;
+	private final EntityPropertyRegistry registry;
+	private final List<EntityProperty> basicProperties = new ArrayList<>();
+	private final List<EntityProperty> references = new ArrayList<>();
+
+	/**
+	 * @param entityClass   The WorkshopEntity class to be projected.
+	 * @param propertyNames The basic properties and the references to be selected. The others are ignored.
+	 * @throws IllegalArgumentException If the WorkshopEntity doesn't have some of the given properties.
+	 */
+	SummaryProjection(Class<T> entityClass, Collection<String> propertyNames) throws IllegalArgumentException {
+		this.entityClass = entityClass;
+		this.registry = EntityPropertyRegistry.of(entityClass);
+		for (String propertyName : propertyNames) {
+			EntityProperty property = registry.getProperty(propertyName).orElseThrow(() -> new IllegalArgumentException(
+				entityClass.getSimpleName() + " doesn't have the '" + propertyName + "' property to be projected!"));
+			if (property.isFilterable()) {
+				basicProperties.add(property);
+			} else if (property.isReference() && !Modifier.isAbstract(property.getType().getModifiers())) {
+				references.add(property);
+			}
+		}
+		log.debug("The summary projection of {} consists of {} properties and {} references",
+			entityClass.getSimpleName(), basicProperties.size(), references.size());
+	}
+
+	/**
+	 * Sets the projection selections to the given query. The references are LEFT JOINed so the nullable ones
+	 * don't exclude the rows.
+	 */
+	void select(CriteriaQuery<Tuple> cq, Root<T> root) {
+		List<Selection<?>> selections = new ArrayList<>(basicProperties.size() + references.size());
+		for (EntityProperty property : basicProperties) {
+			selections.add(root.get(property.getName()).alias(property.getName()));
+		}
+		for (EntityProperty reference : references) {
+			selections.add(root.join(reference.getName(), JoinType.LEFT).get("identifier").alias(reference.getName()));
+		}
+		cq.multiselect(selections);
+	}
+
+	/**
+	 * @param tuples The rows selected by {@link #select(CriteriaQuery, Root)}.
+	 * @return The transient WorkshopEntities in the same order. The same referenced WorkshopEntities are the same stubs.
+	 */
+	List<T> toSummaries(List<Tuple> tuples) {
+		List<T> summaries = new ArrayList<>(tuples.size());
+		Map<String, Map<Object, Object>> stubsByReference = new HashMap<>();
+		for (Tuple tuple : tuples) {
+			T summary = entityClass.cast(registry.newInstance());
+			for (EntityProperty property : basicProperties) {
+				Object value = tuple.get(property.getName());
+				if (value != null || !property.getType().isPrimitive()) {
+					property.setValue(summary, value);
+				}
+			}
+			for (EntityProperty reference : references) {
+				Object identifier = tuple.get(reference.getName());
+				if (identifier != null) {
+					reference.setValue(summary, stubsByReference
+						.computeIfAbsent(reference.getName(), name -> new HashMap<>())
+						.computeIfAbsent(identifier, id -> newStub(reference.getType(), id)));
+				}
+			}
+			summaries.add(summary);
+		}
+		return summaries;
+	}
+
+	/**
+	 * @return The new instance with the 'identifier' only. The default values of its other properties are cleared
+	 * so as not to be taken for the real ones.
+	 */
+	private Object newStub(Class<?> referenceType, Object identifier) {
+		@SuppressWarnings("unchecked")
+		EntityPropertyRegistry referenceRegistry =
+			EntityPropertyRegistry.of((Class<? extends WorkshopEntity>) referenceType);
+		Object stub = referenceRegistry.newInstance();
+		for (String propertyName : referenceRegistry.getPropertyNames()) {
+			EntityProperty property = referenceRegistry.getProperty(propertyName).get();
+			if (!property.getType().isPrimitive() && property.getValue(stub) != null) {
+				property.setValue(stub, null);
+			}
+		}
+		referenceRegistry.getProperty("identifier").ifPresent(property -> property.setValue(stub, identifier));
+		return stub;
+	}
+}
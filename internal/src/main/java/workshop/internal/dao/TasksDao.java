@@ -1,7 +1,6 @@
 package workshop.internal.dao;
 
-import workshop.internal.entities.Classifier;
-import workshop.internal.entities.Order;
+import lombok.extern.slf4j.Slf4j;
 import workshop.internal.entities.Task;
 import workshop.exceptions.InternalServerErrorException;
 import org.springframework.data.domain.Sort;
@@ -9,11 +8,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.PersistenceException;
-import javax.persistence.TypedQuery;
-import javax.persistence.criteria.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 @Repository
 public class TasksDao extends WorkshopEntitiesDaoAbstract<Task, Long> {
 	
@@ -22,6 +24,16 @@ public class TasksDao extends WorkshopEntitiesDaoAbstract<Task, Long> {
 		setKeyClass(Long.class);
 	}
 	
+	@Override
+	protected Set<String> getFinderAssociations() {
+		return new HashSet<>(Arrays.asList("order", "appointedTo", "modifiedBy", "createdBy"));
+	}
+	
+	@Override
+	protected Set<String> getFinderCollections() {
+		return Collections.singleton("classifiers");
+	}
+	
 	
 	/**
 	 * @param pageSize Amount of Tasks to be returned at once. Min = 1
@@ -47,25 +59,8 @@ public class TasksDao extends WorkshopEntitiesDaoAbstract<Task, Long> {
 		
 		super.verifyPageableValues(pageSize, pageNum, orderBy, order);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Task> cq = cb.createQuery(Task.class);
-		Root<Task> taskRoot = cq.from(Task.class);
-		
-		Join<Task, Order> taskOrderJoin = taskRoot.join("order");
-		
-		taskOrderJoin.on(cb.equal(taskRoot.get("order").get("identifier"), orderId));
-		
-		TypedQuery<Task> taskTypedQuery = getEntityManager().createQuery(cq);
-		taskTypedQuery.setMaxResults(pageSize);
-		taskTypedQuery.setFirstResult(pageSize * pageNum);
-		
 		try {
-			List<Task> taskList = taskTypedQuery.getResultList();
-			if (taskList != null && !taskList.isEmpty()) {
-				return Optional.of(taskList);
-			} else {
-				return Optional.empty();
-			}
+			return findAllEntitiesByAssociation("order", orderId, pageSize, pageNum, orderBy, order);
 		} catch (PersistenceException e) {
 			throw new InternalServerErrorException(
 				e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
@@ -94,23 +89,8 @@ public class TasksDao extends WorkshopEntitiesDaoAbstract<Task, Long> {
 																Long employeeId) {
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Task> cq = cb.createQuery(Task.class);
-		Root<Task> taskRoot = cq.from(Task.class);
-		Predicate appointedToPredicate = cb.equal(taskRoot.get("appointedTo").get("identifier"), employeeId);
-		cq.where(appointedToPredicate);
-		
-		TypedQuery<Task> taskTypedQuery = getEntityManager().createQuery(cq);
-		taskTypedQuery.setMaxResults(pageSize);
-		taskTypedQuery.setFirstResult(pageSize * pageNum);
-		
 		try {
-			List<Task> appointedTasks = taskTypedQuery.getResultList();
-			if (appointedTasks != null && !appointedTasks.isEmpty()) {
-				return Optional.of(appointedTasks);
-			} else {
-				return Optional.empty();
-			}
+			return findAllEntitiesByAssociation("appointedTo", employeeId, pageSize, pageNum, orderBy, order);
 		} catch (PersistenceException e) {
 			throw new InternalServerErrorException(
 				e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
@@ -139,24 +119,8 @@ public class TasksDao extends WorkshopEntitiesDaoAbstract<Task, Long> {
 															   Long employeeId) {
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Task> cq = cb.createQuery(Task.class);
-		Root<Task> taskRoot = cq.from(Task.class);
-		
-		Predicate modifiedByPredicate = cb.equal(taskRoot.get("modifiedBy").get("identifier"), employeeId);
-		cq.where(modifiedByPredicate);
-		
-		TypedQuery<Task> tasksTypedQuery = getEntityManager().createQuery(cq);
-		tasksTypedQuery.setMaxResults(pageSize);
-		tasksTypedQuery.setFirstResult(pageNum * pageSize);
-		
 		try {
-			List<Task> modifiedByTasks = tasksTypedQuery.getResultList();
-			if (modifiedByTasks != null && !modifiedByTasks.isEmpty()) {
-				return Optional.of(modifiedByTasks);
-			} else {
-				return Optional.empty();
-			}
+			return findAllEntitiesByAssociation("modifiedBy", employeeId, pageSize, pageNum, orderBy, order);
 		} catch (PersistenceException e) {
 			throw new InternalServerErrorException(
 				e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
@@ -185,24 +149,8 @@ public class TasksDao extends WorkshopEntitiesDaoAbstract<Task, Long> {
 															  Long employeeId) {
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Task> cq = cb.createQuery(Task.class);
-		Root<Task> taskRoot = cq.from(Task.class);
-		
-		Predicate createdByPredicate = cb.equal(taskRoot.get("createdBy").get("identifier"), employeeId);
-		cq.where(createdByPredicate);
-		
-		TypedQuery<Task> tasksTypedQuery = getEntityManager().createQuery(cq);
-		tasksTypedQuery.setMaxResults(pageSize);
-		tasksTypedQuery.setFirstResult(pageNum * pageSize);
-		
 		try {
-			List<Task> createdByTasks = tasksTypedQuery.getResultList();
-			if (createdByTasks != null && !createdByTasks.isEmpty()) {
-				return Optional.of(createdByTasks);
-			} else {
-				return Optional.empty();
-			}
+			return findAllEntitiesByAssociation("createdBy", employeeId, pageSize, pageNum, orderBy, order);
 		} catch (PersistenceException e) {
 			throw new InternalServerErrorException(
 				e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
@@ -233,31 +181,31 @@ public class TasksDao extends WorkshopEntitiesDaoAbstract<Task, Long> {
 		
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
 		
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<Task> cq = cb.createQuery(Task.class);
-		
-		Root<Classifier> classifierRoot = cq.from(Classifier.class);
-		Predicate classifierIdEqual = cb.equal(classifierRoot.get("identifier"), classifierId);
-		
-		cq.where(classifierIdEqual);
-		
-		cq.select(classifierRoot.get("tasks"));
-		
-		TypedQuery<Task> taskTypedQuery = getEntityManager().createQuery(cq);
-		taskTypedQuery.setMaxResults(pageSize);
-		taskTypedQuery.setFirstResult(pageSize * pageNum);
-		
 		try {
-			List<Task> taskList = taskTypedQuery.getResultList();
-			if (taskList != null && !taskList.isEmpty()) {
-				return Optional.of(taskList);
-			} else {
-				return Optional.empty();
-			}
+			return findAllEntitiesByCollectionMember("classifiers", classifierId, pageSize, pageNum, orderBy, order);
 		} catch (PersistenceException e) {
 			throw new InternalServerErrorException(
 				e.getMessage(), "httpStatus.internalServerError.common", HttpStatus.INTERNAL_SERVER_ERROR, e);
 		}
 	}
 	
+	public long countAllTasksByOrder(Long orderId) {
+		return countAllEntitiesByAssociation("order", orderId);
+	}
+	
+	public long countAllTasksAppointedToEmployee(Long employeeId) {
+		return countAllEntitiesByAssociation("appointedTo", employeeId);
+	}
+	
+	public long countAllTasksModifiedByEmployee(Long employeeId) {
+		return countAllEntitiesByAssociation("modifiedBy", employeeId);
+	}
+	
+	public long countAllTasksCreatedByEmployee(Long employeeId) {
+		return countAllEntitiesByAssociation("createdBy", employeeId);
+	}
+	
+	public long countAllTasksByClassifier(Long classifierId) {
+		return countAllEntitiesByCollectionMember("classifiers", classifierId);
+	}
 }
@@ -0,0 +1,76 @@
+package workshop.internal.dao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.Phone;
+import workshop.internal.entities.User;
+import workshop.internal.entities.WorkshopEntity;
+import workshop.internal.entities.utils.UniquePropertyBloomFilter;
+import workshop.internal.entities.utils.UniquePropertyFilters;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Registers and fills the {@link UniquePropertyBloomFilter}s for the User.email, Employee.email and Phone.phone
+ * columns which are checked for the existence on every registration form keystroke.
+ * The filters are registered before being filled so the values persisted meanwhile are put into them by
+ * {@link UniquePropertyFilters} listener and there are no false negatives.
+ * <p>
+ * (!) The filters only know the values written through this application instance. If the DataBase is also written
+ * by other instances or plain SQL scripts they have to be disabled with 'existenceFilters.enabled=false'.
+ */
+@Slf4j
+@Component
+public class UniquePropertyFiltersInitializer {
+
+	private static final int FETCH_SIZE = 1000;
+
+	@Value("${existenceFilters.enabled:false}")
+	private boolean enabled;
+	@Value("${existenceFilters.expectedInsertions:100000}")
+	private int expectedInsertions;
+	@Value("${existenceFilters.falsePositiveProbability:0.01}")
+	private double falsePositiveProbability;
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+	public void fillFilters() {
+		if (!enabled) {
+			log.debug("The existence Bloom filters are disabled");
+			return;
+		}
+		fillFilter(User.class, "email");
+		fillFilter(Employee.class, "email");
+		fillFilter(Phone.class, "phone");
+	}
+
+	private void fillFilter(Class<? extends WorkshopEntity> entityClass, String propertyName) {
+		UniquePropertyBloomFilter filter = UniquePropertyFilters.register(
+			entityClass, propertyName, expectedInsertions, falsePositiveProbability);
+		AtomicLong valuesCount = new AtomicLong();
+		try (Stream<String> values = entityManager.createQuery(
+			"SELECT e." + propertyName + " FROM " + entityClass.getName() + " e WHERE e." + propertyName + " IS NOT NULL",
+			String.class)
+			.setHint("org.hibernate.fetchSize", FETCH_SIZE)
+			.getResultStream()) {
+			values.forEach(value -> {
+				filter.put(value);
+				valuesCount.incrementAndGet();
+			});
+		}
+		filter.setReady();
+		log.info("The Bloom filter for {}.{} is filled with {} values", entityClass.getSimpleName(), propertyName,
+			valuesCount.get());
+	}
+}
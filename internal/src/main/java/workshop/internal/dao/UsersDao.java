@@ -1,16 +1,17 @@
 package workshop.internal.dao;
 
-import workshop.internal.entities.ExternalAuthority;
+import lombok.extern.slf4j.Slf4j;
 import workshop.internal.entities.User;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.PersistenceException;
-import javax.persistence.TypedQuery;
-import javax.persistence.criteria.*;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 @Repository
 public class UsersDao extends WorkshopEntitiesDaoAbstract<User, Long> {
 	
@@ -19,6 +20,21 @@ public class UsersDao extends WorkshopEntitiesDaoAbstract<User, Long> {
 		setKeyClass(Long.class);
 	}
 	
+	@Override
+	protected Set<String> getFinderCollections() {
+		return Collections.singleton("externalAuthorities");
+	}
+	
+	/**
+	 * The summary of User for the lists without the write-only 'password'.
+	 */
+	@Override
+	protected Set<String> getSummaryPropertyNames() {
+		Set<String> summaryPropertyNames = super.getSummaryPropertyNames();
+		summaryPropertyNames.remove("password");
+		return summaryPropertyNames;
+	}
+	
 	public Optional<User> findByPhone(String phone) throws IllegalArgumentException {
 		if (phone == null || phone.isEmpty()) {
 			throw new IllegalArgumentException("User phone cannot be null or empty!");
@@ -47,30 +63,11 @@ public class UsersDao extends WorkshopEntitiesDaoAbstract<User, Long> {
 															 Long externalAuthorityId) throws PersistenceException {
 		super.verifyIdForNull(externalAuthorityId);
 		super.verifyPageableValues(pageSize, pageNum, orderBy, order);
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
-		CriteriaQuery<User> cq = cb.createQuery(User.class);
-		Root<User> userRoot = cq.from(User.class);
-		
-		Join<User, ExternalAuthority> userAuthorityJoin = userRoot.join("externalAuthorities", JoinType.INNER);
-		Predicate authorityIdEquals = cb.equal(userAuthorityJoin.get("identifier"), externalAuthorityId);
-		userAuthorityJoin.on(authorityIdEquals);
-		
-		if (order.isAscending()) {
-			cq.orderBy(cb.asc(userRoot.get(orderBy)));
-		} else {
-			cq.orderBy(cb.desc(userRoot.get(orderBy)));
-		}
-		
-		TypedQuery<User> userTypedQuery = getEntityManager().createQuery(cq);
-		userTypedQuery.setMaxResults(pageSize);
-		userTypedQuery.setFirstResult(pageNum * pageSize);
-		
-		List<User> usersByAuthority = userTypedQuery.getResultList();
-		
-		if (usersByAuthority != null && !usersByAuthority.isEmpty()) {
-			return Optional.of(usersByAuthority);
-		} else {
-			return Optional.empty();
-		}
+		return findAllEntitiesByCollectionMember(
+			"externalAuthorities", externalAuthorityId, pageSize, pageNum, orderBy, order);
+	}
+	
+	public long countUsersByExternalAuthority(Long externalAuthorityId) {
+		return countAllEntitiesByCollectionMember("externalAuthorities", externalAuthorityId);
 	}
 }
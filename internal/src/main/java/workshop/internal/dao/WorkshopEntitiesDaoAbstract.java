@@ -1,8 +1,11 @@
 package workshop.internal.dao;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
@@ -15,17 +18,29 @@ import org.springframework.transaction.annotation.Transactional;
 import workshop.internal.entities.Employee;
 import workshop.internal.entities.WorkshopAudibleEntityAbstract;
 import workshop.internal.entities.WorkshopEntity;
+import workshop.internal.entities.utils.EntityPropertyRegistry;
+import workshop.internal.entities.utils.UniquePropertyBloomFilter;
+import workshop.internal.entities.utils.UniquePropertyFilters;
+import workshop.internal.entities.utils.EntityPropertyRegistry.EntityProperty;
 
 import javax.persistence.*;
 import javax.persistence.criteria.*;
-import java.lang.reflect.Field;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.Temporal;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The class is intended to return Optional.of(WorkshopEntity) either Optional.empty() if nothing found
@@ -67,12 +82,42 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 	private String DEFAULT_ORDER_BY;
 	@Value("${default.order}")
 	private String DEFAULT_ORDER;
+	/**
+	 * The not indexed properties which are allowed to be filtered by anyway as 'Entity.property' or '*.property'
+	 * for all the WorkshopEntities.
+	 */
+	@Value("${filter.whitelist:}")
+	private String[] FILTER_WHITELIST;
+	/**
+	 * The max amount of identifiers within 'IN' clause of the bulk statements.
+	 */
+	static final int IDS_CHUNK_SIZE = 1000;
 	@PersistenceContext
 	private EntityManager entityManager;
 	private Class<T> entityClass;
 	private Class<K> keyClass;
+	@Setter(AccessLevel.NONE)
+	private EntityPropertyRegistry propertyRegistry;
+	/**
+	 * The parameterised JPQL templates of the frequent queries of this DAO.
+	 */
+	@Setter(AccessLevel.NONE)
+	private final JpqlTemplateCache jpqlTemplateCache = new JpqlTemplateCache();
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private volatile SummaryProjection<T> summaryProjection;
 	
 	/**
+	 * Also builds (or obtains the already built) {@link EntityPropertyRegistry} for the given Entity class.
+	 */
+	public void setEntityClass(Class<T> entityClass) {
+		this.entityClass = entityClass;
+		this.propertyRegistry = EntityPropertyRegistry.of(entityClass);
+	}
+	
+	/**
+	 * The WorkshopEntity is loaded with the {@link FetchProfile#DETAIL} graph.
+	 *
 	 * @param key The ID-key
 	 * @return Optional.of(WorkshopEntity) or Optional.empty() if that entity does not exist
 	 * @throws IllegalArgumentException if key is null
@@ -81,13 +126,15 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		if (key == null) {
 			throw new IllegalArgumentException("Key parameter is null!");
 		}
-		Optional<T> entity = Optional.ofNullable(entityManager.find(entityClass, key));
+		Optional<T> entity = Optional.ofNullable(
+			entityManager.find(entityClass, key, getFetchProfileHints(FetchProfile.DETAIL)));
 		log.debug("{} with identifier={} is found? = {}", entityClass.getSimpleName(), key, entity.isPresent());
 		return entity;
 	}
 	
 	/**
-	 * As a quite common method it is placed in the superclass
+	 * As a quite common method it is placed in the superclass.
+	 * The WorkshopEntity is loaded with the {@link FetchProfile#DETAIL} graph as it is used for the authentication.
 	 *
 	 * @param email For instance Employee.email or User.email can be found
 	 * @return Optional<Entity> or Optional.empty() if nothing was found.
@@ -97,14 +144,11 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		if (email == null || email.isEmpty()) {
 			throw new IllegalArgumentException("Email cannot be null or empty!");
 		}
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-		CriteriaQuery<T> cq = cb.createQuery(entityClass);
-		Root<T> root = cq.from(entityClass);
-		
-		Predicate emailPredicate = cb.equal(root.get("email"), email);
-		cq.where(emailPredicate);
-//		cq.select(root.get("email").get(email));
-		TypedQuery<T> typedQuery = entityManager.createQuery(cq);
+		TypedQuery<T> typedQuery = createTemplateQuery(
+			JpqlTemplateCache.Key.of(entityClass.getName(), "email", "="), entityClass,
+			() -> "SELECT e FROM " + entityClass.getName() + " e WHERE e.email = :email")
+			.setParameter("email", email);
+		setFetchProfile(typedQuery, FetchProfile.DETAIL);
 		try {
 			Optional<T> entity = Optional.ofNullable(typedQuery.getSingleResult());
 			log.debug("{} with email={} is found? = {}", entityClass.getSimpleName(), email, entity.isPresent());
@@ -141,38 +185,233 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		Integer pageNum,
 		String orderBy,
 		Sort.Direction order) throws IllegalArgumentException, PersistenceException {
+		return findAllEntities(pageSize, pageNum, orderBy, order, null);
+	}
+	
+	/**
+	 * The same as {@link #findAllEntities(Integer, Integer, String, Sort.Direction)} but only for the Entities
+	 * matching the given filter.
+	 *
+	 * @param filter @Nullable. The filter from {@link #parseFilter(String)}.
+	 */
+	public Optional<List<T>> findAllEntities(
+		Integer pageSize,
+		Integer pageNum,
+		String orderBy,
+		Sort.Direction order,
+		@Nullable EntityFilter filter) throws IllegalArgumentException, PersistenceException {
 		
 		pageSize = pageSize == 0 ? PAGE_SIZE_DEFAULT : pageSize;
 		verifyPageableValues(pageSize, pageNum, orderBy, order);
 		
-		log.debug("Paged query with pageSize={}, pageNum={}, orderBy={}, order={} will be performed",
-			pageSize, pageNum, orderBy, order);
+		log.debug("Paged query with pageSize={}, pageNum={}, orderBy={}, order={}, filter={} will be performed",
+			pageSize, pageNum, orderBy, order, filter);
 		
 		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 		CriteriaQuery<T> cq = cb.createQuery(entityClass);
 		Root<T> root = cq.from(entityClass);
 		cq.select(root);
-		
-		if (order.isDescending()) {
-			cq.orderBy(cb.desc(root.get(orderBy)));
-		} else {
-			cq.orderBy(cb.asc(root.get(orderBy)));
+		if (filter != null) {
+			cq.where(filter.toPredicate(cb, root));
 		}
-		TypedQuery<T> query = entityManager.createQuery(cq);
-		query.setFirstResult(pageNum * pageSize); //Offset (page number)
-		query.setMaxResults(pageSize); //Limit (page size)
 		
-		List<T> resultList = query.getResultList();
+		Optional<List<T>> resultList = getPagedResultList(cq, root, pageSize, pageNum, orderBy, order);
+		log.debug("{}s were found and sorted {} by {}? = {}",
+			entityClass.getSimpleName(), order.name(), orderBy, resultList.isPresent());
+		return resultList;
+	}
+	
+	/**
+	 * The keyset (seek) pagination. Instead of skipping 'pageNum * pageSize' rows the page starts right after (or
+	 * before) the boundary WorkshopEntity from the given {@link KeysetCursor}, so the cost of any page is the same as
+	 * the first one's.
+	 * The 'identifier' is used as the tie-breaker for the equal 'orderBy' values.
+	 *
+	 * @param pageSize The maximum amount of entities at once (on one page).
+	 *                 Min = 0, will be Default = ({@link #PAGE_SIZE_DEFAULT}),
+	 *                 Max = {@link #PAGE_SIZE_MAX}
+	 * @param orderBy  The name of the property to order by. Must be the same the cursor was created with.
+	 * @param order    {@link Sort.Direction} 'asc' or 'desc'. Must be the same the cursor was created with.
+	 * @param cursor   The boundary of the previous page.
+	 * @return 'Optional<List <T>>' sorted by property name according to Sort.Direction.
+	 * If nothing was found Optional.empty() will be returned.
+	 * @throws IllegalArgumentException If pageSize is out of bounds, the cursor is null or doesn't match 'orderBy'
+	 *                                  and 'order', its value cannot be parsed into the 'orderBy' property type or
+	 *                                  the 'orderBy' property is nullable (its NULL rows would be skipped).
+	 * @throws PersistenceException     If an Entity doesn't have 'orderBy' field name.
+	 */
+	public Optional<List<T>> findAllEntities(Integer pageSize, String orderBy, Sort.Direction order, KeysetCursor cursor)
+		throws IllegalArgumentException, PersistenceException {
+		return findAllEntities(pageSize, orderBy, order, cursor, false);
+	}
+	
+	/**
+	 * The same as {@link #findAllEntities(Integer, String, Sort.Direction, KeysetCursor)} but with the optional
+	 * 'hasNext' probe instead of counting all the Entities.
+	 *
+	 * @param withProbe If true, one more WorkshopEntity than 'pageSize' will be fetched (if exists) so the caller knows
+	 *                  whether there is one more page in the cursor direction without any 'SELECT COUNT'.
+	 *                  The extra WorkshopEntity is the last one for the forward cursor and the first one for the
+	 *                  backward one and has to be cut off by the caller.
+	 */
+	public Optional<List<T>> findAllEntities(
+		Integer pageSize, String orderBy, Sort.Direction order, KeysetCursor cursor, boolean withProbe)
+		throws IllegalArgumentException, PersistenceException {
+		return findAllEntities(pageSize, orderBy, order, cursor, withProbe, null);
+	}
+	
+	/**
+	 * The keyset pagination through the Entities matching the given filter.
+	 *
+	 * @param filter @Nullable. The filter from {@link #parseFilter(String)}.
+	 * @see #findAllEntities(Integer, String, Sort.Direction, KeysetCursor, boolean)
+	 */
+	public Optional<List<T>> findAllEntities(Integer pageSize,
+											 String orderBy,
+											 Sort.Direction order,
+											 KeysetCursor cursor,
+											 boolean withProbe,
+											 @Nullable EntityFilter filter)
+		throws IllegalArgumentException, PersistenceException {
 		
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> cq = cb.createQuery(entityClass);
+		Root<T> root = cq.from(entityClass);
+		cq.select(root);
+		return getKeysetResultList(cq, root, query -> setFetchProfile(query, FetchProfile.SUMMARY),
+			pageSize, orderBy, order, cursor, withProbe, filter);
+	}
+	
+	/**
+	 * The shared keyset paging for the queries selecting either the {@link #entityClass} Root or its projection.
+	 *
+	 * @param cq         A CriteriaQuery with the 'select' already set.
+	 * @param root       The {@link #entityClass} Root of the given query.
+	 * @param queryHints Sets the fetch profile or other hints to the created query.
+	 * @return Optional.of(List) with the ordered page (and the probe Entity if 'withProbe') or Optional.empty().
+	 */
+	private <E> Optional<List<E>> getKeysetResultList(CriteriaQuery<E> cq,
+													  Root<T> root,
+													  Consumer<TypedQuery<E>> queryHints,
+													  Integer pageSize,
+													  String orderBy,
+													  Sort.Direction order,
+													  KeysetCursor cursor,
+													  boolean withProbe,
+													  @Nullable EntityFilter filter)
+		throws IllegalArgumentException, PersistenceException {
+
+		pageSize = pageSize == 0 ? PAGE_SIZE_DEFAULT : pageSize;
+		verifyPageableValues(pageSize, 0, orderBy, order);
+		if (cursor == null) {
+			throw new IllegalArgumentException("KeysetCursor cannot be null!");
+		} else if (!cursor.isCompatibleWith(orderBy, order)) {
+			throw new IllegalArgumentException("The given cursor was created for orderBy=" + cursor.getOrderBy() +
+				" and order=" + cursor.getOrder() + " but not for orderBy=" + orderBy + " and order=" + order);
+		}
+		log.debug("Keyset paged query with pageSize={}, orderBy={}, order={}, after identifier={} will be performed",
+			pageSize, orderBy, order, cursor.getIdentifier());
+
+		EntityProperty orderByProperty = findPropertyOfThisEntityClass(orderBy);
+		if (orderByProperty.isNullable()) {
+			throw new IllegalArgumentException(entityClass.getSimpleName() + "." + orderBy +
+				" is nullable and cannot be used for the keyset pagination!");
+		}
+		Object boundaryValue = parsePropertyValue(orderByProperty, cursor.getOrderByValue());
+		//To get the previous page the ordering is reversed and the result is reversed back afterwards
+		boolean descending = cursor.isBackward() != order.isDescending();
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		Path<Comparable> orderByPath = root.get(orderBy);
+		Path<Long> identifierPath = root.get("identifier");
+
+		Predicate seekPredicate;
+		if (descending) {
+			seekPredicate = cb.or(
+				cb.lessThan(orderByPath, (Comparable) boundaryValue),
+				cb.and(cb.equal(orderByPath, boundaryValue), cb.lessThan(identifierPath, cursor.getIdentifier())));
+		} else {
+			seekPredicate = cb.or(
+				cb.greaterThan(orderByPath, (Comparable) boundaryValue),
+				cb.and(cb.equal(orderByPath, boundaryValue), cb.greaterThan(identifierPath, cursor.getIdentifier())));
+		}
+		cq.where(filter == null ? seekPredicate : cb.and(seekPredicate, filter.toPredicate(cb, root)));
+		cq.orderBy(getOrderWithTieBreaker(root, orderBy, descending ? Sort.Direction.DESC : Sort.Direction.ASC));
+
+		TypedQuery<E> query = entityManager.createQuery(cq);
+		queryHints.accept(query);
+		query.setMaxResults(withProbe ? pageSize + 1 : pageSize); //Limit (page size) without any offset
+
+		List<E> resultList = query.getResultList();
+
 		if (!resultList.isEmpty()) {
-			sortEntitiesResultList(resultList, orderBy, order);
-			log.debug("{}s were found and sorted {} by {}", entityClass.getSimpleName(), order.name(), orderBy);
+			if (cursor.isBackward()) {
+				Collections.reverse(resultList);
+			}
+			log.debug("{}s were found by the keyset {} by {}", entityClass.getSimpleName(), order.name(), orderBy);
 			return Optional.of(resultList);
 		} else {
 			log.debug("{}s were not found", entityClass.getSimpleName());
 			return Optional.empty();
 		}
 	}
+
+	/**
+	 * The projection variant of {@link #findAllEntities(Integer, Integer, String, Sort.Direction, EntityFilter)} for
+	 * the paged lists: only the {@link #getSummaryPropertyNames()} columns are selected and turned into the transient
+	 * Entities bypassing the persistence context and the second-level cache (see {@link SummaryProjection}).
+	 *
+	 * @return 'Optional.of(List<WorkshopEntity>)' with the transient read-only Entities or 'Optional.empty()'.
+	 */
+	public Optional<List<T>> findAllSummaries(Integer pageSize,
+											  Integer pageNum,
+											  String orderBy,
+											  Sort.Direction order,
+											  @Nullable EntityFilter filter)
+		throws IllegalArgumentException, PersistenceException {
+		
+		pageSize = pageSize == 0 ? PAGE_SIZE_DEFAULT : pageSize;
+		verifyPageableValues(pageSize, pageNum, orderBy, order);
+		
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+		Root<T> root = cq.from(entityClass);
+		getSummaryProjection().select(cq, root);
+		if (filter != null) {
+			cq.where(filter.toPredicate(cb, root));
+		}
+		cq.orderBy(getOrderWithTieBreaker(root, orderBy, order));
+		
+		TypedQuery<Tuple> query = entityManager.createQuery(cq);
+		setCacheBypass(query);
+		Optional<List<T>> summaries = getPagedResultList(query, pageSize, pageNum)
+			.map(getSummaryProjection()::toSummaries);
+		log.debug("{} summaries were found? = {}", entityClass.getSimpleName(), summaries.isPresent());
+		return summaries;
+	}
+	
+	/**
+	 * The projection variant of
+	 * {@link #findAllEntities(Integer, String, Sort.Direction, KeysetCursor, boolean, EntityFilter)}.
+	 *
+	 * @return 'Optional.of(List<WorkshopEntity>)' with the transient read-only Entities or 'Optional.empty()'.
+	 * @see #findAllSummaries(Integer, Integer, String, Sort.Direction, EntityFilter)
+	 */
+	public Optional<List<T>> findAllSummaries(Integer pageSize,
+											  String orderBy,
+											  Sort.Direction order,
+											  KeysetCursor cursor,
+											  boolean withProbe,
+											  @Nullable EntityFilter filter)
+		throws IllegalArgumentException, PersistenceException {
+		
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+		Root<T> root = cq.from(entityClass);
+		getSummaryProjection().select(cq, root);
+		return getKeysetResultList(cq, root, this::setCacheBypass, pageSize, orderBy, order, cursor, withProbe, filter)
+			.map(getSummaryProjection()::toSummaries);
+	}
 	
 	/**
 	 * Spring Page interface starts count pages from 0.
@@ -200,29 +439,18 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		Root<T> root = cq.from(entityClass);
 		cq.select(root);
 		
-		cq.orderBy(cb.desc(root.get(DEFAULT_ORDER_BY)));
-		
-		TypedQuery<T> query = entityManager.createQuery(cq);
-		query.setFirstResult(pageNum * pageSize); //Offset (page number)
-		query.setMaxResults(pageSize); //Limit (page size)
-		
-		List<T> resultList = query.getResultList();
-		
-		if (!resultList.isEmpty()) {
-			String finalOrderBy = DEFAULT_ORDER_BY;
-//			resultList.sort(Comparator.comparing(e -> getComparablePropertyValue(finalOrderBy, e).get()).reversed());
-			sortEntitiesResultList(resultList, DEFAULT_ORDER_BY, Sort.Direction.fromString(DEFAULT_ORDER));
-			log.debug("{}s were found", entityClass.getSimpleName());
-			return Optional.of(resultList);
-		} else {
-			log.debug("{}s were not found", entityClass.getSimpleName());
-			return Optional.empty();
-		}
+		Optional<List<T>> resultList = getPagedResultList(
+			cq, root, pageSize, pageNum, DEFAULT_ORDER_BY, Sort.Direction.fromString(DEFAULT_ORDER));
+		log.debug("{}s were found? = {}", entityClass.getSimpleName(), resultList.isPresent());
+		return resultList;
 	}
 	
 	/**
 	 * Spring Page interface starts count pages from 0.
 	 * Page formula is: (pageNum)*pageSize
+	 * <p>
+	 * (!) The whole table is loaded into the memory at once. For the big tables use
+	 * {@link #streamAll(BiFunction, int)} instead.
 	 *
 	 * @return 'Optional.of(List<WorkshopEntity>)' or 'Optional.empty()' if nothing found.
 	 * @throws IllegalArgumentException If pageSize < 0 either pageSize > PAGE_SIZE_MAX or pageNum < 0
@@ -237,6 +465,7 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		cq.select(root);
 		
 		TypedQuery<T> query = entityManager.createQuery(cq);
+		setFetchProfile(query, FetchProfile.SUMMARY);
 		
 		List<T> resultList = query.getResultList();
 		
@@ -249,6 +478,65 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		}
 	}
 	
+	/**
+	 * Streams the Entities one by one from the forward-only database cursor (Hibernate {@link ScrollableResults}) so
+	 * that millions of rows can be processed (exported, cleaned up etc) in a constant heap.
+	 * Every 'fetchSize' rows the persistence context is flushed (to save the changes the consumer made) and cleared,
+	 * so the previously streamed Entities become detached and cannot be lazily initialized anymore.
+	 * <p>
+	 * The Stream has to be consumed within the transaction the method was called in and closed afterwards
+	 * (e.g. with 'try-with-resources') to release the cursor.
+	 *
+	 * @param criteria  The optional function to build the 'WHERE' predicate for the {@link #entityClass} Root,
+	 *                  e.g. '(cb, root) -> cb.lessThan(root.get("created"), outdated)'.
+	 * @param fetchSize The amount of rows to be fetched from the DataBase at once and processed between the
+	 *                  persistence context clearings.
+	 * @return The lazy Stream of Entities in 'identifier' order.
+	 * @throws IllegalArgumentException If fetchSize <= 0.
+	 * @throws PersistenceException     In case of DataBase problems while opening the cursor or streaming.
+	 */
+	public Stream<T> streamAll(@Nullable BiFunction<CriteriaBuilder, Root<T>, Predicate> criteria, int fetchSize)
+		throws IllegalArgumentException, PersistenceException {
+		if (fetchSize <= 0) {
+			throw new IllegalArgumentException("Fetch size=" + fetchSize + " cannot be zero or below!");
+		}
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> cq = cb.createQuery(entityClass);
+		Root<T> root = cq.from(entityClass);
+		cq.select(root).orderBy(cb.asc(root.get("identifier")));
+		if (criteria != null) {
+			cq.where(criteria.apply(cb, root));
+		}
+		TypedQuery<T> query = entityManager.createQuery(cq);
+		setFetchProfile(query, FetchProfile.SUMMARY);
+		ScrollableResults scrollableResults = query.unwrap(org.hibernate.query.Query.class)
+			.setFetchSize(fetchSize)
+			.scroll(ScrollMode.FORWARD_ONLY);
+		log.debug("The stream of {}s with fetchSize={} is opened", entityClass.getSimpleName(), fetchSize);
+		
+		Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(
+			Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+			
+			private long streamedCount;
+			
+			@Override
+			public boolean tryAdvance(Consumer<? super T> action) {
+				if (streamedCount > 0 && streamedCount % fetchSize == 0) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+				if (!scrollableResults.next()) {
+					log.debug("{} {}s have been streamed", streamedCount, entityClass.getSimpleName());
+					return false;
+				}
+				streamedCount++;
+				action.accept(entityClass.cast(scrollableResults.get(0)));
+				return true;
+			}
+		};
+		return StreamSupport.stream(spliterator, false).onClose(scrollableResults::close);
+	}
+	
 	/**
 	 * The search by manually entered Entity.property name and its value.
 	 * Also accepts ZonedDateTime, LocalDateTime and LocalDate to be parsed if Entity.property instanceof Temporal.class.
@@ -269,22 +557,23 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 			throw new IllegalArgumentException("Name or value is null or empty!");
 		}
 		//Try to find such a property by name in this class and its superclasses; otherwise an IllegalArgsException will be thrown
-		Field propertyFound = findPropertyOfThisEntityClass(propertyName);
+		EntityProperty propertyFound = findPropertyOfThisEntityClass(propertyName);
+		if (!propertyFound.isFilterable()) {
+			throw new IllegalArgumentException(
+				entityClass.getSimpleName() + "." + propertyName + " property cannot be used for the search!");
+		}
 		//propertyValue can be both String.class and Temporal.class to be used as argument for CriteriaQuery
 		Object parsedPropertyValue = propertyValue;
 		//If workshopEntityClass.property instance of Temporal.class so its value has to be the instance of the corresponding class
-		if (Temporal.class.isAssignableFrom(propertyFound.getType())) {
-			parsedPropertyValue = parseTemporal(propertyFound, propertyValue);
+		if (propertyFound.isTemporal()) {
+			parsedPropertyValue = parseTemporal(propertyFound.getType(), propertyValue);
 		}
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-		CriteriaQuery<T> cq = cb.createQuery(entityClass);
-		Root<T> root = cq.from(entityClass);
-		Path<Object> property = root.get(propertyName);
-		Predicate predicate = cb.equal(property, parsedPropertyValue);
-		
-		cq.select(root).where(predicate);
-		
-		TypedQuery<T> query = entityManager.createQuery(cq);
+		//The propertyName is verified by the EntityPropertyRegistry above so it is safe to be the part of the template
+		TypedQuery<T> query = createTemplateQuery(
+			JpqlTemplateCache.Key.of(entityClass.getName(), propertyName, "="), entityClass,
+			() -> "SELECT e FROM " + entityClass.getName() + " e WHERE e." + propertyName + " = :value")
+			.setParameter("value", parsedPropertyValue);
+		setFetchProfile(query, FetchProfile.SUMMARY);
 		List<T> resultList = query.getResultList();
 		log.debug("The result by property={} with value={} is found? = {}", propertyName, parsedPropertyValue, resultList != null);
 		return (resultList != null && !resultList.isEmpty()) ? Optional.of(resultList) : Optional.empty();
@@ -310,7 +599,43 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		if (entity == null) {
 			throw new IllegalArgumentException("Entity cannot be null!");
 		}
-		//Set Trackable.createdBy(Employee employee)
+		setCreatedBy(entity);
+		entityManager.persist(entity);
+		log.info("{} has been persisted.", entity.getClass().getSimpleName());
+		return Optional.ofNullable(entityManager.find(entityClass, ((WorkshopEntity) entity).getIdentifier()));
+	}
+	
+	/**
+	 * The import variant of {@link #persistEntities(Collection)}.
+	 * All the given new Entities are persisted without finding their managed copies afterwards, then flushed at once
+	 * (so the inserts are sent within JDBC batches of
+	 * 'spring.jpa.properties.hibernate.jdbc.batch_size' with the identifiers preallocated by the pooled sequences)
+	 * and the persistence context is cleared.
+	 *
+	 * @param batch New Entities. Its size should not exceed {@link #batchSize}.
+	 * @throws IllegalArgumentException     If the given Collection is null or contains null.
+	 * @throws EntityExistsException        Throws by the EntityManager itself if such an Entity exists.
+	 * @throws TransactionRequiredException This method has to be performed within a Transaction.
+	 * @throws PersistenceException         If the flush fails.
+	 */
+	public void persistBatch(Collection<T> batch)
+		throws IllegalArgumentException, EntityExistsException, TransactionRequiredException, PersistenceException {
+		if (batch == null || batch.contains(null)) {
+			throw new IllegalArgumentException("Entities batch cannot be null or contain null!");
+		}
+		batch.forEach(entity -> {
+			setCreatedBy(entity);
+			entityManager.persist(entity);
+		});
+		entityManager.flush();
+		entityManager.clear();
+		log.debug("The batch of {} {}s has been persisted", batch.size(), entityClass.getSimpleName());
+	}
+	
+	/**
+	 * Sets Trackable.createdBy(Employee employee) if the Entity is persisted on behalf of an Employee.
+	 */
+	private void setCreatedBy(T entity) {
 		if (entity instanceof WorkshopAudibleEntityAbstract) {
 			Authentication currentAuthentication = getCurrentAuthentication();
 			if ("Employee".equals(currentAuthentication.getPrincipal().getClass().getSimpleName())) {
@@ -318,9 +643,6 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 				log.debug("{}.createdBy set to {}", entityClass.getSimpleName(), currentAuthentication.getName());
 			}
 		}
-		entityManager.persist(entity);
-		log.info("{} has been persisted.", entity.getClass().getSimpleName());
-		return Optional.ofNullable(entityManager.find(entityClass, ((WorkshopEntity) entity).getIdentifier()));
 	}
 	
 	/**
@@ -390,15 +712,25 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 	
 	/**
 	 * Flush all the changed properties of the detached Entity to the DataBase and returns a managed one.
+	 * <p>
+	 * The detached Entity with its {@link WorkshopEntity#getVersion()} is merged only if it is still the current
+	 * version, otherwise {@link javax.persistence.OptimisticLockException} is thrown on the flush. The detached
+	 * Entity without the version is rejected, as it would be merged over any concurrent changes (or even inserted as
+	 * a new one by Hibernate).
 	 *
 	 * @param entity Entity to be merge with existing one
 	 * @return A managed copy of the Optional<Entity> or Optional.empty() if the given entity is the removed one.
-	 * @throws IllegalArgumentException If Entity is null or if instance is a removed entity
+	 * @throws IllegalArgumentException If Entity is null, the detached Entity doesn't have the version or if instance
+	 *                                  is a removed entity
 	 */
 	public Optional<T> mergeEntity(T entity) throws IllegalArgumentException {
 		if (entity == null) {
 			throw new IllegalArgumentException("Entity cannot be null!");
 		}
+		if (!isVersioned(entity)) {
+			throw new IllegalArgumentException("The detached " + entityClass.getSimpleName() + ".identifier=" +
+				entity.getIdentifier() + " cannot be merged without the version!");
+		}
 //		Set 'modifiedBy' field if an Entity instance of Trackable and the SecurityContext contains an Employee who is merging the changes
 		if (entity instanceof WorkshopAudibleEntityAbstract && getCurrentAuthentication() != null) {
 			Authentication authentication = getCurrentAuthentication();
@@ -451,7 +783,7 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		if (entity == null || entity.getIdentifier() == null) {
 			throw new IllegalArgumentException("Entity or its ID cannot be null!");
 		}
-		if (isExist(entity.getIdentifier()) && !entityManager.contains(entity)) {
+		if (!entityManager.contains(entity) && isExist(entity.getIdentifier())) {
 			entity = mergeEntity(entity).orElseThrow(() ->
 				new EntityNotFoundException("The given Entity cannot be merged before removing!"));
 		}
@@ -469,7 +801,92 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 	}
 	
 	/**
-	 * Id the given ID is introduced as an WorkshopEntity in the DataBase
+	 * Bulk 'DELETE FROM Entity WHERE identifier IN (:ids)' performed by chunks of {@link #IDS_CHUNK_SIZE}
+	 * so thousands of WorkshopEntities are removed by a few statements instead of 'SELECT' + 'DELETE' for each one.
+	 * <p>
+	 * Bulk statements bypass the persistence context so:
+	 * 1) No JPA cascades, 'orphanRemoval' or entity callbacks are applied (except the owned ManyToMany join tables
+	 * rows which Hibernate deletes itself). The dependent WorkshopEntities have to be removed beforehand otherwise the
+	 * DataBase constraints will throw PersistenceException.
+	 * 2) All the pending changes are flushed before and the persistence context is cleared afterwards (as the removed
+	 * WorkshopEntities may be still managed in it). The second-level cache entries of the removed ones are evicted.
+	 *
+	 * @param ids The identifiers of the {@link #entityClass} to be removed. The non-existing ones are ignored.
+	 * @return The amount of removed WorkshopEntities.
+	 * @throws IllegalArgumentException     If the given Collection is null or contains null.
+	 * @throws TransactionRequiredException This method has to be performed within a Transaction.
+	 */
+	public int removeAllByIds(Collection<Long> ids) throws IllegalArgumentException, TransactionRequiredException {
+		verifyIds(ids);
+		entityManager.flush();
+		
+		int removedCount = 0;
+		for (List<Long> idsChunk : getIdsChunks(ids)) {
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaDelete<T> cd = cb.createCriteriaDelete(entityClass);
+			Root<T> root = cd.from(entityClass);
+			cd.where(root.get("identifier").in(idsChunk));
+			removedCount += entityManager.createQuery(cd).executeUpdate();
+		}
+		evictFromCaches(ids);
+		log.debug("{} {}s of {} given identifiers have been removed", removedCount, entityClass.getSimpleName(),
+			ids.size());
+		return removedCount;
+	}
+	
+	/**
+	 * Bulk 'UPDATE Entity SET property = :value WHERE identifier IN (:ids)' performed by chunks of
+	 * {@link #IDS_CHUNK_SIZE}. If the {@link #entityClass} is {@link WorkshopAudibleEntityAbstract} its 'modified'
+	 * property is set to now as the {@link javax.persistence.PreUpdate} callbacks are not invoked.
+	 * See {@link #removeAllByIds(Collection)} for the persistence context and the caches consequences.
+	 *
+	 * @param ids           The identifiers of the {@link #entityClass} to be updated. The non-existing ones are ignored.
+	 * @param propertyName  Any single-valued basic property (see {@link EntityProperty#isFilterable()}) except the
+	 *                      'identifier'.
+	 * @param propertyValue String representation of the new value to be parsed into the property type (the same
+	 *                      formats as for {@link #findByProperty(String, String)}) or null to set NULL.
+	 * @return The amount of updated WorkshopEntities.
+	 * @throws IllegalArgumentException     If the given Collection is null or contains null, the {@link #entityClass}
+	 *                                      doesn't have such a property or it cannot be updated, or the value cannot
+	 *                                      be parsed.
+	 * @throws TransactionRequiredException This method has to be performed within a Transaction.
+	 */
+	public int updatePropertyForIds(Collection<Long> ids, String propertyName, @Nullable String propertyValue)
+		throws IllegalArgumentException, TransactionRequiredException {
+		verifyIds(ids);
+		EntityProperty property = findPropertyOfThisEntityClass(propertyName);
+		if (!property.isFilterable() || "identifier".equals(propertyName)) {
+			throw new IllegalArgumentException(
+				entityClass.getSimpleName() + "." + propertyName + " property cannot be updated in bulk!");
+		}
+		Object parsedValue = propertyValue == null ? null : parsePropertyValue(property, propertyValue);
+		boolean isAudible = WorkshopAudibleEntityAbstract.class.isAssignableFrom(entityClass) &&
+			!"modified".equals(propertyName);
+		ZonedDateTime modified = ZonedDateTime.now().withZoneSameInstant(ZoneId.of("UTC"));
+		entityManager.flush();
+		
+		int updatedCount = 0;
+		for (List<Long> idsChunk : getIdsChunks(ids)) {
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaUpdate<T> cu = cb.createCriteriaUpdate(entityClass);
+			Root<T> root = cu.from(entityClass);
+			cu.set(root.get(propertyName), parsedValue);
+			if (isAudible) {
+				cu.set(root.get("modified"), modified);
+			}
+			cu.where(root.get("identifier").in(idsChunk));
+			updatedCount += entityManager.createQuery(cu).executeUpdate();
+		}
+		evictFromCaches(ids);
+		log.debug("{}.{} has been updated for {} of {} given identifiers", entityClass.getSimpleName(), propertyName,
+			updatedCount, ids.size());
+		return updatedCount;
+	}
+	
+	/**
+	 * Id the given ID is introduced as an WorkshopEntity in the DataBase.
+	 * Only 'SELECT 1 ... LIMIT 1' is performed by the primary key index, without loading the WorkshopEntity and
+	 * without the exceptions on misses.
 	 *
 	 * @param id WorkshopEntity identifier
 	 * @return true of false
@@ -479,36 +896,132 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		if (id <= 0) {
 			throw new IllegalArgumentException("ID=" + id + " cannot be zero or below!");
 		}
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
-		Root<T> root = cq.from(entityClass);
-		Predicate idPredicate = cb.equal(root.get("identifier"), id);
-		cq.select(root.get("identifier")).where(idPredicate);
-		TypedQuery<Long> queryById = entityManager.createQuery(cq);
-		
-		Long idFound = null;
-		try {
-			idFound = queryById.getSingleResult();
-			log.debug(entityClass.getSimpleName() + ".identifier={} is found.", id);
-			return true;
-		} catch (NoResultException nre) {
-			log.debug("Entity.identifier={} is not found!", id);
+		boolean isExist = isAnyExist("identifier", id);
+		log.debug("{}.identifier={} is found? = {}", entityClass.getSimpleName(), id, isExist);
+		return isExist;
+	}
+	
+	/**
+	 * The existence check by a property value (e.g. if such an email is already registered) without loading the
+	 * WorkshopEntities and without the exceptions on misses.
+	 * If the {@link UniquePropertyFilters} has the ready Bloom filter for the property, the definite misses are
+	 * answered without the DataBase.
+	 *
+	 * @param propertyName  The filterable property of the {@link #entityClass}.
+	 * @param propertyValue The value to be parsed into the property type.
+	 * @return True if at least one WorkshopEntity with such a value exists.
+	 * @throws IllegalArgumentException If the name or value are null or empty, or the {@link #entityClass} doesn't
+	 *                                  have such a filterable property, or the value cannot be parsed.
+	 * @throws PersistenceException     In case of DataBase problems.
+	 */
+	public boolean existsByProperty(String propertyName, String propertyValue)
+		throws IllegalArgumentException, PersistenceException {
+		if (propertyValue == null || propertyName == null || propertyName.isEmpty() || propertyValue.isEmpty()) {
+			throw new IllegalArgumentException("Name or value is null or empty!");
+		}
+		EntityProperty property = findPropertyOfThisEntityClass(propertyName);
+		if (!property.isFilterable()) {
+			throw new IllegalArgumentException(
+				entityClass.getSimpleName() + "." + propertyName + " property cannot be used for the search!");
+		}
+		Optional<UniquePropertyBloomFilter> bloomFilter = UniquePropertyFilters.of(entityClass, propertyName);
+		if (bloomFilter.isPresent() && !bloomFilter.get().mightContain(propertyValue)) {
+			log.debug("{}.{}={} is definitely absent according to its Bloom filter",
+				entityClass.getSimpleName(), propertyName, propertyValue);
 			return false;
 		}
+		boolean isExist = isAnyExist(propertyName, parsePropertyValue(property, propertyValue));
+		log.debug("{}.{}={} is found? = {}", entityClass.getSimpleName(), propertyName, propertyValue, isExist);
+		return isExist;
+	}
+	
+	/**
+	 * @param propertyName The verified property name.
+	 * @param value        The value of the property type.
+	 */
+	private boolean isAnyExist(String propertyName, Object value) {
+		return !createTemplateQuery(
+			JpqlTemplateCache.Key.of(entityClass.getName(), propertyName, "EXISTS"), Integer.class,
+			() -> "SELECT 1 FROM " + entityClass.getName() + " e WHERE e." + propertyName + " = :value")
+			.setParameter("value", value)
+			.setMaxResults(1)
+			.getResultList()
+			.isEmpty();
+	}
+	
+	/**
+	 * @return False if the given Entity is a detached copy without the {@link WorkshopEntity#getVersion()}, so it
+	 * cannot be merged.
+	 */
+	public boolean isVersioned(T entity) {
+		return entity.getVersion() != null || entity.getIdentifier() == null || entityManager.contains(entity);
+	}
+	
+	/**
+	 * @return The current {@link WorkshopEntity#getVersion()} or Optional.empty() if there is no such a WorkshopEntity.
+	 */
+	public Optional<Long> findVersion(Long id) {
+		List<Long> versions = createTemplateQuery(
+			JpqlTemplateCache.Key.of(entityClass.getName(), null, "VERSION"), Long.class,
+			() -> "SELECT e.version FROM " + entityClass.getName() + " e WHERE e.identifier = :id")
+			.setParameter("id", id)
+			.getResultList();
+		return versions.isEmpty() ? Optional.empty() : Optional.ofNullable(versions.get(0));
 	}
 	
 	/**
 	 * @return The whole amount of {@link #entityClass} available in DataBase.
 	 */
 	public long countAllEntities() {
+		Long count = createTemplateQuery(
+			JpqlTemplateCache.Key.of(entityClass.getName(), null, "COUNT"), Long.class,
+			() -> "SELECT COUNT(e.identifier) FROM " + entityClass.getName() + " e")
+			.getSingleResult();
+		log.debug("All the counted {} ={}", entityClass.getSimpleName(), count);
+		return count;
+	}
+	
+	/**
+	 * @param filter @Nullable. The filter from {@link #parseFilter(String)}.
+	 * @return The amount of {@link #entityClass} matching the filter or all of them if the filter is null.
+	 */
+	public long countAllEntities(@Nullable EntityFilter filter) {
+		if (filter == null) {
+			return countAllEntities();
+		}
 		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
-		cq.select(cb.count(cq.from(entityClass)));
+		Root<T> root = cq.from(entityClass);
+		cq.select(cb.count(root)).where(filter.toPredicate(cb, root));
 		Long count = entityManager.createQuery(cq).getSingleResult();
-		log.debug("All the counted {} ={}", entityClass.getSimpleName(), count);
+		log.debug("The counted {}s by filter={} ={}", entityClass.getSimpleName(), filter, count);
 		return count;
 	}
 	
+	/**
+	 * Parses the filter expression against the {@link #propertyRegistry} of the {@link #entityClass}.
+	 * Besides the indexed properties only the {@link #FILTER_WHITELIST} ones are allowed.
+	 *
+	 * @param expression The filter expression, e.g. 'deadline<2026-12-01;appointedTo.identifier==42;price>=100'
+	 * @return The parsed filter to be passed into the paged finders and counters.
+	 * @throws IllegalArgumentException If the expression is malformed or contains not allowed properties.
+	 * @see EntityFilter
+	 */
+	public EntityFilter parseFilter(String expression) throws IllegalArgumentException {
+		return EntityFilter.parse(expression, propertyRegistry, this::isWhitelistedForFilter, this::parsePropertyValue);
+	}
+	
+	private boolean isWhitelistedForFilter(String propertyName) {
+		if (FILTER_WHITELIST == null) {
+			return false;
+		}
+		String entityProperty = entityClass.getSimpleName() + "." + propertyName;
+		String anyEntityProperty = "*." + propertyName;
+		return Arrays.stream(FILTER_WHITELIST)
+			.map(String::trim)
+			.anyMatch(whitelisted -> whitelisted.equals(entityProperty) || whitelisted.equals(anyEntityProperty));
+	}
+	
 	private Authentication getCurrentAuthentication() throws AuthenticationCredentialsNotFoundException {
 		//Authentication.getPrincipal returns either Employee or User object
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -519,36 +1032,56 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		return authentication;
 	}
 	
-	private Field findPropertyOfThisEntityClass(String fieldName) throws IllegalArgumentException {
-		//Try to find such a field in this class...
-		List<Field> allFields = new ArrayList<>(Arrays.asList(entityClass.getDeclaredFields()));
-		// ...and in its all the superclasses
-		Class superClass = entityClass.getSuperclass();
-		while (superClass != null) {
-			allFields.addAll(Arrays.asList(superClass.getDeclaredFields()));
-			superClass = superClass.getSuperclass();
+	/**
+	 * The property is obtained from the {@link EntityPropertyRegistry} built once for the {@link #entityClass}
+	 * including all its mapped superclasses.
+	 */
+	private EntityProperty findPropertyOfThisEntityClass(String propertyName) throws IllegalArgumentException {
+		return propertyRegistry.getProperty(propertyName).orElseThrow(() -> new IllegalArgumentException(
+			entityClass.getSimpleName() + " doesn't have such a '" + propertyName + "' property!"));
+	}
+	
+	private void verifyIds(Collection<Long> ids) throws IllegalArgumentException {
+		if (ids == null || ids.contains(null)) {
+			throw new IllegalArgumentException("Identifiers collection cannot be null or contain null!");
 		}
-		
-		Optional<Field> fieldFound = allFields.stream().filter(field -> fieldName.equals(field.getName())).findFirst();
-		
-		log.debug("Is the property(field)={} presented in {} and its superclasses? = {}",
-			fieldName, entityClass.getSimpleName(), fieldFound.isPresent());
-		
-		return fieldFound.orElseThrow(() -> new IllegalArgumentException(
-			entityClass.getSimpleName() + " doesn't have such a '" + fieldName + "' property!"));
-		
 	}
 	
-	private Temporal parseTemporal(Field temporalClass, String temporalValue) {
+	/**
+	 * Some DataBases restrict the amount of 'IN' list values as well as the bound parameters within a statement.
+	 */
+	List<List<Long>> getIdsChunks(Collection<Long> ids) {
+		List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+		List<List<Long>> chunks = new ArrayList<>(distinctIds.size() / IDS_CHUNK_SIZE + 1);
+		for (int from = 0; from < distinctIds.size(); from += IDS_CHUNK_SIZE) {
+			chunks.add(distinctIds.subList(from, Math.min(from + IDS_CHUNK_SIZE, distinctIds.size())));
+		}
+		return chunks;
+	}
+	
+	/**
+	 * After the bulk statements the persistence context and the second-level cache may contain stale copies.
+	 */
+	private void evictFromCaches(Collection<Long> ids) {
+		entityManager.clear();
+		Cache cache = entityManager.getEntityManagerFactory().getCache();
+		ids.forEach(id -> cache.evict(entityClass, id));
+	}
+	
+	private Temporal parseTemporal(Class<?> temporalClass, String temporalValue) {
 		Temporal temporalParsed;
 		try {
-			if (ZonedDateTime.class.isAssignableFrom(temporalClass.getType())) {
+			if (ZonedDateTime.class.isAssignableFrom(temporalClass) && temporalValue.length() == 10) {
+				//The date only (yyyy-MM-dd) means the start of the day in UTC as all the ZonedDateTimes are kept in
+				temporalParsed = LocalDate.parse(temporalValue).atStartOfDay(ZoneOffset.UTC);
+				log.debug("{} parsed as the start of the day ZonedDateTime", temporalValue);
+			} else if (ZonedDateTime.class.isAssignableFrom(temporalClass)) {
 				temporalParsed = ZonedDateTime.parse(temporalValue);
 				log.debug("{} parsed as ZonedDateTime", temporalValue);
-			} else if (LocalDate.class.isAssignableFrom(temporalClass.getType())) {
+			} else if (LocalDate.class.isAssignableFrom(temporalClass)) {
 				temporalParsed = LocalDate.parse(temporalValue);
 				log.debug("{} parsed as LocalDate", temporalValue);
-			} else if (LocalDateTime.class.isAssignableFrom(temporalClass.getType())) {
+			} else if (LocalDateTime.class.isAssignableFrom(temporalClass)) {
 				temporalParsed = LocalDateTime.parse(temporalValue);
 				log.debug("{} parsed as LocalDateTime", temporalValue);
 			} else {
@@ -564,48 +1097,338 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 		}
 		return temporalParsed;
 	}
+
+	/**
+	 * @param property      A property of the {@link #entityClass} (e.g. 'orderBy' of a {@link KeysetCursor}).
+	 * @param propertyValue String representation of the property value.
+	 * @return The value parsed into the property type to be used within a CriteriaQuery.
+	 * @throws IllegalArgumentException If the value cannot be parsed or the property type isn't supported.
+	 */
+	private Object parsePropertyValue(EntityProperty property, String propertyValue) throws IllegalArgumentException {
+		Class<?> type = property.getType();
+		try {
+			if (property.isTemporal()) {
+				return parseTemporal(type, propertyValue);
+			} else if (String.class.equals(type)) {
+				return propertyValue;
+			} else if (Long.class.equals(type) || long.class.equals(type)) {
+				return Long.valueOf(propertyValue);
+			} else if (Integer.class.equals(type) || int.class.equals(type)) {
+				return Integer.valueOf(propertyValue);
+			} else if (Short.class.equals(type) || short.class.equals(type)) {
+				return Short.valueOf(propertyValue);
+			} else if (BigDecimal.class.equals(type)) {
+				return new BigDecimal(propertyValue);
+			} else if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+				return Boolean.valueOf(propertyValue);
+			}
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Value=" + propertyValue + " cannot be parsed as " +
+				type.getSimpleName(), e);
+		}
+		throw new IllegalArgumentException(entityClass.getSimpleName() + "." + property.getName() +
+			" of type " + type.getSimpleName() + " cannot be parsed from String!");
+	}
+
+	/**
+	 * The shared ordering and paging for all the paged finders of this class and its subclasses.
+	 * The ordering is performed by the DataBase with 'ORDER BY orderBy, identifier' where the 'identifier' is the
+	 * tie-breaker for the equal 'orderBy' values. So the pages are stable (an Entity cannot appear on two pages or
+	 * disappear between them) and the index-ordered scans can be used.
+	 * If the {@link #entityClass} Root is selected, its {@link FetchProfile#SUMMARY} graph is fetched within the
+	 * same statement.
+	 *
+	 * @param cq          A CriteriaQuery with all the 'where' predicates and 'select' already set.
+	 * @param orderedFrom The Root or Join of the selected Entities which properties the result will be ordered by.
+	 * @param pageSize    The verified page size. If 0 the {@link #PAGE_SIZE_DEFAULT} will be used.
+	 * @param pageNum     The verified zero-based page number.
+	 * @param orderBy     The property of the 'orderedFrom' to order by.
+	 * @param order       Ascending or Descending.
+	 * @param <E>         The type of the selected Entities.
+	 * @return Optional.of(List) with the ordered page or Optional.empty() if nothing found.
+	 * @throws PersistenceException To be caught by the callers if they need to wrap it.
+	 */
+	protected <E> Optional<List<E>> getPagedResultList(
+		CriteriaQuery<E> cq, From<?, E> orderedFrom, int pageSize, int pageNum, String orderBy, Sort.Direction order)
+		throws PersistenceException {
+		
+		pageSize = pageSize == 0 ? PAGE_SIZE_DEFAULT : pageSize;
+		cq.orderBy(getOrderWithTieBreaker(orderedFrom, orderBy, order));
+		
+		TypedQuery<E> query = entityManager.createQuery(cq);
+		if (orderedFrom instanceof Root && entityClass.equals(orderedFrom.getJavaType())) {
+			setFetchProfile(query, FetchProfile.SUMMARY);
+		}
+		query.setFirstResult(pageNum * pageSize); //Offset (page number)
+		query.setMaxResults(pageSize); //Limit (page size)
+		
+		List<E> resultList = query.getResultList();
+		return resultList != null && !resultList.isEmpty() ? Optional.of(resultList) : Optional.empty();
+	}
+	
+	/**
+	 * The shared paged finder of the {@link #entityClass} Entities by the identifier of their single-valued
+	 * association (e.g. all the Tasks by 'order' or all the Orders by 'createdBy').
+	 * The query is built from the cached template and fetched with the {@link FetchProfile#SUMMARY} graph.
+	 *
+	 * @param association   The name of the ManyToOne or OneToOne property of the {@link #entityClass}.
+	 * @param associationId The identifier of the associated WorkshopEntity.
+	 * @param pageSize      The verified page size.
+	 * @param pageNum       The verified zero-based page number.
+	 * @param orderBy       The verified property to order by.
+	 * @param order         Ascending or Descending.
+	 * @return Optional.of(List) with the ordered page or Optional.empty() if nothing found.
+	 * @throws PersistenceException To be caught by the callers if they need to wrap it.
+	 */
+	protected Optional<List<T>> findAllEntitiesByAssociation(
+		String association, Long associationId, int pageSize, int pageNum, String orderBy, Sort.Direction order)
+		throws PersistenceException {
+		TypedQuery<T> query = createTemplateQuery(
+			JpqlTemplateCache.Key.of(entityClass.getName(), association + ".identifier", "=", orderBy, order),
+			entityClass, () -> getAssociationTemplate(association, orderBy, order))
+			.setParameter("associationId", associationId);
+		setFetchProfile(query, FetchProfile.SUMMARY);
+		return getPagedResultList(query, pageSize, pageNum);
+	}
+	
+	/**
+	 * The count of {@link #findAllEntitiesByAssociation(String, Long, int, int, String, Sort.Direction)}.
+	 *
+	 * @param association   The name of the ManyToOne or OneToOne property of the {@link #entityClass}.
+	 * @param associationId The identifier of the associated WorkshopEntity.
+	 * @throws IllegalArgumentException If the associationId is null.
+	 */
+	protected long countAllEntitiesByAssociation(String association, Long associationId)
+		throws IllegalArgumentException {
+		verifyIdForNull(associationId);
+		log.debug("Received {}.{}.ID={} to count by", entityClass.getSimpleName(), association, associationId);
+		return createTemplateQuery(
+			JpqlTemplateCache.Key.of(entityClass.getName(), association + ".identifier", "COUNT"), Long.class,
+			() -> getAssociationCountTemplate(association))
+			.setParameter("associationId", associationId)
+			.getSingleResult();
+	}
 	
 	/**
-	 * Sorts the given List of WorkshopEntities by reference (that is just change the given List order without a returning a new one).
+	 * The shared paged finder of the {@link #entityClass} Entities which collection contains the given member
+	 * (e.g. all the Users with the given ExternalAuthority). The explicit Join is used to order by the properties of
+	 * the {@link #entityClass}.
 	 *
-	 * @param resultListToSort The List of Entities to be sorted.
-	 * @param orderBy          @Nullable. Property name to be sorted by. If null, {@link #DEFAULT_ORDER_BY} will be used.
-	 * @param order            @Nullable. Ascending or Descending. If null, {@link #DEFAULT_ORDER} will be used.
+	 * @param collection The name of the OneToMany or ManyToMany property of the {@link #entityClass}.
+	 * @param memberId   The identifier of the WorkshopEntity within the collection.
+	 * @param pageSize   The verified page size.
+	 * @param pageNum    The verified zero-based page number.
+	 * @param orderBy    The verified property to order by.
+	 * @param order      Ascending or Descending.
+	 * @return Optional.of(List) with the ordered page or Optional.empty() if nothing found.
+	 * @throws PersistenceException To be caught by the callers if they need to wrap it.
+	 */
+	protected Optional<List<T>> findAllEntitiesByCollectionMember(
+		String collection, Long memberId, int pageSize, int pageNum, String orderBy, Sort.Direction order)
+		throws PersistenceException {
+		TypedQuery<T> query = createTemplateQuery(
+			JpqlTemplateCache.Key.of(entityClass.getName(), collection + ".identifier", "JOIN", orderBy, order),
+			entityClass, () -> getCollectionMemberTemplate(collection, orderBy, order))
+			.setParameter("memberId", memberId);
+		setFetchProfile(query, FetchProfile.SUMMARY);
+		return getPagedResultList(query, pageSize, pageNum);
+	}
+	
+	/**
+	 * The count of {@link #findAllEntitiesByCollectionMember(String, Long, int, int, String, Sort.Direction)}.
+	 *
+	 * @throws IllegalArgumentException If the memberId is null.
+	 */
+	protected long countAllEntitiesByCollectionMember(String collection, Long memberId)
+		throws IllegalArgumentException {
+		verifyIdForNull(memberId);
+		log.debug("Received {}.{}.ID={} to count by", entityClass.getSimpleName(), collection, memberId);
+		return createTemplateQuery(
+			JpqlTemplateCache.Key.of(entityClass.getName(), collection + ".identifier", "JOIN COUNT"), Long.class,
+			() -> getCollectionMemberCountTemplate(collection))
+			.setParameter("memberId", memberId)
+			.getSingleResult();
+	}
+	
+	/**
+	 * The single-valued associations this DAO finds and counts the {@link #entityClass} by with
+	 * {@link #findAllEntitiesByAssociation(String, Long, int, int, String, Sort.Direction)} and
+	 * {@link #countAllEntitiesByAssociation(String, Long)}. Their foreign keys have to be indexed.
 	 */
-	void sortEntitiesResultList(List<T> resultListToSort, @Nullable String orderBy, @Nullable Sort.Direction order) {
-		if (orderBy == null | order == null) {
-			orderBy = DEFAULT_ORDER_BY;
-			order = Sort.Direction.valueOf(DEFAULT_ORDER);
+	protected Set<String> getFinderAssociations() {
+		return Collections.emptySet();
+	}
+	
+	/**
+	 * The collections this DAO finds and counts the {@link #entityClass} by with
+	 * {@link #findAllEntitiesByCollectionMember(String, Long, int, int, String, Sort.Direction)} and
+	 * {@link #countAllEntitiesByCollectionMember(String, Long)}. Their join tables have to be indexed by the member
+	 * column.
+	 */
+	protected Set<String> getFinderCollections() {
+		return Collections.emptySet();
+	}
+	
+	/**
+	 * Builds the templates of all the {@link #getFinderAssociations()} and {@link #getFinderCollections()} finders
+	 * (with the default ordering) beforehand so the {@link IndexAdvisor} can explain them at the startup.
+	 */
+	public void registerFinderTemplates() {
+		Sort.Direction order = Sort.Direction.fromString(DEFAULT_ORDER);
+		for (String association : getFinderAssociations()) {
+			jpqlTemplateCache.getTemplate(
+				JpqlTemplateCache.Key.of(entityClass.getName(), association + ".identifier", "=", DEFAULT_ORDER_BY, order),
+				() -> getAssociationTemplate(association, DEFAULT_ORDER_BY, order));
+			jpqlTemplateCache.getTemplate(
+				JpqlTemplateCache.Key.of(entityClass.getName(), association + ".identifier", "COUNT"),
+				() -> getAssociationCountTemplate(association));
 		}
-		if (order.isDescending()) { //Descending order
-			String finalOrderBy = orderBy;
-			resultListToSort.sort(Comparator.comparing(e -> getComparablePropertyValue(finalOrderBy, e).get()).reversed());
-		} else { //Ascending order
-			String finalOrderBy1 = orderBy;
-			resultListToSort.sort(Comparator.comparing(e -> getComparablePropertyValue(finalOrderBy1, e).get()));
+		for (String collection : getFinderCollections()) {
+			jpqlTemplateCache.getTemplate(
+				JpqlTemplateCache.Key.of(entityClass.getName(), collection + ".identifier", "JOIN", DEFAULT_ORDER_BY, order),
+				() -> getCollectionMemberTemplate(collection, DEFAULT_ORDER_BY, order));
+			jpqlTemplateCache.getTemplate(
+				JpqlTemplateCache.Key.of(entityClass.getName(), collection + ".identifier", "JOIN COUNT"),
+				() -> getCollectionMemberCountTemplate(collection));
 		}
 	}
 	
-	Optional<Comparable> getComparablePropertyValue(String propertyName, Object objectToGetValueFrom) {
+	private String getAssociationTemplate(String association, String orderBy, Sort.Direction order) {
+		return "SELECT e FROM " + entityClass.getName() + " e WHERE e." + association + ".identifier = :associationId" +
+			getOrderByClause("e", orderBy, order);
+	}
+	
+	private String getAssociationCountTemplate(String association) {
+		return "SELECT COUNT(e.identifier) FROM " + entityClass.getName() + " e WHERE e." + association +
+			".identifier = :associationId";
+	}
+	
+	private String getCollectionMemberTemplate(String collection, String orderBy, Sort.Direction order) {
+		return "SELECT e FROM " + entityClass.getName() + " e JOIN e." + collection + " m WHERE m.identifier = :memberId" +
+			getOrderByClause("e", orderBy, order);
+	}
+	
+	private String getCollectionMemberCountTemplate(String collection) {
+		return "SELECT COUNT(e.identifier) FROM " + entityClass.getName() + " e JOIN e." + collection +
+			" m WHERE m.identifier = :memberId";
+	}
+	
+	/**
+	 * The paging for the queries created from the {@link JpqlTemplateCache} templates which already contain
+	 * the 'ORDER BY' clause (see {@link #getOrderByClause(String, String, Sort.Direction)}).
+	 *
+	 * @param query    A TypedQuery with all the parameters and hints already set.
+	 * @param pageSize The verified page size. If 0 the {@link #PAGE_SIZE_DEFAULT} will be used.
+	 * @param pageNum  The verified zero-based page number.
+	 * @return Optional.of(List) with the ordered page or Optional.empty() if nothing found.
+	 * @throws PersistenceException To be caught by the callers if they need to wrap it.
+	 */
+	protected <E> Optional<List<E>> getPagedResultList(TypedQuery<E> query, int pageSize, int pageNum)
+		throws PersistenceException {
+		pageSize = pageSize == 0 ? PAGE_SIZE_DEFAULT : pageSize;
+		query.setFirstResult(pageNum * pageSize);
+		query.setMaxResults(pageSize);
 		
-		Class entityClazz = entityClass;
-		while (entityClazz != null) {
-			Field[] declaredFields = entityClazz.getDeclaredFields();
-			for (Field f : declaredFields) {
-				if (f.getName().equals(propertyName)) {
-					try {
-						f.setAccessible(true);
-//						return Optional.of((Comparable) f.get(objectToGetValueFrom));
-						return Optional.ofNullable((Comparable) f.get(objectToGetValueFrom));
-					} catch (IllegalAccessException e) {
-						log.error(e.getMessage(), e);
-						return Optional.empty();
-					}
-				}
-			}
-			entityClazz = entityClass.getSuperclass();
+		List<E> resultList = query.getResultList();
+		return resultList != null && !resultList.isEmpty() ? Optional.of(resultList) : Optional.empty();
+	}
+	
+	/**
+	 * Creates the query from the {@link #jpqlTemplateCache} template. The template is built only once for the
+	 * given Key so the Hibernate query plan cache is hit for all the subsequent calls.
+	 *
+	 * @param key             The unique description of the query.
+	 * @param resultClass     The type of the query result.
+	 * @param templateBuilder Builds the JPQL with the named parameters for the absent Key.
+	 * @return The TypedQuery to set the parameters to.
+	 */
+	protected <E> TypedQuery<E> createTemplateQuery(
+		JpqlTemplateCache.Key key, Class<E> resultClass, Supplier<String> templateBuilder) {
+		return jpqlTemplateCache.createQuery(
+			key, templateBuilder, template -> entityManager.createQuery(template, resultClass));
+	}
+	
+	/**
+	 * The JPQL analogue of {@link #getOrderWithTieBreaker(From, String, Sort.Direction)}.
+	 * The 'orderBy' has to be verified by {@link #verifyPageableValues(int, int, String, Sort.Direction)} first.
+	 *
+	 * @return ' ORDER BY alias.orderBy DIRECTION, alias.identifier DIRECTION'
+	 */
+	String getOrderByClause(String alias, String orderBy, Sort.Direction order) {
+		return " ORDER BY " + alias + "." + orderBy + " " + order.name() + ", " + alias + ".identifier " + order.name();
+	}
+	
+	/**
+	 * The summary of the {@link #entityClass} for the paged lists. Declared once per WorkshopEntity type by overriding
+	 * this method in its DAO.
+	 * By default all the basic single-valued properties (except the large objects) and the references (as their
+	 * identifiers) are included.
+	 *
+	 * @return The names of the properties to be selected by the 'findAllSummaries' methods.
+	 */
+	protected Set<String> getSummaryPropertyNames() {
+		return propertyRegistry.getPropertyNames().stream()
+			.filter(propertyName -> {
+				EntityProperty property = propertyRegistry.getProperty(propertyName).get();
+				return property.isFilterable() || property.isReference();
+			})
+			.collect(Collectors.toCollection(HashSet::new));
+	}
+	
+	/**
+	 * The projection is built once on the first use as {@link #getSummaryPropertyNames()} can be overridden.
+	 */
+	private SummaryProjection<T> getSummaryProjection() {
+		if (summaryProjection == null) {
+			summaryProjection = new SummaryProjection<>(entityClass, getSummaryPropertyNames());
+		}
+		return summaryProjection;
+	}
+	
+	/**
+	 * The projections are neither read from nor put into the second-level cache.
+	 */
+	private void setCacheBypass(Query query) {
+		query.setHint("javax.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS);
+		query.setHint("javax.persistence.cache.storeMode", CacheStoreMode.BYPASS);
+	}
+	
+	/**
+	 * Sets the {@link FetchProfile#FETCH_GRAPH_HINT} with the {@link #entityClass} graph for the given profile.
+	 * If the {@link #entityClass} doesn't have such a graph the query is left as it is.
+	 */
+	protected void setFetchProfile(Query query, FetchProfile fetchProfile) {
+		getFetchGraph(fetchProfile).ifPresent(graph -> query.setHint(FetchProfile.FETCH_GRAPH_HINT, graph));
+	}
+	
+	/**
+	 * @return The hints for {@link EntityManager#find(Class, Object, Map)} with the {@link #entityClass} graph for
+	 * the given profile or the empty Map if the {@link #entityClass} doesn't have such a graph.
+	 */
+	protected Map<String, Object> getFetchProfileHints(FetchProfile fetchProfile) {
+		return getFetchGraph(fetchProfile)
+			.map(graph -> Collections.<String, Object>singletonMap(FetchProfile.FETCH_GRAPH_HINT, graph))
+			.orElse(Collections.emptyMap());
+	}
+	
+	private Optional<EntityGraph<? super T>> getFetchGraph(FetchProfile fetchProfile) {
+		String graphName = fetchProfile.getGraphName(entityClass);
+		return entityManager.getEntityGraphs(entityClass).stream()
+			.filter(graph -> graphName.equals(graph.getName()))
+			.findFirst();
+	}
+	
+	/**
+	 * @return 'ORDER BY orderBy, identifier' for the given Root or Join both in the same direction.
+	 */
+	List<javax.persistence.criteria.Order> getOrderWithTieBreaker(
+		From<?, ?> orderedFrom, String orderBy, Sort.Direction order) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		if (order.isDescending()) {
+			return Arrays.asList(cb.desc(orderedFrom.get(orderBy)), cb.desc(orderedFrom.get("identifier")));
+		} else {
+			return Arrays.asList(cb.asc(orderedFrom.get(orderBy)), cb.asc(orderedFrom.get("identifier")));
 		}
-		return Optional.empty();
 	}
 	
 	/**
@@ -616,6 +1439,7 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 	 * @throws IllegalArgumentException 1) If pageSize or pageNum are greater or less than their Min and Max values or < 0.
 	 *                                  2) If 'orderBy' is null or empty
 	 *                                  3) If 'order' is null
+	 *                                  4) If the {@link #entityClass} doesn't have such a sortable 'orderBy' property
 	 */
 	void verifyPageableValues(int pageSize, int pageNum, String orderBy, Sort.Direction order) throws IllegalArgumentException {
 		if (pageSize < 0 || pageNum < 0) {
@@ -629,6 +1453,9 @@ public abstract class WorkshopEntitiesDaoAbstract<T extends WorkshopEntity, K> i
 			throw new IllegalArgumentException("'orderBy' parameter cannot be null!");
 		} else if (orderBy.isEmpty()) {
 			throw new IllegalArgumentException("'orderBy' parameter cannot be empty!");
+		} else if (propertyRegistry != null && !propertyRegistry.isSortable(orderBy)) {
+			throw new IllegalArgumentException(
+				entityClass.getSimpleName() + " doesn't have such a '" + orderBy + "' property to be ordered by!");
 		}
 	}
 	
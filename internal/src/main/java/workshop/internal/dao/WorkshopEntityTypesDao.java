@@ -7,7 +7,6 @@ import workshop.internal.entities.AuthorityPermission;
 import workshop.internal.entities.WorkshopEntityType;
 
 import javax.persistence.PersistenceException;
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.*;
 import java.util.List;
 import java.util.Optional;
@@ -42,21 +41,21 @@ public class WorkshopEntityTypesDao extends WorkshopEntitiesDaoAbstract<Workshop
 		Predicate permissionIdEquals = cb.equal(innerJoinEntityTypePermission.get("identifier"), authorityPermissionId);
 		innerJoinEntityTypePermission.on(permissionIdEquals);
 		
-		if (order.isAscending()) {
-			cq.orderBy(cb.asc(entityTypeRoot.get(orderBy)));
-		} else {
-			cq.orderBy(cb.desc(entityTypeRoot.get(orderBy)));
-		}
-		TypedQuery<WorkshopEntityType> typedQuery = getEntityManager().createQuery(cq);
-		typedQuery.setMaxResults(pageSize);
-		typedQuery.setFirstResult(pageSize * pageNum);
-		
-		List<WorkshopEntityType> entityTypesByPermission = typedQuery.getResultList();
-		
-		if (entityTypesByPermission != null && !entityTypesByPermission.isEmpty()) {
-			return Optional.of(entityTypesByPermission);
-		} else {
-			return Optional.empty();
-		}
+		cq.select(entityTypeRoot);
+		
+		return getPagedResultList(cq, entityTypeRoot, pageSize, pageNum, orderBy, order);
+	}
+	
+	public long countEntityTypesByAuthorityPermission(Long authorityPermissionId) {
+		
+		verifyIdForNull(authorityPermissionId);
+		log.debug("Received AuthorityPermission.ID={} to count its WorkshopEntityTypes", authorityPermissionId);
+		
+		return getEntityManager().createQuery(
+			"SELECT COUNT (t.identifier) FROM workshop.internal.entities.WorkshopEntityType t " +
+				"JOIN t.authorityPermissions p WHERE p.identifier=:authorityPermissionId",
+			Long.class)
+			.setParameter("authorityPermissionId", authorityPermissionId)
+			.getSingleResult();
 	}
 }
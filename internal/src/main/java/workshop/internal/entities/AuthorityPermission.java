@@ -5,7 +5,10 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import lombok.*;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.http.HttpStatus;
+import workshop.applicationEvents.WorkshopEntitiesEventPublisher;
 import workshop.internal.entities.hibernateValidation.Persist;
 import workshop.internal.entities.hibernateValidation.Merge;
 import workshop.internal.entities.utils.PermissionType;
@@ -72,6 +75,7 @@ public class AuthorityPermission extends WorkshopAudibleEntityAbstract {
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
 	@ManyToMany(mappedBy = "authorityPermissions", fetch = FetchType.EAGER,
 				cascade = {CascadeType.MERGE, CascadeType.REFRESH})
+	@Fetch(FetchMode.SUBSELECT)
 	@EqualsAndHashCode.Include
 	private Set<@Valid WorkshopEntityType> workshopEntityTypes;
 	
@@ -95,4 +99,11 @@ public class AuthorityPermission extends WorkshopAudibleEntityAbstract {
 	public void preUpdate() {
 		prePersist();
 	}
+	
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	void publishPermissionsChangedEvent() {
+		WorkshopEntitiesEventPublisher.publishPermissionsChangedEvent(this);
+	}
 }
@@ -27,6 +27,15 @@ import java.util.Set;
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 @Cacheable
 @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "ClassifiersGroup.summary", attributeNodes = {
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy")}),
+	@NamedEntityGraph(name = "ClassifiersGroup.detail", attributeNodes = {
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy"),
+		@NamedAttributeNode("classifiers")})
+})
 @Entity
 @Table(name = "Classifiers_Groups", schema = "INTERNAL")
 public class ClassifiersGroup extends WorkshopAudibleEntityAbstract {
@@ -45,7 +54,7 @@ public class ClassifiersGroup extends WorkshopAudibleEntityAbstract {
 	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
 	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
-	@OneToMany(mappedBy = "classifiersGroup", orphanRemoval = false, fetch = FetchType.EAGER,
+	@OneToMany(mappedBy = "classifiersGroup", orphanRemoval = false, fetch = FetchType.LAZY,
 			   cascade = {CascadeType.MERGE, CascadeType.REFRESH})
 	private Set<@Valid Classifier> classifiers;
 }
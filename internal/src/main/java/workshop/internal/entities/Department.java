@@ -7,6 +7,7 @@ import workshop.internal.entities.hibernateValidation.Persist;
 import workshop.internal.entities.hibernateValidation.Merge;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
@@ -28,6 +29,10 @@ import java.util.*;
 @JsonIgnoreProperties(value = {"positions", "workshopEntityName"})
 @Cacheable
 @org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Department.summary"),
+	@NamedEntityGraph(name = "Department.detail", attributeNodes = @NamedAttributeNode("positions"))
+})
 @Entity
 @Table(name = "Departments", schema = "INTERNAL")
 public class Department extends WorkshopEntityAbstract {
@@ -38,13 +43,20 @@ public class Department extends WorkshopEntityAbstract {
 	@Id
 	@Column(name = "id")
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_sequence")
-	@SequenceGenerator(name = "departments_sequence", schema = "INTERNAL", initialValue = 300, allocationSize = 1)
+	@SequenceGenerator(name = "departments_sequence", schema = "INTERNAL", initialValue = 300, allocationSize = 50)
 	@NotNull(groups = {Merge.class, Default.class}, message = "{validation.notNull}")
 	@Positive(groups = {Merge.class, Default.class}, message = "{validation.positive}")
 	@Null(groups = {Persist.class}, message = "{validation.null}")
 	@EqualsAndHashCode.Include
 	private Long identifier;
 	
+	/**
+	 * The optimistic lock (see {@link WorkshopAudibleEntityAbstract#getVersion()}).
+	 */
+	@Version
+	@Column(nullable = false)
+	private Long version;
+	
 	@Column(unique = true, nullable = false)
 	@NotBlank(groups = {Default.class, Persist.class, Merge.class}, message = "{validation.notBlank}")
 	@EqualsAndHashCode.Include
@@ -57,8 +69,9 @@ public class Department extends WorkshopEntityAbstract {
 	
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
 	@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
-	@OneToMany(fetch = FetchType.EAGER, orphanRemoval = true, mappedBy = "department",
+	@OneToMany(fetch = FetchType.LAZY, orphanRemoval = true, mappedBy = "department",
 			   cascade = {CascadeType.REMOVE, CascadeType.MERGE, CascadeType.REFRESH})
+	@BatchSize(size = 100)
 	private Set<@Valid Position> positions;
 	
 	public Department(String name) {
@@ -81,5 +94,8 @@ public class Department extends WorkshopEntityAbstract {
 		if (created == null) {
 			created = ZonedDateTime.now();
 		}
+		if (version == null) {
+			version = 0L;
+		}
 	}
 }
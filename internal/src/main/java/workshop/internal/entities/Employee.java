@@ -3,8 +3,10 @@ package workshop.internal.entities;
 import com.fasterxml.jackson.annotation.*;
 import lombok.*;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import workshop.applicationEvents.WorkshopEntitiesEventPublisher;
 import workshop.internal.entities.hibernateValidation.Merge;
 import workshop.internal.entities.hibernateValidation.Persist;
+import workshop.internal.entities.utils.UniquePropertyFilters;
 
 import javax.persistence.*;
 import javax.validation.Valid;
@@ -29,13 +31,28 @@ import java.util.Set;
 	"appointedTasks", "ordersModifiedBy", "ordersCreatedBy", "tasksModifiedBy", "tasksCreatedBy", "workshopEntityName"})
 @Cacheable
 @org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Employee.summary", attributeNodes = {
+		@NamedAttributeNode("position"),
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy")}),
+	@NamedEntityGraph(name = "Employee.detail", attributeNodes = {
+		@NamedAttributeNode(value = "position", subgraph = "position"),
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy"),
+		@NamedAttributeNode("phones")},
+		subgraphs = @NamedSubgraph(name = "position", attributeNodes = @NamedAttributeNode("internalAuthorities")))
+})
 @Entity
-@Table(name = "Employees", schema = "INTERNAL")
+@Table(name = "Employees", schema = "INTERNAL", indexes = {
+	@Index(name = "employees_email_idx", columnList = "email"),
+	@Index(name = "employees_position_idx", columnList = "position_id")})
+@EntityListeners(UniquePropertyFilters.class)
 @AttributeOverrides({
 						@AttributeOverride(name = "finished", column = @Column(name = "gotFired")),
 						@AttributeOverride(name = "createdBy", column = @Column(name = "createdBy", nullable = true)),
 						@AttributeOverride(name = "created", column = @Column(name = "employed"))})
-public class Employee extends WorkshopAudibleEntityAbstract {
+public class Employee extends WorkshopAudibleEntityAbstract implements PhotoOwner {
 	
 	@Transient
 	private static final long serialVersionUID = WorkshopEntity.serialVersionUID;
@@ -93,19 +110,22 @@ public class Employee extends WorkshopAudibleEntityAbstract {
 	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
 	@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
-	@OneToMany(mappedBy = "employee", fetch = FetchType.EAGER, orphanRemoval = true,
+	@OneToMany(mappedBy = "employee", fetch = FetchType.LAZY, orphanRemoval = true,
 			   cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
 	private Set<@Valid Phone> phones;
 	
-	@JsonIgnore
-	@Lob
-	@Column(length = 5242880) //5Mb
-	@Size(max = 5242880, message = "{validation.photoSize}")
-	private byte[] photo;
+	/**
+	 * The {@link Photo#getHash()} of the photo kept in the
+	 * {@link workshop.internal.services.serviceUtils.PhotoFileStore}, so the photo content itself is never loaded
+	 * along with this entity.
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@Column(length = 64)
+	private String photoHash;
 	
 	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
-	@ManyToOne(optional = false, fetch = FetchType.EAGER, cascade = {CascadeType.MERGE, CascadeType.REFRESH})
+	@ManyToOne(optional = false, fetch = FetchType.LAZY, cascade = {CascadeType.MERGE, CascadeType.REFRESH})
 	@JoinColumn(name = "position_id", referencedColumnName = "id", nullable = false)
 	@NotNull(groups = {Default.class, Persist.class, Merge.class}, message = "{validation.notNull}")
 	@Valid
@@ -163,4 +183,10 @@ public class Employee extends WorkshopAudibleEntityAbstract {
 			this.phones = new HashSet<>(Arrays.asList(phones));
 		}
 	}
+	
+	@PostUpdate
+	@PostRemove
+	void publishAuthenticationsChangedEvent() {
+		WorkshopEntitiesEventPublisher.publishAuthenticationsChangedEvent(this);
+	}
 }
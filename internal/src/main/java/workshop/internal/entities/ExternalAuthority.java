@@ -7,6 +7,7 @@ import lombok.*;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.security.core.GrantedAuthority;
+import workshop.applicationEvents.WorkshopEntitiesEventPublisher;
 import workshop.internal.entities.hibernateValidation.Persist;
 import workshop.internal.entities.hibernateValidation.Merge;
 import workshop.internal.entities.utils.PermissionType;
@@ -73,4 +74,10 @@ public class ExternalAuthority extends WorkshopAudibleEntityAbstract implements
 	public String getAuthority() {
 		return name;
 	}
-}
\ No newline at end of file
+	
+	@PostUpdate
+	@PostRemove
+	void publishAuthenticationsChangedEvent() {
+		WorkshopEntitiesEventPublisher.publishAuthenticationsChangedEvent(this);
+	}
+}
@@ -5,8 +5,11 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import lombok.*;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.security.core.GrantedAuthority;
+import workshop.applicationEvents.WorkshopEntitiesEventPublisher;
 import workshop.internal.entities.hibernateValidation.Persist;
 import workshop.internal.entities.hibernateValidation.Merge;
 import workshop.internal.entities.utils.PermissionType;
@@ -46,6 +49,7 @@ public class InternalAuthority extends WorkshopAudibleEntityAbstract implements
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
 	@OneToMany(mappedBy = "internalAuthority", orphanRemoval = true, fetch = FetchType.EAGER,
 		  cascade = {CascadeType.MERGE, CascadeType.REFRESH, CascadeType.PERSIST, CascadeType.REMOVE})
+	@Fetch(FetchMode.SUBSELECT)
 	private Set<@Valid AuthorityPermission> authorityPermissions;
 	
 	@Column
@@ -77,4 +81,11 @@ public class InternalAuthority extends WorkshopAudibleEntityAbstract implements
 	public String getAuthority() {
 		return name;
 	}
+	
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	void publishPermissionsChangedEvent() {
+		WorkshopEntitiesEventPublisher.publishPermissionsChangedEvent(this);
+	}
 }
\ No newline at end of file
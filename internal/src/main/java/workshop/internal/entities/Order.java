@@ -30,8 +30,26 @@ import java.util.Set;
 @JsonIgnoreProperties(value = {"workshopEntityName"})
 @Cacheable
 @org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Order.summary", attributeNodes = {
+		@NamedAttributeNode("createdFor"),
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy")}),
+	@NamedEntityGraph(name = "Order.detail", attributeNodes = {
+		@NamedAttributeNode("createdFor"),
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy"),
+		@NamedAttributeNode(value = "tasks", subgraph = "tasks")},
+		subgraphs = @NamedSubgraph(name = "tasks", attributeNodes = {
+			@NamedAttributeNode("appointedTo"),
+			@NamedAttributeNode("classifiers")}))
+})
 @Entity
-@Table(name = "Orders", schema = "INTERNAL")
+@Table(name = "Orders", schema = "INTERNAL", indexes = {
+	@Index(name = "orders_created_for_idx", columnList = "created_for_id"),
+	@Index(name = "orders_created_by_idx", columnList = "created_by"),
+	@Index(name = "orders_modified_by_idx", columnList = "modified_by"),
+	@Index(name = "orders_created_idx", columnList = "created")})
 public class Order extends WorkshopAudibleEntityAbstract {
 	
 	@Transient
@@ -66,7 +84,7 @@ public class Order extends WorkshopAudibleEntityAbstract {
 	
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
 	@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
-	@OneToMany(orphanRemoval = true, mappedBy = "order", fetch = FetchType.EAGER,
+	@OneToMany(orphanRemoval = true, mappedBy = "order", fetch = FetchType.LAZY,
 		cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REFRESH})
 	private Set<@Valid Task> tasks = new HashSet<>(5);
 	
@@ -106,7 +124,7 @@ public class Order extends WorkshopAudibleEntityAbstract {
 	
 	/**
 	 * Add a Task and adds its price to the Order.overallPrice.
-	 * FetchType of {@link #tasks} MUST BY EAGER!
+	 * {@link #tasks} MUST BE initialized (loaded within a transaction or by the "Order.detail" graph)!
 	 */
 	public void addTask(@Valid Task task) {
 		if (tasks == null) {
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import workshop.internal.entities.hibernateValidation.Persist;
+import workshop.internal.entities.utils.UniquePropertyFilters;
 import workshop.internal.entities.hibernateValidation.Merge;
 import lombok.*;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
@@ -25,7 +26,10 @@ import java.util.Set;
 @JsonIgnoreProperties(value = {"employee", "user", "workshopEntityName"})
 @Cacheable
 @org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
-@Table(name = "Phones", schema = "INTERNAL")
+@Table(name = "Phones", schema = "INTERNAL", indexes = {
+	@Index(name = "phones_user_idx", columnList = "user_id"),
+	@Index(name = "phones_employee_idx", columnList = "employee_id")})
+@EntityListeners(UniquePropertyFilters.class)
 public class Phone extends WorkshopEntityAbstract {
 	
 	@Transient
@@ -34,13 +38,20 @@ public class Phone extends WorkshopEntityAbstract {
 	@Id
 	@Column(name = "id")
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "phones_sequence")
-	@SequenceGenerator(name = "phones_sequence", schema = "INTERNAL", initialValue = 200, allocationSize = 1)
+	@SequenceGenerator(name = "phones_sequence", schema = "INTERNAL", initialValue = 200, allocationSize = 50)
 	@NotNull(groups = {Merge.class, Default.class}, message = "{validation.notNull}")
 	@Positive(groups = {Merge.class, Default.class}, message = "{validation.positive}")
 	@Null(groups = {Persist.class}, message = "{validation.null}")
 	@EqualsAndHashCode.Include
 	private Long identifier;
 	
+	/**
+	 * The optimistic lock (see {@link WorkshopAudibleEntityAbstract#getVersion()}).
+	 */
+	@Version
+	@Column(nullable = false)
+	private Long version;
+	
 	@Size(min = 2, max = 50, message = "{validation.sizeMin3Max50}")
 	@Pattern(groups = {Persist.class, Default.class}, regexp = "^[\\p{LD}]{1,50}\\s?[\\p{LD}]{0,50}$",
 			 message = "{validation.pattern.phoneName}")
@@ -93,6 +104,9 @@ public class Phone extends WorkshopEntityAbstract {
 		if (created == null) {
 			created = ZonedDateTime.now();
 		}
+		if (version == null) {
+			version = 0L;
+		}
 	}
 	
 /*
@@ -0,0 +1,55 @@
+package workshop.internal.entities;
+
+import lombok.*;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+/**
+ * The metadata of a photo which content is kept out of the DataBase in the
+ * {@link workshop.internal.services.serviceUtils.PhotoFileStore} under its SHA-256 {@link #hash}.
+ * <p>
+ * {@link Employee}s and {@link User}s only refer to the {@link #hash} (see {@link Employee#getPhotoHash()}) so they
+ * never load the photo content into the memory. The same content uploaded by different owners is stored only once.
+ */
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+@Getter
+@Setter
+@Entity
+@Table(name = "Photos", schema = "INTERNAL")
+public class Photo extends WorkshopAudibleEntityAbstract {
+
+	@Transient
+	private static final long serialVersionUID = WorkshopEntity.serialVersionUID;
+
+	/**
+	 * The lowercase hex SHA-256 of the content. Also its strong ETag.
+	 */
+	@NotEmpty(message = "{validation.notBlank}")
+	@Pattern(regexp = "^[0-9a-f]{64}$")
+	@EqualsAndHashCode.Include
+	@ToString.Include
+	@Column(nullable = false, unique = true, updatable = false, length = 64)
+	private String hash;
+
+	@NotEmpty(message = "{validation.notBlank}")
+	@Column(nullable = false, length = 100)
+	private String contentType;
+
+	@Positive(message = "{validation.positive}")
+	@Column(nullable = false)
+	private long contentLength;
+
+	/**
+	 * The length of the pre-generated JPEG thumbnail. 0 if the content cannot be read as an image to be thumbnailed
+	 * so the content itself has to be served instead.
+	 */
+	@PositiveOrZero(message = "{validation.positiveOrZero}")
+	@Column(nullable = false)
+	private long thumbnailLength;
+}
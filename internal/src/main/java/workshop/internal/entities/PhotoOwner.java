@@ -0,0 +1,15 @@
+package workshop.internal.entities;
+
+/**
+ * The {@link WorkshopEntity} referring to its {@link Photo} by the {@link Photo#getHash()}, so its photo can be
+ * replaced by the {@link workshop.internal.services.PhotosService}.
+ */
+public interface PhotoOwner {
+	
+	/**
+	 * @return The {@link Photo#getHash()} or null if there is no photo.
+	 */
+	String getPhotoHash();
+	
+	void setPhotoHash(String photoHash);
+}
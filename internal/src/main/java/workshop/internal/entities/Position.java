@@ -4,10 +4,12 @@ import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import workshop.applicationEvents.WorkshopEntitiesEventPublisher;
 import workshop.internal.entities.hibernateValidation.Persist;
 import workshop.internal.entities.hibernateValidation.Merge;
 import workshop.exceptions.IllegalArgumentsException;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.http.HttpStatus;
 
@@ -32,8 +34,21 @@ import java.util.Set;
 @JsonIgnoreProperties(value = {"department", "internalGrantedAuthorities", "workshopEntityName"}, allowGetters = true)
 @Cacheable
 @org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Position.summary", attributeNodes = {
+		@NamedAttributeNode("department"),
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy")}),
+	@NamedEntityGraph(name = "Position.detail", attributeNodes = {
+		@NamedAttributeNode("department"),
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy"),
+		@NamedAttributeNode("internalAuthorities")})
+})
 @Entity
-@Table(name = "Positions", schema = "INTERNAL")
+@Table(name = "Positions", schema = "INTERNAL", indexes = {
+	@Index(name = "positions_department_idx", columnList = "department_id"),
+	@Index(name = "positions_created_idx", columnList = "created")})
 @AttributeOverride(name = "finished", column = @Column(name = "deleted"))
 public class Position extends WorkshopAudibleEntityAbstract {
 	
@@ -70,7 +85,8 @@ public class Position extends WorkshopAudibleEntityAbstract {
 	private Department department;
 	
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
-	@ManyToMany(mappedBy = "positions", fetch = FetchType.EAGER, cascade = {CascadeType.MERGE, CascadeType.REFRESH})
+	@ManyToMany(mappedBy = "positions", fetch = FetchType.LAZY, cascade = {CascadeType.MERGE, CascadeType.REFRESH})
+	@BatchSize(size = 100)
 	private Set<@Valid InternalAuthority> internalAuthorities;
 	
 	@Builder
@@ -101,4 +117,10 @@ public class Position extends WorkshopAudibleEntityAbstract {
 	public Long getIdentifier() {
 		return super.getIdentifier();
 	}
+	
+	@PostUpdate
+	@PostRemove
+	void publishAuthenticationsChangedEvent() {
+		WorkshopEntitiesEventPublisher.publishAuthenticationsChangedEvent(this);
+	}
 }
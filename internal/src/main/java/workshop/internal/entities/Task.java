@@ -7,6 +7,7 @@ import workshop.internal.entities.hibernateValidation.Persist;
 import workshop.internal.entities.hibernateValidation.Merge;
 import workshop.exceptions.PersistenceFailureException;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.http.HttpStatus;
 
@@ -37,8 +38,26 @@ import java.util.stream.Stream;
 @JsonIgnoreProperties(value = {"order", "workshopEntityName"}, allowGetters = true)
 @Cacheable
 @org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Task.summary", attributeNodes = {
+		@NamedAttributeNode("appointedTo"),
+		@NamedAttributeNode("order"),
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy")}),
+	@NamedEntityGraph(name = "Task.detail", attributeNodes = {
+		@NamedAttributeNode("appointedTo"),
+		@NamedAttributeNode("order"),
+		@NamedAttributeNode("createdBy"),
+		@NamedAttributeNode("modifiedBy"),
+		@NamedAttributeNode("classifiers")})
+})
 @Entity
-@Table(name = "Tasks", schema = "INTERNAL")
+@Table(name = "Tasks", schema = "INTERNAL", indexes = {
+	@Index(name = "tasks_order_idx", columnList = "order_id"),
+	@Index(name = "tasks_appointed_to_idx", columnList = "appointed_to"),
+	@Index(name = "tasks_created_by_idx", columnList = "created_by"),
+	@Index(name = "tasks_modified_by_idx", columnList = "modified_by"),
+	@Index(name = "tasks_created_idx", columnList = "created")})
 public class Task extends WorkshopAudibleEntityAbstract {
 	
 	@Transient
@@ -56,7 +75,7 @@ public class Task extends WorkshopAudibleEntityAbstract {
 	private ZonedDateTime deadline;
 	
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
-	@ManyToOne(cascade = {CascadeType.MERGE, CascadeType.REFRESH}, fetch = FetchType.EAGER)
+	@ManyToOne(cascade = {CascadeType.MERGE, CascadeType.REFRESH}, fetch = FetchType.LAZY)
 	@JoinColumn(name = "appointed_to")
 	private Employee appointedTo;
 	
@@ -67,10 +86,12 @@ public class Task extends WorkshopAudibleEntityAbstract {
 	 */
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
 	@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
-	@ManyToMany(fetch = FetchType.EAGER, cascade = {CascadeType.MERGE, CascadeType.REFRESH})
+	@ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.MERGE, CascadeType.REFRESH})
 	@JoinTable(name = "Tasks_to_Classifiers", schema = "INTERNAL",
 			   joinColumns = {@JoinColumn(name = "task_id", nullable = false)},
-			   inverseJoinColumns = {@JoinColumn(name = "classifier_id", nullable = false)})
+			   inverseJoinColumns = {@JoinColumn(name = "classifier_id", nullable = false)},
+			   indexes = {@Index(name = "tasks_to_classifiers_classifier_idx", columnList = "classifier_id")})
+	@BatchSize(size = 100)
 	private Set<@Valid Classifier> classifiers;
 	
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
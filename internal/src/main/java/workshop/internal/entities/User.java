@@ -8,7 +8,9 @@ import lombok.*;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.GrantedAuthority;
+import workshop.applicationEvents.WorkshopEntitiesEventPublisher;
 import workshop.internal.entities.hibernateValidation.Persist;
+import workshop.internal.entities.utils.UniquePropertyFilters;
 import workshop.internal.entities.hibernateValidation.Merge;
 
 import javax.persistence.*;
@@ -36,9 +38,21 @@ import java.util.stream.Stream;
 @ToString(of = {"identifier", "email", "firstName"})
 @Cacheable
 @org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "User.summary", attributeNodes = {
+		@NamedAttributeNode("uuid"),
+		@NamedAttributeNode("passwordResetUuid")}),
+	@NamedEntityGraph(name = "User.detail", attributeNodes = {
+		@NamedAttributeNode("uuid"),
+		@NamedAttributeNode("passwordResetUuid"),
+		@NamedAttributeNode("phones"),
+		@NamedAttributeNode("externalAuthorities")})
+})
 @Entity
-@Table(name = "Users", schema = "EXTERNAL")
-public class User extends WorkshopEntityAbstract {
+@Table(name = "Users", schema = "EXTERNAL", indexes = {
+	@Index(name = "users_created_idx", columnList = "created")})
+@EntityListeners(UniquePropertyFilters.class)
+public class User extends WorkshopEntityAbstract implements PhotoOwner {
 	
 	//TODO: how to determine and fix the particular phone the User is using for login? And fix it in the JwtUtils getToken method!
 	
@@ -48,13 +62,20 @@ public class User extends WorkshopEntityAbstract {
 	@Id
 	@Column(name = "id")
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_sequence")
-	@SequenceGenerator(name = "users_sequence", schema = "EXTERNAL", initialValue = 100, allocationSize = 1)
+	@SequenceGenerator(name = "users_sequence", schema = "EXTERNAL", initialValue = 100, allocationSize = 50)
 	@NotNull(groups = {Merge.class, Default.class}, message = "{validation.notNull}")
 	@Positive(groups = {Merge.class, Default.class}, message = "{validation.positive}")
 	@Null(groups = {Persist.class}, message = "{validation.null}")
 	@EqualsAndHashCode.Include
 	private Long identifier;
 	
+	/**
+	 * The optimistic lock (see {@link WorkshopAudibleEntityAbstract#getVersion()}).
+	 */
+	@Version
+	@Column(nullable = false)
+	private Long version;
+	
 	@Column
 	@Pattern(regexp = "^([\\p{LD}-]){3,50}\\s?([\\p{LD}-]){0,50}\\s?([\\p{LD}-]){0,50}", message = "{validation.pattern.name}")
 	@EqualsAndHashCode.Include
@@ -115,7 +136,7 @@ public class User extends WorkshopEntityAbstract {
 	 */
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
 	@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
-	@OneToMany(mappedBy = "user", orphanRemoval = true, fetch = FetchType.EAGER,
+	@OneToMany(mappedBy = "user", orphanRemoval = true, fetch = FetchType.LAZY,
 			   cascade = {CascadeType.MERGE, CascadeType.REFRESH, CascadeType.REMOVE})
 	private Set<@Valid Phone> phones = new HashSet<>(2);
 	
@@ -132,24 +153,29 @@ public class User extends WorkshopEntityAbstract {
 	 */
 	@JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class)
 	@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
-	@ManyToMany(targetEntity = ExternalAuthority.class, fetch = FetchType.EAGER,
+	@ManyToMany(targetEntity = ExternalAuthority.class, fetch = FetchType.LAZY,
 				cascade = {CascadeType.REFRESH, CascadeType.MERGE})
 	@JoinTable(name = "Users_To_External_Authorities", schema = "EXTERNAL",
 			   joinColumns = {@JoinColumn(name = "user_id", nullable = false)},
-			   inverseJoinColumns = {@JoinColumn(name = "external_authority_id", nullable = false)})
+			   inverseJoinColumns = {@JoinColumn(name = "external_authority_id", nullable = false)},
+			   indexes = {@Index(name = "users_to_external_authorities_authority_idx",
+								 columnList = "external_authority_id")})
 	private Set<@Valid ExternalAuthority> externalAuthorities;
 	
-	@JsonIgnore
-	@Lob
-	@Column(length = 5242880) //5Mb
-	@Size(max = 5242880, message = "{validation.photoSize}")
-	private byte[] photo;
+	/**
+	 * The {@link Photo#getHash()} of the photo kept in the
+	 * {@link workshop.internal.services.serviceUtils.PhotoFileStore}, so the photo content itself is never loaded
+	 * along with this entity.
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@Column(length = 64)
+	private String photoHash;
 	
 	/**
 	 * The UUID only for the new Users to be send by email for their emails confirmation. Confirmed and permanently
 	 * persisted Users  don't have one.
 	 */
-	@OneToOne(fetch = FetchType.EAGER, mappedBy = "user", orphanRemoval = true,
+	@OneToOne(fetch = FetchType.LAZY, mappedBy = "user", orphanRemoval = true,
 			  cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
 	@Valid
 	private Uuid uuid;
@@ -157,7 +183,7 @@ public class User extends WorkshopEntityAbstract {
 	/**
 	 * To send by email to Users who forget their passwords.
 	 */
-	@OneToOne(fetch = FetchType.EAGER, mappedBy = "passwordResetUser", orphanRemoval = true, cascade = CascadeType.REMOVE)
+	@OneToOne(fetch = FetchType.LAZY, mappedBy = "passwordResetUser", orphanRemoval = true, cascade = CascadeType.REMOVE)
 	@Valid
 	private Uuid passwordResetUuid;
 	
@@ -224,10 +250,19 @@ public class User extends WorkshopEntityAbstract {
 		if (created == null) {
 			setCreated(ZonedDateTime.now().withZoneSameInstant(ZoneId.of("UTC")));
 		}
+		if (version == null) {
+			version = 0L;
+		}
 	}
 	
 	@PreUpdate
 	public void updateModificationDateTime() {
 		setModified(ZonedDateTime.now().withZoneSameInstant(ZoneId.of("UTC")));
 	}
+	
+	@PostUpdate
+	@PostRemove
+	void publishAuthenticationsChangedEvent() {
+		WorkshopEntitiesEventPublisher.publishAuthenticationsChangedEvent(this);
+	}
 }
@@ -47,7 +47,7 @@ public abstract class WorkshopAudibleEntityAbstract extends WorkshopEntityAbstra
 	@Id
 	@Column(name = "id")
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audible_sequence")
-	@SequenceGenerator(name = "audible_sequence", schema = "INTERNAL", initialValue = 150, allocationSize = 1)
+	@SequenceGenerator(name = "audible_sequence", schema = "INTERNAL", initialValue = 150, allocationSize = 50)
 	@NotNull(groups = {Merge.class, Default.class}, message = "{validation.notNull}")
 	@Positive(groups = {Merge.class, Default.class}, message = "{validation.positive}")
 	@Null(groups = {Persist.class}, message = "{validation.null}")
@@ -55,6 +55,18 @@ public abstract class WorkshopAudibleEntityAbstract extends WorkshopEntityAbstra
 	@ToString.Include
 	private Long identifier;
 	
+	/**
+	 * The optimistic lock instead of the SERIALIZABLE transactions: every update increments it and the update of a
+	 * stale copy (with the lesser version) is rejected with {@link javax.persistence.OptimisticLockException}.
+	 * The detached copies without the version (e.g. from the clients which don't send it) are rejected instead of
+	 * being merged over the current one (see {@link workshop.internal.dao.WorkshopEntitiesDaoAbstract#mergeEntity}).
+	 * Is null until the WorkshopEntity is persisted with 0 (see {@link #prePersist()}), so the absent version of a
+	 * copy can always be told apart. The SQL scripts have to insert 0 explicitly.
+	 */
+	@Version
+	@Column(nullable = false)
+	private Long version;
+	
 	/**
 	 * @AttributeOverrided as 'employed' for Employee.
 	 * Also for this entity can be set manually with PersistEmployeeValidation.class validation group to be set.
@@ -104,6 +116,9 @@ public abstract class WorkshopAudibleEntityAbstract extends WorkshopEntityAbstra
 	 */
 	@PrePersist
 	public void prePersist() {
+		if (this.version == null) {
+			this.version = 0L;
+		}
 		if (this.created == null) {
 			this.created = ZonedDateTime.now().withZoneSameInstant(ZoneId.of("UTC"));
 		}
@@ -2,8 +2,6 @@ package workshop.internal.entities;
 
 import java.io.Serializable;
 import java.time.ZonedDateTime;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Every instance has to be named with a simple noun with a single word without changeable last part of it
@@ -18,13 +16,6 @@ import java.util.Set;
  */
 public interface WorkshopEntity extends Serializable, Comparable<WorkshopEntity> {
 	
-	/**
-	 * The Set for all the available WorkshopEntities names for being accessed across the domain.
-	 */
-	public static final Set<String> workshopEntitiesNames = new HashSet<>();
-	
-	public static final Set<String> workshopEntitiesFullyQualifiedNames = new HashSet<>();
-	
 	/**
 	 * Obligatory to be set in every class as:
 	 * '@Transient
@@ -46,6 +37,19 @@ public interface WorkshopEntity extends Serializable, Comparable<WorkshopEntity>
 	 */
 	void setIdentifier(Long id);
 	
+	/**
+	 * Has to have the '@Version' annotation for the optimistic locking.
+	 *
+	 * @return The version of the persisted state or null for the new (or not versioned copies of) WorkshopEntities.
+	 * The not versioned copies cannot be merged.
+	 */
+	Long getVersion();
+	
+	/**
+	 * @param version The version of the state this copy of WorkshopEntity was obtained with.
+	 */
+	void setVersion(Long version);
+	
 	/**
 	 * Not null.
 	 *
@@ -61,7 +65,9 @@ public interface WorkshopEntity extends Serializable, Comparable<WorkshopEntity>
 	void setCreated(ZonedDateTime created);
 	
 	/**
-	 * Creates in the instance constructor for being accessed across domain.
+	 * All the available names are in the {@link workshop.internal.services.serviceUtils.WorkshopEntitiesRegistry}.
+	 *
+	 * @return The simple class name of this WorkshopEntity, e.g. 'Order'.
 	 */
 	String getWorkshopEntityName();
 }
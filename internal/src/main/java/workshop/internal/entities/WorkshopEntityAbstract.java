@@ -1,21 +1,28 @@
 package workshop.internal.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import lombok.Getter;
 
+/**
+ * The constructor doesn't allocate or register anything as it is called for every hydrated WorkshopEntity, the names
+ * are resolved from the class only when they are requested.
+ */
 @JsonIgnoreProperties(value = {"workshopEntityName"}, allowGetters = true)
 public abstract class WorkshopEntityAbstract implements WorkshopEntity {
 	
-	@Getter
-	private String workshopEntityName;
-	@Getter
-	private String workshopEntityFullyQualifiedName;
-	
 	WorkshopEntityAbstract() {
-		this.workshopEntityName = this.getClass().getSimpleName();
-		this.workshopEntityFullyQualifiedName = this.getClass().getName();
-		WorkshopEntity.workshopEntitiesNames.add(this.workshopEntityName);
-		WorkshopEntity.workshopEntitiesFullyQualifiedNames.add(this.workshopEntityFullyQualifiedName);
+	}
+	
+	/**
+	 * Being called on a Hibernate proxy it is delegated to the proxied WorkshopEntity so the name is never the proxy
+	 * class one.
+	 */
+	@Override
+	public String getWorkshopEntityName() {
+		return getClass().getSimpleName();
+	}
+	
+	public String getWorkshopEntityFullyQualifiedName() {
+		return getClass().getName();
 	}
 	
 	/**
@@ -5,9 +5,11 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import lombok.*;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.http.HttpStatus;
+import workshop.applicationEvents.WorkshopEntitiesEventPublisher;
 import workshop.internal.entities.hibernateValidation.Persist;
 import workshop.internal.entities.hibernateValidation.Merge;
 import workshop.internal.entities.utils.PermissionType;
+import workshop.internal.services.serviceUtils.WorkshopEntitiesRegistry;
 import workshop.exceptions.IllegalArgumentsException;
 
 import javax.persistence.*;
@@ -22,7 +24,8 @@ import java.util.stream.Stream;
 
 /**
  * The class is the container for {@link WorkshopEntity} types (classes names).
- * All the available {@link WorkshopEntity} class names are available through {@link WorkshopEntity#workshopEntitiesNames}.
+ * All the available {@link WorkshopEntity} class names are available through
+ * {@link WorkshopEntitiesRegistry#getWorkshopEntitiesNames()}.
  * This class can contain only those exact names for giving access to the according {@link WorkshopEntity}
  * in conjunction with {@link PermissionType}.
  */
@@ -60,14 +63,15 @@ public class WorkshopEntityType extends WorkshopAudibleEntityAbstract {
 	}
 	
 	/**
-	 * The {@link #name} has to be equal one of the {@link WorkshopEntity} from {@link WorkshopEntity#workshopEntitiesNames}
+	 * The {@link #name} has to be equal one of the {@link WorkshopEntity} from
+	 * {@link WorkshopEntitiesRegistry#getWorkshopEntitiesNames()}
 	 *
 	 * @throws IllegalArgumentsException With the localized message and HttpStatus.NOT_ACCEPTABLE as a RuntimeException
 	 *                                   to break a current Transaction if the given name not equal one of the WorkshopEntity name.
 	 */
 	@PrePersist
 	public void nameEqualityCheck() throws IllegalArgumentsException {
-		if (!WorkshopEntity.workshopEntitiesNames.contains(name)) {
+		if (!WorkshopEntitiesRegistry.isWorkshopEntityName(name)) {
 			throw new IllegalArgumentsException("The given name has to be equal one of the WorkshopEntity names!",
 				"httpStatus.notAcceptable.workshopEntityType", HttpStatus.NOT_ACCEPTABLE);
 		}
@@ -100,4 +104,10 @@ public class WorkshopEntityType extends WorkshopAudibleEntityAbstract {
 		this.authorityPermissions.removeAll(Arrays.asList(authorityPermissions));
 	}
 	
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	void publishPermissionsChangedEvent() {
+		WorkshopEntitiesEventPublisher.publishPermissionsChangedEvent(this);
+	}
 }
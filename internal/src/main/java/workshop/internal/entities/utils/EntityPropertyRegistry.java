@@ -0,0 +1,367 @@
+package workshop.internal.entities.utils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.NaturalId;
+import org.springframework.lang.Nullable;
+import workshop.internal.entities.WorkshopEntity;
+
+import javax.persistence.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The immutable map of all the persistent properties of a {@link WorkshopEntity} class and its mapped superclasses.
+ * Every property is inspected only once (when a DAO for the WorkshopEntity is created at the startup) and holds the
+ * precompiled {@link MethodHandle} getter and setter, its Java type and the flags if it can be used for filtering or
+ * ordering and if its column can be NULL.
+ * So the lookup by a property name is just a hash hit without any reflection or allocation.
+ * <p>
+ * Only the fields declared in the classes annotated with {@link Entity} or {@link MappedSuperclass} are included,
+ * except the static, 'transient' and {@link Transient} ones.
+ */
+@Slf4j
+public final class EntityPropertyRegistry {
+
+	private static final ConcurrentMap<Class<?>, EntityPropertyRegistry> registries = new ConcurrentHashMap<>();
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	@Getter
+	private final Class<?> entityClass;
+	private final Map<String, EntityProperty> properties;
+	/**
+	 * The no-arguments constructor or null for the abstract classes.
+	 */
+	@Nullable
+	private final MethodHandle constructor;
+
+	private EntityPropertyRegistry(Class<?> entityClass) {
+		this.entityClass = entityClass;
+		Map<String, EntityProperty> properties = new HashMap<>();
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		this.constructor = getConstructorHandle(lookup, entityClass);
+		//The indexes of the Entity table also cover the columns inherited from its mapped superclasses
+		Set<String> indexedColumns = getLeadingIndexedColumns(entityClass);
+		Map<String, Column> overriddenColumns = getOverriddenColumns(entityClass);
+		//The properties of subclasses override the same named ones of their superclasses
+		for (Class<?> clazz = entityClass; clazz != null; clazz = clazz.getSuperclass()) {
+			if (!clazz.isAnnotationPresent(Entity.class) && !clazz.isAnnotationPresent(MappedSuperclass.class)) {
+				continue;
+			}
+			for (Field field : clazz.getDeclaredFields()) {
+				if (isPersistent(field) && !properties.containsKey(field.getName())) {
+					properties.put(field.getName(),
+						new EntityProperty(field, getGetterHandle(lookup, clazz, field), getSetterHandle(lookup, clazz, field),
+							indexedColumns, overriddenColumns.get(field.getName())));
+				}
+			}
+		}
+		this.properties = Collections.unmodifiableMap(properties);
+		log.debug("{} properties of {} are registered", properties.size(), entityClass.getSimpleName());
+	}
+
+	/**
+	 * @param workshopEntityClass Any WorkshopEntity class or its Hibernate proxy class.
+	 * @return The registry built once for the given WorkshopEntity class.
+	 */
+	public static EntityPropertyRegistry of(Class<? extends WorkshopEntity> workshopEntityClass) {
+		return registries.computeIfAbsent(getEntityClass(workshopEntityClass), EntityPropertyRegistry::new);
+	}
+
+	/**
+	 * @return Optional.of(EntityProperty) or Optional.empty() if the WorkshopEntity doesn't have such a property.
+	 */
+	public Optional<EntityProperty> getProperty(String propertyName) {
+		return Optional.ofNullable(propertyName == null ? null : properties.get(propertyName));
+	}
+
+	/**
+	 * @return True if the property can be used within 'ORDER BY' clause.
+	 */
+	public boolean isSortable(String propertyName) {
+		EntityProperty property = propertyName == null ? null : properties.get(propertyName);
+		return property != null && property.isSortable();
+	}
+
+	/**
+	 * @return True if the property can be compared with a single value within 'WHERE' clause.
+	 */
+	public boolean isFilterable(String propertyName) {
+		EntityProperty property = propertyName == null ? null : properties.get(propertyName);
+		return property != null && property.isFilterable();
+	}
+
+	public Set<String> getPropertyNames() {
+		return properties.keySet();
+	}
+
+	/**
+	 * @return A new empty (transient) instance of the WorkshopEntity class from its no-arguments constructor.
+	 * @throws IllegalStateException If the class is abstract or doesn't have the no-arguments constructor.
+	 */
+	public Object newInstance() throws IllegalStateException {
+		if (constructor == null) {
+			throw new IllegalStateException(entityClass.getSimpleName() + " cannot be instantiated!");
+		}
+		try {
+			return (Object) constructor.invokeExact();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable throwable) {
+			throw new IllegalStateException(throwable.getMessage(), throwable);
+		}
+	}
+
+	/**
+	 * Hibernate proxies are the subclasses of the real WorkshopEntity classes so the first class annotated with
+	 * {@link Entity} is the one to be registered.
+	 */
+	private static Class<?> getEntityClass(Class<?> workshopEntityClass) {
+		for (Class<?> clazz = workshopEntityClass; clazz != null; clazz = clazz.getSuperclass()) {
+			if (clazz.isAnnotationPresent(Entity.class)) {
+				return clazz;
+			}
+		}
+		return workshopEntityClass;
+	}
+
+	/**
+	 * @return The normalized names of the columns which are the first (leading) ones of the
+	 * {@link Table#indexes()} of the given class so the DataBase can use these indexes to filter by them.
+	 */
+	private static Set<String> getLeadingIndexedColumns(Class<?> clazz) {
+		Table table = clazz.getAnnotation(Table.class);
+		if (table == null) {
+			return Collections.emptySet();
+		}
+		Set<String> indexedColumns = new HashSet<>();
+		for (Index index : table.indexes()) {
+			indexedColumns.add(normalizeColumnName(index.columnList().split(",")[0].trim().split("\\s")[0]));
+		}
+		return indexedColumns;
+	}
+
+	/**
+	 * @return The property names mapped to the columns from the {@link AttributeOverride}s of the given class
+	 * (e.g. Employee.created is stored as 'employed').
+	 */
+	private static Map<String, Column> getOverriddenColumns(Class<?> clazz) {
+		List<AttributeOverride> attributeOverrides = new ArrayList<>();
+		AttributeOverrides overrides = clazz.getAnnotation(AttributeOverrides.class);
+		if (overrides != null) {
+			attributeOverrides.addAll(Arrays.asList(overrides.value()));
+		}
+		AttributeOverride override = clazz.getAnnotation(AttributeOverride.class);
+		if (override != null) {
+			attributeOverrides.add(override);
+		}
+		Map<String, Column> overriddenColumns = new HashMap<>();
+		for (AttributeOverride attributeOverride : attributeOverrides) {
+			overriddenColumns.put(attributeOverride.name(), attributeOverride.column());
+		}
+		return overriddenColumns;
+	}
+
+	/**
+	 * The physical naming strategy turns 'camelCase' into 'camel_case' so both are compared without underscores
+	 * and case.
+	 */
+	private static String normalizeColumnName(String columnName) {
+		return columnName.replace("_", "").toLowerCase(Locale.ENGLISH);
+	}
+
+	private static boolean isPersistent(Field field) {
+		int modifiers = field.getModifiers();
+		return !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) &&
+			!field.isAnnotationPresent(Transient.class);
+	}
+
+	/**
+	 * The public getter is preferred as it initializes Hibernate proxies, otherwise the field is read directly.
+	 */
+	private static MethodHandle getGetterHandle(MethodHandles.Lookup lookup, Class<?> clazz, Field field) {
+		String capitalizedName = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+		try {
+			Method getter;
+			try {
+				getter = clazz.getMethod("get" + capitalizedName);
+			} catch (NoSuchMethodException e) {
+				getter = clazz.getMethod("is" + capitalizedName);
+			}
+			return lookup.unreflect(getter).asType(GETTER_TYPE);
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			try {
+				field.setAccessible(true);
+				return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+			} catch (IllegalAccessException ex) {
+				throw new IllegalStateException(
+					"The property " + clazz.getSimpleName() + "." + field.getName() + " cannot be accessed!", ex);
+			}
+		}
+	}
+
+	@Nullable
+	private static MethodHandle getConstructorHandle(MethodHandles.Lookup lookup, Class<?> clazz) {
+		if (Modifier.isAbstract(clazz.getModifiers())) {
+			return null;
+		}
+		try {
+			return lookup.unreflectConstructor(clazz.getConstructor()).asType(CONSTRUCTOR_TYPE);
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			log.debug("{} doesn't have the public no-arguments constructor", clazz.getSimpleName());
+			return null;
+		}
+	}
+
+	/**
+	 * The same as {@link #getGetterHandle(MethodHandles.Lookup, Class, Field)} the public setter is preferred.
+	 */
+	private static MethodHandle getSetterHandle(MethodHandles.Lookup lookup, Class<?> clazz, Field field) {
+		String capitalizedName = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+		try {
+			return lookup.unreflect(clazz.getMethod("set" + capitalizedName, field.getType())).asType(SETTER_TYPE);
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			try {
+				field.setAccessible(true);
+				return lookup.unreflectSetter(field).asType(SETTER_TYPE);
+			} catch (IllegalAccessException ex) {
+				throw new IllegalStateException(
+					"The property " + clazz.getSimpleName() + "." + field.getName() + " cannot be set!", ex);
+			}
+		}
+	}
+
+	@Getter
+	public static final class EntityProperty {
+
+		private final String name;
+		private final Class<?> type;
+		private final boolean temporal;
+		/**
+		 * Single-valued basic (neither association, nor collection, nor large object) properties which can be compared
+		 * with a value.
+		 */
+		private final boolean filterable;
+		/**
+		 * Filterable and Comparable properties.
+		 */
+		private final boolean sortable;
+		/**
+		 * Single-valued (ManyToOne or OneToOne) associations with another WorkshopEntity which can be filtered by
+		 * their 'identifier'.
+		 */
+		private final boolean reference;
+		/**
+		 * The identifiers, natural ids, unique columns, the leading columns of the {@link Table#indexes()} and the
+		 * foreign keys of the owning side references, so the DataBase doesn't have to scan the whole table to filter
+		 * by them.
+		 */
+		private final boolean indexed;
+		/**
+		 * The column can be NULL, so the property cannot be the 'orderBy' of the keyset pagination. The primitives,
+		 * identifiers, versions and the columns mapped (or overridden) as 'nullable = false' are not.
+		 */
+		private final boolean nullable;
+		@Getter(lombok.AccessLevel.NONE)
+		private final MethodHandle getter;
+		@Getter(lombok.AccessLevel.NONE)
+		private final MethodHandle setter;
+
+		private EntityProperty(Field field, MethodHandle getter, MethodHandle setter, Set<String> indexedColumns,
+							   @Nullable Column overriddenColumn) {
+			this.name = field.getName();
+			this.type = field.getType();
+			this.getter = getter;
+			this.setter = setter;
+			this.temporal = Temporal.class.isAssignableFrom(type);
+			this.filterable = !isAssociation(field) && !field.isAnnotationPresent(Lob.class);
+			this.sortable = filterable && (type.isPrimitive() || Comparable.class.isAssignableFrom(type));
+			this.reference = WorkshopEntity.class.isAssignableFrom(type) &&
+				(field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class));
+			this.indexed = isIndexed(field, indexedColumns, overriddenColumn);
+			this.nullable = isNullable(field, overriddenColumn);
+		}
+
+		/**
+		 * @param workshopEntity An instance of the WorkshopEntity class this property belongs to.
+		 * @return The current value of the property.
+		 * @throws IllegalArgumentException If the given object is not an instance of the WorkshopEntity class.
+		 */
+		@Nullable
+		public Object getValue(Object workshopEntity) throws IllegalArgumentException {
+			try {
+				return (Object) getter.invokeExact(workshopEntity);
+			} catch (ClassCastException e) {
+				throw new IllegalArgumentException(
+					"The given object doesn't have the '" + name + "' property!", e);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable throwable) {
+				throw new IllegalStateException(throwable.getMessage(), throwable);
+			}
+		}
+
+		/**
+		 * @param workshopEntity An instance of the WorkshopEntity class this property belongs to.
+		 * @param value          The new value of the property (null is not allowed for the primitive properties).
+		 * @throws IllegalArgumentException If the given object is not an instance of the WorkshopEntity class or the
+		 *                                  value is of the wrong type.
+		 */
+		public void setValue(Object workshopEntity, @Nullable Object value) throws IllegalArgumentException {
+			try {
+				setter.invokeExact(workshopEntity, value);
+			} catch (ClassCastException | NullPointerException e) {
+				throw new IllegalArgumentException(
+					"The '" + name + "' property cannot be set to the value=" + value + "!", e);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable throwable) {
+				throw new IllegalStateException(throwable.getMessage(), throwable);
+			}
+		}
+
+		private boolean isIndexed(Field field, Set<String> indexedColumns, @Nullable Column overriddenColumn) {
+			Column column = field.getAnnotation(Column.class);
+			JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+			OneToOne oneToOne = field.getAnnotation(OneToOne.class);
+			if (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(NaturalId.class) ||
+				(column != null && column.unique()) || (joinColumn != null && joinColumn.unique())) {
+				return true;
+			} else if (reference) {
+				return oneToOne == null || oneToOne.mappedBy().isEmpty();
+			}
+			String columnName = overriddenColumn != null && !overriddenColumn.name().isEmpty() ? overriddenColumn.name() :
+				column != null && !column.name().isEmpty() ? column.name() : field.getName();
+			return indexedColumns.contains(normalizeColumnName(columnName));
+		}
+
+		/**
+		 * The overriding column replaces the whole mapping of the inherited one including its 'nullable'.
+		 */
+		private boolean isNullable(Field field, @Nullable Column overriddenColumn) {
+			if (type.isPrimitive() || field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(Version.class)) {
+				return false;
+			}
+			Column column = overriddenColumn != null ? overriddenColumn : field.getAnnotation(Column.class);
+			return column == null || column.nullable();
+		}
+
+		private static boolean isAssociation(Field field) {
+			return field.isAnnotationPresent(OneToOne.class) || field.isAnnotationPresent(OneToMany.class) ||
+				field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(ManyToMany.class) ||
+				field.isAnnotationPresent(ElementCollection.class) || field.isAnnotationPresent(Embedded.class) ||
+				Collection.class.isAssignableFrom(field.getType()) || Map.class.isAssignableFrom(field.getType()) ||
+				WorkshopEntity.class.isAssignableFrom(field.getType());
+		}
+	}
+}
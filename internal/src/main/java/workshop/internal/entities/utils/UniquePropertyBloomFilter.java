@@ -0,0 +1,113 @@
+package workshop.internal.entities.utils;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The thread-safe Bloom filter of all the values of a unique WorkshopEntity property (e.g. User.email).
+ * It never answers 'false' for a value which has been put into it, so {@link #mightContain(String)} == false is the
+ * definite miss and the DataBase doesn't have to be queried. 'True' only means the value may exist.
+ * <p>
+ * The values cannot be removed from the filter, so the removed or changed values just become the false positives
+ * until the next application restart.
+ * Until the filter is filled with all the already existing values (see {@link #setReady()}) it answers 'true' for
+ * any value.
+ */
+public final class UniquePropertyBloomFilter {
+
+	private final AtomicLongArray bits;
+	@Getter
+	private final int bitsCount;
+	@Getter
+	private final int hashesCount;
+	@Getter
+	private volatile boolean ready;
+
+	/**
+	 * @param expectedInsertions       The expected amount of the unique values. If it is exceeded the filter
+	 *                                 still works but the false positive probability grows.
+	 * @param falsePositiveProbability From 0.0 to 1.0 exclusively.
+	 */
+	public UniquePropertyBloomFilter(int expectedInsertions, double falsePositiveProbability) {
+		if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("Expected insertions=" + expectedInsertions +
+				" or false positive probability=" + falsePositiveProbability + " are out of range!");
+		}
+		long optimalBitsCount = (long) Math.ceil(
+			-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		this.bitsCount = (int) Math.min(Math.max(optimalBitsCount, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+		this.bits = new AtomicLongArray((bitsCount + Long.SIZE - 1) / Long.SIZE);
+		this.hashesCount = Math.max(1, (int) Math.round((double) bitsCount / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long hash = hash64(value);
+		int hash1 = (int) hash;
+		int hash2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashesCount; i++) {
+			setBit(getBitIndex(hash1, hash2, i));
+		}
+	}
+
+	/**
+	 * @return False if the value has definitely never been put into the filter (only after the filter is ready).
+	 */
+	public boolean mightContain(String value) {
+		if (!ready) {
+			return true;
+		}
+		long hash = hash64(value);
+		int hash1 = (int) hash;
+		int hash2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashesCount; i++) {
+			int bitIndex = getBitIndex(hash1, hash2, i);
+			if ((bits.get(bitIndex >>> 6) & (1L << bitIndex)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Has to be called after all the existing values have been put into the filter.
+	 */
+	public void setReady() {
+		this.ready = true;
+	}
+
+	private int getBitIndex(int hash1, int hash2, int i) {
+		int combinedHash = hash1 + i * hash2;
+		return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitsCount;
+	}
+
+	private void setBit(int bitIndex) {
+		int wordIndex = bitIndex >>> 6;
+		long mask = 1L << bitIndex;
+		long word;
+		do {
+			word = bits.get(wordIndex);
+			if ((word & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(wordIndex, word, word | mask));
+	}
+
+	/**
+	 * 64-bit FNV-1a over the chars finalized with the MurmurHash3 mixer, so both its halves can be used as the
+	 * independent hashes.
+	 */
+	private static long hash64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,64 @@
+package workshop.internal.entities.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import workshop.internal.entities.WorkshopEntity;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostUpdate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The registry of the {@link UniquePropertyBloomFilter}s by WorkshopEntity class and its unique property name.
+ * The filters are registered and filled at the startup (if they are enabled) and then kept current as this class
+ * is also the JPA Entity listener: every persisted or updated unique value is put into the corresponding filter.
+ * <p>
+ * If no filter is registered for a property, all the existence checks for it go to the DataBase.
+ */
+@Slf4j
+public class UniquePropertyFilters {
+
+	private static final ConcurrentMap<Class<?>, Map<String, UniquePropertyBloomFilter>> filters =
+		new ConcurrentHashMap<>();
+
+	/**
+	 * @return The new (or the already registered) filter which is not ready until it is filled with all the
+	 * existing values.
+	 */
+	public static UniquePropertyBloomFilter register(
+		Class<? extends WorkshopEntity> entityClass, String propertyName, int expectedInsertions,
+		double falsePositiveProbability) {
+		return filters.computeIfAbsent(entityClass, clazz -> new ConcurrentHashMap<>())
+			.computeIfAbsent(propertyName, name -> {
+				log.debug("The Bloom filter for {}.{} is registered", entityClass.getSimpleName(), name);
+				return new UniquePropertyBloomFilter(expectedInsertions, falsePositiveProbability);
+			});
+	}
+
+	/**
+	 * @return Optional.of(filter) or Optional.empty() if the filter for the property isn't registered.
+	 */
+	public static Optional<UniquePropertyBloomFilter> of(Class<?> entityClass, String propertyName) {
+		return Optional.ofNullable(
+			filters.getOrDefault(entityClass, Collections.emptyMap()).get(propertyName));
+	}
+
+	/**
+	 * Puts the unique values of the persisted or updated WorkshopEntity into its filters.
+	 */
+	@PostPersist
+	@PostUpdate
+	public void putUniqueValues(WorkshopEntity workshopEntity) {
+		Map<String, UniquePropertyBloomFilter> entityFilters = filters.get(workshopEntity.getClass());
+		if (entityFilters == null) {
+			return;
+		}
+		EntityPropertyRegistry propertyRegistry = EntityPropertyRegistry.of(workshopEntity.getClass());
+		entityFilters.forEach((propertyName, filter) -> propertyRegistry.getProperty(propertyName)
+			.map(property -> property.getValue(workshopEntity))
+			.ifPresent(value -> filter.put(value.toString())));
+	}
+}
@@ -8,11 +8,17 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.hateoas.*;
 import org.springframework.hateoas.mvc.ControllerLinkBuilder;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import workshop.controllers.internal.rest.WorkshopRestControllerAbstract;
+import workshop.internal.dao.KeysetCursor;
 import workshop.internal.entities.WorkshopEntity;
 
 import java.lang.reflect.Method;
@@ -201,9 +207,13 @@ public abstract class WorkshopEntitiesResourceAssemblerAbstract<T extends Worksh
 		String order = page.getSort().iterator().next().getDirection().name();
 		
 		String hrefLang = LocaleContextHolder.getLocale().toLanguageTag();
+		//The "no total" Page (e.g. UncountedPage) doesn't know its total amount of pages and elements
+		boolean isTotalKnown = page.getTotalElements() >= 0;
 		String lastPageTitle = "Page " + (page.getTotalPages());
-		String currentPageTitle = "Page " + (page.getNumber() + 1) + " of " + page.getTotalPages() + " pages total. " +
-			"Elements " + page.getNumberOfElements() + " of " + page.getTotalElements() + " elements total.";
+		String currentPageTitle = isTotalKnown ?
+			"Page " + (page.getNumber() + 1) + " of " + page.getTotalPages() + " pages total. " +
+				"Elements " + page.getNumberOfElements() + " of " + page.getTotalElements() + " elements total." :
+			"Page " + (page.getNumber() + 1) + ". Elements " + page.getNumberOfElements() + ".";
 		
 		Link currentPageLink = getPagedLink(
 			page.getPageable(), page.getNumber(), LINK_CURRENT_PAGE_REL, hrefLang, LINK_MEDIA, currentPageTitle);
@@ -215,21 +225,23 @@ public abstract class WorkshopEntitiesResourceAssemblerAbstract<T extends Worksh
 		}
 		if (page.hasPrevious()) {
 			pagedLinks.add(getPagedLink(
-				page.previousPageable(), page.previousPageable().getPageNumber(), LINK_PREV_PAGE_REL, hrefLang, LINK_MEDIA, LINK_DEFAULT_TITLE));
+				page.previousPageable(), page.previousPageable().getPageNumber(), getKeysetCursor(page, true),
+				LINK_PREV_PAGE_REL, hrefLang, LINK_MEDIA, LINK_DEFAULT_TITLE));
 		}
 		if (page.hasNext()) {
 			pagedLinks.add(getPagedLink(
-				page.nextPageable(), page.nextPageable().getPageNumber(), LINK_NEXT_PAGE_REL, hrefLang, LINK_MEDIA, LINK_DEFAULT_TITLE));
+				page.nextPageable(), page.nextPageable().getPageNumber(), getKeysetCursor(page, false),
+				LINK_NEXT_PAGE_REL, hrefLang, LINK_MEDIA, LINK_DEFAULT_TITLE));
 		}
 		if (!page.isFirst()) { //Add FirstPage
 			pagedLinks.add(getPagedLink(
 				page.getPageable().first(), page.getPageable().first().getPageNumber(), LINK_FIRST_PAGE_REL, hrefLang, LINK_MEDIA, LINK_DEFAULT_TITLE));
 		}
-		if (!page.isLast()) { //Add LastPage
+		if (!page.isLast() && isTotalKnown) { //Add LastPage
 			Link lastPageLink =
 				ControllerLinkBuilder.linkTo(
 					ControllerLinkBuilder.methodOn(workshopControllerAbstractClass)
-						.getAll(page.getSize(), page.getTotalPages(), orderBy, order, null))
+						.getAll(page.getSize(), page.getTotalPages(), orderBy, order, null, getCurrentFilter(), null))
 					.withRel(LINK_LAST_PAGE_REL)
 					.withHreflang(hrefLang)
 					.withMedia(LINK_MEDIA)
@@ -240,6 +252,44 @@ public abstract class WorkshopEntitiesResourceAssemblerAbstract<T extends Worksh
 		return pagedLinks;
 	}
 	
+	/**
+	 * The paged Links have to keep the filter of the current request so that the end Users are paging through the
+	 * same filtered collection.
+	 *
+	 * @return The 'filter' parameter of the current request or null if there is no such a parameter or no request.
+	 */
+	@Nullable
+	String getCurrentFilter() {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (!(requestAttributes instanceof ServletRequestAttributes)) {
+			return null;
+		}
+		String filter = ((ServletRequestAttributes) requestAttributes).getRequest().getParameter("filter");
+		return filter == null || filter.isEmpty() ? null : filter;
+	}
+	
+	/**
+	 * @param page     The current Page to derive the boundary WorkshopEntity from.
+	 * @param backward If true the cursor to the previous page (before the first WorkshopEntity) will be created,
+	 *                 otherwise to the next one (after the last WorkshopEntity).
+	 * @return The encoded {@link KeysetCursor} or null if the Page is empty or its boundary WorkshopEntity doesn't have
+	 * an 'orderBy' value, so the offset pagination will be used by the Link.
+	 */
+	@Nullable
+	String getKeysetCursor(Page<?> page, boolean backward) {
+		if (!page.hasContent() || page.getSort().isUnsorted()) {
+			return null;
+		}
+		List<?> content = page.getContent();
+		Object boundary = backward ? content.get(0) : content.get(content.size() - 1);
+		if (!(boundary instanceof WorkshopEntity)) {
+			return null;
+		}
+		Sort.Order sortOrder = page.getSort().iterator().next();
+		return KeysetCursor.encodeFrom(
+			(WorkshopEntity) boundary, sortOrder.getProperty(), sortOrder.getDirection(), backward);
+	}
+	
 	/**
 	 * Don't forget: inner String Page starts with 0 but outer Link for Users starts with 1!
 	 * So for page.getNumber() we must add +1
@@ -311,6 +361,26 @@ public abstract class WorkshopEntitiesResourceAssemblerAbstract<T extends Worksh
 		String hrefLang,
 		String media,
 		String title) {
+		return getPagedLink(pageable, pageNum, null, relation, hrefLang, media, title);
+	}
+	
+	/**
+	 * Don't forget: inner String Page starts with 0 but outer Link for Users starts with 1!
+	 * So for page.getNumber() we must add +1
+	 *
+	 * @param pageable Pageable information from a Clients with the desired parameters for custom Page and info about their current Page.
+	 * @param pageNum  Obligatory current page number
+	 * @param after    @Nullable. The encoded {@link KeysetCursor} to be included into the Link as the 'after' parameter.
+	 * @return A fully prepared Link based on client's Pageable info and @ExposedResourceFor(Class.class) from "WorkshopController<T>".
+	 */
+	protected Link getPagedLink(
+		Pageable pageable,
+		int pageNum,
+		@Nullable String after,
+		String relation,
+		String hrefLang,
+		String media,
+		String title) {
 		String orderBy = pageable.getSort().iterator().next().getProperty();
 		String order = pageable.getSort().getOrderFor(orderBy).getDirection().name();
 		Link link =
@@ -320,6 +390,8 @@ public abstract class WorkshopEntitiesResourceAssemblerAbstract<T extends Worksh
 					pageNum + 1,
 					orderBy,
 					order,
+					after,
+					getCurrentFilter(),
 					null))
 				.withRel(relation)
 				.withHreflang(hrefLang)
@@ -43,6 +43,7 @@ public class AuthorityPermissionsService extends WorkshopEntitiesServiceAbstract
 				orderBy,
 				order,
 				workshopEntityTypeId);
-		return getVerifiedEntitiesPage(pageable, authorityPermissions);
+		return getVerifiedEntitiesPage(pageable, authorityPermissions,
+			() -> authorityPermissionsDao.countAuthorityPermissionsByWorkshopEntityType(workshopEntityTypeId));
 	}
 }
@@ -38,7 +38,7 @@ public class ClassifiersService extends WorkshopEntitiesServiceAbstract<Classifi
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Task or Classifiers from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, readOnly = true)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public Page<Classifier> findAllClassifiersByTask(Pageable pageable, Long taskId)
 		throws IllegalArgumentsException, EntityNotFoundException {
 		
@@ -56,7 +56,8 @@ public class ClassifiersService extends WorkshopEntitiesServiceAbstract<Classifi
 			taskId);
 		
 		Page<Classifier> verifiedClassifiersPageFromDao =
-			super.getVerifiedEntitiesPage(verifiedPageable, allClassifiersByTask);
+			super.getVerifiedEntitiesPage(verifiedPageable, allClassifiersByTask,
+				() -> classifiersDao.countClassifiersByTask(taskId));
 		
 		return verifiedClassifiersPageFromDao;
 	}
@@ -65,7 +66,7 @@ public class ClassifiersService extends WorkshopEntitiesServiceAbstract<Classifi
 	 * @return {@link Classifier} with a new {@link ClassifiersGroup} set
 	 * @throws EntityNotFoundException if neither {@link Classifier} no {@link ClassifiersGroup} were found by IDs
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public Classifier setClassifierGroup(Long classifierId, Long classifierGroupId) throws EntityNotFoundException {
 		
 		super.verifyIdForNullZeroBelowZero(classifierId, classifierGroupId);
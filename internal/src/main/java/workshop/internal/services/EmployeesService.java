@@ -9,8 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
@@ -48,12 +48,24 @@ public class EmployeesService extends WorkshopEntitiesServiceAbstract<Employee>
 	@Override
 	public Employee persistEntity(Employee entity)
 		throws IllegalArgumentException, IllegalArgumentsException, EntityExistsException, PersistenceFailureException {
+		setLanguageTag(entity);
+		return super.persistEntity(entity);
+	}
+	
+	/**
+	 * The same {@link Employee#getLanguageTag()} setting as for {@link #persistEntity(Employee)}.
+	 */
+	@Override
+	protected void prepareToImport(Employee entity) {
+		setLanguageTag(entity);
+	}
+	
+	private void setLanguageTag(Employee entity) {
 		if (entity.getLanguageTag() == null) {
 			entity.setLanguageTag(LocaleContextHolder.getLocale().toLanguageTag());
 		} else if (Locale.forLanguageTag(entity.getLanguageTag()).toLanguageTag() == null) {
 			entity.setLanguageTag(defaultLanguageTag);
 		}
-		return super.persistEntity(entity);
 	}
 	
 	/**
@@ -102,11 +114,18 @@ public class EmployeesService extends WorkshopEntitiesServiceAbstract<Employee>
 				getMessageSource().getMessage(
 					"httpStatus.notFound(1)", new Object[]{"Employees"}, LocaleContextHolder.getLocale())));
 		
-		long totalEmployees = ((EmployeesDao) getWorkshopEntitiesDaoAbstract()).countAllEntities();
-		
-		Page<Employee> employeesPage = new PageImpl<>(employeesByPosition, verifiedPageable, totalEmployees);
+		Page<Employee> employeesPage = PageableExecutionUtils.getPage(employeesByPosition, verifiedPageable,
+			() -> ((EmployeesDao) getWorkshopEntitiesDaoAbstract()).countAllEmployeesByPosition(positionId));
 		
 		return employeesPage;
 	}
 	
+	/**
+	 * The Authentications are built from the Employees.
+	 */
+	@Override
+	protected boolean isAuthenticationsSource() {
+		return true;
+	}
+	
 }
@@ -34,7 +34,7 @@ public class ExternalAuthoritiesService extends WorkshopEntitiesServiceAbstract<
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Order or Tasks from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, readOnly = true)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public Page<ExternalAuthority> findAllGrantedAuthoritiesByUser(Pageable pageable, Long userId)
 		throws IllegalArgumentsException, EntityNotFoundException {
 		
@@ -53,9 +53,18 @@ public class ExternalAuthoritiesService extends WorkshopEntitiesServiceAbstract<
 			userId);
 		
 		Page<ExternalAuthority> verifiedEntitiesPageFromDao =
-			super.getVerifiedEntitiesPage(verifiedPageable, allTasksModifiedByEmployee);
+			super.getVerifiedEntitiesPage(verifiedPageable, allTasksModifiedByEmployee,
+				() -> externalAuthoritiesDao.countAllGrantedAuthoritiesByUser(userId));
 		
 		return verifiedEntitiesPageFromDao;
 	}
 	
+	/**
+	 * The Authentications are built from the ExternalAuthoritys.
+	 */
+	@Override
+	protected boolean isAuthenticationsSource() {
+		return true;
+	}
+	
 }
@@ -0,0 +1,59 @@
+package workshop.internal.services;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The throughput statistics of a single bulk import of WorkshopEntities.
+ * The batch latency includes only persisting and flushing a batch while the overall time also includes reading the
+ * WorkshopEntities from the source (e.g. parsing JSON).
+ */
+@Getter
+@ToString
+public class ImportReport {
+
+	private final String workshopEntityName;
+	private long importedCount;
+	private int batchesCount;
+	private long elapsedMillis;
+	private double rowsPerSecond;
+	private long minBatchMillis;
+	private long maxBatchMillis;
+	private double averageBatchMillis;
+	@Getter(AccessLevel.NONE)
+	private long batchesNanos;
+	@Getter(AccessLevel.NONE)
+	private final long startNanos;
+
+	public ImportReport(String workshopEntityName) {
+		this.workshopEntityName = workshopEntityName;
+		this.startNanos = System.nanoTime();
+	}
+
+	/**
+	 * @param batchSize  The amount of WorkshopEntities within the imported batch.
+	 * @param batchNanos The time the batch was persisted and flushed in.
+	 */
+	void addBatch(int batchSize, long batchNanos) {
+		long batchMillis = TimeUnit.NANOSECONDS.toMillis(batchNanos);
+		minBatchMillis = batchesCount == 0 ? batchMillis : Math.min(minBatchMillis, batchMillis);
+		maxBatchMillis = Math.max(maxBatchMillis, batchMillis);
+		batchesCount++;
+		batchesNanos += batchNanos;
+		averageBatchMillis = (double) TimeUnit.NANOSECONDS.toMicros(batchesNanos) / 1000 / batchesCount;
+		importedCount += batchSize;
+	}
+
+	/**
+	 * Fixes the overall elapsed time and the throughput.
+	 */
+	ImportReport finish() {
+		long elapsedNanos = System.nanoTime() - startNanos;
+		elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+		rowsPerSecond = elapsedNanos == 0 ? 0 : importedCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+		return this;
+	}
+}
@@ -11,9 +11,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
@@ -37,7 +37,7 @@ public class InternalAuthoritiesService extends WorkshopEntitiesServiceAbstract<
 		super(internalAuthoritiesDao);
 	}
 	
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public Page<InternalAuthority> findInternalAuthoritiesByPosition(Pageable pageable, Long positionId)
 		throws EntityNotFoundException {
 		
@@ -61,13 +61,13 @@ public class InternalAuthoritiesService extends WorkshopEntitiesServiceAbstract<
 						new Object[]{getEntityClassSimpleName() + "s ", "Position.ID=" + positionId},
 						LocaleContextHolder.getLocale())));
 		
-		long totalInternalAuthorities = getWorkshopEntitiesDaoAbstract().countAllEntities();
-		Page<InternalAuthority> internalAuthoritiesPage = new PageImpl<>(
-			internalAuthoritiesByPosition, verifiedPageable, totalInternalAuthorities);
+		Page<InternalAuthority> internalAuthoritiesPage = PageableExecutionUtils.getPage(
+			internalAuthoritiesByPosition, verifiedPageable,
+			() -> internalAuthoritiesDao.countInternalAuthoritiesByPosition(positionId));
 		return internalAuthoritiesPage;
 	}
 	
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public void addPositionToInternalAuthority(Long positionId, Long authorityId) {
 		super.verifyIdForNullZeroBelowZero(positionId, authorityId);
 		//For future optimization should be lowered down to DAO layer to be performed by SQL
@@ -78,7 +78,7 @@ public class InternalAuthoritiesService extends WorkshopEntitiesServiceAbstract<
 		authority.getPositions().add(position);
 	}
 	
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public void removePositionFromInternalAuthority(Long positionId, Long authorityId) {
 		super.verifyIdForNullZeroBelowZero(positionId, authorityId);
 		//For future optimization should be lowered down to DAO layer to be performed by SQL
@@ -66,7 +66,7 @@ public class OrdersService extends WorkshopEntitiesServiceAbstract<Order> {
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Order or Tasks from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, readOnly = true)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public Page<Order> findAllOrdersModifiedByEmployee(Pageable pageable, Long employeeId)
 		  throws IllegalArgumentsException, EntityNotFoundException {
 		
@@ -84,7 +84,8 @@ public class OrdersService extends WorkshopEntitiesServiceAbstract<Order> {
 			  employeeId);
 		
 		Page<Order> verifiedEntitiesPageFromDao =
-			  super.getVerifiedEntitiesPage(verifiedPageable, allOrdersModifiedByEmployee);
+			  super.getVerifiedEntitiesPage(verifiedPageable, allOrdersModifiedByEmployee,
+				() -> ordersDao.countAllOrdersModifiedByEmployee(employeeId));
 		
 		return verifiedEntitiesPageFromDao;
 	}
@@ -95,7 +96,7 @@ public class OrdersService extends WorkshopEntitiesServiceAbstract<Order> {
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Order or Tasks from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, readOnly = true)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public Page<Order> findAllOrdersCreatedByEmployee(Pageable pageable, Long employeeId)
 		throws IllegalArgumentsException, EntityNotFoundException {
 		
@@ -113,7 +114,8 @@ public class OrdersService extends WorkshopEntitiesServiceAbstract<Order> {
 			employeeId);
 		
 		Page<Order> verifiedEntitiesPageFromDao =
-			super.getVerifiedEntitiesPage(verifiedPageable, allOrdersCreatedByEmployee);
+			super.getVerifiedEntitiesPage(verifiedPageable, allOrdersCreatedByEmployee,
+				() -> ordersDao.countAllOrdersCreatedByEmployee(employeeId));
 		
 		return verifiedEntitiesPageFromDao;
 	}
@@ -124,7 +126,7 @@ public class OrdersService extends WorkshopEntitiesServiceAbstract<Order> {
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Order or Tasks from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, readOnly = true)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public Page<Order> findAllOrdersCreatedForUser(Pageable pageable, Long userId)
 		throws IllegalArgumentsException, EntityNotFoundException {
 		
@@ -142,7 +144,8 @@ public class OrdersService extends WorkshopEntitiesServiceAbstract<Order> {
 			userId);
 		
 		Page<Order> verifiedEntitiesPageFromDao =
-			super.getVerifiedEntitiesPage(verifiedPageable, allOrdersCreatedForUser);
+			super.getVerifiedEntitiesPage(verifiedPageable, allOrdersCreatedForUser,
+				() -> ordersDao.countAllOrdersCreatedForUser(userId));
 		
 		return verifiedEntitiesPageFromDao;
 	}
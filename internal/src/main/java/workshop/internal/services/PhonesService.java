@@ -55,7 +55,8 @@ public class PhonesService extends WorkshopEntitiesServiceAbstract<Phone> {
 			userId);
 		
 		Page<Phone> verifiedClassifiersPageFromDao =
-			super.getVerifiedEntitiesPage(verifiedPageable, allPhonesByUser);
+			super.getVerifiedEntitiesPage(verifiedPageable, allPhonesByUser,
+				() -> ((PhonesDao) getWorkshopEntitiesDaoAbstract()).countAllPhonesByUser(userId));
 		
 		return verifiedClassifiersPageFromDao;
 	}
@@ -82,7 +83,8 @@ public class PhonesService extends WorkshopEntitiesServiceAbstract<Phone> {
 			employeeId);
 		
 		Page<Phone> verifiedClassifiersPageFromDao =
-			super.getVerifiedEntitiesPage(verifiedPageable, allPhonesByEmployee);
+			super.getVerifiedEntitiesPage(verifiedPageable, allPhonesByEmployee,
+				() -> ((PhonesDao) getWorkshopEntitiesDaoAbstract()).countAllPhonesByEmployee(employeeId));
 		
 		return verifiedClassifiersPageFromDao;
 	}
@@ -0,0 +1,254 @@
+package workshop.internal.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import workshop.exceptions.EntityNotFoundException;
+import workshop.exceptions.IllegalArgumentsException;
+import workshop.exceptions.InternalServerErrorException;
+import workshop.internal.dao.PhotosDao;
+import workshop.internal.entities.Photo;
+import workshop.internal.entities.PhotoOwner;
+import workshop.internal.entities.WorkshopEntity;
+import workshop.internal.services.serviceUtils.PhotoFileStore;
+import workshop.internal.services.serviceUtils.PhotoFileStore.StagedPhoto;
+
+import javax.persistence.PersistenceException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@link Photo} metadata in the DataBase consistent with the photos in the {@link PhotoFileStore}.
+ * The owners ({@link workshop.internal.entities.User}s and {@link workshop.internal.entities.Employee}s) refer to
+ * the photos by their hashes, so a photo is removed only when it is not referred anymore.
+ */
+@Slf4j
+@Service
+public class PhotosService extends WorkshopEntitiesServiceAbstract<Photo> {
+
+	/**
+	 * A new Photo row is inserted and then locked again if it has been released by a concurrent owner in between.
+	 */
+	private static final int MAX_INSERT_ATTEMPTS = 3;
+
+	/**
+	 * Inserts the new Photo rows in their own short transactions so the rows exist to be locked.
+	 */
+	private final TransactionTemplate insertTransaction;
+
+	@Autowired
+	private PhotosDao photosDao;
+
+	@Autowired
+	private PhotoFileStore photoFileStore;
+
+	public PhotosService(PhotosDao photosDao, PlatformTransactionManager transactionManager) {
+		super(photosDao);
+		this.insertTransaction = new TransactionTemplate(transactionManager);
+		this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.insertTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+	}
+
+	/**
+	 * Streams the content into a {@link StagedPhoto} and sets it to the owner instead of its previous photo within the
+	 * single owner update transaction (see {@link #changePhoto(PhotoOwner, StagedPhoto)}).
+	 * The content is staged before the transaction so no DataBase connection is held while it is being streamed.
+	 *
+	 * @param ownersService The service of the owners to update them by
+	 *                      {@link WorkshopEntitiesServiceAbstract#updateEntity(long, java.util.function.Consumer)}.
+	 * @param ownerId       The owner identifier.
+	 * @param content       The photo content stream. Is not closed.
+	 * @param contentType   The MIME type of the photo. Has to be 'image/*'.
+	 * @return The renewed owner with the new {@link PhotoOwner#getPhotoHash()}.
+	 * @throws IllegalArgumentsException    422 if the content is empty, too large or not an image.
+	 * @throws InternalServerErrorException If the content cannot be stored.
+	 * @throws EntityNotFoundException      If the owner doesn't exist.
+	 */
+	public <T extends WorkshopEntity & PhotoOwner> T replacePhoto(
+		WorkshopEntitiesServiceAbstract<T> ownersService, long ownerId, InputStream content, @Nullable String contentType)
+		throws IllegalArgumentsException, InternalServerErrorException, EntityNotFoundException {
+		if (content == null || contentType == null || !contentType.startsWith("image/")) {
+			throw new IllegalArgumentsException("The photo content has to be an image!", "message.photoUploadError",
+				HttpStatus.UNPROCESSABLE_ENTITY);
+		}
+		try (StagedPhoto stagedPhoto = photoFileStore.stage(content, contentType)) {
+			return ownersService.updateEntity(ownerId, owner -> changePhoto(owner, stagedPhoto));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentsException(e.getMessage(), "message.photoUploadError",
+				HttpStatus.UNPROCESSABLE_ENTITY, e);
+		} catch (IOException e) {
+			throw new InternalServerErrorException(e.getMessage(), "message.photoUploadError",
+				HttpStatus.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+	
+	/**
+	 * Removes the photo from the owner and the photo itself if nobody else refers to it within the single owner update
+	 * transaction (see {@link #changePhoto(PhotoOwner, StagedPhoto)}).
+	 *
+	 * @return The renewed owner without the photo.
+	 * @throws EntityNotFoundException If the owner doesn't exist.
+	 */
+	public <T extends WorkshopEntity & PhotoOwner> T removePhoto(
+		WorkshopEntitiesServiceAbstract<T> ownersService, long ownerId) throws EntityNotFoundException {
+		return ownersService.updateEntity(ownerId, owner -> changePhoto(owner, null));
+	}
+	
+	/**
+	 * @throws EntityNotFoundException 404 if there is no such a photo.
+	 */
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public Photo findByHash(String hash) throws EntityNotFoundException {
+		if (hash == null || hash.isEmpty()) {
+			throw new EntityNotFoundException("Photo hash cannot be null or empty!", "httpStatus.notFound",
+				HttpStatus.NOT_FOUND);
+		}
+		return photosDao.findByHash(hash).orElseThrow(() -> new EntityNotFoundException(
+			"Photo.hash=" + hash + " not found!", "httpStatus.notFound", HttpStatus.NOT_FOUND));
+	}
+
+	/**
+	 * Is called within the owner update transaction with the owner just read in it, so its previous photo hash is the
+	 * actual one and the owner change is committed together with the Photo rows changes.
+	 * <p>
+	 * Both the new and the previous Photo rows are locked (in the hashes order so the opposite replacements cannot
+	 * deadlock) before anything is changed, so the references of the previous photo are counted while nobody can start
+	 * referring to it, and the new photo cannot be released by another owner until this transaction ends.
+	 * The released photo files are deleted before the commit, while its row is still locked. A concurrent owner waiting
+	 * for that lock then doesn't find the row and restores the files from its own {@link StagedPhoto}.
+	 * A new photo has no row to be locked, so its row is inserted first (see {@link #lockNewPhoto(StagedPhoto)}).
+	 * (!) If the commit itself fails after the files have been deleted the Photo row stays without the files until the
+	 * same photo is uploaded again.
+	 *
+	 * @param stagedPhoto The new photo or null to remove the current one.
+	 */
+	private void changePhoto(PhotoOwner owner, @Nullable StagedPhoto stagedPhoto) {
+		String previousHash = owner.getPhotoHash();
+		String newHash = stagedPhoto == null ? null : stagedPhoto.getPhoto().getHash();
+		if (Objects.equals(previousHash, newHash)) {
+			return;
+		}
+		Stream.of(previousHash, newHash)
+			.filter(Objects::nonNull)
+			.sorted()
+			.forEach(hash -> {
+				if (hash.equals(newHash)) {
+					lockNewPhoto(stagedPhoto);
+				} else {
+					photosDao.findByHashForUpdate(hash);
+				}
+			});
+		if (stagedPhoto != null) {
+			storePhoto(stagedPhoto);
+		}
+		owner.setPhotoHash(newHash);
+		if (previousHash != null) {
+			releasePhoto(previousHash);
+		}
+	}
+	
+	/**
+	 * Locks the Photo row of the new photo inserting it if it is absent.
+	 * The concurrent uploads of the same new photo both try to insert the row in their own transactions. The loser
+	 * gets the unique {@link Photo#getHash()} violation which is ignored, so both of them then lock the winner's row
+	 * instead of failing the owner update.
+	 * (!) The insert transaction takes another DataBase connection while the owner update one is held.
+	 *
+	 * @throws InternalServerErrorException If the row keeps being released by the concurrent owners.
+	 */
+	private void lockNewPhoto(StagedPhoto stagedPhoto) throws InternalServerErrorException {
+		String hash = stagedPhoto.getPhoto().getHash();
+		for (int attempt = 1; !photosDao.findByHashForUpdate(hash).isPresent(); attempt++) {
+			if (attempt > MAX_INSERT_ATTEMPTS) {
+				throw new InternalServerErrorException("Photo.hash=" + hash + " cannot be inserted!",
+					"message.photoUploadError", HttpStatus.INTERNAL_SERVER_ERROR);
+			}
+			insertPhoto(storePhoto(stagedPhoto));
+		}
+	}
+	
+	/**
+	 * The 'insert if absent' of the Photo row committed at once, so the row is visible to be locked.
+	 * A new Photo is inserted instead of the given one, as the rolled back insert leaves its identifier set.
+	 */
+	private void insertPhoto(Photo storedPhoto) {
+		try {
+			insertTransaction.execute(status -> {
+				if (photosDao.findByHash(storedPhoto.getHash()).isPresent()) {
+					return null;
+				}
+				Photo photo = new Photo();
+				photo.setHash(storedPhoto.getHash());
+				photo.setContentType(storedPhoto.getContentType());
+				photo.setContentLength(storedPhoto.getContentLength());
+				photo.setThumbnailLength(storedPhoto.getThumbnailLength());
+				photosDao.persistEntity(photo);
+				photosDao.getEntityManager().flush();
+				return null;
+			});
+		} catch (DataIntegrityViolationException | PersistenceException e) {
+			log.debug("Photo.hash={} has been inserted concurrently: {}", storedPhoto.getHash(), e.getMessage());
+		}
+	}
+	
+	/**
+	 * Is repeated under the Photo row lock, as a concurrent owner could have removed the files while releasing the
+	 * same photo before the lock has been taken.
+	 */
+	private Photo storePhoto(StagedPhoto stagedPhoto) throws InternalServerErrorException {
+		try {
+			return photoFileStore.store(stagedPhoto);
+		} catch (IOException e) {
+			throw new InternalServerErrorException(e.getMessage(), "message.photoUploadError",
+				HttpStatus.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+	
+	/**
+	 * Has to be called under the Photo row lock after the owner has been changed (the owner update is auto-flushed
+	 * before the references are counted).
+	 */
+	private void releasePhoto(String hash) {
+		if (photosDao.countReferences(hash) > 0) {
+			return;
+		}
+		photosDao.findByHash(hash).ifPresent(photosDao::removeEntity);
+		photosDao.getEntityManager().flush();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				try {
+					photoFileStore.remove(hash);
+				} catch (IOException e) {
+					log.warn("Unreferenced photo {} cannot be removed from the store: {}", hash, e.getMessage());
+				}
+			}
+		});
+	}
+	
+	public Path getContentPath(Photo photo) {
+		return photoFileStore.getContentPath(photo.getHash());
+	}
+
+	/**
+	 * @return The thumbnail path or the content one if the photo doesn't have the thumbnail.
+	 */
+	public Path getThumbnailPath(Photo photo) {
+		return photo.getThumbnailLength() > 0 ?
+			photoFileStore.getThumbnailPath(photo.getHash()) : photoFileStore.getContentPath(photo.getHash());
+	}
+}
@@ -79,10 +79,8 @@ public class PositionsService extends WorkshopEntitiesServiceAbstract<Position>
 					new Object[]{getEntityClass().getSimpleName(), "Department.id=" + departmentId},
 					LocaleContextHolder.getLocale()));
 		}
-		long totalPositionsByDepartment =
-			((PositionsDao) getWorkshopEntitiesDaoAbstract()).countAllPositionsByDepartment(departmentId);
-		
-		return super.getVerifiedEntitiesPage(pageable, allPositionsByDepartment, totalPositionsByDepartment);
+		return super.getVerifiedEntitiesPage(pageable, allPositionsByDepartment,
+			() -> ((PositionsDao) getWorkshopEntitiesDaoAbstract()).countAllPositionsByDepartment(departmentId));
 	}
 	
 	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
@@ -126,8 +124,15 @@ public class PositionsService extends WorkshopEntitiesServiceAbstract<Position>
 				orderBy,
 				order,
 				internalAuthorityId);
-		long totalPositionsByInternalAuthority =
-			((PositionsDao) getWorkshopEntitiesDaoAbstract()).countAllPositionsByInternalAuthority(internalAuthorityId);
-		return super.getVerifiedEntitiesPage(pageable, positionsByAuthority, totalPositionsByInternalAuthority);
+		return super.getVerifiedEntitiesPage(pageable, positionsByAuthority, () ->
+			((PositionsDao) getWorkshopEntitiesDaoAbstract()).countAllPositionsByInternalAuthority(internalAuthorityId));
+	}
+	
+	/**
+	 * The Authentications are built from the Positions.
+	 */
+	@Override
+	protected boolean isAuthenticationsSource() {
+		return true;
 	}
 }
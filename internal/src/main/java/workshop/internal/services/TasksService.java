@@ -42,7 +42,7 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Order or Tasks from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, readOnly = true, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, readOnly = true, isolation = Isolation.READ_COMMITTED)
 	public Page<Task> findTasksByOrder(Pageable pageable, Long orderId)
 		throws EntityNotFoundException, IllegalArgumentsException {
 		
@@ -58,7 +58,8 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 			verifiedPageable.getSort().getOrderFor(orderBy).getDirection(),
 			orderId);
 		
-		Page<Task> tasksPage = super.getVerifiedEntitiesPage(verifiedPageable, allTasksByOrder);
+		Page<Task> tasksPage = super.getVerifiedEntitiesPage(
+			verifiedPageable, allTasksByOrder, () -> ((TasksDao) getWorkshopEntitiesDaoAbstract()).countAllTasksByOrder(orderId));
 		return tasksPage;
 	}
 	
@@ -68,7 +69,7 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Order or Tasks from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, readOnly = true)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public Page<Task> findTasksAppointedToEmployee(Pageable pageable, Long employeeId) {
 		
 		Pageable verifiedPageable = super.getVerifiedAndCorrectedPageable(pageable);
@@ -84,7 +85,8 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 				verifiedPageable.getSort().getOrderFor(orderBy).getDirection(),
 				employeeId);
 		
-		Page<Task> tasksPage = super.getVerifiedEntitiesPage(verifiedPageable, allPagedTasksAppointedToEmployee);
+		Page<Task> tasksPage = super.getVerifiedEntitiesPage(verifiedPageable, allPagedTasksAppointedToEmployee,
+			() -> ((TasksDao) getWorkshopEntitiesDaoAbstract()).countAllTasksAppointedToEmployee(employeeId));
 		return tasksPage;
 	}
 	
@@ -94,7 +96,7 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Order or Tasks from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, readOnly = true)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public Page<Task> findTasksModifiedByEmployee(Pageable pageable, Long employeeId)
 		throws IllegalArgumentsException, EntityNotFoundException {
 		
@@ -113,7 +115,8 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 				employeeId);
 		
 		Page<Task> verifiedEntitiesPageFromDao =
-			super.getVerifiedEntitiesPage(verifiedPageable, allTasksModifiedByEmployee);
+			super.getVerifiedEntitiesPage(verifiedPageable, allTasksModifiedByEmployee,
+				() -> ((TasksDao) getWorkshopEntitiesDaoAbstract()).countAllTasksModifiedByEmployee(employeeId));
 		
 		return verifiedEntitiesPageFromDao;
 	}
@@ -124,7 +127,7 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Order or Tasks from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, readOnly = true)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	
 	public Page<Task> findTasksCreatedByEmployee(Pageable pageable, Long employeeId)
 		throws IllegalArgumentsException, EntityNotFoundException {
@@ -144,7 +147,8 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 				employeeId);
 		
 		Page<Task> verifiedEntitiesPageFromDao =
-			super.getVerifiedEntitiesPage(verifiedPageable, allTasksCreatedByEmployee);
+			super.getVerifiedEntitiesPage(verifiedPageable, allTasksCreatedByEmployee,
+				() -> ((TasksDao) getWorkshopEntitiesDaoAbstract()).countAllTasksCreatedByEmployee(employeeId));
 		
 		return verifiedEntitiesPageFromDao;
 	}
@@ -155,7 +159,7 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 	 * @throws IllegalArgumentsException If the given 'orderID' is null, zero or below.
 	 * @throws EntityNotFoundException   If no Order or Tasks from if were found.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, readOnly = true)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public Page<Task> findTasksByClassifier(Pageable pageable, Long classifierId)
 		throws IllegalArgumentsException, EntityNotFoundException {
 		
@@ -174,7 +178,8 @@ public class TasksService extends WorkshopEntitiesServiceAbstract<Task> {
 				classifierId);
 		
 		Page<Task> verifiedEntitiesPageFromDao =
-			super.getVerifiedEntitiesPage(verifiedPageable, allTasksModifiedByEmployee);
+			super.getVerifiedEntitiesPage(verifiedPageable, allTasksModifiedByEmployee,
+				() -> ((TasksDao) getWorkshopEntitiesDaoAbstract()).countAllTasksByClassifier(classifierId));
 		
 		return verifiedEntitiesPageFromDao;
 	}
@@ -0,0 +1,40 @@
+package workshop.internal.services;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The Page without the total amount of elements (the "no total" mode).
+ * Whether the next Page exists is known from fetching one extra WorkshopEntity instead of 'SELECT COUNT' for the
+ * whole filtered set, so the end Users can only page forward and backward through it.
+ * Both {@link #getTotalElements()} and {@link #getTotalPages()} return -1 as 'unknown'.
+ *
+ * @param <T> WorkshopEntity type.
+ */
+public class UncountedPage<T> extends SliceImpl<T> implements Page<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	public UncountedPage(List<T> content, Pageable pageable, boolean hasNext) {
+		super(content, pageable, hasNext);
+	}
+
+	@Override
+	public int getTotalPages() {
+		return -1;
+	}
+
+	@Override
+	public long getTotalElements() {
+		return -1;
+	}
+
+	@Override
+	public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+		return new UncountedPage<>(getConvertedContent(converter), getPageable(), hasNext());
+	}
+}
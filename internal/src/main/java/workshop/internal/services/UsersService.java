@@ -5,9 +5,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -64,12 +64,24 @@ public class UsersService extends WorkshopEntitiesServiceAbstract<User> {
 	@Override
 	public User persistEntity(User entity)
 		throws IllegalArgumentException, IllegalArgumentsException, EntityExistsException, PersistenceFailureException {
+		setLanguageTag(entity);
+		return super.persistEntity(entity);
+	}
+	
+	/**
+	 * The same {@link User#getLanguageTag()} setting as for {@link #persistEntity(User)}.
+	 */
+	@Override
+	protected void prepareToImport(User entity) {
+		setLanguageTag(entity);
+	}
+	
+	private void setLanguageTag(User entity) {
 		if (entity.getLanguageTag() == null) {
 			entity.setLanguageTag(LocaleContextHolder.getLocale().toLanguageTag());
 		} else if (Locale.forLanguageTag(entity.getLanguageTag()).toLanguageTag() == null) {
 			entity.setLanguageTag(defaultLanguageTag);
 		}
-		return super.persistEntity(entity);
 	}
 	
 	/**
@@ -103,9 +115,9 @@ public class UsersService extends WorkshopEntitiesServiceAbstract<User> {
 			order,
 			authorityId)
 			.orElseThrow(() -> getEntityNotFoundException(getEntityClassSimpleName()));
-		long totalUsers = getWorkshopEntitiesDaoAbstract().countAllEntities();
 		
-		return new PageImpl<>(usersByExternalAuthority, verifiedPageable, totalUsers);
+		return PageableExecutionUtils.getPage(usersByExternalAuthority, verifiedPageable,
+			() -> ((UsersDao) getWorkshopEntitiesDaoAbstract()).countUsersByExternalAuthority(authorityId));
 	}
 	
 	/**
@@ -146,7 +158,7 @@ public class UsersService extends WorkshopEntitiesServiceAbstract<User> {
 //	 * @return Confirmed, enabled and ready to use {@link User}
 //	 */
 /*
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public User confirmNewUserByUuid(String uuid) {
 		Uuid uuidEntity = uuidsDao.findByProperty("uuid", uuid)
 			.orElseThrow(() -> getEntityNotFoundException("Uuid")).get(0);
@@ -211,4 +223,12 @@ public class UsersService extends WorkshopEntitiesServiceAbstract<User> {
 			user.getExternalAuthorities().addAll(authorities);
 		}
 	}
+	
+	/**
+	 * The Authentications are built from the Users.
+	 */
+	@Override
+	protected boolean isAuthenticationsSource() {
+		return true;
+	}
 }
@@ -14,6 +14,7 @@ import workshop.internal.entities.User;
 import workshop.internal.entities.Uuid;
 
 import java.time.ZonedDateTime;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -26,28 +27,37 @@ public class UuidsService extends WorkshopEntitiesServiceAbstract<Uuid> {
 		super(uuidsDao);
 	}
 	
+	/**
+	 * The amount of outdated {@link Uuid}s fetched from the DataBase and processed at once.
+	 */
+	private static final int CLEARING_FETCH_SIZE = 500;
+	
 	/**
 	 * (cron = "[Seconds] [Minutes] [Hours] [Day of month] [Month] [Day of week] [Year]")
 	 * <p>
 	 * To clear the DataBase from outdated {@link Uuid}s created more than 24 hours ago.
+	 * Only the outdated ones are selected and streamed by chunks of {@link #CLEARING_FETCH_SIZE} so the whole table
+	 * is never loaded into the memory.
 	 * Clear interval is set from "workshop.properties" 'cronClearOutdatedUuids=' value.
 	 */
 	@Scheduled(cron = "${cronClearOutdatedUuids}", zone = "Europe/Moscow")
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public void clearOutdatedUuids() {
-		getWorkshopEntitiesDaoAbstract().findAllEntities().ifPresent(uuids ->
-			uuids.stream().filter(uuid -> uuid.getCreated().isBefore(ZonedDateTime.now().minusHours(24)))
-				.forEach(uuid -> {
-					//Removing outdated PasswordResetUuids
-					if (uuid.getPasswordResetUser() != null) {
-						User user = uuid.getPasswordResetUser();
-						user.setPasswordResetUuid(null);
-						//Removing Uuids for new Users and those Users either
-					} else if (uuid.getUser() != null) {
-						User user = uuid.getUser();
-						user.setUuid(null);
-						usersDao.removeEntity(user);
-					}
-				}));
+		ZonedDateTime outdated = ZonedDateTime.now().minusHours(24);
+		try (Stream<Uuid> outdatedUuids = streamAllEntities(
+			(cb, root) -> cb.lessThan(root.get("created"), outdated), CLEARING_FETCH_SIZE)) {
+			outdatedUuids.forEach(uuid -> {
+				//Removing outdated PasswordResetUuids
+				if (uuid.getPasswordResetUser() != null) {
+					User user = uuid.getPasswordResetUser();
+					user.setPasswordResetUuid(null);
+					//Removing Uuids for new Users and those Users either
+				} else if (uuid.getUser() != null) {
+					User user = uuid.getUser();
+					user.setUuid(null);
+					usersDao.removeEntity(user);
+				}
+			});
+		}
 	}
 }
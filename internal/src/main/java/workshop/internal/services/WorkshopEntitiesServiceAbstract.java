@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.*;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -17,17 +18,27 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import workshop.applicationEvents.WorkshopEntitiesEventPublisher;
+import workshop.internal.dao.EntityFilter;
+import workshop.internal.dao.KeysetCursor;
 import workshop.internal.dao.WorkshopEntitiesDaoAbstract;
 import workshop.internal.entities.WorkshopEntity;
+import workshop.internal.entities.utils.EntityPropertyRegistry;
+import workshop.internal.services.serviceUtils.OptimisticLockRetryTemplate;
 import workshop.exceptions.EntityNotFoundException;
 import workshop.exceptions.IllegalArgumentsException;
 import workshop.exceptions.InternalServerErrorException;
 import workshop.exceptions.PersistenceFailureException;
 
-import javax.annotation.PostConstruct;
 import javax.persistence.EntityExistsException;
 import javax.persistence.PersistenceException;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -48,11 +59,6 @@ import java.util.stream.Stream;
 @Service
 public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity> {
 	
-	/**
-	 * Concrete instances of {@link WorkshopEntitiesServiceAbstract} class by {@link WorkshopEntity#getClass()}
-	 */
-	public static Map<Class<? extends WorkshopEntity>, WorkshopEntitiesServiceAbstract<? extends WorkshopEntity>>
-		workshopEntitiesServicesBeans = new HashMap<>();
 	@Value("${page.size.default}")
 	@Getter(AccessLevel.PUBLIC)
 	@Setter(AccessLevel.PUBLIC)
@@ -76,6 +82,9 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	@Autowired
 	@Setter(AccessLevel.PUBLIC)
 	private MessageSource messageSource;
+	@Autowired
+	@Setter(AccessLevel.PUBLIC)
+	private OptimisticLockRetryTemplate optimisticLockRetryTemplate;
 	@Getter(AccessLevel.PUBLIC)
 	private WorkshopEntitiesDaoAbstract<T, Long> workshopEntitiesDaoAbstract;
 	@Getter(AccessLevel.PUBLIC)
@@ -95,84 +104,6 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 		log.trace("{} initialized successfully", entityClass.getSimpleName());
 	}
 	
-	/**
-	 * @param workshopEntityType {@link String} with one of the {@link WorkshopEntity#workshopEntitiesNames}
-	 * @param propertyName       {@link String} with any existing {@link WorkshopEntity} property.
-	 * @param propertyValue      {@link String} as the value of any existing {@link WorkshopEntity} property.
-	 * @return {@literal List<WorkshopEntity> } with the found {@link WorkshopEntity}s in it.
-	 * @throws EntityNotFoundException With the corresponding {@link HttpStatus} and a message for the end Users
-	 *                                 If such a 'workshopEntityType' doesn't exist or cannot be found by either such a
-	 *                                 'propertyName' or 'propertyValue'.
-	 */
-	public static List<WorkshopEntity> findByWorkshopEntityType(
-		String workshopEntityType, String propertyName, String propertyValue) throws EntityNotFoundException {
-		
-		WorkshopEntitiesServiceAbstract.verifyPropertiesForNull(workshopEntityType, propertyName, propertyValue);
-		
-		WorkshopEntitiesServiceAbstract workshopEntitiesServiceBeanByEntityType =
-			WorkshopEntitiesServiceAbstract.getWorkshopEntitiesServiceBeanByEntityType(workshopEntityType);
-		
-		try {
-			List<WorkshopEntity> workshopEntitiesByProperty =
-				workshopEntitiesServiceBeanByEntityType.findByProperty(propertyName, propertyValue);
-			
-			return workshopEntitiesByProperty;
-			
-		} catch (ClassCastException e) {
-			log.debug("Wrong WorkshopEntityClass={}", workshopEntitiesServiceBeanByEntityType.getEntityClassSimpleName(), e);
-			throw new EntityNotFoundException(workshopEntitiesServiceBeanByEntityType.getEntityClassSimpleName() + " class not found!");
-		}
-	}
-	
-	/**
-	 * @param workshopEntityType {@link workshop.internal.entities.WorkshopEntityType} as {@link String} to obtain
-	 *                           {@link WorkshopEntitiesServiceAbstract} for its type.
-	 * @return A concrete {@link WorkshopEntitiesServiceAbstract} as a
-	 * {@link org.springframework.context.annotation.Bean} for the desired {@link WorkshopEntity} type
-	 */
-	public static WorkshopEntitiesServiceAbstract getWorkshopEntitiesServiceBeanByEntityType(String workshopEntityType) {
-		WorkshopEntitiesServiceAbstract.verifyPropertiesForNull(workshopEntityType);
-		
-		String workshopEntityFullyQualifiedName = WorkshopEntity.workshopEntitiesFullyQualifiedNames.stream()
-			.filter(s -> s.contains(workshopEntityType))
-			.findFirst()
-			.orElseThrow(() -> new EntityNotFoundException(""));
-		try {
-			Class<? extends WorkshopEntity> workshopEntityClass =
-				(Class<? extends WorkshopEntity>) Class.forName(workshopEntityFullyQualifiedName, true, WorkshopEntitiesServiceAbstract.class.getClassLoader());
-			
-			WorkshopEntitiesServiceAbstract workshopEntitiesService =
-				WorkshopEntitiesServiceAbstract.workshopEntitiesServicesBeans.get(workshopEntityClass);
-			return workshopEntitiesService;
-			
-		} catch (ClassNotFoundException | ClassCastException e) {
-			log.debug("Wrong WorkshopEntityClass={}", workshopEntityFullyQualifiedName, e);
-			throw new EntityNotFoundException("");
-		}
-		
-	}
-	
-	private static void verifyPropertiesForNull(String... property) throws IllegalArgumentsException {
-		if (property == null || Arrays.stream(property).anyMatch(Objects::isNull)) {
-			log.error("The given property cannot be null!");
-			throw new IllegalArgumentsException(
-				"The given property cannot be null!",
-				"httpStatus.notAcceptable.property",
-				HttpStatus.NOT_ACCEPTABLE);
-		} else if (property.length == 0) {
-			log.error("The given properties cannot be the empty array!");
-			throw new IllegalArgumentsException(
-				"The given properties cannot be the empty array!",
-				"httpStatus.notAcceptable.property",
-				HttpStatus.NOT_ACCEPTABLE);
-		}
-	}
-	
-	@PostConstruct
-	void addThisBeanToMap() {
-		workshopEntitiesServicesBeans.put(entityClass, this);
-	}
-	
 	/**
 	 * @param id WorkshopEntity ID
 	 * @return A found Entity or throws EntityNotFoundException with appropriate HttpStatus and localized message for
@@ -202,12 +133,21 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 * desired value.
 	 * Otherwise throws {@link EntityNotFoundException}
 	 * @throws PersistenceException    In case of problems with the DataBase.
-	 * @throws EntityNotFoundException If nothing was found.
+	 * @throws EntityNotFoundException If nothing was found or the {@link WorkshopEntity} doesn't have such a
+	 *                                 searchable property (according to its {@link EntityPropertyRegistry}).
 	 */
 	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public List<T> findByProperty(String propertyName, String propertyValue) throws PersistenceException, EntityNotFoundException {
 		
 		verifyPropertyForNull(propertyName, propertyValue);
+		if (!EntityPropertyRegistry.of(entityClass).isFilterable(propertyName)) {
+			throw new EntityNotFoundException(
+				entityClassSimpleName + " doesn't have the searchable '" + propertyName + "' property!",
+				HttpStatus.NOT_FOUND,
+				messageSource.getMessage("error.notFoundByProperty(2)",
+					new Object[]{entityClassSimpleName, propertyName},
+					LocaleContextHolder.getLocale()));
+		}
 		
 		List<T> workshopEntitiesByProperty = workshopEntitiesDaoAbstract.findByProperty(propertyName, propertyValue)
 			.orElseThrow(() -> new EntityNotFoundException(
@@ -219,7 +159,36 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 		return workshopEntitiesByProperty;
 	}
 	
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	/**
+	 * @param propertyName  Any existing searchable {@link WorkshopEntity}.propertyName
+	 * @param propertyValue Any desired {@link WorkshopEntity}.propertyName.getValue
+	 * @return True if at least one WorkshopEntity of the given type with the desired value exists.
+	 * @throws EntityNotFoundException   If the {@link WorkshopEntity} doesn't have such a searchable property.
+	 * @throws IllegalArgumentsException If the value cannot be parsed into the property type.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public boolean existsByProperty(String propertyName, String propertyValue)
+		throws EntityNotFoundException, IllegalArgumentsException {
+		
+		verifyPropertyForNull(propertyName, propertyValue);
+		if (!EntityPropertyRegistry.of(entityClass).isFilterable(propertyName)) {
+			throw new EntityNotFoundException(
+				entityClassSimpleName + " doesn't have the searchable '" + propertyName + "' property!",
+				HttpStatus.NOT_FOUND,
+				messageSource.getMessage("error.notFoundByProperty(2)",
+					new Object[]{entityClassSimpleName, propertyName},
+					LocaleContextHolder.getLocale()));
+		}
+		try {
+			return workshopEntitiesDaoAbstract.existsByProperty(propertyName, propertyValue);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentsException(e.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY, messageSource.getMessage(
+				"error.propertyHasToBe(2)", new Object[]{propertyName, "a valid value"},
+				LocaleContextHolder.getLocale()), e);
+		}
+	}
+	
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public T persistOrMergeEntity(T entity)
 		throws IllegalArgumentsException, AuthenticationCredentialsNotFoundException, PersistenceFailureException {
 		
@@ -246,7 +215,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 * @throws PersistenceFailureException                If some properties of the given Entity are incorrect.
 	 * @throws EntityNotFoundException                    If the given Entity.ID is not presented in the DataBase.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public Collection<T> persistOrMergeEntities(T... entity)
 		throws IllegalArgumentsException, AuthenticationCredentialsNotFoundException, PersistenceFailureException, EntityNotFoundException {
 		
@@ -270,7 +239,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 *                                     2) With 422 HttpStatus.UNPROCESSABLE_ENTITY if its 'identifier' not null
 	 *                                     and greater than 0. As to be persisted Entities dont't have to have their own ids.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public T persistEntity(T entity)
 		throws IllegalArgumentException, IllegalArgumentsException, EntityExistsException, PersistenceFailureException {
 		if (entity == null) {
@@ -290,7 +259,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 				LocaleContextHolder.getLocale())));
 	}
 	
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public Collection<T> persistEntities(T... entity)
 		throws IllegalArgumentsException, AuthenticationCredentialsNotFoundException, PersistenceFailureException, EntityNotFoundException {
 		
@@ -308,10 +277,12 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 * @return An updated and managed copy of the given entity.
 	 * @throws IllegalArgumentException    {@literal If the given entity == null or its id == null or id <= 0. As to be updated
 	 *                                     (merged) this WorkshopEntity has to be exist in the DataBase.}
-	 * @throws PersistenceFailureException If the given entity is in the removed state (not found in the DataBase)
+	 * @throws PersistenceFailureException 1) If the given entity is in the removed state (not found in the DataBase)
 	 *                                     with 410 HttpStatus.GONE and the explicit localized message for the end User.
+	 *                                     2) With 428 HttpStatus.PRECONDITION_REQUIRED if the detached entity (e.g.
+	 *                                     from the request body) doesn't have its {@link WorkshopEntity#getVersion()}.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public T mergeEntity(T entity) throws IllegalArgumentException, PersistenceFailureException {
 		if (entity == null) {
 			throw new IllegalArgumentsException("Entity cannot be null!", "httpStatus.notAcceptable.null",
@@ -320,12 +291,46 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 			throw new PersistenceFailureException("Id (identifier) must by null or zero!",
 				HttpStatus.UNPROCESSABLE_ENTITY, messageSource.getMessage(
 				"error.propertyHasToBe(2)", new Object[]{"id", "> 0"}, LocaleContextHolder.getLocale()));
+		} else if (!workshopEntitiesDaoAbstract.isVersioned(entity)) {
+			throw new PersistenceFailureException("The version of the " + entityClass.getSimpleName() + " to be updated " +
+				"is required!", HttpStatus.PRECONDITION_REQUIRED, messageSource.getMessage(
+				"error.versionRequired", null, LocaleContextHolder.getLocale()));
 		}
 		return workshopEntitiesDaoAbstract.mergeEntity(entity).orElseThrow(() -> new PersistenceFailureException(
 			"Updating the " + entityClass.getSimpleName() + " is failed! Such an object wasn't found to be updated!",
 			HttpStatus.GONE));
 	}
 	
+	/**
+	 * Loads the current state of the WorkshopEntity, applies the given update to it and merges it back with the
+	 * {@link OptimisticLockRetryTemplate} retries if the WorkshopEntity has been concurrently updated meanwhile.
+	 * Only joins the current transaction (if any) so the retries are possible only outside of it.
+	 *
+	 * @param id               WorkshopEntity ID
+	 * @param idempotentUpdate The update which gives the same result whatever the current state is (e.g. setting a
+	 *                         property to the given value). Can be applied several times.
+	 * @return The updated and managed WorkshopEntity.
+	 * @throws EntityNotFoundException                                   If nothing was found.
+	 * @throws org.springframework.dao.OptimisticLockingFailureException If all the retries are failed.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public T updateEntity(long id, Consumer<T> idempotentUpdate) throws EntityNotFoundException {
+		return optimisticLockRetryTemplate.execute(() -> {
+			T entity = findById(id);
+			idempotentUpdate.accept(entity);
+			return mergeEntity(entity);
+		});
+	}
+	
+	/**
+	 * @param id WorkshopEntity ID
+	 * @return The current {@link WorkshopEntity#getVersion()} or Optional.empty() if there is no such a WorkshopEntity.
+	 */
+	@Transactional(propagation = Propagation.REQUIRED, readOnly = true, isolation = Isolation.READ_COMMITTED)
+	public Optional<Long> findVersion(long id) {
+		return workshopEntitiesDaoAbstract.findVersion(id);
+	}
+	
 	/**
 	 * @param entities {@link WorkshopEntitiesServiceAbstract#persistEntities(Collection)}
 	 * @return A collection of only those entities which were able to be persisted.
@@ -334,7 +339,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 * Otherwise the collection of detached entities will be returned (not to overload the memory and JPA first-level cache)
 	 * and you will have to get entities from your collection yourself.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public Collection<T> mergeEntities(Collection<T> entities) {
 		if (entities == null || entities.size() == 0) {
 			throw new IllegalArgumentException("Collection<Entity> cannot be null or have a zero size!");
@@ -352,7 +357,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 * Otherwise the collection of detached entities will be returned (not to overload the memory and JPA first-level cache)
 	 * and you will have to get entities from your collection yourself.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public Collection<T> mergeEntities(T... entities) {
 		if (entities == null || entities.length == 0) {
 			throw new IllegalArgumentException("Collection<Entity> cannot be null or have a zero size!");
@@ -365,7 +370,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 * @throws IllegalArgumentsException If the given WorkshopEntity == null
 	 * @throws EntityNotFoundException   If such an WorkshopEntity was not found in the DataBase
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public void removeEntity(T entity) throws IllegalArgumentsException, EntityNotFoundException {
 		if (entity == null) {
 			throw new IllegalArgumentsException("Entity cannot be null!", "httpStatus.notAcceptable.null",
@@ -395,7 +400,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 *                                   will
 	 *                                   be thrown.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public void removeEntity(long id) throws IllegalArgumentException, EntityNotFoundException {
 		
 		verifyIdForNullZeroBelowZero(id);
@@ -412,7 +417,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	/**
 	 * @throws IllegalArgumentsException If a given Collection is null it will be thrown with HttpStatus.NOT_ACCEPTABLE
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public void removeEntities(Collection<T> entities) throws IllegalArgumentsException {
 		if (entities == null) {
 			throw new IllegalArgumentsException("Entities collection cannot be null!",
@@ -427,6 +432,59 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 //		entities.forEach(this::removeEntity);
 	}
 	
+	/**
+	 * Removes the WorkshopEntities by their identifiers with a few bulk statements without loading them.
+	 * As no JPA cascades are applied (see {@link WorkshopEntitiesDaoAbstract#removeAllByIds(Collection)}) it is
+	 * intended for the WorkshopEntities without dependent ones (e.g. finished Tasks).
+	 *
+	 * @param ids The identifiers of the WorkshopEntities to be removed.
+	 * @return The amount of removed WorkshopEntities.
+	 * @throws IllegalArgumentsException If the given Collection is null or contains null, zero or below zero
+	 *                                   identifiers it will be thrown with HttpStatus.NOT_ACCEPTABLE
+	 */
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
+	public int removeAllByIds(Collection<Long> ids) throws IllegalArgumentsException {
+		if (verifyIdsForBulk(ids)) {
+			return 0;
+		}
+		int removedCount = workshopEntitiesDaoAbstract.removeAllByIds(ids);
+		publishBulkAuthenticationsChangedEvents(ids);
+		log.debug("{} {}s removed in bulk", removedCount, entityClassSimpleName);
+		return removedCount;
+	}
+	
+	/**
+	 * Sets the same value of the given property to all the WorkshopEntities with the given identifiers by a few bulk
+	 * statements without loading them.
+	 * See {@link WorkshopEntitiesDaoAbstract#updatePropertyForIds(Collection, String, String)}.
+	 *
+	 * @param ids           The identifiers of the WorkshopEntities to be updated.
+	 * @param propertyName  Any single-valued basic property except the 'identifier'.
+	 * @param propertyValue The new value or null.
+	 * @return The amount of updated WorkshopEntities.
+	 * @throws IllegalArgumentsException 1) If the given Collection is null or contains null, zero or below zero
+	 *                                   identifiers it will be thrown with HttpStatus.NOT_ACCEPTABLE
+	 *                                   2) If the property cannot be updated or the value cannot be parsed it will be
+	 *                                   thrown with HttpStatus.UNPROCESSABLE_ENTITY
+	 */
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
+	public int updatePropertyForIds(Collection<Long> ids, String propertyName, @Nullable String propertyValue)
+		throws IllegalArgumentsException {
+		if (verifyIdsForBulk(ids)) {
+			return 0;
+		}
+		try {
+			int updatedCount = workshopEntitiesDaoAbstract.updatePropertyForIds(ids, propertyName, propertyValue);
+			publishBulkAuthenticationsChangedEvents(ids);
+			log.debug("{} {}s updated in bulk", updatedCount, entityClassSimpleName);
+			return updatedCount;
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentsException(e.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY,
+				messageSource.getMessage("error.saveOrUpdate(1)", new Object[]{entityClassSimpleName + "s"},
+					LocaleContextHolder.getLocale()), e);
+		}
+	}
+	
 	/**
 	 * @param entities {@link WorkshopEntitiesServiceAbstract#persistEntities(Collection)}
 	 * @return {@link WorkshopEntitiesServiceAbstract#persistEntities(Collection)} If the given collection doesn't exceed
@@ -434,7 +492,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 * Otherwise an Collections.emptyList() will be returned (not to overload the memory and JPA first-level cache) and you
 	 * will have to get entities from your collection yourself.
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public Collection<T> persistEntities(Collection<T> entities) {
 		if (entities == null || entities.size() == 0) {
 			throw new IllegalArgumentException("Collection<Entity> cannot be null or have a zero size!");
@@ -442,6 +500,98 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 		return workshopEntitiesDaoAbstract.persistEntities(entities).orElse(Collections.emptyList());
 	}
 	
+	/**
+	 * The bulk import of the new WorkshopEntities pulled from the given Iterator by batches of
+	 * {@link WorkshopEntitiesDaoAbstract#getBatchSize()} so only one batch is kept in memory at once (if the Iterator
+	 * reads them incrementally as well).
+	 * Every batch is persisted without obtaining the managed copies, flushed within JDBC batches and cleared from the
+	 * persistence context. All the batches are performed within the single transaction so any failure rolls back the
+	 * whole import.
+	 *
+	 * @param entities New WorkshopEntities with null or zero identifiers.
+	 * @return The statistics of the import.
+	 * @throws IllegalArgumentsException   If the given Iterator is null or returns null.
+	 * @throws PersistenceFailureException 1) With 422 HttpStatus.UNPROCESSABLE_ENTITY if a WorkshopEntity has its
+	 *                                     own 'identifier'.
+	 *                                     2) With 409 HttpStatus.CONFLICT if a batch persisting failed.
+	 */
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
+	public ImportReport importEntities(Iterator<T> entities)
+		throws IllegalArgumentsException, PersistenceFailureException {
+		if (entities == null) {
+			throw new IllegalArgumentsException("Entities iterator cannot be null!", "httpStatus.notAcceptable.null",
+				HttpStatus.NOT_ACCEPTABLE);
+		}
+		int batchSize = workshopEntitiesDaoAbstract.getBatchSize();
+		ImportReport importReport = new ImportReport(entityClassSimpleName);
+		List<T> batch = new ArrayList<>(batchSize);
+		while (entities.hasNext()) {
+			T entity = entities.next();
+			verifyEntityForNull(entity);
+			if (entity.getIdentifier() != null && entity.getIdentifier() > 0) {
+				throw new PersistenceFailureException("Id (identifier) must by null or zero!",
+					HttpStatus.UNPROCESSABLE_ENTITY, messageSource.getMessage(
+					"error.propertyHasToBe(2)",
+					new Object[]{entityClassSimpleName + ".ID", "empty (null) or 0"},
+					LocaleContextHolder.getLocale()));
+			}
+			prepareToImport(entity);
+			batch.add(entity);
+			if (batch.size() == batchSize) {
+				importBatch(batch, importReport);
+			}
+		}
+		if (!batch.isEmpty()) {
+			importBatch(batch, importReport);
+		}
+		importReport.finish();
+		log.info("{} {}s imported by {} batches in {} ms ({} rows/sec)", importReport.getImportedCount(),
+			entityClassSimpleName, importReport.getBatchesCount(), importReport.getElapsedMillis(),
+			Math.round(importReport.getRowsPerSecond()));
+		return importReport;
+	}
+	
+	/**
+	 * Has to be overridden to return true for the WorkshopEntities the Authentications are built from (they publish
+	 * {@link workshop.applicationEvents.AuthenticationsChangedEvent} from their entity callbacks), so their bulk
+	 * changes revoke the Authentications as well.
+	 */
+	protected boolean isAuthenticationsSource() {
+		return false;
+	}
+	
+	/**
+	 * The bulk statements bypass the entity callbacks, so the events are published for all the given identifiers
+	 * (they are only delivered after the commit).
+	 */
+	private void publishBulkAuthenticationsChangedEvents(Collection<Long> ids) {
+		if (isAuthenticationsSource()) {
+			ids.forEach(id -> WorkshopEntitiesEventPublisher.publishAuthenticationsChangedEvent(entityClass, id));
+		}
+	}
+	
+	/**
+	 * Is called for every imported WorkshopEntity before persisting (e.g. to set the default values the
+	 * {@link #persistEntity(WorkshopEntity)} overridings set).
+	 */
+	protected void prepareToImport(T entity) {
+	}
+	
+	private void importBatch(List<T> batch, ImportReport importReport) throws PersistenceFailureException {
+		long batchStart = System.nanoTime();
+		try {
+			workshopEntitiesDaoAbstract.persistBatch(batch);
+		} catch (PersistenceException e) {
+			throw new PersistenceFailureException(e.getMessage(), HttpStatus.CONFLICT, messageSource.getMessage(
+				"error.saveFailure(1)", new Object[]{entityClassSimpleName + "s"}, LocaleContextHolder.getLocale()), e);
+		}
+		long batchNanos = System.nanoTime() - batchStart;
+		importReport.addBatch(batch.size(), batchNanos);
+		log.debug("Batch #{} of {} {}s imported in {} ms", importReport.getBatchesCount(), batch.size(),
+			entityClassSimpleName, batchNanos / 1_000_000);
+		batch.clear();
+	}
+	
 	/**
 	 * @param pageable If doesn't contain 'Sort' with property to be ordered by and Sort.Direction,
 	 *                 {@link #DEFAULT_ORDER_BY} with {@link #DEFAULT_ORDER} will be used
@@ -474,6 +624,130 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 		}
 	}
 	
+	/**
+	 * The keyset (seek) variant of {@link #findAllEntities(Pageable)}.
+	 *
+	 * @param pageable PageRequest with the same 'orderBy' and 'order' the cursor was created with. Its pageNumber is
+	 *                 only kept for the informational purposes (the current page number for the end Users) and
+	 *                 doesn't affect the query.
+	 * @param after    @Nullable. The encoded {@link KeysetCursor} from the 'nextPage' or 'previousPage' Links.
+	 *                 If null or empty the usual offset pagination from {@link #findAllEntities(Pageable)} is used.
+	 * @return An {@link UncountedPage} with a collection of Entities. Whether the next page exists is known from
+	 * fetching one extra WorkshopEntity so the total amount of Entities is not counted.
+	 * @throws EntityNotFoundException   If nothing was found.
+	 * @throws IllegalArgumentsException If the given cursor is malformed or was created for another ordering.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public Page<T> findAllEntities(Pageable pageable, @Nullable String after)
+		throws InternalServerErrorException, EntityNotFoundException, IllegalArgumentsException {
+		return findAllEntities(pageable, after, null);
+	}
+	
+	/**
+	 * The filtered variant of {@link #findAllEntities(Pageable, String)}.
+	 * The filter expression is parsed once and applied to both the page and the count queries.
+	 *
+	 * @param pageable PageRequest with the same 'orderBy' and 'order' the cursor was created with (if any).
+	 * @param after    @Nullable. The encoded {@link KeysetCursor} from the 'nextPage' or 'previousPage' Links.
+	 * @param filter   @Nullable. The filter expression, e.g. 'deadline<2026-12-01;appointedTo.identifier==42'.
+	 *                 See {@link EntityFilter} for the syntax.
+	 * @return A Page (or {@link UncountedPage} if 'after' is given) with the matching Entities.
+	 * @throws EntityNotFoundException   If nothing was found.
+	 * @throws IllegalArgumentsException With 422 HttpStatus.UNPROCESSABLE_ENTITY if the cursor or the filter is
+	 *                                   malformed or the filter contains not allowed properties.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public Page<T> findAllEntities(Pageable pageable, @Nullable String after, @Nullable String filter)
+		throws InternalServerErrorException, EntityNotFoundException, IllegalArgumentsException {
+		if ((after == null || after.isEmpty()) && (filter == null || filter.isEmpty())) {
+			return findAllEntities(pageable);
+		}
+		return findAllEntities(pageable, after, filter, false);
+	}
+	
+	/**
+	 * The same as {@link #findAllEntities(Pageable, String, String)} but the page consists of the summaries of the
+	 * Entities (see {@link WorkshopEntitiesDaoAbstract#getSummaryPropertyNames()}) selected by the projection
+	 * query. They are transient, so they are neither dirty-checked nor cached and their collections and large objects
+	 * are not loaded. Intended for the paged lists to be serialized only.
+	 *
+	 * @param pageable PageRequest with the same 'orderBy' and 'order' the cursor was created with (if any).
+	 * @param after    @Nullable. The encoded {@link KeysetCursor} from the 'nextPage' or 'previousPage' Links.
+	 * @param filter   @Nullable. The filter expression (see {@link EntityFilter}).
+	 * @return A Page (or {@link UncountedPage} if 'after' is given) with the read-only transient Entities.
+	 * @throws EntityNotFoundException   If nothing was found.
+	 * @throws IllegalArgumentsException With 422 HttpStatus.UNPROCESSABLE_ENTITY if the cursor or the filter is
+	 *                                   malformed or the filter contains not allowed properties.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public Page<T> findAllSummaries(Pageable pageable, @Nullable String after, @Nullable String filter)
+		throws InternalServerErrorException, EntityNotFoundException, IllegalArgumentsException {
+		if (pageable == null) {
+			throw new InternalServerErrorException("Pageable cannot by null!");
+		}
+		return findAllEntities(pageable, after, filter, true);
+	}
+	
+	private Page<T> findAllEntities(Pageable pageable, @Nullable String after, @Nullable String filter, boolean summaries)
+		throws InternalServerErrorException, EntityNotFoundException, IllegalArgumentsException {
+		EntityFilter entityFilter = parseFilter(filter);
+		pageable = getVerifiedAndCorrectedPageable(pageable);
+		
+		String orderBy = pageable.getSort().iterator().next().getProperty();
+		Sort.Direction order = pageable.getSort().getOrderFor(orderBy).getDirection();
+		if (after == null || after.isEmpty()) {
+			try {
+				Optional<List<T>> entities = summaries ?
+					workshopEntitiesDaoAbstract.findAllSummaries(
+						pageable.getPageSize(), pageable.getPageNumber(), orderBy, order, entityFilter) :
+					workshopEntitiesDaoAbstract.findAllEntities(
+						pageable.getPageSize(), pageable.getPageNumber(), orderBy, order, entityFilter);
+				return getVerifiedEntitiesPage(
+					pageable, entities, () -> workshopEntitiesDaoAbstract.countAllEntities(entityFilter));
+			} catch (PersistenceException e) {
+				throw new EntityNotFoundException(e.getMessage(), HttpStatus.NOT_FOUND, messageSource.getMessage(
+					"error.notFoundByProperty(2)", new Object[]{entityClass.getSimpleName(), orderBy},
+					LocaleContextHolder.getLocale()), e);
+			}
+		}
+		try {
+			KeysetCursor cursor = KeysetCursor.decode(after);
+			Optional<List<T>> entities = summaries ?
+				workshopEntitiesDaoAbstract.findAllSummaries(pageable.getPageSize(), orderBy, order, cursor, true, entityFilter) :
+				workshopEntitiesDaoAbstract.findAllEntities(pageable.getPageSize(), orderBy, order, cursor, true, entityFilter);
+			//Keyset pages are only paged forward and backward so no 'SELECT COUNT' is needed
+			return getVerifiedUncountedPage(pageable, entities, cursor.isBackward());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentsException(e.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY, messageSource.getMessage(
+				"error.propertyHasToBe(2)", new Object[]{"after", "a cursor from the 'nextPage' or 'previousPage' Link"},
+				LocaleContextHolder.getLocale()), e);
+		} catch (PersistenceException e) {
+			throw new EntityNotFoundException(e.getMessage(), HttpStatus.NOT_FOUND, messageSource.getMessage(
+				"error.notFoundByProperty(2)", new Object[]{entityClass.getSimpleName(), orderBy},
+				LocaleContextHolder.getLocale()), e);
+		}
+	}
+
+	/**
+	 * @param filter @Nullable. The filter expression from the end Users.
+	 * @return The parsed filter or null if the expression is null or empty.
+	 * @throws IllegalArgumentsException With 422 HttpStatus.UNPROCESSABLE_ENTITY and the localized message if the
+	 *                                   expression is malformed or contains not allowed properties.
+	 */
+	@Nullable
+	private EntityFilter parseFilter(@Nullable String filter) throws IllegalArgumentsException {
+		if (filter == null || filter.isEmpty()) {
+			return null;
+		}
+		try {
+			return workshopEntitiesDaoAbstract.parseFilter(filter);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentsException(e.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY, messageSource.getMessage(
+				"error.propertyHasToBe(2)", new Object[]{"filter", "'property operator value' conditions separated by " +
+					"';' by the indexed properties only"}, LocaleContextHolder.getLocale()), e);
+		}
+	}
+	
 	/**
 	 * @return A List<WorkshopEntity> with a collection of Entities or {@link EntityNotFoundException} will be thrown if
 	 * nothing found or something went wrong during the search.
@@ -492,6 +766,28 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 		}
 	}
 	
+	/**
+	 * Streams all the (or only the filtered) Entities from the DataBase cursor instead of loading them into the
+	 * memory at once as {@link #findAllEntities()} does.
+	 * The calling code has to provide the transaction and close the returned Stream (e.g. with 'try-with-resources').
+	 *
+	 * @param criteria  @Nullable. The function to build the 'WHERE' predicate, e.g.
+	 *                  '(cb, root) -> cb.lessThan(root.get("created"), outdated)'.
+	 * @param fetchSize The amount of rows fetched at once and processed between the persistence context clearings.
+	 * @return The lazy Stream of Entities ordered by 'identifier'.
+	 * @throws InternalServerErrorException In case of database problems or if fetchSize <= 0.
+	 * @see WorkshopEntitiesDaoAbstract#streamAll(BiFunction, int)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY, isolation = Isolation.READ_COMMITTED)
+	public Stream<T> streamAllEntities(@Nullable BiFunction<CriteriaBuilder, Root<T>, Predicate> criteria, int fetchSize)
+		throws InternalServerErrorException {
+		try {
+			return workshopEntitiesDaoAbstract.streamAll(criteria, fetchSize);
+		} catch (IllegalArgumentException | PersistenceException e) {
+			throw new InternalServerErrorException(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+	
 	//TODO: to complete null check and docs
 	
 	/**
@@ -558,19 +854,7 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 * @throws EntityNotFoundException If no Entities were found.
 	 */
 	protected Page<T> getVerifiedEntitiesPage(Pageable pageable, Optional<List<T>> entities) throws EntityNotFoundException {
-		
-		long totalEntities = workshopEntitiesDaoAbstract.countAllEntities();
-		
-		Page<T> entitiesPage = new PageImpl<T>(entities.orElseThrow(() ->
-			new EntityNotFoundException("No " + entityClass.getSimpleName() + "s were found!",
-				HttpStatus.NOT_FOUND,
-				messageSource.getMessage("httpStatus.notFound(1)",
-					new Object[]{entityClass.getSimpleName() + "s"},
-					LocaleContextHolder.getLocale()))),
-			pageable, totalEntities);
-		log.debug("A Page with the collection of {}s is found", entityClass.getSimpleName());
-		
-		return entitiesPage;
+		return getVerifiedEntitiesPage(pageable, entities, workshopEntitiesDaoAbstract::countAllEntities);
 	}
 	
 	/**
@@ -591,19 +875,59 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 	 */
 	protected Page<T> getVerifiedEntitiesPage(Pageable pageable, Optional<List<T>> entities, Long totalEntities)
 		throws EntityNotFoundException {
+		return getVerifiedEntitiesPage(pageable, entities, () -> totalEntities);
+	}
+	
+	/**
+	 * The same as {@link #getVerifiedEntitiesPage(Pageable, Optional, Long)} but the total amount of Entities is
+	 * counted only if it cannot be derived from the Page itself.
+	 * E.g. the first Page which is not full or the last Page don't need any 'SELECT COUNT' to know the total.
+	 *
+	 * @param pageable             PageRequest with verified parameters to prepare Page from.
+	 * @param entities             Found WorkshopEntities collection from WorkshopEntitiesDao
+	 * @param totalEntitiesCounter The count query with the same filtering predicate as the one the 'entities' were
+	 *                             found with (e.g. 'PositionsDao.countAllPositionsByDepartment(departmentId)').
+	 * @return Page with number of pages, all the included pages parameters, total elements etc.
+	 * @throws EntityNotFoundException If no Entities were found.
+	 */
+	protected Page<T> getVerifiedEntitiesPage(
+		Pageable pageable, Optional<List<T>> entities, LongSupplier totalEntitiesCounter) throws EntityNotFoundException {
 		
-		Page<T> entitiesPage = new PageImpl<T>(entities.orElseThrow(() ->
+		Page<T> entitiesPage = PageableExecutionUtils.getPage(entities.orElseThrow(() ->
 			new EntityNotFoundException("No " + entityClass.getSimpleName() + "s were found!",
 				HttpStatus.NOT_FOUND,
 				messageSource.getMessage("httpStatus.notFound(1)",
 					new Object[]{entityClass.getSimpleName() + "s"},
 					LocaleContextHolder.getLocale()))),
-			pageable, totalEntities);
+			pageable, totalEntitiesCounter);
 		log.debug("A Page with the collection of {}s is found", entityClass.getSimpleName());
 		
 		return entitiesPage;
 	}
 	
+	/**
+	 * The "no total" variant of {@link #getVerifiedEntitiesPage(Pageable, Optional)} for the Entities fetched with
+	 * one extra WorkshopEntity (the 'hasNext' probe) instead of counting them all.
+	 *
+	 * @param pageable PageRequest with verified parameters to prepare Page from.
+	 * @param entities Found WorkshopEntities with up to pageSize+1 elements.
+	 * @param backward True if the Entities were fetched backward, so the extra one is the first one and the next
+	 *                 Page (the one the end User came from) is always exists.
+	 * @return {@link UncountedPage} with exactly 'pageSize' Entities at most.
+	 * @throws EntityNotFoundException If no Entities were found.
+	 */
+	protected Page<T> getVerifiedUncountedPage(Pageable pageable, Optional<List<T>> entities, boolean backward)
+		throws EntityNotFoundException {
+		
+		List<T> probedEntities = entities.orElseThrow(() -> getEntityNotFoundException(entityClassSimpleName + "s"));
+		boolean hasMore = probedEntities.size() > pageable.getPageSize();
+		List<T> pageEntities = !hasMore ? probedEntities : backward ?
+			probedEntities.subList(1, probedEntities.size()) : probedEntities.subList(0, pageable.getPageSize());
+		log.debug("An uncounted Page with the collection of {}s is found", entityClass.getSimpleName());
+		
+		return new UncountedPage<>(pageEntities, pageable, backward || hasMore);
+	}
+	
 	/**
 	 * The convenient method to obtain a fully prepared EntityNotFoundException.
 	 *
@@ -701,6 +1025,22 @@ public abstract class WorkshopEntitiesServiceAbstract<T extends WorkshopEntity>
 		}
 	}
 	
+	/**
+	 * @return True if there is nothing to be processed.
+	 * @throws IllegalArgumentsException If the given identifiers are null or contain null, zero or below zero ones.
+	 */
+	private boolean verifyIdsForBulk(Collection<Long> ids) throws IllegalArgumentsException {
+		if (ids == null) {
+			throw new IllegalArgumentsException("Identifiers collection cannot be null!",
+				"httpStatus.notAcceptable.null",
+				HttpStatus.NOT_ACCEPTABLE);
+		} else if (ids.isEmpty()) {
+			return true;
+		}
+		verifyIdForNullZeroBelowZero(ids.toArray(new Long[0]));
+		return false;
+	}
+	
 	/**
 	 * @param entity Entity to be checked for nullability.
 	 * @throws IllegalArgumentsException With the HttpStatus.UNPROCESSABLE_ENTITY and localized message for end users.
@@ -3,9 +3,9 @@ package workshop.internal.services;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
@@ -38,8 +38,8 @@ public class WorkshopEntityTypesService extends WorkshopEntitiesServiceAbstract<
 				orderBy,
 				order, authorityPermissionId)
 				.orElseThrow(() -> getEntityNotFoundException(getEntityClassSimpleName()));
-		long workshopEntityTypesTotal = workshopEntityTypesDao.countAllEntities();
 		
-		return new PageImpl<>(entityTypeList, pageable, workshopEntityTypesTotal);
+		return PageableExecutionUtils.getPage(entityTypeList, pageable,
+			() -> workshopEntityTypesDao.countEntityTypesByAuthorityPermission(authorityPermissionId));
 	}
 }
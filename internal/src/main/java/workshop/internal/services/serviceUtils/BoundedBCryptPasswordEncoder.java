@@ -0,0 +1,152 @@
+package workshop.internal.services.serviceUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import workshop.exceptions.InternalServerErrorException;
+import workshop.exceptions.TooManyRequestsException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The only {@link BCryptPasswordEncoder} of the application. Every {@link #encode(CharSequence)} and
+ * {@link #matches(CharSequence, String)} is performed by the dedicated 'passwordHashing.threads' while the request
+ * thread waits for it, and not more than 'passwordHashing.queueCapacity' of them may wait for a free hashing thread.
+ * The ones over that limit are rejected at once with the {@link TooManyRequestsException}, so a burst of logins or
+ * registrations cannot occupy all the request threads with the deliberately slow BCrypt.
+ * <p>
+ * The hashing and queue wait times, the queue depth, the busy threads and the rejections are bound as the Micrometer
+ * meters.
+ */
+@Slf4j
+@Component
+public class BoundedBCryptPasswordEncoder extends BCryptPasswordEncoder implements MeterBinder, DisposableBean {
+
+	private static final String METER_PREFIX = "workshop.passwordHashing.";
+
+	private final ThreadPoolExecutor hashingExecutor;
+	private final LongAdder hashesCount = new LongAdder();
+	private final LongAdder hashingNanos = new LongAdder();
+	private final LongAdder waitingNanos = new LongAdder();
+	private final LongAdder rejectionsCount = new LongAdder();
+
+	public BoundedBCryptPasswordEncoder(@Value("${passwordHashing.threads:2}") int threads,
+										@Value("${passwordHashing.queueCapacity:50}") int queueCapacity) {
+		super();
+		if (threads < 1 || queueCapacity < 0) {
+			throw new IllegalArgumentException("The password hashing threads cannot be less than 1 " +
+				"and the queue capacity cannot be negative!");
+		}
+		BlockingQueue<Runnable> queue =
+			queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("passwordHashing-");
+		threadFactory.setDaemon(true);
+		this.hashingExecutor = new ThreadPoolExecutor(
+			threads, threads, 0L, TimeUnit.MILLISECONDS, queue, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return hash(() -> super.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return hash(() -> super.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * @return The amount of the hashings waiting for a free thread.
+	 */
+	public int getQueueDepth() {
+		return hashingExecutor.getQueue().size();
+	}
+
+	/**
+	 * @return The average hashing time in milliseconds or 0 if nothing has been hashed yet.
+	 */
+	public double getAverageHashingMillis() {
+		long count = hashesCount.sum();
+		return count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMillis(hashingNanos.sum()) / count;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		FunctionTimer.builder(METER_PREFIX + "hashing", hashesCount, LongAdder::sum,
+			hashes -> hashingNanos.sum(), TimeUnit.NANOSECONDS)
+			.description("The time of the BCrypt hashing itself")
+			.register(meterRegistry);
+		FunctionTimer.builder(METER_PREFIX + "waiting", hashesCount, LongAdder::sum,
+			hashes -> waitingNanos.sum(), TimeUnit.NANOSECONDS)
+			.description("The time the hashings have waited in the queue")
+			.register(meterRegistry);
+		Gauge.builder(METER_PREFIX + "queue.depth", this, BoundedBCryptPasswordEncoder::getQueueDepth)
+			.register(meterRegistry);
+		Gauge.builder(METER_PREFIX + "threads.active", hashingExecutor, ThreadPoolExecutor::getActiveCount)
+			.register(meterRegistry);
+		FunctionCounter.builder(METER_PREFIX + "rejections", rejectionsCount, LongAdder::sum)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public void destroy() {
+		hashingExecutor.shutdownNow();
+	}
+
+	/**
+	 * @throws TooManyRequestsException If the queue is full. Its 'Retry-After' is the estimated time to hash the
+	 *                                  current queue.
+	 */
+	private <T> T hash(Callable<T> hashing) throws TooManyRequestsException {
+		long queuedAtNanos = System.nanoTime();
+		Future<T> future;
+		try {
+			future = hashingExecutor.submit(() -> {
+				long startedAtNanos = System.nanoTime();
+				try {
+					return hashing.call();
+				} finally {
+					hashingNanos.add(System.nanoTime() - startedAtNanos);
+					waitingNanos.add(startedAtNanos - queuedAtNanos);
+					hashesCount.increment();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rejectionsCount.increment();
+			long retryAfterMillis = (long) Math.ceil(
+				getAverageHashingMillis() * (getQueueDepth() / hashingExecutor.getMaximumPoolSize() + 1));
+			log.debug("The password hashing is rejected with {} hashings in the queue", getQueueDepth());
+			throw new TooManyRequestsException("The password hashing queue is full!",
+				TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis) + 1);
+		}
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new InternalServerErrorException("The password hashing has been interrupted!", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new InternalServerErrorException(e.getCause().getMessage(), e.getCause());
+		}
+	}
+}
@@ -2,10 +2,14 @@ package workshop.internal.services.serviceUtils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import workshop.internal.dao.PersistenceMetrics;
 import workshop.internal.entities.WorkshopEntity;
+import workshop.internal.services.ImportReport;
 import workshop.exceptions.InternalServerErrorException;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,7 +20,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.TimeZone;
 
 /**
@@ -61,6 +67,48 @@ public class JsonServiceUtils {
 		}
 	}
 	
+	/**
+	 * Reads the JSON array of WorkshopEntities incrementally: the next WorkshopEntity is parsed from the stream only
+	 * when it is requested from the Iterator, so the whole array is never kept in memory.
+	 *
+	 * @param jsonArray   The stream with the JSON array (or the root-level sequence) of WorkshopEntities.
+	 * @param entityClass An exact Entity.class
+	 * @return The Iterator of WorkshopEntities with all the ZonedDateTime fields set to UTC value.
+	 * @throws InternalServerErrorException With 422 HttpStatus.UNPROCESSABLE_ENTITY if the stream cannot be read
+	 *                                      (both immediately and while iterating).
+	 */
+	public <T extends WorkshopEntity> Iterator<T> workshopEntitiesFromJsonArray(
+		InputStream jsonArray, Class<T> entityClass) throws InternalServerErrorException {
+		MappingIterator<T> entitiesIterator;
+		try {
+			entitiesIterator = objectMapper.readerFor(entityClass).readValues(jsonArray);
+		} catch (IOException e) {
+			throw new InternalServerErrorException(e.getMessage(), "error.jsonUnprocessable",
+				HttpStatus.UNPROCESSABLE_ENTITY, e);
+		}
+		return new Iterator<T>() {
+			@Override
+			public boolean hasNext() {
+				try {
+					return entitiesIterator.hasNext();
+				} catch (RuntimeJsonMappingException e) {
+					throw new InternalServerErrorException(e.getMessage(), "error.jsonUnprocessable",
+						HttpStatus.UNPROCESSABLE_ENTITY, e);
+				}
+			}
+			
+			@Override
+			public T next() {
+				try {
+					return entitiesIterator.next();
+				} catch (RuntimeJsonMappingException e) {
+					throw new InternalServerErrorException(e.getMessage(), "error.jsonUnprocessable",
+						HttpStatus.UNPROCESSABLE_ENTITY, e);
+				}
+			}
+		};
+	}
+	
 	public String workshopEntityObjectsToJson(WorkshopEntity entity) {
 		return getJson(entity);
 	}
@@ -106,6 +154,14 @@ public class JsonServiceUtils {
 		return getJson(resources);
 	}
 	
+	public String importReportToJson(ImportReport importReport) {
+		return getJson(importReport);
+	}
+	
+	public String persistenceMetricsToJson(PersistenceMetrics.Snapshot snapshot) {
+		return getJson(snapshot);
+	}
+	
 	private String getJson(Object o) {
 		try {
 			String value = objectMapper.writeValueAsString(o);
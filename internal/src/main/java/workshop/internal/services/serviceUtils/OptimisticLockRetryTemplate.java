@@ -0,0 +1,85 @@
+package workshop.internal.services.serviceUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * The opt-in retry of the idempotent read-modify-write operations which have lost the optimistic lock race
+ * (see {@link workshop.internal.entities.WorkshopAudibleEntityAbstract#getVersion()}).
+ * <p>
+ * Every attempt is performed in its own READ_COMMITTED transaction so it re-reads the current state. Only the
+ * operations which produce the same result whatever concurrent changes they are applied over (e.g. 'set the photo',
+ * 'clear the property') have to be retried, otherwise the conflict has to be returned to the end User.
+ * <p>
+ * (!) Within an already active transaction the operation is performed once without the retries as that transaction
+ * is marked as rollback-only after the first failure.
+ */
+@Slf4j
+@Getter
+@Component
+public class OptimisticLockRetryTemplate {
+
+	private final TransactionTemplate transactionTemplate;
+	private final int maxAttempts;
+	private final long backoffMillis;
+
+	public OptimisticLockRetryTemplate(PlatformTransactionManager transactionManager,
+									   @Value("${optimisticLock.retry.maxAttempts:3}") int maxAttempts,
+									   @Value("${optimisticLock.retry.backoffMillis:50}") long backoffMillis) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+		this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.backoffMillis = Math.max(0, backoffMillis);
+	}
+
+	/**
+	 * @param idempotentOperation The read-modify-write operation to be performed within the transaction.
+	 * @return The result of the first successful attempt.
+	 * @throws OptimisticLockingFailureException If all the attempts are failed.
+	 */
+	public <R> R execute(Supplier<R> idempotentOperation) throws OptimisticLockingFailureException {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return idempotentOperation.get();
+		}
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return transactionTemplate.execute(status -> idempotentOperation.get());
+			} catch (OptimisticLockingFailureException | OptimisticLockException e) {
+				if (attempt >= maxAttempts) {
+					log.debug("Optimistic lock is lost after {} attempts", attempt);
+					throw e instanceof OptimisticLockingFailureException ? (OptimisticLockingFailureException) e :
+						new OptimisticLockingFailureException(e.getMessage(), e);
+				}
+				log.trace("Optimistic lock is lost at the attempt {}: {}", attempt, e.getMessage());
+				backoff(attempt);
+			}
+		}
+	}
+
+	/**
+	 * The growing jittered pause so the competing attempts don't collide again.
+	 */
+	private void backoff(int attempt) {
+		if (backoffMillis == 0) {
+			return;
+		}
+		try {
+			Thread.sleep(backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OptimisticLockingFailureException("Retry is interrupted!", e);
+		}
+	}
+}
@@ -0,0 +1,278 @@
+package workshop.internal.services.serviceUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import workshop.internal.entities.Photo;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.regex.Pattern;
+
+/**
+ * The file system storage of the photos addressed by the SHA-256 of their content: 'root/ab/abcdef...' for the
+ * content and 'root/ab/abcdef....thumb.jpg' for its pre-generated JPEG thumbnail.
+ * <p>
+ * The uploads are streamed into a temporary file while being hashed and then atomically moved to their final path,
+ * so the photo is never held in the memory as a whole and a partially written file is never visible. As the path is
+ * defined by the content, the same photo is stored only once and the stored files are never modified.
+ * <p>
+ * The metadata of the stored photos is kept in the DataBase as {@link Photo} by the
+ * {@link workshop.internal.services.PhotosService}.
+ */
+@Slf4j
+@Getter
+@Component
+public class PhotoFileStore {
+
+	private static final String THUMBNAIL_SUFFIX = ".thumb.jpg";
+	private static final Pattern HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Path rootDirectory;
+	/**
+	 * The max size of the photo content in bytes.
+	 */
+	private final long maxSize;
+	/**
+	 * The max width and height of the thumbnails in pixels.
+	 */
+	private final int thumbnailSize;
+
+	public PhotoFileStore(@Value("${photos.directory}") String rootDirectory,
+						  @Value("${photos.maxSize:5242880}") long maxSize,
+						  @Value("${photos.thumbnailSize:160}") int thumbnailSize) throws IOException {
+		this.rootDirectory = Files.createDirectories(Paths.get(rootDirectory).toAbsolutePath());
+		this.maxSize = maxSize;
+		this.thumbnailSize = thumbnailSize;
+		log.debug("Photos are stored in {}", this.rootDirectory);
+	}
+
+	/**
+	 * Streams the given content into the store and pre-generates its thumbnail (if it is not stored yet).
+	 *
+	 * @param content     The photo content. Is read to the end but not closed.
+	 * @param contentType The MIME type of the content.
+	 * @return The new not persisted {@link Photo} with the hash, content type and lengths set.
+	 * @throws IllegalArgumentException If the content is empty or exceeds the {@link #maxSize}.
+	 * @throws IOException              If the content cannot be read or stored.
+	 */
+	public Photo store(InputStream content, String contentType) throws IllegalArgumentException, IOException {
+		try (StagedPhoto stagedPhoto = stage(content, contentType)) {
+			return store(stagedPhoto);
+		}
+	}
+
+	/**
+	 * Streams the given content into a temporary file while hashing it, so the hash is known before the photo
+	 * becomes visible in the store by {@link #store(StagedPhoto)}.
+	 *
+	 * @param content     The photo content. Is read to the end but not closed.
+	 * @param contentType The MIME type of the content.
+	 * @return The staged photo which temporary file is deleted on {@link StagedPhoto#close()}.
+	 * @throws IllegalArgumentException If the content is empty or exceeds the {@link #maxSize}.
+	 * @throws IOException              If the content cannot be read or stored.
+	 */
+	public StagedPhoto stage(InputStream content, String contentType) throws IllegalArgumentException, IOException {
+		Path temporaryFile = Files.createTempFile(rootDirectory, "upload-", ".tmp");
+		try {
+			MessageDigest digest = newDigest();
+			long contentLength = 0;
+			try (OutputStream out = Files.newOutputStream(temporaryFile)) {
+				DigestInputStream in = new DigestInputStream(content, digest);
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					contentLength += read;
+					if (contentLength > maxSize) {
+						throw new IllegalArgumentException("The photo exceeds the max size of " + maxSize + " bytes!");
+					}
+					out.write(buffer, 0, read);
+				}
+			}
+			if (contentLength == 0) {
+				throw new IllegalArgumentException("The photo cannot be empty!");
+			}
+			Photo photo = new Photo();
+			photo.setHash(toHex(digest.digest()));
+			photo.setContentType(contentType);
+			photo.setContentLength(contentLength);
+			return new StagedPhoto(photo, temporaryFile);
+		} catch (IllegalArgumentException | IOException e) {
+			Files.deleteIfExists(temporaryFile);
+			throw e;
+		}
+	}
+
+	/**
+	 * Puts the staged content to its final path (if it is not there, e.g. it has been removed after the staging) and
+	 * pre-generates its thumbnail (if it is absent). Can be repeated for the same StagedPhoto until it is closed.
+	 *
+	 * @return The {@link StagedPhoto#getPhoto()} with the thumbnail length set.
+	 * @throws IOException If the content cannot be stored.
+	 */
+	public Photo store(StagedPhoto stagedPhoto) throws IOException {
+		String hash = stagedPhoto.getPhoto().getHash();
+		Path contentPath = getContentPath(hash);
+		Files.createDirectories(contentPath.getParent());
+		if (!Files.exists(contentPath)) {
+			//The staged file is kept for the repeated calls
+			Path copiedFile = Files.createTempFile(rootDirectory, "upload-", ".tmp");
+			try {
+				Files.copy(stagedPhoto.temporaryFile, copiedFile, StandardCopyOption.REPLACE_EXISTING);
+				Files.move(copiedFile, contentPath, StandardCopyOption.ATOMIC_MOVE);
+			} catch (FileAlreadyExistsException e) {
+				log.trace("The same photo {} has just been stored concurrently", hash);
+			} finally {
+				Files.deleteIfExists(copiedFile);
+			}
+		} else {
+			log.debug("The photo {} is already stored", hash);
+		}
+		Path thumbnailPath = getThumbnailPath(hash);
+		stagedPhoto.getPhoto().setThumbnailLength(Files.exists(thumbnailPath) ?
+			Files.size(thumbnailPath) : createThumbnail(contentPath, thumbnailPath));
+		return stagedPhoto.getPhoto();
+	}
+
+	/**
+	 * Deletes both the content and the thumbnail. The absent files are ignored.
+	 */
+	public void remove(String hash) throws IllegalArgumentException, IOException {
+		Files.deleteIfExists(getThumbnailPath(hash));
+		Files.deleteIfExists(getContentPath(hash));
+		log.debug("The photo {} is removed from the store", hash);
+	}
+
+	/**
+	 * @throws IllegalArgumentException If the hash is not the lowercase hex SHA-256 (so it never escapes the
+	 *                                  {@link #rootDirectory}).
+	 */
+	public Path getContentPath(String hash) throws IllegalArgumentException {
+		verifyHash(hash);
+		return rootDirectory.resolve(hash.substring(0, 2)).resolve(hash);
+	}
+
+	/**
+	 * @throws IllegalArgumentException If the hash is not the lowercase hex SHA-256.
+	 */
+	public Path getThumbnailPath(String hash) throws IllegalArgumentException {
+		verifyHash(hash);
+		return rootDirectory.resolve(hash.substring(0, 2)).resolve(hash + THUMBNAIL_SUFFIX);
+	}
+
+	/**
+	 * The source image is decoded with the subsampling so that the large photos are never decoded in their full
+	 * resolution.
+	 *
+	 * @return The length of the written thumbnail or 0 if the content cannot be decoded as an image.
+	 */
+	private long createThumbnail(Path contentPath, Path thumbnailPath) throws IOException {
+		BufferedImage source;
+		try (ImageInputStream in = ImageIO.createImageInputStream(contentPath.toFile())) {
+			Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+			if (readers == null || !readers.hasNext()) {
+				log.debug("The photo {} is not a readable image to create its thumbnail", contentPath.getFileName());
+				return 0;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(in, true, true);
+				int subsampling = Math.max(1, Math.max(reader.getWidth(0), reader.getHeight(0)) / (thumbnailSize * 2));
+				ImageReadParam readParam = reader.getDefaultReadParam();
+				readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				source = reader.read(0, readParam);
+			} finally {
+				reader.dispose();
+			}
+		} catch (IOException | RuntimeException e) {
+			log.debug("The thumbnail of the photo {} cannot be created: {}", contentPath.getFileName(), e.getMessage());
+			return 0;
+		}
+		double scale = Math.min(1.0, (double) thumbnailSize / Math.max(source.getWidth(), source.getHeight()));
+		int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+		int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+		//JPEG doesn't support the alpha channel
+		BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = thumbnail.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		Path temporaryThumbnail = Files.createTempFile(thumbnailPath.getParent(), "thumb-", ".tmp");
+		try {
+			ImageIO.write(thumbnail, "jpg", temporaryThumbnail.toFile());
+			Files.move(temporaryThumbnail, thumbnailPath, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporaryThumbnail);
+		}
+		return Files.size(thumbnailPath);
+	}
+
+	private void verifyHash(String hash) throws IllegalArgumentException {
+		if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+			throw new IllegalArgumentException("Photo hash=" + hash + " is not a valid SHA-256 hex!");
+		}
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is required to be supported by every Java platform!", e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0F];
+			hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0F];
+		}
+		return new String(hex);
+	}
+
+	/**
+	 * The hashed content in the temporary file which is not visible in the store yet.
+	 */
+	public static class StagedPhoto implements Closeable {
+
+		/**
+		 * The not persisted Photo with the hash, content type and content length set.
+		 */
+		@Getter
+		private final Photo photo;
+		private final Path temporaryFile;
+
+		private StagedPhoto(Photo photo, Path temporaryFile) {
+			this.photo = photo;
+			this.temporaryFile = temporaryFile;
+		}
+
+		@Override
+		public void close() throws IOException {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+}
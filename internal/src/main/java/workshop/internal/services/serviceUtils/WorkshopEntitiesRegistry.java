@@ -0,0 +1,215 @@
+package workshop.internal.services.serviceUtils;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import workshop.exceptions.EntityNotFoundException;
+import workshop.exceptions.IllegalArgumentsException;
+import workshop.internal.dao.WorkshopEntitiesDaoAbstract;
+import workshop.internal.entities.WorkshopEntity;
+import workshop.internal.hateoasResources.WorkshopEntitiesResourceAssemblerAbstract;
+import workshop.internal.services.WorkshopEntitiesServiceAbstract;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.metamodel.EntityType;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * The immutable registry of all the {@link WorkshopEntity} types built once from the JPA metamodel at the startup.
+ * Every type is available by its simple class name ('Order', 'ClassifiersGroup' etc) with its class, service, DAO,
+ * resource assembler and REST controller path, so resolving a type from a String is just a hash hit.
+ * <p>
+ * The names are also available statically by {@link #getWorkshopEntitiesNames()} for the JPA callbacks and enums
+ * as soon as this bean is created, while the services, DAOs and assemblers are attached after all the singletons are
+ * instantiated.
+ */
+@Slf4j
+@Component
+public class WorkshopEntitiesRegistry implements SmartInitializingSingleton {
+
+	private static volatile Set<String> workshopEntitiesNames = Collections.emptySet();
+
+	private final ListableBeanFactory beanFactory;
+	private final Map<String, Class<? extends WorkshopEntity>> workshopEntitiesClasses;
+	private volatile Map<String, WorkshopEntityDescriptor> descriptors = Collections.emptyMap();
+	private volatile Map<String, WorkshopEntityDescriptor> descriptorsByClassNames = Collections.emptyMap();
+
+	public WorkshopEntitiesRegistry(EntityManagerFactory entityManagerFactory, ListableBeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+		Map<String, Class<? extends WorkshopEntity>> workshopEntitiesClasses = new HashMap<>();
+		for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+			Class<?> javaType = entityType.getJavaType();
+			if (WorkshopEntity.class.isAssignableFrom(javaType) && !Modifier.isAbstract(javaType.getModifiers())) {
+				workshopEntitiesClasses.put(javaType.getSimpleName(), javaType.asSubclass(WorkshopEntity.class));
+			}
+		}
+		this.workshopEntitiesClasses = Collections.unmodifiableMap(workshopEntitiesClasses);
+		workshopEntitiesNames = Collections.unmodifiableSet(new HashSet<>(workshopEntitiesClasses.keySet()));
+		log.debug("{} WorkshopEntity types are registered: {}", workshopEntitiesNames.size(), workshopEntitiesNames);
+	}
+
+	/**
+	 * @return The unmodifiable Set of all the WorkshopEntities simple class names or the empty one before the
+	 * registry is created.
+	 */
+	public static Set<String> getWorkshopEntitiesNames() {
+		return workshopEntitiesNames;
+	}
+
+	public static boolean isWorkshopEntityName(@Nullable String workshopEntityName) {
+		return workshopEntityName != null && workshopEntitiesNames.contains(workshopEntityName);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		Map<Class<?>, WorkshopEntitiesServiceAbstract<?>> services = new HashMap<>();
+		for (WorkshopEntitiesServiceAbstract<?> service :
+			beanFactory.getBeansOfType(WorkshopEntitiesServiceAbstract.class).values()) {
+			services.put(service.getEntityClass(), service);
+		}
+		Map<Class<?>, WorkshopEntitiesDaoAbstract<?, ?>> daos = new HashMap<>();
+		for (WorkshopEntitiesDaoAbstract<?, ?> dao :
+			beanFactory.getBeansOfType(WorkshopEntitiesDaoAbstract.class).values()) {
+			daos.put(dao.getEntityClass(), dao);
+		}
+		Map<Class<?>, WorkshopEntitiesResourceAssemblerAbstract<?>> assemblers = new HashMap<>();
+		for (WorkshopEntitiesResourceAssemblerAbstract<?> assembler :
+			beanFactory.getBeansOfType(WorkshopEntitiesResourceAssemblerAbstract.class).values()) {
+			assemblers.put(assembler.getWorkshopEntityClass(), assembler);
+		}
+		Map<String, WorkshopEntityDescriptor> descriptors = new HashMap<>();
+		Map<String, WorkshopEntityDescriptor> descriptorsByClassNames = new HashMap<>();
+		for (Map.Entry<String, Class<? extends WorkshopEntity>> workshopEntityClass : workshopEntitiesClasses.entrySet()) {
+			WorkshopEntitiesResourceAssemblerAbstract<?> assembler = assemblers.get(workshopEntityClass.getValue());
+			WorkshopEntityDescriptor descriptor = new WorkshopEntityDescriptor(
+				workshopEntityClass.getKey(),
+				workshopEntityClass.getValue(),
+				services.get(workshopEntityClass.getValue()),
+				daos.get(workshopEntityClass.getValue()),
+				assembler,
+				getControllerPath(assembler));
+			descriptors.put(descriptor.getName(), descriptor);
+			descriptorsByClassNames.put(descriptor.getEntityClass().getName(), descriptor);
+		}
+		this.descriptors = Collections.unmodifiableMap(descriptors);
+		this.descriptorsByClassNames = Collections.unmodifiableMap(descriptorsByClassNames);
+	}
+
+	public Collection<WorkshopEntityDescriptor> getDescriptors() {
+		return descriptors.values();
+	}
+
+	/**
+	 * @param workshopEntityName The simple class name of a WorkshopEntity, e.g. 'Order'.
+	 */
+	public Optional<WorkshopEntityDescriptor> findDescriptor(@Nullable String workshopEntityName) {
+		return workshopEntityName == null ? Optional.empty() : Optional.ofNullable(descriptors.get(workshopEntityName));
+	}
+
+	/**
+	 * @param workshopEntityClassName The fully qualified class name of a WorkshopEntity,
+	 *                                e.g. 'workshop.internal.entities.Order'.
+	 */
+	public Optional<WorkshopEntityDescriptor> findDescriptorByClassName(@Nullable String workshopEntityClassName) {
+		return workshopEntityClassName == null ?
+			Optional.empty() : Optional.ofNullable(descriptorsByClassNames.get(workshopEntityClassName));
+	}
+
+	/**
+	 * @param workshopEntityName The simple class name of a WorkshopEntity, e.g. 'Order'.
+	 * @return The concrete {@link WorkshopEntitiesServiceAbstract} bean for the desired WorkshopEntity type.
+	 * @throws IllegalArgumentsException 406 If the given name is null.
+	 * @throws EntityNotFoundException   404 If there is no such a WorkshopEntity type or it has no service.
+	 */
+	public WorkshopEntitiesServiceAbstract<?> getWorkshopEntitiesService(String workshopEntityName)
+		throws IllegalArgumentsException, EntityNotFoundException {
+		verifyPropertiesForNull(workshopEntityName);
+		WorkshopEntityDescriptor descriptor = descriptors.get(workshopEntityName);
+		if (descriptor == null || descriptor.getService() == null) {
+			throw new EntityNotFoundException("WorkshopEntity type=" + workshopEntityName + " not found!",
+				"httpStatus.notFound", HttpStatus.NOT_FOUND);
+		}
+		return descriptor.getService();
+	}
+
+	/**
+	 * @param workshopEntityType The simple class name of a WorkshopEntity, e.g. 'Order'.
+	 * @param propertyName       Any existing searchable WorkshopEntity property.
+	 * @param propertyValue      The value of the property.
+	 * @return The found WorkshopEntities.
+	 * @throws EntityNotFoundException If such a 'workshopEntityType' doesn't exist or nothing is found by such a
+	 *                                 'propertyName' and 'propertyValue'.
+	 */
+	public List<? extends WorkshopEntity> findByWorkshopEntityType(
+		String workshopEntityType, String propertyName, String propertyValue) throws EntityNotFoundException {
+		verifyPropertiesForNull(workshopEntityType, propertyName, propertyValue);
+		return getWorkshopEntitiesService(workshopEntityType).findByProperty(propertyName, propertyValue);
+	}
+
+	/**
+	 * The lightweight variant of {@link #findByWorkshopEntityType(String, String, String)} for the existence checks
+	 * which doesn't load the found WorkshopEntities.
+	 *
+	 * @return True if at least one WorkshopEntity of such a type with such a property value exists.
+	 * @throws EntityNotFoundException If such a 'workshopEntityType' or its searchable 'propertyName' don't exist.
+	 */
+	public boolean existsByWorkshopEntityType(String workshopEntityType, String propertyName, String propertyValue)
+		throws EntityNotFoundException {
+		verifyPropertiesForNull(workshopEntityType, propertyName, propertyValue);
+		return getWorkshopEntitiesService(workshopEntityType).existsByProperty(propertyName, propertyValue);
+	}
+
+	private static void verifyPropertiesForNull(String... property) throws IllegalArgumentsException {
+		if (property == null || Arrays.stream(property).anyMatch(Objects::isNull)) {
+			log.error("The given property cannot be null!");
+			throw new IllegalArgumentsException(
+				"The given property cannot be null!",
+				"httpStatus.notAcceptable.property",
+				HttpStatus.NOT_ACCEPTABLE);
+		} else if (property.length == 0) {
+			log.error("The given properties cannot be the empty array!");
+			throw new IllegalArgumentsException(
+				"The given properties cannot be the empty array!",
+				"httpStatus.notAcceptable.property",
+				HttpStatus.NOT_ACCEPTABLE);
+		}
+	}
+
+	/**
+	 * @return The path of the REST controller the assembler builds the Links to, e.g. '/internal/orders'.
+	 */
+	@Nullable
+	private String getControllerPath(@Nullable WorkshopEntitiesResourceAssemblerAbstract<?> assembler) {
+		if (assembler == null || assembler.getWorkshopControllerAbstractClass() == null) {
+			return null;
+		}
+		RequestMapping requestMapping = AnnotatedElementUtils.findMergedAnnotation(
+			assembler.getWorkshopControllerAbstractClass(), RequestMapping.class);
+		return requestMapping == null || requestMapping.path().length == 0 ? null : requestMapping.path()[0];
+	}
+
+	/**
+	 * The service, DAO and assembler are null for the WorkshopEntities which don't have them.
+	 */
+	@Value
+	public static class WorkshopEntityDescriptor {
+
+		private String name;
+		private Class<? extends WorkshopEntity> entityClass;
+		@Nullable
+		private WorkshopEntitiesServiceAbstract<?> service;
+		@Nullable
+		private WorkshopEntitiesDaoAbstract<?, ?> dao;
+		@Nullable
+		private WorkshopEntitiesResourceAssemblerAbstract<?> assembler;
+		@Nullable
+		private String controllerPath;
+	}
+}
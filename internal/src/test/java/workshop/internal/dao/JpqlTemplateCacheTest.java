@@ -0,0 +1,80 @@
+package workshop.internal.dao;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JpqlTemplateCacheTest {
+
+	@Test
+	public void template_Should_Be_Built_Once_Per_Key_And_Then_Hit() {
+		//GIVEN
+		JpqlTemplateCache cache = new JpqlTemplateCache();
+		AtomicInteger buildsCount = new AtomicInteger();
+
+		//WHEN
+		for (int i = 0; i < 4; i++) {
+			cache.getTemplate(JpqlTemplateCache.Key.of("Task", "order.identifier", "=", "name", Sort.Direction.ASC),
+				() -> {
+					buildsCount.incrementAndGet();
+					return "SELECT e FROM Task e WHERE e.order.identifier = :associationId";
+				});
+		}
+
+		//THEN
+		assertEquals(1, buildsCount.get());
+		assertEquals(1, cache.getTemplatesCount());
+		assertEquals(3, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(0.75, cache.getHitRate(), 0.0001);
+	}
+
+	@Test
+	public void different_Ordering_Should_Produce_Different_Templates() {
+		//GIVEN
+		JpqlTemplateCache cache = new JpqlTemplateCache();
+
+		//WHEN
+		String ascending = cache.getTemplate(
+			JpqlTemplateCache.Key.of("Task", "order.identifier", "=", "name", Sort.Direction.ASC), () -> "ASC");
+		String descending = cache.getTemplate(
+			JpqlTemplateCache.Key.of("Task", "order.identifier", "=", "name", Sort.Direction.DESC), () -> "DESC");
+
+		//THEN
+		assertEquals("ASC", ascending);
+		assertEquals("DESC", descending);
+		assertEquals(2, cache.getTemplatesCount());
+		assertEquals(0.0, cache.getHitRate());
+	}
+
+	@Test
+	public void only_The_First_Query_Creation_Should_Be_Timed_As_Translation() {
+		//GIVEN
+		JpqlTemplateCache cache = new JpqlTemplateCache();
+		JpqlTemplateCache.Key key = JpqlTemplateCache.Key.of("Task", null, "COUNT");
+		AtomicInteger translationsCount = new AtomicInteger();
+
+		//WHEN the first creation takes as long as the translation and the following ones hit the plan cache
+		for (int i = 0; i < 3; i++) {
+			cache.createQuery(key, () -> "SELECT COUNT(e) FROM Task e", template -> {
+				if (translationsCount.getAndIncrement() == 0) {
+					try {
+						Thread.sleep(20);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return template;
+			});
+		}
+
+		//THEN
+		assertEquals(2, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(2, cache.getTranslatedHits());
+		assertTrue(cache.getSavedTranslationMillis() >= 2 * 20);
+	}
+}
@@ -0,0 +1,163 @@
+package workshop.internal.entities.utils;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import workshop.internal.entities.Department;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.Task;
+import workshop.internal.entities.WorkshopAudibleEntityAbstract;
+
+import javax.persistence.Lob;
+import javax.persistence.MappedSuperclass;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityPropertyRegistryTest {
+
+	@Test
+	public void registry_Should_Be_Built_Once_Per_WorkshopEntity_Class() {
+		//GIVEN
+		EntityPropertyRegistry departmentRegistry = EntityPropertyRegistry.of(Department.class);
+
+		//WHEN
+		EntityPropertyRegistry departmentRegistryAgain = EntityPropertyRegistry.of(Department.class);
+
+		//THEN
+		assertSame(departmentRegistry, departmentRegistryAgain);
+		assertSame(Department.class, departmentRegistry.getEntityClass());
+	}
+
+	@Test
+	public void property_Values_Should_Be_Obtained_Through_Getters() {
+		//GIVEN
+		ZonedDateTime created = ZonedDateTime.now().minusDays(1);
+		Department department = new Department("Department name");
+		department.setIdentifier(5L);
+		department.setCreated(created);
+		EntityPropertyRegistry departmentRegistry = EntityPropertyRegistry.of(Department.class);
+
+		//WHEN
+		Object name = departmentRegistry.getProperty("name").get().getValue(department);
+		Object identifier = departmentRegistry.getProperty("identifier").get().getValue(department);
+		Object createdValue = departmentRegistry.getProperty("created").get().getValue(department);
+
+		//THEN
+		assertEquals("Department name", name);
+		assertEquals(5L, identifier);
+		assertEquals(created, createdValue);
+		assertTrue(departmentRegistry.getProperty("created").get().isTemporal());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"identifier", "name", "created"})
+	public void basic_Properties_Should_Be_Filterable_And_Sortable(String propertyName) {
+		//GIVEN
+		EntityPropertyRegistry departmentRegistry = EntityPropertyRegistry.of(Department.class);
+
+		//WHEN THEN
+		assertTrue(departmentRegistry.isFilterable(propertyName));
+		assertTrue(departmentRegistry.isSortable(propertyName));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"positions", "workshopEntityName", "serialVersionUID", "property"})
+	public void associations_Not_Persistent_Or_Absent_Properties_Should_Be_Neither_Filterable_Nor_Sortable(
+		String propertyName) {
+		//GIVEN
+		EntityPropertyRegistry departmentRegistry = EntityPropertyRegistry.of(Department.class);
+
+		//WHEN THEN
+		assertFalse(departmentRegistry.isFilterable(propertyName));
+		assertFalse(departmentRegistry.isSortable(propertyName));
+	}
+
+	@Test
+	public void large_Objects_Should_Be_Neither_Filterable_Nor_Sortable() {
+		//GIVEN
+		EntityPropertyRegistry largeObjectRegistry = EntityPropertyRegistry.of(LargeObjectHolder.class);
+
+		//WHEN THEN
+		assertTrue(largeObjectRegistry.getProperty("content").isPresent());
+		assertFalse(largeObjectRegistry.isFilterable("content"));
+		assertFalse(largeObjectRegistry.isSortable("content"));
+	}
+
+	@Test
+	public void photo_Hashes_Should_Be_Filterable_Instead_Of_Large_Objects() {
+		//GIVEN
+		EntityPropertyRegistry employeeRegistry = EntityPropertyRegistry.of(Employee.class);
+
+		//WHEN THEN
+		assertFalse(employeeRegistry.getProperty("photo").isPresent());
+		assertTrue(employeeRegistry.isFilterable("photoHash"));
+	}
+
+	@Test
+	public void inherited_Properties_Should_Be_Indexed_By_The_Entity_Table_Indexes() {
+		//GIVEN
+		EntityPropertyRegistry taskRegistry = EntityPropertyRegistry.of(Task.class);
+		EntityPropertyRegistry departmentRegistry = EntityPropertyRegistry.of(Department.class);
+
+		//WHEN THEN
+		assertTrue(taskRegistry.getProperty("created").get().isIndexed());
+		assertFalse(taskRegistry.getProperty("modified").get().isIndexed());
+		assertFalse(departmentRegistry.getProperty("created").get().isIndexed());
+	}
+
+	@Test
+	public void overridden_Columns_Should_Be_Matched_With_The_Indexes_By_Their_Names() {
+		//GIVEN
+		EntityPropertyRegistry employeeRegistry = EntityPropertyRegistry.of(Employee.class);
+
+		//WHEN THEN
+		assertTrue(employeeRegistry.getProperty("email").get().isIndexed());
+		//Employee.created is stored as 'employed' which is not indexed
+		assertFalse(employeeRegistry.getProperty("created").get().isIndexed());
+	}
+
+	@Test
+	public void only_Columns_Which_Can_Be_Null_Should_Be_Nullable() {
+		//GIVEN
+		EntityPropertyRegistry departmentRegistry = EntityPropertyRegistry.of(Department.class);
+		EntityPropertyRegistry employeeRegistry = EntityPropertyRegistry.of(Employee.class);
+
+		//WHEN THEN
+		assertFalse(departmentRegistry.getProperty("identifier").get().isNullable());
+		assertFalse(departmentRegistry.getProperty("name").get().isNullable());
+		assertFalse(departmentRegistry.getProperty("created").get().isNullable());
+		assertTrue(departmentRegistry.getProperty("modified").get().isNullable());
+		//Employee.created is overridden as 'employed' without 'nullable = false'
+		assertTrue(employeeRegistry.getProperty("created").get().isNullable());
+	}
+
+	@Test
+	public void new_Instances_Should_Be_Created_And_Filled_Through_Setters() {
+		//GIVEN
+		EntityPropertyRegistry departmentRegistry = EntityPropertyRegistry.of(Department.class);
+
+		//WHEN
+		Object department = departmentRegistry.newInstance();
+		departmentRegistry.getProperty("identifier").get().setValue(department, 7L);
+		departmentRegistry.getProperty("name").get().setValue(department, "Department name");
+
+		//THEN
+		assertTrue(department instanceof Department);
+		assertEquals(7L, ((Department) department).getIdentifier());
+		assertEquals("Department name", ((Department) department).getName());
+		assertThrows(IllegalArgumentException.class,
+			() -> departmentRegistry.getProperty("name").get().setValue(department, 5L));
+	}
+
+	@Getter
+	@Setter
+	@MappedSuperclass
+	static class LargeObjectHolder extends WorkshopAudibleEntityAbstract {
+
+		@Lob
+		private byte[] content;
+	}
+}
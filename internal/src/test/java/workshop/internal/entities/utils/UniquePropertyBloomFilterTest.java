@@ -0,0 +1,49 @@
+package workshop.internal.entities.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniquePropertyBloomFilterTest {
+
+	@Test
+	public void not_Ready_Filter_Should_Answer_Might_Contain_For_Any_Value() {
+		//GIVEN
+		UniquePropertyBloomFilter filter = new UniquePropertyBloomFilter(1000, 0.01);
+
+		//WHEN
+		boolean mightContain = filter.mightContain("absent@workshop.pro");
+
+		//THEN
+		assertTrue(mightContain);
+	}
+
+	@Test
+	public void put_Values_Should_Never_Be_Reported_As_Absent() {
+		//GIVEN
+		UniquePropertyBloomFilter filter = new UniquePropertyBloomFilter(1000, 0.01);
+		IntStream.range(0, 1000).forEach(i -> filter.put("user" + i + "@workshop.pro"));
+		filter.setReady();
+
+		//WHEN
+		long falseNegatives = IntStream.range(0, 1000)
+			.filter(i -> !filter.mightContain("user" + i + "@workshop.pro"))
+			.count();
+		long falsePositives = IntStream.range(0, 10000)
+			.filter(i -> filter.mightContain("absent" + i + "@workshop.pro"))
+			.count();
+
+		//THEN
+		assertEquals(0, falseNegatives);
+		//1% is expected, 3% is the margin for the hash distribution
+		assertTrue(falsePositives < 300, "False positives=" + falsePositives);
+	}
+
+	@Test
+	public void out_Of_Range_Parameters_Should_Be_Rejected() {
+		assertThrows(IllegalArgumentException.class, () -> new UniquePropertyBloomFilter(0, 0.01));
+		assertThrows(IllegalArgumentException.class, () -> new UniquePropertyBloomFilter(1000, 1.0));
+	}
+}
@@ -0,0 +1,83 @@
+package workshop.internal.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import workshop.exceptions.TooManyRequestsException;
+import workshop.internal.services.serviceUtils.BoundedBCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedBCryptPasswordEncoderTest {
+
+	private BoundedBCryptPasswordEncoder passwordEncoder;
+	private ExecutorService requestThreads;
+
+	@AfterEach
+	public void cleanUp() {
+		if (passwordEncoder != null) {
+			passwordEncoder.destroy();
+		}
+		if (requestThreads != null) {
+			requestThreads.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("The passwords have to be encoded and matched by the hashing threads")
+	public void passwords_have_to_be_encoded_and_matched() {
+		//GIVEN
+		passwordEncoder = new BoundedBCryptPasswordEncoder(1, 1);
+
+		//WHEN
+		String encodedPassword = passwordEncoder.encode("12345");
+
+		//THEN
+		assertTrue(passwordEncoder.matches("12345", encodedPassword));
+		assertFalse(passwordEncoder.matches("54321", encodedPassword));
+		assertTrue(passwordEncoder.getAverageHashingMillis() > 0);
+	}
+
+	@Test
+	@DisplayName("The hashings over the threads and the queue capacity have to be rejected with Retry-After")
+	public void hashings_over_queue_capacity_have_to_be_rejected() throws InterruptedException {
+		//GIVEN a single thread without the queue
+		passwordEncoder = new BoundedBCryptPasswordEncoder(1, 0);
+		String encodedPassword = passwordEncoder.encode("12345");
+		requestThreads = Executors.newFixedThreadPool(8);
+
+		//WHEN
+		List<Future<Boolean>> logins = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			logins.add(requestThreads.submit(() -> passwordEncoder.matches("12345", encodedPassword)));
+		}
+
+		//THEN at least one of the simultaneous logins is rejected and the others are matched
+		int rejections = 0;
+		for (Future<Boolean> login : logins) {
+			try {
+				assertTrue(login.get());
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof TooManyRequestsException);
+				assertTrue(((TooManyRequestsException) e.getCause()).getRetryAfterSeconds() >= 1);
+				rejections++;
+			}
+		}
+		assertTrue(rejections > 0);
+		assertTrue(rejections < logins.size());
+	}
+
+	@Test
+	@DisplayName("The wrong executor sizes have to be refused")
+	public void wrong_executor_sizes_have_to_be_refused() {
+		assertThrows(IllegalArgumentException.class, () -> new BoundedBCryptPasswordEncoder(0, 10));
+		assertThrows(IllegalArgumentException.class, () -> new BoundedBCryptPasswordEncoder(1, -1));
+	}
+}
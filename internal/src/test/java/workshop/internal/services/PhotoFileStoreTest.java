@@ -0,0 +1,143 @@
+package workshop.internal.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import workshop.internal.entities.Photo;
+import workshop.internal.services.serviceUtils.PhotoFileStore;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhotoFileStoreTest {
+
+	Path rootDirectory;
+	PhotoFileStore photoFileStore;
+
+	@BeforeEach
+	public void init() throws IOException {
+		rootDirectory = Files.createTempDirectory("photos");
+		photoFileStore = new PhotoFileStore(rootDirectory.toString(), 1024 * 1024, 32);
+	}
+
+	@AfterEach
+	public void clean() throws IOException {
+		try (Stream<Path> paths = Files.walk(rootDirectory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Test
+	public void the_Same_Content_Should_Be_Stored_Once_Under_Its_Hash() throws IOException {
+		//GIVEN
+		byte[] image = getPngImage(400, 200);
+
+		//WHEN
+		Photo photo = photoFileStore.store(new ByteArrayInputStream(image), "image/png");
+		Photo samePhoto = photoFileStore.store(new ByteArrayInputStream(image), "image/png");
+
+		//THEN
+		assertEquals(64, photo.getHash().length());
+		assertEquals(photo.getHash(), samePhoto.getHash());
+		assertEquals(image.length, photo.getContentLength());
+		assertArrayEquals(image, Files.readAllBytes(photoFileStore.getContentPath(photo.getHash())));
+		try (Stream<Path> storedFiles = Files.walk(rootDirectory)) {
+			//The content and its thumbnail only, without the temporary files
+			assertEquals(2, storedFiles.filter(Files::isRegularFile).count());
+		}
+	}
+
+	@Test
+	public void thumbnails_Should_Fit_The_Thumbnail_Size() throws IOException {
+		//GIVEN
+		byte[] image = getPngImage(400, 200);
+
+		//WHEN
+		Photo photo = photoFileStore.store(new ByteArrayInputStream(image), "image/png");
+
+		//THEN
+		Path thumbnailPath = photoFileStore.getThumbnailPath(photo.getHash());
+		assertEquals(Files.size(thumbnailPath), photo.getThumbnailLength());
+		BufferedImage thumbnail = ImageIO.read(thumbnailPath.toFile());
+		assertEquals(32, thumbnail.getWidth());
+		assertEquals(16, thumbnail.getHeight());
+	}
+
+	@Test
+	public void not_Images_Should_Be_Stored_Without_Thumbnails() throws IOException {
+		//GIVEN
+		byte[] notImage = "Not an image".getBytes();
+
+		//WHEN
+		Photo photo = photoFileStore.store(new ByteArrayInputStream(notImage), "image/png");
+
+		//THEN
+		assertEquals(0, photo.getThumbnailLength());
+		assertFalse(Files.exists(photoFileStore.getThumbnailPath(photo.getHash())));
+	}
+
+	@Test
+	public void empty_Or_Too_Large_Content_Should_Be_Rejected_Without_Leftovers() throws IOException {
+		//GIVEN
+		InputStream emptyContent = new ByteArrayInputStream(new byte[0]);
+		InputStream tooLargeContent = new ByteArrayInputStream(new byte[1024 * 1024 + 1]);
+
+		//WHEN THEN
+		assertThrows(IllegalArgumentException.class, () -> photoFileStore.store(emptyContent, "image/png"));
+		assertThrows(IllegalArgumentException.class, () -> photoFileStore.store(tooLargeContent, "image/png"));
+		try (Stream<Path> storedFiles = Files.walk(rootDirectory)) {
+			assertEquals(0, storedFiles.filter(Files::isRegularFile).count());
+		}
+	}
+
+	@Test
+	public void staged_Photo_Should_Be_Restored_After_Its_Concurrent_Removal_Until_Closed() throws IOException {
+		//GIVEN
+		byte[] image = getPngImage(400, 200);
+		PhotoFileStore.StagedPhoto stagedPhoto = photoFileStore.stage(new ByteArrayInputStream(image), "image/png");
+		Photo photo = photoFileStore.store(stagedPhoto);
+
+		//WHEN the same photo is released by another owner
+		photoFileStore.remove(photo.getHash());
+		photoFileStore.store(stagedPhoto);
+
+		//THEN
+		assertArrayEquals(image, Files.readAllBytes(photoFileStore.getContentPath(photo.getHash())));
+		assertTrue(Files.exists(photoFileStore.getThumbnailPath(photo.getHash())));
+
+		//WHEN
+		stagedPhoto.close();
+
+		//THEN the content and its thumbnail only, without the staged file
+		try (Stream<Path> storedFiles = Files.walk(rootDirectory)) {
+			assertEquals(2, storedFiles.filter(Files::isRegularFile).count());
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"../../etc/passwd", "ABCDEF", ""})
+	public void not_Hashes_Should_Never_Be_Resolved_To_Paths(String notHash) {
+		//WHEN THEN
+		assertThrows(IllegalArgumentException.class, () -> photoFileStore.getContentPath(notHash));
+		assertThrows(IllegalArgumentException.class, () -> photoFileStore.getThumbnailPath(notHash));
+	}
+
+	private byte[] getPngImage(int width, int height) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+}
@@ -62,9 +62,18 @@ public class SecurityConfiguration {
 		@Autowired
 		private CookieUtils cookieUtils;
 		
+		@Autowired
+		private AuthenticationCache authenticationCache;
+		
+		@Autowired
+		private LoginAttemptsLimiter loginAttemptsLimiter;
+		
 		@Autowired
 		private WorkshopPermissionEvaluator workshopPermissionEvaluator;
 		
+		@Autowired
+		private PermissionMatrix permissionMatrix;
+		
 		@Autowired
 		private WorkshopAuthenticationManager workshopAuthenticationManager;
 		
@@ -136,6 +145,7 @@ public class SecurityConfiguration {
 			loginAuthenticationFilter.setCookieUtils(cookieUtils);
 			loginAuthenticationFilter.setJwtUtils(jwtUtils);
 			loginAuthenticationFilter.setAuthenticationCookieName(internalAuthCookieName);
+			loginAuthenticationFilter.setLoginAttemptsLimiter(loginAttemptsLimiter);
 			return loginAuthenticationFilter;
 		}
 		
@@ -147,6 +157,8 @@ public class SecurityConfiguration {
 			jwtAuthenticationFilter.setAuthenticationFailureHandler(internalAuthenticationFailureHandler());
 			jwtAuthenticationFilter.setCookieUtils(cookieUtils);
 			jwtAuthenticationFilter.setJwtUtils(jwtUtils);
+			jwtAuthenticationFilter.setAuthenticationCache(authenticationCache);
+			jwtAuthenticationFilter.setPermissionMatrix(permissionMatrix);
 			jwtAuthenticationFilter.setAuthenticationCookieName(internalAuthCookieName);
 			return jwtAuthenticationFilter;
 		}
@@ -192,6 +204,12 @@ public class SecurityConfiguration {
 		@Autowired
 		private CookieUtils cookieUtils;
 		
+		@Autowired
+		private AuthenticationCache authenticationCache;
+		
+		@Autowired
+		private LoginAttemptsLimiter loginAttemptsLimiter;
+		
 		@Autowired
 		private WorkshopUrlAuthenticationSuccessHandler workshopUrlAuthenticationSuccessHandler;
 		
@@ -240,6 +258,7 @@ public class SecurityConfiguration {
 			loginAuthenticationFilter.setCookieUtils(cookieUtils);
 			loginAuthenticationFilter.setJwtUtils(jwtUtils);
 			loginAuthenticationFilter.setAuthenticationCookieName(externalAuthCookieName);
+			loginAuthenticationFilter.setLoginAttemptsLimiter(loginAttemptsLimiter);
 			return loginAuthenticationFilter;
 		}
 		
@@ -251,6 +270,7 @@ public class SecurityConfiguration {
 			jwtAuthenticationFilter.setAuthenticationFailureHandler(externalAuthenticationFailureHandler());
 			jwtAuthenticationFilter.setCookieUtils(cookieUtils);
 			jwtAuthenticationFilter.setJwtUtils(jwtUtils);
+			jwtAuthenticationFilter.setAuthenticationCache(authenticationCache);
 			jwtAuthenticationFilter.setAuthenticationCookieName(externalAuthCookieName);
 			return jwtAuthenticationFilter;
 		}
@@ -0,0 +1,228 @@
+package workshop.security;
+
+import lombok.AccessLevel;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import workshop.applicationEvents.AuthenticationsChangedEvent;
+import workshop.applicationEvents.PermissionsChangedEvent;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.InternalAuthority;
+import workshop.internal.entities.Phone;
+import workshop.internal.entities.User;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * The bounded cache of the Authentications built by the {@link JwtAuthenticationFilter} from the already verified
+ * JWTs, so the subsequent requests with the same JWT neither parse it nor load the Employee or User again.
+ * <p>
+ * The Authentications are kept by the JWT signatures not longer than 'authenticationCache.ttlSeconds' and never after
+ * their JWT expiration. They are evicted after the committed changes of their Employees or Users, and all of them are
+ * evicted after any change of a Position, InternalAuthority or ExternalAuthority as those are shared between many
+ * principals.
+ * If 'authenticationCache.maxSize' is reached, the least recently used Authentications are evicted.
+ * <p>
+ * Only the immutable snapshot of the Authentication is kept: the principal identifier, login and enabled state and the
+ * names of its authorities, as the Authentications restored from the JWT claims are. Every {@link #get(String)}
+ * returns a new Authentication from it with a new {@link UserDetailsEmployee} or {@link UserDetailsUser} principal, so
+ * the requests never share the detached Employee or User and its mutable state.
+ * <p>
+ * An Authentication loaded before an eviction must not be put after it, so the loaders have to obtain the
+ * {@link #getGeneration()} before the loading and pass it to the {@link #put(String, Authentication, Date, long)}.
+ */
+@Slf4j
+@Component
+public class AuthenticationCache {
+
+	@Value("${authenticationCache.maxSize:10000}")
+	@Setter(AccessLevel.PACKAGE)
+	private int maxSize = 10000;
+
+	@Value("${authenticationCache.ttlSeconds:300}")
+	@Setter(AccessLevel.PACKAGE)
+	private long ttlSeconds = 300;
+
+	private final BoundedLruCache<String, CachedAuthentication> authentications = new BoundedLruCache<>(() -> maxSize);
+	/**
+	 * Is advanced before every eviction.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * @param jwt The full JWT the Authentication has been built from.
+	 * @return The new Authentication from the cached snapshot or null if it is absent or expired.
+	 */
+	@Nullable
+	public Authentication get(String jwt) {
+		CachedAuthentication cachedAuthentication = authentications.get(getSignature(jwt));
+		if (cachedAuthentication == null || !cachedAuthentication.jwt.equals(jwt)) {
+			return null;
+		}
+		if (cachedAuthentication.expiresAtMillis <= System.currentTimeMillis()) {
+			authentications.remove(getSignature(jwt), cachedAuthentication);
+			return null;
+		}
+		return new UsernamePasswordAuthenticationToken(
+			cachedAuthentication.newPrincipal(), "", cachedAuthentication.authorities);
+	}
+
+	/**
+	 * @return The current generation to be obtained before loading the Authentication to be put.
+	 */
+	public long getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * @param jwt                The full and verified JWT.
+	 * @param authentication     The Authentication built from the JWT subject.
+	 * @param jwtExpiration      The JWT 'exp' claim. If null, the Authentication is kept for 'ttlSeconds' only.
+	 * @param loadedInGeneration The {@link #getGeneration()} obtained before the Authentication has been loaded. If
+	 *                           anything has been evicted since, the Authentication may be stale and isn't put.
+	 */
+	public void put(String jwt, Authentication authentication, @Nullable Date jwtExpiration, long loadedInGeneration) {
+		if (generation.get() != loadedInGeneration) {
+			return;
+		}
+		long nowMillis = System.currentTimeMillis();
+		long expiresAtMillis = nowMillis + TimeUnit.SECONDS.toMillis(ttlSeconds);
+		if (jwtExpiration != null) {
+			expiresAtMillis = Math.min(expiresAtMillis, jwtExpiration.getTime());
+		}
+		if (expiresAtMillis <= nowMillis || maxSize <= 0) {
+			return;
+		}
+		CachedAuthentication cachedAuthentication = new CachedAuthentication(jwt, authentication, expiresAtMillis);
+		authentications.put(getSignature(jwt), cachedAuthentication);
+		//The eviction which has advanced the generation after the check above may have missed this Authentication
+		if (generation.get() != loadedInGeneration) {
+			authentications.remove(getSignature(jwt), cachedAuthentication);
+		}
+	}
+
+	public void clear() {
+		generation.incrementAndGet();
+		authentications.clear();
+		log.trace("All the cached Authentications are evicted");
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAuthenticationsChanged(AuthenticationsChangedEvent event) {
+		if (Employee.class.equals(event.getChangedEntityClass()) || User.class.equals(event.getChangedEntityClass())) {
+			generation.incrementAndGet();
+			authentications.removeIf(cachedAuthentication ->
+				event.getChangedEntityClass().equals(cachedAuthentication.principalClass) &&
+					event.getChangedEntityIdentifier() != null &&
+					event.getChangedEntityIdentifier().equals(cachedAuthentication.principalIdentifier));
+		} else {
+			clear();
+		}
+	}
+
+	/**
+	 * Only the renamed or removed InternalAuthorities change the Authentications, the permissions themselves are
+	 * evaluated by the {@link PermissionMatrix}.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPermissionsChanged(PermissionsChangedEvent event) {
+		if (InternalAuthority.class.equals(event.getChangedEntityClass())) {
+			clear();
+		}
+	}
+
+	int size() {
+		return authentications.size();
+	}
+
+	/**
+	 * @return The last JWT part or the whole given String if it isn't a JWT.
+	 */
+	private String getSignature(String jwt) {
+		return jwt.substring(jwt.lastIndexOf('.') + 1);
+	}
+
+	private static class CachedAuthentication {
+
+		private final String jwt;
+		private final String principalName;
+		private final List<GrantedAuthority> authorities;
+		private final long expiresAtMillis;
+		@Nullable
+		private final Class<?> principalClass;
+		@Nullable
+		private final Long principalIdentifier;
+		private final boolean principalEnabled;
+		/**
+		 * False for the Users logged in by a phone.
+		 */
+		private final boolean principalNameIsEmail;
+
+		private CachedAuthentication(String jwt, Authentication authentication, long expiresAtMillis) {
+			this.jwt = jwt;
+			this.principalName = authentication.getName();
+			this.authorities = Collections.unmodifiableList(authentication.getAuthorities().stream()
+				.map(grantedAuthority -> new SimpleGrantedAuthority(grantedAuthority.getAuthority()))
+				.collect(Collectors.toList()));
+			this.expiresAtMillis = expiresAtMillis;
+			if (authentication.getPrincipal() instanceof UserDetailsEmployee) {
+				UserDetailsEmployee userDetailsEmployee = (UserDetailsEmployee) authentication.getPrincipal();
+				this.principalClass = Employee.class;
+				this.principalIdentifier = userDetailsEmployee.getEmployee().getIdentifier();
+				this.principalEnabled = userDetailsEmployee.isEnabled();
+				this.principalNameIsEmail = true;
+			} else if (authentication.getPrincipal() instanceof UserDetailsUser) {
+				User user = ((UserDetailsUser) authentication.getPrincipal()).getUser();
+				this.principalClass = User.class;
+				this.principalIdentifier = user.getIdentifier();
+				this.principalEnabled = ((UserDetailsUser) authentication.getPrincipal()).isEnabled();
+				this.principalNameIsEmail = user.getEmail() != null && !user.getEmail().isEmpty();
+			} else {
+				this.principalClass = null;
+				this.principalIdentifier = null;
+				this.principalEnabled = true;
+				this.principalNameIsEmail = false;
+			}
+		}
+
+		/**
+		 * @return The principal of the same type as the cached one, with the snapshot values only.
+		 */
+		private Object newPrincipal() {
+			if (Employee.class.equals(principalClass)) {
+				Employee employee = new Employee();
+				employee.setIdentifier(principalIdentifier);
+				employee.setEmail(principalName);
+				employee.setIsEnabled(principalEnabled);
+				return new UserDetailsEmployee(employee, authorities);
+			} else if (User.class.equals(principalClass)) {
+				User user = new User();
+				user.setIdentifier(principalIdentifier);
+				user.setIsEnabled(principalEnabled);
+				if (principalNameIsEmail) {
+					user.setEmail(principalName);
+				} else {
+					Phone phone = new Phone();
+					phone.setPhone(principalName);
+					user.setPhones(new HashSet<>(Collections.singleton(phone)));
+				}
+				return new UserDetailsUser(user, authorities);
+			}
+			return principalName;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package workshop.security;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * The bounded cache which evicts the least recently used entries.
+ * <p>
+ * The entries are spread over up to {@link #SEGMENTS_COUNT} access ordered LinkedHashMaps by the key hashes, every
+ * one of them is locked separately, so the concurrent requests only wait for each other within the same segment and
+ * the eviction of the eldest entry is O(1). The max size is split evenly between the segments (so the smaller max
+ * sizes use the fewer segments) and is read on every access, so it can be changed at runtime: the exceeding entries
+ * are evicted on the next puts into their segments, and if the amount of the segments changes the cache is cleared.
+ *
+ * @param <K> The keys type.
+ * @param <V> The values type.
+ */
+final class BoundedLruCache<K, V> {
+
+	static final int SEGMENTS_COUNT = 16;
+
+	private final IntSupplier maxSize;
+	private final Segment<K, V>[] segments;
+	private volatile int segmentsCount = SEGMENTS_COUNT;
+
+	/**
+	 * @param maxSize The supplier of the max amount of the entries. Nothing is cached if it is 0 or below.
+	 */
+	@SuppressWarnings("unchecked")
+	BoundedLruCache(IntSupplier maxSize) {
+		this.maxSize = maxSize;
+		this.segments = new Segment[SEGMENTS_COUNT];
+		for (int i = 0; i < SEGMENTS_COUNT; i++) {
+			segments[i] = new Segment<>();
+		}
+	}
+
+	/**
+	 * @return The value which becomes the most recently used one or null if it is absent.
+	 */
+	@Nullable
+	V get(K key) {
+		Segment<K, V> segment = segments[getSegmentIndex(key, getSegmentsCount(maxSize.getAsInt()))];
+		synchronized (segment) {
+			return segment.entries.get(key);
+		}
+	}
+
+	/**
+	 * Puts the value as the most recently used one and evicts the least recently used values of the same segment
+	 * over its part of the max size.
+	 */
+	void put(K key, V value) {
+		int currentMaxSize = maxSize.getAsInt();
+		int currentSegmentsCount = getSegmentsCount(currentMaxSize);
+		int segmentIndex = getSegmentIndex(key, currentSegmentsCount);
+		//The remainder of the max size is given to the first segments, so the total never exceeds the max size
+		int segmentMaxSize = currentMaxSize <= 0 ? 0 : currentMaxSize / currentSegmentsCount +
+			(segmentIndex < currentMaxSize % currentSegmentsCount ? 1 : 0);
+		Segment<K, V> segment = segments[segmentIndex];
+		synchronized (segment) {
+			if (segmentMaxSize <= 0) {
+				segment.entries.clear();
+				return;
+			}
+			segment.entries.put(key, value);
+			Iterator<V> eldestEntries = segment.entries.values().iterator();
+			while (segment.entries.size() > segmentMaxSize) {
+				eldestEntries.next();
+				eldestEntries.remove();
+			}
+		}
+	}
+
+	/**
+	 * Removes the entry only if it is still mapped to the given value.
+	 */
+	void remove(K key, V value) {
+		Segment<K, V> segment = segments[getSegmentIndex(key, getSegmentsCount(maxSize.getAsInt()))];
+		synchronized (segment) {
+			segment.entries.remove(key, value);
+		}
+	}
+
+	/**
+	 * Removes the matching values segment by segment, so the other segments stay available in the meantime.
+	 */
+	void removeIf(Predicate<V> filter) {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.entries.values().removeIf(filter);
+			}
+		}
+	}
+
+	void clear() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.entries.clear();
+			}
+		}
+	}
+
+	int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.entries.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * The max size is split into the power of 2 segments, each of them gets at least one entry.
+	 * The cache is cleared as soon as the amount of the segments is changed, as the keys are moved between them.
+	 */
+	private int getSegmentsCount(int currentMaxSize) {
+		int currentSegmentsCount = currentMaxSize >= SEGMENTS_COUNT ?
+			SEGMENTS_COUNT : Integer.highestOneBit(Math.max(1, currentMaxSize));
+		if (currentSegmentsCount != segmentsCount) {
+			synchronized (this) {
+				if (currentSegmentsCount != segmentsCount) {
+					clear();
+					segmentsCount = currentSegmentsCount;
+				}
+			}
+		}
+		return currentSegmentsCount;
+	}
+
+	private int getSegmentIndex(K key, int currentSegmentsCount) {
+		int hash = key.hashCode();
+		return (hash ^ (hash >>> 16)) & (currentSegmentsCount - 1);
+	}
+
+	private static class Segment<K, V> {
+
+		private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+}
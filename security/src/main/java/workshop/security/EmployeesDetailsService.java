@@ -22,6 +22,9 @@ public class EmployeesDetailsService implements UserDetailsService {
 	@Qualifier("employeesDao")
 	private EmployeesDao employeesDao;
 	
+	@Autowired
+	private PermissionMatrix permissionMatrix;
+	
 	/**
 	 * @param email Employee.email will be used instead of username according to an application specification
 	 * @return UserDetailsEmployee with an encoded embedded password which has to be checked
@@ -30,10 +33,13 @@ public class EmployeesDetailsService implements UserDetailsService {
 	 */
 	@Override
 	public UserDetailsEmployee loadUserByUsername(String email) throws UsernameNotFoundException {
+		//Has to be obtained before the Employee is loaded to not miss the changes committed meanwhile
+		Long permissionsVersion = permissionMatrix != null ? permissionMatrix.getVersion() : null;
 		try {
 			Employee employee = employeesDao.findEmployeeByEmail(email).orElseThrow(() ->
 				new UsernameNotFoundException("Such an email=(" + email + ") is not found."));
 			UserDetailsEmployee userDetailsEmployee = new UserDetailsEmployee(employee);
+			userDetailsEmployee.setPermissionsVersion(permissionsVersion);
 			
 			log.debug("User={} is found by email and passing to the AuthenticationProvider to check the password",
 				userDetailsEmployee.getUsername());
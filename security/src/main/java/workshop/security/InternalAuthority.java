@@ -1,14 +1,14 @@
 package workshop.security;
 
 import workshop.internal.entities.utils.PermissionType;
-import workshop.internal.entities.WorkshopEntity;
+import workshop.internal.services.serviceUtils.WorkshopEntitiesRegistry;
 
 import java.util.*;
 
 /**
  * Don't use this Enums in bean's or classes initializers or constructors! It has to be initialized lazily!
  * So its {@link #allAuthoritiesPermissions} will be initialized after the first access to any of InternalAuthority.
- * So {@link WorkshopEntity#workshopEntitiesNames} will be filled in up to that time.
+ * So {@link WorkshopEntitiesRegistry#getWorkshopEntitiesNames()} will be filled in up to that time.
  */
 public enum InternalAuthority {
 	
@@ -16,18 +16,18 @@ public enum InternalAuthority {
 	 * Includes only {@link PermissionType#GET} type of permission.
 	 */
 	ADMIN_READ(
-		PermissionType.GET, WorkshopEntity.workshopEntitiesNames.toArray(new String[0])),
+		PermissionType.GET, WorkshopEntitiesRegistry.getWorkshopEntitiesNames().toArray(new String[0])),
 	/**
 	 * Also includes {@link PermissionType#GET}.
 	 */
 	ADMIN_WRITE(
-		PermissionType.PUT, WorkshopEntity.workshopEntitiesNames.toArray(new String[0])),
+		PermissionType.PUT, WorkshopEntitiesRegistry.getWorkshopEntitiesNames().toArray(new String[0])),
 	/**
 	 * Also includes
 	 * {@link PermissionType#GET}, {@link PermissionType#PUT}, {@link PermissionType#POST}, {@link PermissionType#DELETE}
 	 */
 	ADMIN_FULL(
-		PermissionType.POST, WorkshopEntity.workshopEntitiesNames.toArray(new String[0])),
+		PermissionType.POST, WorkshopEntitiesRegistry.getWorkshopEntitiesNames().toArray(new String[0])),
 	/**
 	 * Includes only {@link PermissionType#GET} type of permission.
 	 */
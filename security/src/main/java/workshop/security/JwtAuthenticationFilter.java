@@ -1,5 +1,6 @@
 package workshop.security;
 
+import io.jsonwebtoken.JwtException;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -8,15 +9,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import workshop.http.CookieUtils;
+import workshop.internal.entities.Employee;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -26,6 +31,8 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Now works with cookies only.
@@ -45,6 +52,18 @@ public class JwtAuthenticationFilter extends AbstractAuthenticationProcessingFil
 	@Setter
 	private String authenticationCookieName;
 	
+	/**
+	 * Optional. If set, the Authentications of the already verified JWTs are reused.
+	 */
+	@Setter
+	private AuthenticationCache authenticationCache;
+	
+	/**
+	 * Optional. If set, the Authentications of the Employees are restored from the JWT claims while they are current.
+	 */
+	@Setter
+	private PermissionMatrix permissionMatrix;
+	
 	public JwtAuthenticationFilter(String defaultFilterProcessesUrl) {
 		super(defaultFilterProcessesUrl);
 	}
@@ -106,10 +125,11 @@ public class JwtAuthenticationFilter extends AbstractAuthenticationProcessingFil
 	
 	/**
 	 * 1) Gets the JWT from a Cookie
-	 * 2) Checks if the JWT is valid
-	 * 3) Derives the Email
-	 * 4) Obtains the Authentication with the Authorities
-	 * 5) Pass the Authentication back to be set into SecurityContext
+	 * 2) Parses the JWT once and sets it as the {@link ParsedJwt#REQUEST_ATTRIBUTE_NAME} request attribute
+	 * 3) Checks if the JWT is valid
+	 * 4) Restores the Authentication from the JWT claims if its authorities are current
+	 * 5) Otherwise returns the cached Authentication of the same JWT or obtains it with the Authorities by the Email
+	 * 6) Pass the Authentication back to be set into SecurityContext
 	 */
 	@Override
 	public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
@@ -122,16 +142,61 @@ public class JwtAuthenticationFilter extends AbstractAuthenticationProcessingFil
 			.findFirst()
 			.orElseThrow(() -> new AuthenticationCredentialsNotFoundException("Authentication Cookie is absent!"))
 			.getValue();
+		ParsedJwt parsedJwt;
+		try {
+			parsedJwt = jwtUtils.parseJwt(jwtFromCookie);
+		} catch (JwtException e) { //Expired or wrong signed
+			log.trace("JWT cannot be parsed: {}", e.getMessage());
+			throw new BadCredentialsException("JWT is not a valid one!", e);
+		}
+		request.setAttribute(ParsedJwt.REQUEST_ATTRIBUTE_NAME, parsedJwt);
 		//Check if the JWT is valid
-		if (jwtUtils.validateJwt(jwtFromCookie)) {
-			String email = jwtUtils.getUsernameFromJwt(jwtFromCookie);
-			Authentication authenticationByEmail =
-				((WorkshopAuthenticationManager) getAuthenticationManager()).getAuthenticationByEmail(email);
-			return authenticationByEmail;
-		} else { //If JWT is not valid
+		if (!jwtUtils.validateJwt(parsedJwt)) {
 			log.trace("JWT is not valid!");
 			throw new BadCredentialsException("JWT is not a valid one!");
 		}
+		if (permissionMatrix != null && parsedJwt.hasAuthorities()) {
+			Optional<List<GrantedAuthority>> currentAuthorities = permissionMatrix.getCurrentAuthorities(
+				parsedJwt.getEmployeeIdentifier(), parsedJwt.getAuthoritiesIdentifiers(), parsedJwt.getPermissionsVersion());
+			if (currentAuthorities.isPresent()) {
+				return restoreAuthentication(parsedJwt, currentAuthorities.get());
+			}
+			log.trace("The JWT authorities are stale, the Authentication is being obtained by the Email");
+		}
+		if (authenticationCache != null) {
+			Authentication cachedAuthentication = authenticationCache.get(jwtFromCookie);
+			if (cachedAuthentication != null) {
+				log.trace("The cached Authentication of the JWT is used");
+				return cachedAuthentication;
+			}
+		}
+		String email = parsedJwt.getSubject();
+		long cacheGeneration = authenticationCache == null ? 0 : authenticationCache.getGeneration();
+		Authentication authenticationByEmail =
+			((WorkshopAuthenticationManager) getAuthenticationManager()).getAuthenticationByEmail(email);
+		if (authenticationCache != null) {
+			authenticationCache.put(jwtFromCookie, authenticationByEmail, parsedJwt.getExpiration(), cacheGeneration);
+		}
+		return authenticationByEmail;
+	}
+	
+	/**
+	 * The principal is the same {@link UserDetailsEmployee} as the loaded one, but its Employee only has the
+	 * identifier, email and enabled state from the JWT claims.
+	 *
+	 * @throws InsufficientAuthenticationException If the Employee is not enabled, the same as for the loaded one.
+	 */
+	private Authentication restoreAuthentication(ParsedJwt parsedJwt, List<GrantedAuthority> currentAuthorities)
+		throws InsufficientAuthenticationException {
+		Employee employee = new Employee();
+		employee.setIdentifier(parsedJwt.getEmployeeIdentifier());
+		employee.setEmail(parsedJwt.getSubject());
+		employee.setIsEnabled(parsedJwt.getEmployeeEnabled());
+		UserDetailsEmployee userDetailsEmployee = new UserDetailsEmployee(employee, currentAuthorities);
+		if (!userDetailsEmployee.isEnabled()) {
+			throw new InsufficientAuthenticationException("User " + employee.getEmail() + " is not enabled!");
+		}
+		return new UsernamePasswordAuthenticationToken(userDetailsEmployee, "", currentAuthorities);
 	}
 	
 	@Override
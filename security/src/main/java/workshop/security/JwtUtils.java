@@ -2,8 +2,10 @@ package workshop.security;
 
 import org.springframework.beans.factory.annotation.Value;
 import workshop.internal.entities.Employee;
+import workshop.internal.entities.InternalAuthority;
 import workshop.internal.entities.User;
 import io.jsonwebtoken.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -11,11 +13,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.security.Key;
 import java.sql.Date;
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.*;
 
 @Slf4j
 @Getter
@@ -39,6 +43,20 @@ public class JwtUtils {
 	private String audience = "workshop.pro/";
 	
 	/**
+	 * The max amount of the recently verified JWTs to skip their signature verification. Default = 1024
+	 */
+	@Value("${jwt.verifiedCacheSize:1024}")
+	private int verifiedCacheSize = 1024;
+	
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final BoundedLruCache<String, VerifiedJwt> verifiedJwts = new BoundedLruCache<>(() -> verifiedCacheSize);
+	
+	/**
+	 * The JWT of an Employee also contains its InternalAuthorities identifiers with the {@link PermissionMatrix}
+	 * version they have been loaded with and its enabled state, so the Authentication can be restored without the database. The JWT of a
+	 * User (or of an Employee with the unknown version) contains the subject only.
+	 *
 	 * @param usernameAuthenticationToken where .getPrincipal = String(Username)
 	 * @return signed ready to use JWT for inserting into HTTP header
 	 */
@@ -50,17 +68,23 @@ public class JwtUtils {
 		} else if (usernameAuthenticationToken.getPrincipal() == null) {
 			throw new BadCredentialsException("Principal object in the AuthenticationToken is null!");
 		}
-		String scope;
-		if (usernameAuthenticationToken.getCredentials() == null) {
-			scope = "";
-		} else {
-			scope = Arrays.deepToString(usernameAuthenticationToken.getAuthorities().toArray());
-		}
-		
 		String subject = null; //Employee.email either User.email or User.Set<Phones>.iterator.next
+		Long employeeIdentifier = null;
+		List<Long> authoritiesIdentifiers = null;
+		Long permissionsVersion = null;
+		Boolean employeeEnabled = null;
 		if (UserDetailsEmployee.class.isAssignableFrom(usernameAuthenticationToken.getPrincipal().getClass())) {
-			Employee employee = ((UserDetailsEmployee)usernameAuthenticationToken.getPrincipal()).getEmployee();
+			UserDetailsEmployee userDetailsEmployee = (UserDetailsEmployee) usernameAuthenticationToken.getPrincipal();
+			Employee employee = userDetailsEmployee.getEmployee();
 			subject = employee.getEmail();
+			authoritiesIdentifiers = getInternalAuthoritiesIdentifiers(usernameAuthenticationToken.getAuthorities());
+			if (authoritiesIdentifiers != null && userDetailsEmployee.getPermissionsVersion() != null) {
+				employeeIdentifier = employee.getIdentifier();
+				permissionsVersion = userDetailsEmployee.getPermissionsVersion();
+				employeeEnabled = userDetailsEmployee.isEnabled();
+			} else {
+				authoritiesIdentifiers = null;
+			}
 		} else if (UserDetailsUser.class.isAssignableFrom(usernameAuthenticationToken.getPrincipal().getClass())) {
 			
 			//TODO: how to distinguish a particular Phone to be used as a login???
@@ -75,72 +99,138 @@ public class JwtUtils {
 
 //		Header like {"alg": "HS256",	"typ": "JWT"} is automatically added by builder
 //		JwtBuilder.setHeader() will overwrite the existing one!
+		SecurityUtils.SigningKey signingKey = securityUtils.getSigningKey();
 		String jwtoken = Jwts.builder()
+			.setHeaderParam(JwsHeader.KEY_ID, signingKey.getKeyId())
 			.setIssuedAt(Date.valueOf(LocalDate.now()))
 			.setExpiration(new Date(System.currentTimeMillis() + 1000 * expirationTime))
 			.setIssuer(issuer)
 			.setAudience(audience)
 			.setSubject(subject)
-			.claim("scope", scope)
-			.signWith(securityUtils.getKey(), securityUtils.getSignatureAlgorithm())
+			//The null claims are not set
+			.claim(ParsedJwt.EMPLOYEE_CLAIM, employeeIdentifier)
+			.claim(ParsedJwt.AUTHORITIES_CLAIM, authoritiesIdentifiers)
+			.claim(ParsedJwt.PERMISSIONS_VERSION_CLAIM, permissionsVersion)
+			.claim(ParsedJwt.ENABLED_CLAIM, employeeEnabled)
+			.signWith(signingKey.getKey(), securityUtils.getSignatureAlgorithm())
 			.compact();
 		
 		return jwtoken;
 	}
 	
+	/**
+	 * Verifies the JWT signature once and returns its claims. The recently verified JWTs are kept by their signatures
+	 * (up to 'jwt.verifiedCacheSize'), so the repeated requests with the same JWT skip the signature verification
+	 * while the key they have been verified with is still in the {@link SecurityUtils} keys ring.
+	 *
+	 * @throws IllegalArgumentException If the JWT is null or empty.
+	 * @throws ExpiredJwtException      If the JWT is expired.
+	 * @throws JwtException             If JWT contains incorrect sign or any other fatal problems.
+	 */
+	public ParsedJwt parseJwt(String jwt) throws IllegalArgumentException, JwtException {
+		if (jwt == null || jwt.isEmpty()) {
+			throw new IllegalArgumentException("Jwt cannot be null or empty!");
+		}
+		String signature = jwt.substring(jwt.lastIndexOf('.') + 1);
+		VerifiedJwt verifiedJwt = verifiedJwts.get(signature);
+		if (verifiedJwt != null && verifiedJwt.jwt.equals(jwt)) {
+			if (verifiedJwt.parsedJwt.isExpired()) {
+				verifiedJwts.remove(signature, verifiedJwt);
+				throw new ExpiredJwtException(null, null, "JWT expired at " + verifiedJwt.parsedJwt.getExpiration());
+			} else if (securityUtils.isInKeyRing(verifiedJwt.keyId, verifiedJwt.key)) {
+				return verifiedJwt.parsedJwt;
+			}
+			//The key has been rotated out, so the JWT is verified again to be rejected
+			verifiedJwts.remove(signature, verifiedJwt);
+		}
+		try {
+			Key[] verifyingKey = new Key[1];
+			Jws<Claims> jws = Jwts.parser().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+				@Override
+				public Key resolveSigningKey(JwsHeader header, Claims claims) {
+					verifyingKey[0] = securityUtils.getSigningKeyResolver().resolveSigningKey(header, claims);
+					return verifyingKey[0];
+				}
+			}).parseClaimsJws(jwt);
+			ParsedJwt parsedJwt = ParsedJwt.of(jws.getBody());
+			verifiedJwts.put(signature, new VerifiedJwt(jwt, parsedJwt, jws.getHeader().getKeyId(), verifyingKey[0]));
+			return parsedJwt;
+		} catch (JwtException e) {
+			log.trace("Jwt parsing failure! Message:" + e.getMessage());
+			throw e;
+		}
+	}
+	
 	/**
 	 * @return true if JWT contains all the proprietary fields
 	 * @throws JwtException if JWT contains incorrect sign or any other fatal problems. Particularly throws
 	 *                      ExpiredJwtException if the JWT is expired.
 	 */
 	public boolean validateJwt(String jwt) throws JwtException {
-		if (jwt == null || jwt.isEmpty()) {
-			throw new IllegalArgumentException("Jwt cannot be null or empty!");
-		}
-		//TODO: to check 'scope' to match workshop.pro/internal
 		try {
-			Jws<Claims> claimsJws = Jwts.parser().setSigningKey(securityUtils.getKey()).parseClaimsJws(jwt);
-			Claims claims = claimsJws.getBody();
-			return audience.equals(claims.getAudience()) &&
-				issuer.equals(claims.getIssuer()) &&
-				(claims.getSubject() != null && !claims.getSubject().isEmpty()) &&
-				claims.containsKey("scope");
+			return validateJwt(parseJwt(jwt));
 		} catch (ExpiredJwtException exp) {
-			log.trace(exp.getMessage());
 			throw exp;
 		} catch (JwtException e) {
-			log.trace("Jwt parsing failure! Message:" + e.getMessage());
 			return false;
 		}
 	}
 	
+	/**
+	 * @return true if the already parsed JWT contains all the proprietary fields
+	 */
+	public boolean validateJwt(ParsedJwt parsedJwt) {
+		return audience.equals(parsedJwt.getAudience()) &&
+			issuer.equals(parsedJwt.getIssuer()) &&
+			(parsedJwt.getSubject() != null && !parsedJwt.getSubject().isEmpty());
+	}
+	
 	public boolean isJwtExpired(String jwt) throws IllegalArgumentException, JwtException {
-		if (jwt == null || jwt.isEmpty()) {
-			throw new IllegalArgumentException("Jwt cannot be null or empty!");
-		}
 		try {
-			validateJwt(jwt);
+			//Can be modified to set a time lag
+			return parseJwt(jwt).isExpired();
 		} catch (ExpiredJwtException exp) {
 			log.trace(exp.getMessage());
 			return true;
 		}
-		//Can be modified to set a time lag
-		Jws<Claims> claimsJws = Jwts.parser().setSigningKey(securityUtils.getKey()).parseClaimsJws(jwt);
-		Claims claims = claimsJws.getBody();
-		return claims.getExpiration().before(new java.util.Date(System.currentTimeMillis()));
 	}
 	
-	//TODO: to test
 	public String getUsernameFromJwt(String jwt) throws IllegalArgumentException, JwtException {
-		if (jwt == null || jwt.isEmpty()) {
-			throw new IllegalArgumentException("Jwt cannot be null or empty!");
+		return parseJwt(jwt).getSubject();
+	}
+	
+	/**
+	 * @return The identifiers or null if any of the authorities isn't a persisted InternalAuthority.
+	 */
+	private List<Long> getInternalAuthoritiesIdentifiers(Collection<? extends GrantedAuthority> authorities) {
+		if (authorities == null) {
+			return null;
 		}
-		try {
-			String subject = Jwts.parser().setSigningKey(securityUtils.getKey()).parseClaimsJws(jwt).getBody().getSubject();
-			return subject;
-		} catch (JwtException e) {
-			log.trace(e.getMessage());
-			throw e;
+		List<Long> authoritiesIdentifiers = new ArrayList<>(authorities.size());
+		for (GrantedAuthority authority : authorities) {
+			if (!(authority instanceof InternalAuthority) || ((InternalAuthority) authority).getIdentifier() == null) {
+				return null;
+			}
+			authoritiesIdentifiers.add(((InternalAuthority) authority).getIdentifier());
+		}
+		return authoritiesIdentifiers;
+	}
+	
+	private static class VerifiedJwt {
+		
+		private final String jwt;
+		private final ParsedJwt parsedJwt;
+		/**
+		 * The 'kid' header (if any) and the key it has been resolved to.
+		 */
+		private final String keyId;
+		private final Key key;
+		
+		private VerifiedJwt(String jwt, ParsedJwt parsedJwt, String keyId, Key key) {
+			this.jwt = jwt;
+			this.parsedJwt = parsedJwt;
+			this.keyId = keyId;
+			this.key = key;
 		}
 	}
 }
@@ -0,0 +1,187 @@
+package workshop.security;
+
+import lombok.AccessLevel;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import workshop.exceptions.TooManyRequestsException;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The token buckets of the login attempts per client IP and per account (the login email), so the password is only
+ * hashed for the attempts within both of the limits. Every bucket holds up to 'capacity' attempts and gets a new one
+ * every 'refillSeconds'.
+ * <p>
+ * The buckets are only modified within {@link ConcurrentHashMap#compute} which locks the single map bin, so the
+ * attempts of the different IPs and accounts never wait for each other. The refilled buckets are removed every
+ * 'loginAttempts.cleanupMillis'. If 'loginAttempts.maxBuckets' is reached, the refilled buckets are removed at once and
+ * then the least recently attempted ones (by the batches of a tenth of the max amount), so the new IPs and accounts are
+ * always limited as usual. As every account attempt is taken from its IP bucket first, the account buckets can only be
+ * evicted that way from a lot of the different IPs.
+ * <p>
+ * (!) The client IP is the {@link javax.servlet.ServletRequest#getRemoteAddr()}, so behind a proxy the Tomcat
+ * RemoteIpValve ('server.tomcat.remote-ip-header') has to be configured.
+ */
+@Slf4j
+@Component
+public class LoginAttemptsLimiter {
+
+	@Value("${loginAttempts.perIp.capacity:20}")
+	@Setter(AccessLevel.PACKAGE)
+	private int perIpCapacity = 20;
+
+	@Value("${loginAttempts.perIp.refillSeconds:3}")
+	@Setter(AccessLevel.PACKAGE)
+	private long perIpRefillSeconds = 3;
+
+	@Value("${loginAttempts.perAccount.capacity:5}")
+	@Setter(AccessLevel.PACKAGE)
+	private int perAccountCapacity = 5;
+
+	@Value("${loginAttempts.perAccount.refillSeconds:60}")
+	@Setter(AccessLevel.PACKAGE)
+	private long perAccountRefillSeconds = 60;
+
+	@Value("${loginAttempts.maxBuckets:100000}")
+	@Setter(AccessLevel.PACKAGE)
+	private int maxBuckets = 100000;
+
+	private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+	private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+
+	/**
+	 * Takes one attempt from both the IP and the account buckets.
+	 *
+	 * @param ip    The client IP.
+	 * @param email The login email as it is entered.
+	 * @throws TooManyRequestsException If any of the buckets is empty. Its 'Retry-After' is the time until that bucket
+	 *                                  gets the next attempt.
+	 */
+	public void acquire(String ip, String email) throws TooManyRequestsException {
+		long nowNanos = System.nanoTime();
+		long waitNanos = tryConsume(ipBuckets, ip, perIpCapacity, perIpRefillSeconds, nowNanos);
+		if (waitNanos > 0) {
+			throw new TooManyRequestsException("Too many login attempts from IP=" + ip,
+				TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+		}
+		waitNanos = tryConsume(
+			accountBuckets, email.trim().toLowerCase(Locale.ROOT), perAccountCapacity, perAccountRefillSeconds, nowNanos);
+		if (waitNanos > 0) {
+			throw new TooManyRequestsException("Too many login attempts for email=" + email,
+				TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+		}
+	}
+
+	/**
+	 * Removes the buckets which have been entirely refilled, as they are the same as the absent ones.
+	 */
+	@Scheduled(fixedDelayString = "${loginAttempts.cleanupMillis:60000}",
+		initialDelayString = "${loginAttempts.cleanupMillis:60000}")
+	public void removeRefilledBuckets() {
+		long nowNanos = System.nanoTime();
+		removeRefilledBuckets(ipBuckets, perIpCapacity, perIpRefillSeconds, nowNanos);
+		removeRefilledBuckets(accountBuckets, perAccountCapacity, perAccountRefillSeconds, nowNanos);
+	}
+
+	int size() {
+		return ipBuckets.size() + accountBuckets.size();
+	}
+
+	/**
+	 * @return 0 if the attempt is taken or the nanoseconds until the next one.
+	 */
+	private long tryConsume(
+		Map<String, TokenBucket> buckets, String key, int capacity, long refillSeconds, long nowNanos) {
+		long refillNanos = TimeUnit.SECONDS.toNanos(refillSeconds);
+		if (buckets.size() >= maxBuckets && !buckets.containsKey(key)) {
+			evictBuckets(buckets, capacity, refillNanos, nowNanos);
+		}
+		long[] waitNanos = new long[1];
+		buckets.compute(key, (k, bucket) -> {
+			TokenBucket currentBucket = bucket == null ? new TokenBucket(capacity, nowNanos) : bucket;
+			waitNanos[0] = currentBucket.tryConsume(capacity, refillNanos, nowNanos);
+			return currentBucket;
+		});
+		return waitNanos[0];
+	}
+
+	private void removeRefilledBuckets(
+		Map<String, TokenBucket> buckets, int capacity, long refillSeconds, long nowNanos) {
+		removeRefilled(buckets, capacity, TimeUnit.SECONDS.toNanos(refillSeconds), nowNanos);
+	}
+
+	private void removeRefilled(Map<String, TokenBucket> buckets, int capacity, long refillNanos, long nowNanos) {
+		buckets.keySet().forEach(key -> buckets.computeIfPresent(key, (k, bucket) ->
+			bucket.isRefilled(capacity, refillNanos, nowNanos) ? null : bucket));
+	}
+
+	/**
+	 * Removes the refilled buckets and, if there are still too many of them, the least recently attempted ones down to
+	 * nine tenths of 'maxBuckets' (but at least one), so the eviction isn't repeated for every next new key.
+	 * Only one thread evicts the buckets of the same map at once, the others wait for it.
+	 */
+	private void evictBuckets(Map<String, TokenBucket> buckets, int capacity, long refillNanos, long nowNanos) {
+		synchronized (buckets) {
+			if (buckets.size() < maxBuckets) {
+				return;
+			}
+			removeRefilled(buckets, capacity, refillNanos, nowNanos);
+			int exceedingSize = buckets.size() - (maxBuckets - Math.max(1, maxBuckets / 10));
+			if (exceedingSize <= 0) {
+				return;
+			}
+			buckets.entrySet().stream()
+				.sorted(Comparator.comparingLong(bucket -> bucket.getValue().attemptedAtNanos - nowNanos))
+				.limit(exceedingSize)
+				.collect(Collectors.toList())
+				.forEach(bucket -> buckets.remove(bucket.getKey(), bucket.getValue()));
+			log.warn("The max amount of the login attempts buckets is reached, {} least recently attempted are evicted",
+				exceedingSize);
+		}
+	}
+
+	/**
+	 * Is only modified within the map bin lock.
+	 */
+	private static class TokenBucket {
+
+		private int tokens;
+		private long refilledAtNanos;
+		/**
+		 * Is also read by the eviction outside the bin lock.
+		 */
+		private volatile long attemptedAtNanos;
+
+		private TokenBucket(int tokens, long refilledAtNanos) {
+			this.tokens = tokens;
+			this.refilledAtNanos = refilledAtNanos;
+			this.attemptedAtNanos = refilledAtNanos;
+		}
+
+		private long tryConsume(int capacity, long refillNanos, long nowNanos) {
+			attemptedAtNanos = nowNanos;
+			long refills = (nowNanos - refilledAtNanos) / refillNanos;
+			if (refills > 0) {
+				tokens = (int) Math.min(capacity, tokens + refills);
+				refilledAtNanos = tokens == capacity ? nowNanos : refilledAtNanos + refills * refillNanos;
+			}
+			if (tokens > 0) {
+				tokens--;
+				return 0;
+			}
+			return Math.max(1, refilledAtNanos + refillNanos - nowNanos);
+		}
+
+		private boolean isRefilled(int capacity, long refillNanos, long nowNanos) {
+			return tokens + (nowNanos - refilledAtNanos) / refillNanos >= capacity;
+		}
+	}
+}
@@ -4,6 +4,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
@@ -13,6 +15,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import workshop.exceptions.TooManyRequestsException;
 import workshop.exceptions.UuidAuthenticationException;
 import workshop.http.CookieUtils;
 
@@ -41,6 +44,12 @@ public class LoginAuthenticationFilter extends UsernamePasswordAuthenticationFil
 	@Setter
 	private String authenticationCookieName;
 	
+	/**
+	 * If set, the attempts over the per IP and per account limits are rejected before hashing their passwords.
+	 */
+	@Setter
+	private LoginAttemptsLimiter loginAttemptsLimiter;
+	
 	/**
 	 * If Authentication won't be put into SecurityContext following Authorization process will be failed.
 	 * All the possible AuthenticationExceptions thrown by involved following classes in this
@@ -70,6 +79,10 @@ public class LoginAuthenticationFilter extends UsernamePasswordAuthenticationFil
 				request.setAttribute("uuid", "notValid");
 				response.sendRedirect("login?uuid=notValid");
 			}
+		} catch (TooManyRequestsException e) { //Over the login attempts limits or the password hashing queue
+			log.debug(e.getMessage());
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+			response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), e.getMessage());
 		} catch (AuthenticationException e) { //Other types of not valid credentials
 			log.debug(e.getMessage(), e);
 			super.unsuccessfulAuthentication(request, response, e);
@@ -120,6 +133,9 @@ public class LoginAuthenticationFilter extends UsernamePasswordAuthenticationFil
 		if ((email == null || password == null) || (email.isEmpty() && password.isEmpty())) {
 			throw new BadCredentialsException("Email or password is null or empty!");
 		}
+		if (loginAttemptsLimiter != null) {
+			loginAttemptsLimiter.acquire(request.getRemoteAddr(), email);
+		}
 		UsernamePasswordAuthenticationToken authenticationToken;
 		if (uuid != null && !uuid.isEmpty()) {
 			authenticationToken = new UsernamePasswordUuidAuthenticationToken(email, password, uuid);
@@ -0,0 +1,84 @@
+package workshop.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.Value;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The claims of a JWT which signature has already been verified by {@link JwtUtils#parseJwt(String)}, so the JWT
+ * never has to be parsed again within the same request.
+ * Is set as the {@link #REQUEST_ATTRIBUTE_NAME} HttpServletRequest attribute by the {@link JwtAuthenticationFilter}.
+ */
+@Value
+public class ParsedJwt {
+
+	public static final String REQUEST_ATTRIBUTE_NAME = ParsedJwt.class.getName();
+	static final String EMPLOYEE_CLAIM = "eid";
+	static final String AUTHORITIES_CLAIM = "aid";
+	static final String PERMISSIONS_VERSION_CLAIM = "pmv";
+	static final String ENABLED_CLAIM = "enb";
+
+	private String subject;
+	@Nullable
+	private String audience;
+	@Nullable
+	private String issuer;
+	@Nullable
+	private Date expiration;
+	/**
+	 * The Employee identifier. Null for the Users.
+	 */
+	@Nullable
+	private Long employeeIdentifier;
+	/**
+	 * The InternalAuthorities identifiers of the Employee. Null for the Users.
+	 */
+	@Nullable
+	private List<Long> authoritiesIdentifiers;
+	/**
+	 * The {@link PermissionMatrix#getVersion()} the authorities have been loaded with. Null for the Users.
+	 */
+	@Nullable
+	private Long permissionsVersion;
+	/**
+	 * The Employee enabled state the authorities have been loaded with. Null for the Users.
+	 */
+	@Nullable
+	private Boolean employeeEnabled;
+
+	static ParsedJwt of(Claims claims) {
+		List<?> authoritiesIdentifiers = claims.get(AUTHORITIES_CLAIM, List.class);
+		return new ParsedJwt(claims.getSubject(), claims.getAudience(), claims.getIssuer(), claims.getExpiration(),
+			toLong(claims.get(EMPLOYEE_CLAIM)),
+			authoritiesIdentifiers == null ? null : Collections.unmodifiableList(authoritiesIdentifiers.stream()
+				.map(ParsedJwt::toLong)
+				.collect(Collectors.toList())),
+			toLong(claims.get(PERMISSIONS_VERSION_CLAIM)),
+			claims.get(ENABLED_CLAIM, Boolean.class));
+	}
+
+	public boolean isExpired() {
+		return expiration != null && !expiration.after(new Date());
+	}
+
+	/**
+	 * @return True if the Authentication can be restored from the claims without the database.
+	 */
+	public boolean hasAuthorities() {
+		return employeeIdentifier != null && authoritiesIdentifiers != null && permissionsVersion != null &&
+			employeeEnabled != null;
+	}
+
+	/**
+	 * The numeric claims are deserialized as Integers or Longs depending on their values.
+	 */
+	@Nullable
+	private static Long toLong(@Nullable Object claim) {
+		return claim instanceof Number ? ((Number) claim).longValue() : null;
+	}
+}
@@ -0,0 +1,315 @@
+package workshop.security;
+
+import lombok.AccessLevel;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import workshop.applicationEvents.AuthenticationsChangedEvent;
+import workshop.applicationEvents.PermissionsChangedEvent;
+import workshop.internal.dao.EmployeesDao;
+import workshop.internal.entities.AuthorityPermission;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.InternalAuthority;
+import workshop.internal.entities.Position;
+import workshop.internal.entities.WorkshopEntityType;
+import workshop.internal.entities.utils.PermissionType;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The compiled {@link AuthorityPermission}s of all the {@link InternalAuthority}s, so the
+ * {@link WorkshopPermissionEvaluator} checks a permission with a bit test instead of loading the authorities with
+ * their permissions and WorkshopEntityTypes on every request.
+ * <p>
+ * Every InternalAuthority (by its name) has a {@link BitSet} with a bit for every
+ * (WorkshopEntityType ordinal x {@link PermissionType}) it is permitted. The ordinals are assigned to the
+ * WorkshopEntityType names once they are met.
+ * <p>
+ * The matrix is built before the application starts to serve the requests and is rebuilt after every committed
+ * change of {@link PermissionsChangedEvent}: only the row of the changed InternalAuthority (or of the InternalAuthority
+ * of the changed AuthorityPermission) is reloaded, while the change of a WorkshopEntityType rebuilds the whole matrix.
+ * As the changes made bypassing JPA (plain SQL, other application instances) don't publish the events, the matrix is
+ * also entirely rebuilt every 'permissionMatrix.refreshMillis'.
+ * <p>
+ * The rows are replaced as a whole, so the readers never lock and never see a half-built row.
+ * <p>
+ * Every change which may alter the authorities of an already issued JWT (a renamed or removed InternalAuthority,
+ * a changed Employee or any changed Position) advances the {@link #getVersion()} and is recorded with it, so the
+ * {@link JwtAuthenticationFilter} rebuilds the Authentication from the JWT claims by
+ * {@link #getCurrentAuthorities(Long, Collection, long)} only if nothing has changed since the JWT version.
+ * The recorded changes are bounded by the amount of the InternalAuthorities and Employees.
+ * <p>
+ * The version is the epoch millis of the last change (or of the time it has been obtained), so it is comparable
+ * between the application instances. As the recorded changes are only known to the instance they have been made on,
+ * the Employees restored from the JWTs are collected and every 'permissionMatrix.revocationsCheckMillis' their
+ * (and their Positions) 'modified' are selected at once by {@link #checkRevocations()}, so a JWT of the Employee
+ * changed or removed on another instance (or by plain SQL) is restored without the database for up to that delay.
+ * The requests themselves never query the database. The renamed or removed InternalAuthorities on another instance
+ * are only caught up by the periodic rebuild.
+ */
+@Slf4j
+@Component
+public class PermissionMatrix implements SmartInitializingSingleton {
+
+	private static final int PERMISSION_TYPES_COUNT = PermissionType.values().length;
+
+	private final TransactionTemplate transactionTemplate;
+	private final Map<String, Integer> entityTypesOrdinals = new ConcurrentHashMap<>();
+	private final Map<String, BitSet> rows = new ConcurrentHashMap<>();
+	/**
+	 * To remove the rows of the removed or renamed InternalAuthorities and to restore the authorities from the JWTs.
+	 */
+	private final Map<Long, String> authoritiesNames = new ConcurrentHashMap<>();
+	/**
+	 * To also rebuild the previous InternalAuthority row when an AuthorityPermission is moved to another one.
+	 */
+	private final Map<Long, Long> permissionsAuthorities = new HashMap<>();
+	/**
+	 * Starts from the startup time, so the JWTs issued before the restart are never taken as current against the
+	 * revocations this instance doesn't know about.
+	 */
+	private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+	/**
+	 * The versions of the last changes of the InternalAuthorities and Employees by their identifiers.
+	 */
+	private final Map<Long, Long> authoritiesRevocations = new ConcurrentHashMap<>();
+	private final Map<Long, Long> employeesRevocations = new ConcurrentHashMap<>();
+	/**
+	 * Any Position change may change the authorities of any Employee.
+	 */
+	private volatile long allRevocationsVersion = version.get();
+	/**
+	 * The Employees restored from the JWTs since the previous {@link #checkRevocations()}.
+	 */
+	private final Set<Long> restoredEmployees = ConcurrentHashMap.newKeySet();
+	@PersistenceContext
+	private EntityManager entityManager;
+	/**
+	 * Is optional for the matrix to be tested without the database.
+	 */
+	@Autowired(required = false)
+	@Qualifier("employeesDao")
+	@Setter(AccessLevel.PACKAGE)
+	private EmployeesDao employeesDao;
+
+	public PermissionMatrix(PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+	/**
+	 * If the matrix cannot be built, all the permissions are denied until the next scheduled rebuild.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.error("The permission matrix cannot be built: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @param grantedAuthorities The authorities of the current Authentication.
+	 * @param permissionType     The requested type of the access.
+	 * @param workshopEntityName The simple class name of the WorkshopEntity, e.g. 'Order'.
+	 * @return True if any of the given authorities has such a PermissionType for such a WorkshopEntityType.
+	 */
+	public boolean isPermitted(Collection<? extends GrantedAuthority> grantedAuthorities,
+							   PermissionType permissionType, String workshopEntityName) {
+		Integer entityTypeOrdinal = entityTypesOrdinals.get(workshopEntityName);
+		if (entityTypeOrdinal == null || grantedAuthorities == null) {
+			return false;
+		}
+		int bitIndex = getBitIndex(entityTypeOrdinal, permissionType);
+		for (GrantedAuthority grantedAuthority : grantedAuthorities) {
+			BitSet row = rows.get(grantedAuthority.getAuthority());
+			if (row != null && row.get(bitIndex)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return The version to be stored within the JWT. Has to be obtained before the Employee and its authorities are
+	 * loaded.
+	 */
+	public long getVersion() {
+		return version.updateAndGet(currentVersion -> Math.max(currentVersion, System.currentTimeMillis()));
+	}
+
+	/**
+	 * @param employeeIdentifier      The Employee the JWT has been issued to.
+	 * @param authoritiesIdentifiers  The InternalAuthorities identifiers from the JWT.
+	 * @param jwtVersion              The {@link #getVersion()} from the JWT.
+	 * @return The authorities by their current names or the empty Optional if any of them or the Employee has been
+	 * changed or removed since the 'jwtVersion', so the Authentication has to be loaded from the database.
+	 */
+	public Optional<List<GrantedAuthority>> getCurrentAuthorities(
+		Long employeeIdentifier, Collection<Long> authoritiesIdentifiers, long jwtVersion) {
+		if (jwtVersion > getVersion() || jwtVersion < allRevocationsVersion ||
+			employeesRevocations.getOrDefault(employeeIdentifier, 0L) > jwtVersion) {
+			return Optional.empty();
+		}
+		List<GrantedAuthority> grantedAuthorities = new ArrayList<>(authoritiesIdentifiers.size());
+		for (Long authorityIdentifier : authoritiesIdentifiers) {
+			String authorityName = authorityIdentifier == null ? null : authoritiesNames.get(authorityIdentifier);
+			if (authorityName == null || authoritiesRevocations.getOrDefault(authorityIdentifier, 0L) > jwtVersion) {
+				return Optional.empty();
+			}
+			grantedAuthorities.add(new SimpleGrantedAuthority(authorityName));
+		}
+		if (employeeIdentifier != null) {
+			restoredEmployees.add(employeeIdentifier);
+		}
+		return Optional.of(grantedAuthorities);
+	}
+
+	/**
+	 * Catches up the changes of the Employees and their Positions made bypassing this instance: the Employees restored
+	 * from the JWTs since the previous check are selected by their primary keys at once, the changed ones are revoked
+	 * since their 'modified' and the removed ones are revoked entirely.
+	 */
+	@Scheduled(fixedDelayString = "${permissionMatrix.revocationsCheckMillis:10000}",
+			   initialDelayString = "${permissionMatrix.revocationsCheckMillis:10000}")
+	public void checkRevocations() {
+		if (employeesDao == null || restoredEmployees.isEmpty()) {
+			return;
+		}
+		List<Long> employeesIdentifiers = new ArrayList<>(restoredEmployees);
+		restoredEmployees.removeAll(employeesIdentifiers);
+		//Outside the transaction so it is read from the primary database
+		Map<Long, Long> modifiedMillis = employeesDao.findAuthenticationsModifiedMillis(employeesIdentifiers);
+		for (Long employeeIdentifier : employeesIdentifiers) {
+			Long employeeModifiedMillis = modifiedMillis.get(employeeIdentifier);
+			//The JWTs issued within the same millisecond as the change are stale too
+			long revocationVersion = employeeModifiedMillis == null ? nextVersion() : employeeModifiedMillis + 1;
+			employeesRevocations.merge(employeeIdentifier, revocationVersion, Math::max);
+		}
+		log.trace("The revocations of {} restored Employees are checked", employeesIdentifiers.size());
+	}
+
+	/**
+	 * Reloads all the InternalAuthorities with their permissions. The rows are replaced one by one so the requests
+	 * are evaluated against the previous rows meanwhile.
+	 */
+	@Scheduled(fixedDelayString = "${permissionMatrix.refreshMillis:600000}",
+			   initialDelayString = "${permissionMatrix.refreshMillis:600000}")
+	public synchronized void rebuild() {
+		List<InternalAuthority> internalAuthorities = transactionTemplate.execute(status -> entityManager
+			.createQuery("SELECT a FROM Internal_Authority a", InternalAuthority.class)
+			.getResultList());
+		Set<Long> removedAuthoritiesIdentifiers = new HashSet<>(authoritiesNames.keySet());
+		permissionsAuthorities.clear();
+		for (InternalAuthority internalAuthority : internalAuthorities) {
+			removedAuthoritiesIdentifiers.remove(internalAuthority.getIdentifier());
+			updateRow(internalAuthority);
+		}
+		removedAuthoritiesIdentifiers.forEach(this::removeRow);
+		log.debug("The permission matrix is built for {} InternalAuthorities and {} WorkshopEntityTypes",
+			rows.size(), entityTypesOrdinals.size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public synchronized void onPermissionsChanged(PermissionsChangedEvent event) {
+		if (WorkshopEntityType.class.equals(event.getChangedEntityClass())) {
+			rebuild();
+		} else if (InternalAuthority.class.equals(event.getChangedEntityClass())) {
+			reloadRow(event.getChangedEntityIdentifier());
+		} else if (AuthorityPermission.class.equals(event.getChangedEntityClass())) {
+			Long previousAuthorityIdentifier = permissionsAuthorities.remove(event.getChangedEntityIdentifier());
+			if (previousAuthorityIdentifier != null &&
+				!previousAuthorityIdentifier.equals(event.getInternalAuthorityIdentifier())) {
+				reloadRow(previousAuthorityIdentifier);
+			}
+			if (event.getInternalAuthorityIdentifier() != null) {
+				reloadRow(event.getInternalAuthorityIdentifier());
+			}
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAuthenticationsChanged(AuthenticationsChangedEvent event) {
+		if (Employee.class.equals(event.getChangedEntityClass()) && event.getChangedEntityIdentifier() != null) {
+			employeesRevocations.put(event.getChangedEntityIdentifier(), nextVersion());
+		} else if (Position.class.equals(event.getChangedEntityClass())) {
+			allRevocationsVersion = nextVersion();
+		}
+	}
+
+	/**
+	 * Compiles the row of the given InternalAuthority and replaces the previous one.
+	 * Has to be called within the synchronized methods only.
+	 */
+	void updateRow(InternalAuthority internalAuthority) {
+		BitSet row = new BitSet();
+		if (internalAuthority.getAuthorityPermissions() != null) {
+			for (AuthorityPermission authorityPermission : internalAuthority.getAuthorityPermissions()) {
+				permissionsAuthorities.put(authorityPermission.getIdentifier(), internalAuthority.getIdentifier());
+				if (authorityPermission.getPermissionType() == null ||
+					authorityPermission.getWorkshopEntityTypes() == null) {
+					continue;
+				}
+				for (WorkshopEntityType workshopEntityType : authorityPermission.getWorkshopEntityTypes()) {
+					int entityTypeOrdinal = entityTypesOrdinals.computeIfAbsent(
+						workshopEntityType.getName(), name -> entityTypesOrdinals.size());
+					row.set(getBitIndex(entityTypeOrdinal, authorityPermission.getPermissionType()));
+				}
+			}
+		}
+		String previousName = authoritiesNames.put(internalAuthority.getIdentifier(), internalAuthority.getName());
+		rows.put(internalAuthority.getName(), row);
+		if (previousName != null && !previousName.equals(internalAuthority.getName())) {
+			if (!authoritiesNames.containsValue(previousName)) {
+				rows.remove(previousName);
+			}
+			authoritiesRevocations.put(internalAuthority.getIdentifier(), nextVersion());
+		}
+	}
+
+	private void reloadRow(Long internalAuthorityIdentifier) {
+		InternalAuthority internalAuthority = transactionTemplate.execute(
+			status -> entityManager.find(InternalAuthority.class, internalAuthorityIdentifier));
+		if (internalAuthority != null) {
+			updateRow(internalAuthority);
+			return;
+		}
+		removeRow(internalAuthorityIdentifier);
+	}
+
+	private void removeRow(Long internalAuthorityIdentifier) {
+		String removedName = authoritiesNames.remove(internalAuthorityIdentifier);
+		if (removedName != null) {
+			if (!authoritiesNames.containsValue(removedName)) {
+				rows.remove(removedName);
+			}
+			authoritiesRevocations.put(internalAuthorityIdentifier, nextVersion());
+		}
+		permissionsAuthorities.values().removeIf(internalAuthorityIdentifier::equals);
+	}
+
+	private long nextVersion() {
+		return version.updateAndGet(currentVersion -> Math.max(currentVersion + 1, System.currentTimeMillis()));
+	}
+
+	private int getBitIndex(int entityTypeOrdinal, PermissionType permissionType) {
+		return entityTypeOrdinal * PERMISSION_TYPES_COUNT + permissionType.ordinal();
+	}
+}
@@ -1,57 +1,311 @@
 package workshop.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import javax.crypto.KeyGenerator;
-import java.security.Key;
-import java.security.NoSuchAlgorithmException;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.*;
+import java.util.*;
+import java.util.stream.Collectors;
 
+/**
+ * The ring of the JWT signing keys. The newest key signs the JWTs with its 'kid' header, the previous ones
+ * ('jwt.keys.previous') still verify the JWTs they have signed.
+ * <p>
+ * If 'jwt.keyStore.path' is set, the keys are kept within that keystore file (which may be shared by all the
+ * application instances), a new key is added every 'jwt.keys.rotationMillis' and the changes made by the other
+ * instances are reloaded every 'jwt.keys.checkMillis'. The keystore is only modified under the lock of the
+ * '.lock' file beside it.
+ * Otherwise the single random key is generated at the startup, so the JWTs don't survive the restarts and are only
+ * valid for this instance. The key is never derived from any configured value as all of them are committed.
+ * The keystore password has to be supplied from outside ('jwt.keyStore.password', e.g. as the environment variable
+ * JWT_KEYSTORE_PASSWORD), the startup fails without it or if the keystore cannot be loaded.
+ * (!) The previous keys have to outlive the JWTs they have signed, so 'jwt.keys.previous' x 'jwt.keys.rotationMillis'
+ * has to exceed 'jwt.expirationTime'.
+ */
 @Slf4j
 @Component
 class SecurityUtils {
-	
-	/**
-	 * Requires that you use a secret key that is at least 32 bytes long
-	 * Can by set only at compilation time
-	 */
-	@Value("${secretWord}")
+
+	@Value("${jwt.keyStore.path:}")
+	@Setter(AccessLevel.PACKAGE)
+	private String keyStorePath;
+
+	@Value("${jwt.keyStore.password:}")
+	@Setter(AccessLevel.PACKAGE)
+	private String keyStorePassword;
+
+	@Value("${jwt.keyStore.type:JCEKS}")
+	@Setter(AccessLevel.PACKAGE)
+	private String keyStoreType = "JCEKS";
+
+	@Value("${jwt.keys.previous:2}")
 	@Setter(AccessLevel.PACKAGE)
-	private String secretWord;
+	private int previousKeysCount = 2;
+
+	@Value("${jwt.keys.rotationMillis:86400000}")
+	@Setter(AccessLevel.PACKAGE)
+	private long rotationMillis = 86400000;
+
 	@Getter
 	private SignatureAlgorithm signatureAlgorithm;
+
+	/**
+	 * The newest key goes first.
+	 */
+	private volatile List<SigningKey> signingKeys;
+
 	@Getter
-	private Key key;
-	private KeyGenerator keyGenerator;
-	
+	private final SigningKeyResolver signingKeyResolver = new SigningKeyResolverAdapter() {
+		@Override
+		public Key resolveSigningKey(JwsHeader header, Claims claims) {
+			return getKey(header.getKeyId());
+		}
+	};
+
+	/**
+	 * Creates the ring with a single random key until {@link #loadKeys()} is called.
+	 */
 	public SecurityUtils() {
 		this.signatureAlgorithm = SignatureAlgorithm.HS256;
+		this.signingKeys = Collections.singletonList(generateKey(System.currentTimeMillis()));
+	}
+
+	/**
+	 * @throws IllegalStateException If 'jwt.keyStore.path' is set without 'jwt.keyStore.password' or the keystore
+	 *                               cannot be loaded.
+	 */
+	@PostConstruct
+	public void loadKeys() throws IllegalStateException {
+		if (keyStorePath == null || keyStorePath.isEmpty()) {
+			log.warn("'jwt.keyStore.path' is not set, the random JWT signing key kid={} is generated for this " +
+				"instance only. All the JWTs will be invalid after the restart", getSigningKey().getKeyId());
+			return;
+		}
+		if (keyStorePassword == null || keyStorePassword.isEmpty()) {
+			throw new IllegalStateException("'jwt.keyStore.password' has to be supplied for the 'jwt.keyStore.path'!");
+		}
+		if (!reloadKeys()) {
+			throw new IllegalStateException("The JWT signing keys cannot be loaded from " + keyStorePath);
+		}
+	}
+
+	/**
+	 * @return The active key to sign the new JWTs with.
+	 */
+	public SigningKey getSigningKey() {
+		return signingKeys.get(0);
+	}
+
+	/**
+	 * @return The active key.
+	 */
+	public Key getKey() {
+		return getSigningKey().getKey();
+	}
+
+	/**
+	 * @param keyId The JWT 'kid' header. If null (the JWTs signed before the keys ring) the active key is returned.
+	 * @throws SignatureException If there is no such a key anymore.
+	 */
+	public Key getKey(@Nullable String keyId) throws SignatureException {
+		List<SigningKey> signingKeys = this.signingKeys;
+		if (keyId == null) {
+			return signingKeys.get(0).getKey();
+		}
+		for (SigningKey signingKey : signingKeys) {
+			if (signingKey.getKeyId().equals(keyId)) {
+				return signingKey.getKey();
+			}
+		}
+		throw new SignatureException("The JWT signing key with kid=" + keyId + " is not found!");
+	}
+
+	/**
+	 * @param keyId The JWT 'kid' header the key has been resolved by.
+	 * @param key   The key the JWT has been verified with.
+	 * @return True if the 'kid' still resolves to the same key, so the JWT verified with it is still valid.
+	 */
+	public boolean isInKeyRing(@Nullable String keyId, Key key) {
 		try {
-			keyGenerator = KeyGenerator.getInstance(signatureAlgorithm.getJcaName());
-			keyGenerator.init(256);
-		} catch (NoSuchAlgorithmException e) {
-			log.error("Fatal security initialization!", e);
+			Key currentKey = getKey(keyId);
+			//The unchanged keys are the same instances after the reloads, the bytes are only compared otherwise
+			return currentKey == key || MessageDigest.isEqual(currentKey.getEncoded(), key.getEncoded());
+		} catch (SignatureException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Reloads the keys from the keystore file and adds the new active key to it if the current one is older than
+	 * 'jwt.keys.rotationMillis'. Creates the keystore if it doesn't exist.
+	 * If the keystore cannot be read or written the current keys are kept.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.keys.checkMillis:60000}", initialDelayString = "${jwt.keys.checkMillis:60000}")
+	public void rotateKeys() {
+		if (keyStorePath == null || keyStorePath.isEmpty()) {
+			return;
 		}
-		key = keyGenerator.generateKey();
+		reloadKeys();
 	}
-	
-/*
-	public SecurityUtils(String secretWord, SignatureAlgorithm signatureAlgorithm) {
-		this.secretWord = secretWord;
-		this.signatureAlgorithm = signatureAlgorithm;
+
+	/**
+	 * @return False if the keystore cannot be read or written.
+	 */
+	private synchronized boolean reloadKeys() {
+		Path keyStoreFile = Paths.get(keyStorePath).toAbsolutePath();
+		Path lockFile = Paths.get(keyStorePath + ".lock").toAbsolutePath();
 		try {
-			keyGenerator = KeyGenerator.getInstance(signatureAlgorithm.getJcaName());
+			Files.createDirectories(keyStoreFile.getParent());
+		} catch (IOException e) {
+			log.error("The JWT keystore directory cannot be created for " + keyStorePath, e);
+			return false;
+		}
+		try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			 FileLock ignored = lockChannel.lock()) {
+			List<SigningKey> storedKeys = readKeyStore(keyStoreFile);
+			long nowMillis = System.currentTimeMillis();
+			if (storedKeys.isEmpty() || storedKeys.get(0).getCreatedMillis() + rotationMillis <= nowMillis) {
+				List<SigningKey> rotatedKeys = new ArrayList<>(storedKeys.size() + 1);
+				//The 'kid' has to be unique even within the same millisecond
+				rotatedKeys.add(generateKey(storedKeys.isEmpty() ?
+					nowMillis : Math.max(nowMillis, storedKeys.get(0).getCreatedMillis() + 1)));
+				rotatedKeys.addAll(storedKeys);
+				storedKeys = rotatedKeys.subList(0, Math.min(rotatedKeys.size(), previousKeysCount + 1));
+				writeKeyStore(keyStoreFile, storedKeys);
+				log.info("The new JWT signing key kid={} is added, {} previous keys are kept",
+					storedKeys.get(0).getKeyId(), storedKeys.size() - 1);
+			}
+			signingKeys = Collections.unmodifiableList(reuseLoadedKeys(storedKeys));
+			return true;
+		} catch (IOException | GeneralSecurityException e) {
+			log.error("The JWT signing keys cannot be loaded from or stored to " + keyStorePath, e);
+			return false;
+		}
+	}
+
+	/**
+	 * The keys with the same 'kid' and bytes as the already loaded ones are replaced with the loaded instances, so the
+	 * reloads of the unchanged keystore don't change the keys the JWTs have been verified with.
+	 */
+	private List<SigningKey> reuseLoadedKeys(List<SigningKey> storedKeys) {
+		Map<String, SigningKey> loadedKeys = signingKeys.stream()
+			.collect(Collectors.toMap(SigningKey::getKeyId, signingKey -> signingKey));
+		List<SigningKey> keys = new ArrayList<>(storedKeys.size());
+		for (SigningKey storedKey : storedKeys) {
+			SigningKey loadedKey = loadedKeys.get(storedKey.getKeyId());
+			keys.add(loadedKey != null &&
+				MessageDigest.isEqual(loadedKey.getKey().getEncoded(), storedKey.getKey().getEncoded()) ?
+				loadedKey : storedKey);
+		}
+		return keys;
+	}
+
+	/**
+	 * @return The keys sorted from the newest one.
+	 */
+	private List<SigningKey> readKeyStore(Path keyStoreFile) throws IOException, GeneralSecurityException {
+		if (!Files.exists(keyStoreFile) || Files.size(keyStoreFile) == 0) {
+			return Collections.emptyList();
+		}
+		KeyStore keyStore = KeyStore.getInstance(keyStoreType);
+		char[] password = keyStorePassword.toCharArray();
+		try (InputStream inputStream = Files.newInputStream(keyStoreFile)) {
+			keyStore.load(inputStream, password);
+		}
+		List<SigningKey> keys = new ArrayList<>();
+		for (String alias : Collections.list(keyStore.aliases())) {
+			if (keyStore.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+				SecretKey secretKey = ((KeyStore.SecretKeyEntry) keyStore.getEntry(
+					alias, new KeyStore.PasswordProtection(password))).getSecretKey();
+				keys.add(new SigningKey(alias, secretKey, getCreatedMillis(alias, keyStore)));
+			}
+		}
+		return keys.stream()
+			.sorted(Comparator.comparingLong(SigningKey::getCreatedMillis).reversed())
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * The keystore is written to a temporary file which then replaces the previous one, so the other instances never
+	 * read a half-written keystore.
+	 */
+	private void writeKeyStore(Path keyStoreFile, List<SigningKey> keys) throws IOException, GeneralSecurityException {
+		KeyStore keyStore = KeyStore.getInstance(keyStoreType);
+		char[] password = keyStorePassword.toCharArray();
+		keyStore.load(null, password);
+		for (SigningKey key : keys) {
+			keyStore.setEntry(key.getKeyId(), new KeyStore.SecretKeyEntry((SecretKey) key.getKey()),
+				new KeyStore.PasswordProtection(password));
+		}
+		Path tempFile = Files.createTempFile(keyStoreFile.getParent(), "jwtKeys", ".tmp");
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+				keyStore.store(outputStream, password);
+			}
+			Files.move(tempFile, keyStoreFile,
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * The keystore entries creation dates are reset every time the keystore is rewritten, so the creation time is
+	 * taken from the 'kid' itself.
+	 */
+	private long getCreatedMillis(String alias, KeyStore keyStore) throws KeyStoreException {
+		if (alias.matches("k\\d+")) {
+			return Long.parseLong(alias.substring(1));
+		}
+		return keyStore.getCreationDate(alias).getTime();
+	}
+
+	/**
+	 * The 'kid' is the creation time, so the keys added by the different instances never clash.
+	 */
+	private SigningKey generateKey(long createdMillis) {
+		try {
+			KeyGenerator keyGenerator = KeyGenerator.getInstance(signatureAlgorithm.getJcaName());
 			keyGenerator.init(256);
+			return new SigningKey("k" + createdMillis, keyGenerator.generateKey(), createdMillis);
 		} catch (NoSuchAlgorithmException e) {
 			log.error("Fatal security initialization!", e);
+			throw new IllegalStateException(e);
 		}
-		key = keyGenerator.generateKey();
-		
 	}
-*/
+
+	@Getter
+	@AllArgsConstructor
+	static class SigningKey {
+
+		private final String keyId;
+		private final Key key;
+		private final long createdMillis;
+	}
 }
@@ -21,14 +21,34 @@ public class UserDetailsEmployee implements UserDetails {
 	
 	private String password;
 	
+	/**
+	 * The authorities restored without the Position. Null if the Employee has been loaded with them.
+	 */
 	private Collection<GrantedAuthority> authorities;
 	
+	/**
+	 * The {@link PermissionMatrix#getVersion()} obtained before the Employee has been loaded. Null if unknown.
+	 */
+	private Long permissionsVersion;
+	
 	public UserDetailsEmployee(Employee employee) {
 		this.employee = employee;
 	}
 	
+	/**
+	 * @param employee    The Employee restored without its Position.
+	 * @param authorities The current authorities of the Employee.
+	 */
+	public UserDetailsEmployee(Employee employee, Collection<GrantedAuthority> authorities) {
+		this.employee = employee;
+		this.authorities = authorities;
+	}
+	
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
+		if (authorities != null) {
+			return authorities;
+		}
 		return employee.getPosition().getInternalAuthorities();
 //		return Collections.singletonList(employee.getPosition());
 	}
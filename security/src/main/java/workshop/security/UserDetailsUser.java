@@ -14,12 +14,29 @@ public class UserDetailsUser implements UserDetails {
 	
 	private User user;
 	
+	/**
+	 * The authorities restored without the ExternalAuthorities. Null if the User has been loaded with them.
+	 */
+	private Collection<GrantedAuthority> authorities;
+	
 	public UserDetailsUser(User user) {
 		this.user = user;
 	}
 	
+	/**
+	 * @param user        The User restored without its ExternalAuthorities.
+	 * @param authorities The current authorities of the User.
+	 */
+	public UserDetailsUser(User user, Collection<GrantedAuthority> authorities) {
+		this.user = user;
+		this.authorities = authorities;
+	}
+	
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
+		if (authorities != null) {
+			return authorities;
+		}
 		return user.getExternalAuthorities();
 	}
 	
@@ -87,7 +87,7 @@ public class UsersDetailsService implements UserDetailsService {
 	 *                                 {@link UsernamePasswordUuidAuthenticationToken#getPrincipal()} don't match;
 	 *                                 passwords don't match, {@link Uuid} is not valid or not found etc...
 	 */
-	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE)
+	@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED)
 	public UsernamePasswordUuidAuthenticationToken authenticateNewUserByUuid(
 		UsernamePasswordUuidAuthenticationToken uuidAuthenticationToken) throws AuthenticationException {
 		
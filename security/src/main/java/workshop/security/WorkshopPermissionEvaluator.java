@@ -7,11 +7,8 @@ import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.ServletWebRequest;
-import workshop.internal.entities.WorkshopEntity;
-import workshop.internal.entities.WorkshopEntityType;
 import workshop.internal.entities.utils.PermissionType;
-import workshop.internal.services.InternalAuthoritiesService;
-import workshop.internal.services.WorkshopEntityTypesService;
+import workshop.internal.services.serviceUtils.WorkshopEntitiesRegistry;
 
 import java.io.Serializable;
 
@@ -35,14 +32,12 @@ public class WorkshopPermissionEvaluator implements PermissionEvaluator {
 	private String internalPathName;
 	
 	@Autowired
-	private InternalAuthoritiesService internalAuthoritiesService;
-	@Autowired
-	private WorkshopEntityTypesService workshopEntityTypesService;
+	private PermissionMatrix permissionMatrix;
 	
 	/**
 	 * @param authentication     {@link Authentication} {@literal The current #authentication from the SecurityContext}
-	 * @param targetDomainObject {@link String} One of the {@link WorkshopEntity#workshopEntitiesNames} WorkshopEntity
-	 *                           simple class names.
+	 * @param targetDomainObject {@link String} One of the {@link WorkshopEntitiesRegistry#getWorkshopEntitiesNames()}
+	 *                           WorkshopEntity simple class names.
 	 * @param permission         {@link String} as 'read', 'write' etc. Will be converted to {@link PermissionType}
 	 * @return True if the current {@link Authentication} {@link InternalAuthority#allAuthoritiesPermissions} contains
 	 * {@link PermissionType} for such kind of 'targetType'.
@@ -55,8 +50,8 @@ public class WorkshopPermissionEvaluator implements PermissionEvaluator {
 	/**
 	 * @param authentication {@link Authentication} {@literal The current #authentication from the SecurityContext}
 	 * @param targetId       Nullable
-	 * @param targetType     {@link String} One of the {@link WorkshopEntity#workshopEntitiesNames} WorkshopEntity simple
-	 *                       class names.
+	 * @param targetType     {@link String} One of the {@link WorkshopEntitiesRegistry#getWorkshopEntitiesNames()}
+	 *                       WorkshopEntity simple class names.
 	 * @param permission     {@link String} as 'read', 'write' etc. Will be converted to {@link PermissionType}
 	 * @return True if the current {@link Authentication} {@link InternalAuthority#allAuthoritiesPermissions} contains
 	 * {@link PermissionType} for such kind of 'targetType'.
@@ -98,9 +93,9 @@ public class WorkshopPermissionEvaluator implements PermissionEvaluator {
 			//Check the given PermissionType, may throw IllegalArgumentException
 			PermissionType permissionType = PermissionType.valueOf(permissionTypeName.toUpperCase());
 			//Check the given WorkshopEntityTargetType
-			if (!WorkshopEntity.workshopEntitiesNames.contains(workshopEntityName)) {
+			if (!WorkshopEntitiesRegistry.isWorkshopEntityName(workshopEntityName)) {
 				throw new IllegalArgumentException("TargetType=" + workshopEntityName + " of the given WorkshopEntity name cannot" +
-					" be evaluated through all the possible names of WorkshopEntity.workshopEntitiesNames()!");
+					" be evaluated through all the possible names of WorkshopEntitiesRegistry.getWorkshopEntitiesNames()!");
 			}
 			//Can throw IllegalArgumentException if the given Authentication doesnt contain proper InternalAuthority
 			return finalAuthenticationEvaluation(authentication, permissionType, workshopEntityName);
@@ -148,14 +143,11 @@ public class WorkshopPermissionEvaluator implements PermissionEvaluator {
 				workshopEntityName = "ClassifiersGroup";
 			}
 			
-			String finalWorkshopEntityName = workshopEntityName;
-			workshopEntityName = WorkshopEntity.workshopEntitiesNames.stream()
-//				.filter(ename -> ename.contains(finalWorkshopEntityName))
-				.filter(ename -> ename.equals(finalWorkshopEntityName))
-				.findFirst()
-				.orElseThrow(() -> new IllegalArgumentException(
-					"TargetType=" + finalWorkshopEntityName + " of the given WorkshopEntity name cannot be evaluated" +
-						" through all the possible names of WorkshopEntity.workshopEntitiesNames()!"));
+			if (!WorkshopEntitiesRegistry.isWorkshopEntityName(workshopEntityName)) {
+				throw new IllegalArgumentException(
+					"TargetType=" + workshopEntityName + " of the given WorkshopEntity name cannot be evaluated" +
+						" through all the possible names of WorkshopEntitiesRegistry.getWorkshopEntitiesNames()!");
+			}
 			
 			//Can throw IllegalArgumentException if the given Authentication doesnt contain proper InternalAuthority
 			return finalAuthenticationEvaluation(authentication, permissionType, workshopEntityName);
@@ -171,24 +163,11 @@ public class WorkshopPermissionEvaluator implements PermissionEvaluator {
 	
 	//TODO: to also implement evaluating ExternalAuthorities
 	
+	/**
+	 * The permissions are checked against the compiled {@link PermissionMatrix} without any database access.
+	 */
 	private boolean finalAuthenticationEvaluation(
-		Authentication authentication, PermissionType permissionType, String workshopEntityName)
-		throws IllegalArgumentException {
-		
-		WorkshopEntityType workshopEntityType = workshopEntityTypesService.findByProperty("name", workshopEntityName).get(0);
-/*
-		for (GrantedAuthority auth : authentication.getAuthorities()) { //For the checkout test purposes
-			workshop.internal.entities.InternalAuthority intAuth = internalAuthoritiesService.findByProperty("name", auth.getAuthority()).get(0);
-		}
-*/
-		//Can throw IllegalArgumentException if the given Authentication doesnt contain proper InternalAuthority
-		return authentication.getAuthorities().stream()
-			.flatMap(intAuth -> internalAuthoritiesService.findByProperty("name", intAuth.getAuthority())
-				.stream())
-			.flatMap(internalAuthority -> internalAuthority.getAuthorityPermissions()
-				.stream())
-			.anyMatch(authorityPermission ->
-				authorityPermission.getPermissionType().equals(permissionType) &&
-					authorityPermission.getWorkshopEntityTypes().contains(workshopEntityType));
+		Authentication authentication, PermissionType permissionType, String workshopEntityName) {
+		return permissionMatrix.isPermitted(authentication.getAuthorities(), permissionType, workshopEntityName);
 	}
 }
@@ -0,0 +1,181 @@
+package workshop.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import workshop.applicationEvents.AuthenticationsChangedEvent;
+import workshop.applicationEvents.PermissionsChangedEvent;
+import workshop.internal.entities.Department;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.InternalAuthority;
+import workshop.internal.entities.Position;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Date;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationCacheTest {
+	
+	private AuthenticationCache authenticationCache;
+	private Employee employee;
+	private Authentication authentication;
+	private Date jwtExpiration;
+	
+	@BeforeEach
+	public void methodPreparation() {
+		authenticationCache = new AuthenticationCache();
+		Position position = Position.builder().name("Position").department(new Department()).build();
+		position.setIdentifier(1L);
+		employee = new Employee("TestUser", "ln", "ppppp", "TestUser@pro.pro", LocalDate.now().minusYears(17), position);
+		employee.setIdentifier(10L);
+		InternalAuthority internalAuthority = new InternalAuthority("Manager");
+		internalAuthority.setIdentifier(1L);
+		authentication = new UsernamePasswordAuthenticationToken(
+			new UserDetailsEmployee(employee), "", Collections.singletonList(internalAuthority));
+		jwtExpiration = new Date(System.currentTimeMillis() + 60_000);
+	}
+	
+	@Test
+	@DisplayName("The cached Authentication has to be returned only for the same whole JWT")
+	public void cached_Authentication_Has_To_Be_Returned_For_The_Same_Jwt_Only() {
+		//GIVEN
+		authenticationCache.put(
+			"header.payload.signature", authentication, jwtExpiration, authenticationCache.getGeneration());
+		
+		//WHEN //THEN
+		assertEquals("TestUser@pro.pro", authenticationCache.get("header.payload.signature").getName());
+		assertNull(authenticationCache.get("header.anotherPayload.signature"));
+		assertNull(authenticationCache.get("header.payload.anotherSignature"));
+	}
+	
+	@Test
+	@DisplayName("The Authentication of the expired JWT must not be cached")
+	public void authentication_Of_Expired_Jwt_Must_Not_Be_Cached() {
+		//GIVEN
+		authenticationCache.put("header.payload.signature", authentication,
+			new Date(System.currentTimeMillis() - 1), authenticationCache.getGeneration());
+		
+		//WHEN //THEN
+		assertNull(authenticationCache.get("header.payload.signature"));
+		assertEquals(0, authenticationCache.size());
+	}
+	
+	@Test
+	@DisplayName("The cached Authentication has to be the immutable snapshot of the principal and its authorities")
+	public void cached_Authentication_Has_To_Be_Immutable_Snapshot() {
+		//GIVEN
+		authenticationCache.put("h.p.first", authentication, jwtExpiration, authenticationCache.getGeneration());
+		
+		//WHEN the detached Employee is changed after the caching
+		employee.setEmail("Changed@pro.pro");
+		Authentication cachedAuthentication = authenticationCache.get("h.p.first");
+		
+		//THEN
+		assertNotSame(authentication, cachedAuthentication);
+		assertNotSame(cachedAuthentication, authenticationCache.get("h.p.first"));
+		assertEquals("TestUser@pro.pro", cachedAuthentication.getName());
+		assertTrue(cachedAuthentication.getPrincipal() instanceof UserDetailsEmployee);
+		UserDetailsEmployee cachedPrincipal = (UserDetailsEmployee) cachedAuthentication.getPrincipal();
+		assertNotSame(employee, cachedPrincipal.getEmployee());
+		assertEquals(Long.valueOf(10L), cachedPrincipal.getEmployee().getIdentifier());
+		assertTrue(cachedPrincipal.isEnabled());
+		assertEquals(Collections.singletonList("Manager"), cachedAuthentication.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority).collect(Collectors.toList()));
+		assertTrue(cachedAuthentication.isAuthenticated());
+	}
+	
+	@Test
+	@DisplayName("The least recently used Authentication has to be evicted over the 'maxSize'")
+	public void cache_Size_Must_Not_Exceed_MaxSize() {
+		//GIVEN
+		authenticationCache.setMaxSize(2);
+		
+		//WHEN
+		for (int i = 0; i < 10; i++) {
+			authenticationCache.put(
+				"h.p.signature" + i, authentication, jwtExpiration, authenticationCache.getGeneration());
+		}
+		
+		//THEN
+		assertTrue(authenticationCache.size() <= 2);
+		assertNotNull(authenticationCache.get("h.p.signature9"));
+		
+		//GIVEN
+		authenticationCache.setMaxSize(1);
+		authenticationCache.put("h.p.first", authentication, jwtExpiration, authenticationCache.getGeneration());
+		
+		//WHEN
+		authenticationCache.put("h.p.second", authentication, jwtExpiration, authenticationCache.getGeneration());
+		
+		//THEN
+		assertEquals(1, authenticationCache.size());
+		assertNull(authenticationCache.get("h.p.first"));
+		assertNotNull(authenticationCache.get("h.p.second"));
+	}
+	
+	@Test
+	@DisplayName("Only the Authentications of the changed Employee have to be evicted")
+	public void authentications_Of_Changed_Employee_Have_To_Be_Evicted() {
+		//GIVEN
+		Employee anotherEmployee = new Employee(
+			"Another", "ln", "ppppp", "Another@pro.pro", LocalDate.now().minusYears(20), employee.getPosition());
+		anotherEmployee.setIdentifier(11L);
+		Authentication anotherAuthentication = new UsernamePasswordAuthenticationToken(
+			new UserDetailsEmployee(anotherEmployee), "", Collections.emptyList());
+		authenticationCache.put("h.p.first", authentication, jwtExpiration, authenticationCache.getGeneration());
+		authenticationCache.put(
+			"h.p.second", anotherAuthentication, jwtExpiration, authenticationCache.getGeneration());
+		
+		//WHEN
+		authenticationCache.onAuthenticationsChanged(new AuthenticationsChangedEvent(employee));
+		
+		//THEN
+		assertNull(authenticationCache.get("h.p.first"));
+		assertEquals("Another@pro.pro", authenticationCache.get("h.p.second").getName());
+	}
+	
+	@Test
+	@DisplayName("All the Authentications have to be evicted after a Position or InternalAuthority change")
+	public void all_Authentications_Have_To_Be_Evicted_After_Shared_Entities_Changes() {
+		//GIVEN
+		authenticationCache.put("h.p.first", authentication, jwtExpiration, authenticationCache.getGeneration());
+		
+		//WHEN
+		authenticationCache.onAuthenticationsChanged(new AuthenticationsChangedEvent(employee.getPosition()));
+		
+		//THEN
+		assertEquals(0, authenticationCache.size());
+		
+		//GIVEN
+		authenticationCache.put("h.p.first", authentication, jwtExpiration, authenticationCache.getGeneration());
+		InternalAuthority internalAuthority = new InternalAuthority("Manager");
+		internalAuthority.setIdentifier(1L);
+		
+		//WHEN
+		authenticationCache.onPermissionsChanged(new PermissionsChangedEvent(internalAuthority));
+		
+		//THEN
+		assertEquals(0, authenticationCache.size());
+	}
+	
+	@Test
+	@DisplayName("The Authentication loaded before an eviction must not be put after it")
+	public void authentication_Loaded_Before_Eviction_Must_Not_Be_Put() {
+		//GIVEN the Authentication is being loaded
+		long generation = authenticationCache.getGeneration();
+		
+		//WHEN its Employee is changed meanwhile
+		authenticationCache.onAuthenticationsChanged(new AuthenticationsChangedEvent(employee));
+		authenticationCache.put("h.p.first", authentication, jwtExpiration, generation);
+		
+		//THEN
+		assertNull(authenticationCache.get("h.p.first"));
+		assertEquals(0, authenticationCache.size());
+	}
+}
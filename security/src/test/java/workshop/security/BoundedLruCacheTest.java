@@ -0,0 +1,87 @@
+package workshop.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedLruCacheTest {
+
+	@Test
+	@DisplayName("The least recently used entry of the segment has to be evicted over its part of the max size")
+	public void least_recently_used_entries_have_to_be_evicted() {
+		//GIVEN the single entry per segment, so the keys 0 and 16 share the same segment
+		BoundedLruCache<Integer, String> cache = new BoundedLruCache<>(() -> BoundedLruCache.SEGMENTS_COUNT);
+		cache.put(0, "zero");
+		cache.put(1, "one");
+
+		//WHEN
+		cache.put(BoundedLruCache.SEGMENTS_COUNT, "sixteen");
+
+		//THEN
+		assertNull(cache.get(0));
+		assertEquals("sixteen", cache.get(BoundedLruCache.SEGMENTS_COUNT));
+		assertEquals("one", cache.get(1));
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	@DisplayName("The recently read entry has to outlive the ones which are not read")
+	public void recently_read_entries_have_to_be_kept() {
+		//GIVEN two entries per segment
+		BoundedLruCache<Integer, String> cache = new BoundedLruCache<>(() -> BoundedLruCache.SEGMENTS_COUNT * 2);
+		cache.put(0, "zero");
+		cache.put(BoundedLruCache.SEGMENTS_COUNT, "sixteen");
+		cache.get(0);
+
+		//WHEN
+		cache.put(BoundedLruCache.SEGMENTS_COUNT * 2, "thirty two");
+
+		//THEN
+		assertEquals("zero", cache.get(0));
+		assertNull(cache.get(BoundedLruCache.SEGMENTS_COUNT));
+	}
+
+	@Test
+	@DisplayName("The concurrent puts never exceed the max size and nothing is kept with the zero one")
+	public void concurrent_puts_have_to_be_bounded() throws Exception {
+		//GIVEN
+		AtomicInteger maxSize = new AtomicInteger(100);
+		BoundedLruCache<Integer, Integer> cache = new BoundedLruCache<>(maxSize::get);
+		ExecutorService threads = Executors.newFixedThreadPool(8);
+
+		//WHEN
+		List<Future<?>> puts = new ArrayList<>();
+		for (int thread = 0; thread < 8; thread++) {
+			int firstKey = thread * 10000;
+			puts.add(threads.submit(() -> {
+				for (int key = firstKey; key < firstKey + 10000; key++) {
+					cache.put(key, key);
+				}
+			}));
+		}
+		for (Future<?> put : puts) {
+			put.get();
+		}
+		threads.shutdown();
+
+		//THEN
+		assertEquals(100, cache.size());
+
+		//WHEN
+		maxSize.set(0);
+		cache.put(1, 1);
+		cache.removeIf(value -> true);
+
+		//THEN
+		assertNull(cache.get(1));
+		assertEquals(0, cache.size());
+	}
+}
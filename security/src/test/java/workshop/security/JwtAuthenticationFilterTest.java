@@ -1,5 +1,6 @@
 package workshop.security;
 
+import io.jsonwebtoken.MalformedJwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +23,8 @@ import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponseWrapper;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
@@ -43,6 +46,8 @@ class JwtAuthenticationFilterTest {
 	JwtUtils jwtUtils;
 	@Mock
 	WorkshopAuthenticationManager workshopAuthenticationManager;
+	@Mock
+	PermissionMatrix permissionMatrix;
 	@InjectMocks
 	JwtAuthenticationFilter jwtAuthenticationFilter;
 	//Valid cookie name
@@ -50,6 +55,7 @@ class JwtAuthenticationFilterTest {
 	private String authCookieJwtValue = "header.claims.signature";
 	//Valid email from the JWT
 	private String validEmail = "workshopEmployee";
+	private ParsedJwt parsedJwt = new ParsedJwt(validEmail, "workshop.pro/", "workshop.pro", null, null, null, null, null);
 	
 	@BeforeEach
 	public void init() {
@@ -72,10 +78,10 @@ class JwtAuthenticationFilterTest {
 		
 		Mockito.lenient().when(matcher.matches(request)).thenReturn(true);
 		
+		//To successfully parse the AuthCookie with a valid email
+		Mockito.lenient().when(jwtUtils.parseJwt(authCookieJwtValue)).thenReturn(parsedJwt);
 		//To successfully validate the AuthCookie
-		Mockito.lenient().when(jwtUtils.validateJwt(authCookieJwtValue)).thenReturn(true);
-		//To successfully return a valid email from the AuthCookie
-		Mockito.lenient().when(jwtUtils.getUsernameFromJwt(authCookieJwtValue)).thenReturn(validEmail);
+		Mockito.lenient().when(jwtUtils.validateJwt(parsedJwt)).thenReturn(true);
 		//To include into
 		validAuthentication = new UsernamePasswordAuthenticationToken(
 			validEmail, "", Arrays.asList(new SimpleGrantedAuthority("Admin")));
@@ -108,13 +114,15 @@ class JwtAuthenticationFilterTest {
 		
 		Mockito.verify(rememberMeServices, Mockito.never()).loginFail(request, response);
 		Mockito.verify(rememberMeServices, Mockito.never()).loginSuccess(request, response, validAuthentication);
-		Mockito.verify(jwtUtils, Mockito.never()).validateJwt(authCookieJwtValue);
+		Mockito.verify(jwtUtils, Mockito.never()).parseJwt(authCookieJwtValue);
 	}
 	
 	@Test
 	public void not_valid_email() throws IOException, ServletException {
 		//GIVEN not a valid email
-		Mockito.lenient().when(jwtUtils.getUsernameFromJwt(authCookieJwtValue)).thenReturn("notValidEmail");
+		ParsedJwt notValidEmailJwt = new ParsedJwt("notValidEmail", "workshop.pro/", "workshop.pro", null, null, null, null, null);
+		Mockito.lenient().when(jwtUtils.parseJwt(authCookieJwtValue)).thenReturn(notValidEmailJwt);
+		Mockito.lenient().when(jwtUtils.validateJwt(notValidEmailJwt)).thenReturn(true);
 		Mockito.lenient().when(workshopAuthenticationManager.getAuthenticationByEmail("notValidEmail")).
 			thenThrow(new BadCredentialsException("Not valid email"));
 		
@@ -124,4 +132,91 @@ class JwtAuthenticationFilterTest {
 		//THEN
 		Mockito.verify(rememberMeServices, Mockito.atLeastOnce()).loginFail(request, response);
 	}
-}
\ No newline at end of file
+	
+	@Test
+	public void not_valid_JWT_invokes_unsuccessfulAuthentication() throws IOException, ServletException {
+		//GIVEN a malformed JWT
+		Mockito.lenient().when(jwtUtils.parseJwt(authCookieJwtValue)).thenThrow(new MalformedJwtException("Wrong JWT"));
+		
+		//WHEN
+		jwtAuthenticationFilter.doFilter(request, response, filterChain);
+		
+		//THEN
+		Mockito.verify(rememberMeServices, Mockito.atLeastOnce()).loginFail(request, response);
+		Mockito.verify(workshopAuthenticationManager, Mockito.never()).getAuthenticationByEmail(Mockito.anyString());
+	}
+	
+	@Test
+	public void parsed_JWT_is_set_as_request_attribute() throws IOException, ServletException {
+		//GIVEN all inputs are valid from init method
+		
+		//WHEN
+		jwtAuthenticationFilter.doFilter(request, response, filterChain);
+		
+		//THEN
+		Mockito.verify(request).setAttribute(ParsedJwt.REQUEST_ATTRIBUTE_NAME, parsedJwt);
+	}
+	
+	@Test
+	public void current_JWT_authorities_restore_Authentication_without_AuthenticationManager()
+		throws IOException, ServletException {
+		//GIVEN a JWT with the current authorities
+		ParsedJwt authoritiesJwt = new ParsedJwt(
+			validEmail, "workshop.pro/", "workshop.pro", null, 1L, Collections.singletonList(2L), 3L, true);
+		Mockito.lenient().when(jwtUtils.parseJwt(authCookieJwtValue)).thenReturn(authoritiesJwt);
+		Mockito.lenient().when(jwtUtils.validateJwt(authoritiesJwt)).thenReturn(true);
+		Mockito.lenient().when(permissionMatrix.getCurrentAuthorities(1L, Collections.singletonList(2L), 3L))
+			.thenReturn(Optional.of(Collections.singletonList(new SimpleGrantedAuthority("Admin"))));
+		jwtAuthenticationFilter.setPermissionMatrix(permissionMatrix);
+		
+		//WHEN
+		jwtAuthenticationFilter.doFilter(request, response, filterChain);
+		
+		//THEN
+		Mockito.verify(workshopAuthenticationManager, Mockito.never()).getAuthenticationByEmail(Mockito.anyString());
+		Mockito.verify(rememberMeServices, Mockito.atLeastOnce()).loginSuccess(
+			Mockito.eq(request), Mockito.eq(response), Mockito.argThat(authentication ->
+				validEmail.equals(authentication.getName()) && authentication.getAuthorities().size() == 1 &&
+					authentication.getPrincipal() instanceof UserDetailsEmployee &&
+					Long.valueOf(1L).equals(((UserDetailsEmployee) authentication.getPrincipal()).getEmployee().getIdentifier())));
+	}
+	
+	@Test
+	public void JWT_of_disabled_Employee_is_rejected_without_AuthenticationManager() throws IOException, ServletException {
+		//GIVEN a JWT with the current authorities of the disabled Employee
+		ParsedJwt disabledJwt = new ParsedJwt(
+			validEmail, "workshop.pro/", "workshop.pro", null, 1L, Collections.singletonList(2L), 3L, false);
+		Mockito.lenient().when(jwtUtils.parseJwt(authCookieJwtValue)).thenReturn(disabledJwt);
+		Mockito.lenient().when(jwtUtils.validateJwt(disabledJwt)).thenReturn(true);
+		Mockito.lenient().when(permissionMatrix.getCurrentAuthorities(1L, Collections.singletonList(2L), 3L))
+			.thenReturn(Optional.of(Collections.singletonList(new SimpleGrantedAuthority("Admin"))));
+		jwtAuthenticationFilter.setPermissionMatrix(permissionMatrix);
+		
+		//WHEN
+		jwtAuthenticationFilter.doFilter(request, response, filterChain);
+		
+		//THEN
+		Mockito.verify(workshopAuthenticationManager, Mockito.never()).getAuthenticationByEmail(Mockito.anyString());
+		Mockito.verify(rememberMeServices, Mockito.never()).loginSuccess(
+			Mockito.any(), Mockito.any(), Mockito.any(Authentication.class));
+		Mockito.verify(rememberMeServices).loginFail(request, response);
+	}
+	
+	@Test
+	public void stale_JWT_authorities_obtain_Authentication_by_email() throws IOException, ServletException {
+		//GIVEN a JWT with the stale authorities
+		ParsedJwt authoritiesJwt = new ParsedJwt(
+			validEmail, "workshop.pro/", "workshop.pro", null, 1L, Collections.singletonList(2L), 3L, true);
+		Mockito.lenient().when(jwtUtils.parseJwt(authCookieJwtValue)).thenReturn(authoritiesJwt);
+		Mockito.lenient().when(jwtUtils.validateJwt(authoritiesJwt)).thenReturn(true);
+		Mockito.lenient().when(permissionMatrix.getCurrentAuthorities(1L, Collections.singletonList(2L), 3L))
+			.thenReturn(Optional.empty());
+		jwtAuthenticationFilter.setPermissionMatrix(permissionMatrix);
+		
+		//WHEN
+		jwtAuthenticationFilter.doFilter(request, response, filterChain);
+		
+		//THEN
+		Mockito.verify(rememberMeServices, Mockito.atLeastOnce()).loginSuccess(request, response, validAuthentication);
+	}
+}
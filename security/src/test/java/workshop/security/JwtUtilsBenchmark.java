@@ -0,0 +1,80 @@
+package workshop.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import workshop.internal.entities.Department;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.Position;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request CPU time of the JWT verification in the {@link JwtAuthenticationFilter}:
+ * 'previousFilter' does what the filter did before {@link ParsedJwt} (validating and then parsing again for the
+ * subject), 'parseOnce' verifies the new JWT every time and 'parseVerified' is the repeated request with the recently
+ * verified JWT.
+ * Is not run by the tests, launch {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+	
+	private JwtUtils jwtUtils;
+	private JwtUtils noVerifiedCacheJwtUtils;
+	private String jwt;
+	
+	@Setup
+	public void setup() {
+		SecurityUtils securityUtils = new SecurityUtils();
+		jwtUtils = jwtUtils(securityUtils, 1024);
+		noVerifiedCacheJwtUtils = jwtUtils(securityUtils, 0);
+		Position position = Position.builder().name("Position").department(new Department()).build();
+		Employee employee = new Employee("TestUser", "ln", "ppppp", "TestUser@pro.pro",
+			LocalDate.now().minusYears(17), position);
+		jwt = jwtUtils.generateJwt(new UsernamePasswordAuthenticationToken(
+			new UserDetailsEmployee(employee), "", Collections.emptyList()));
+	}
+	
+	@Benchmark
+	public String previousFilter() {
+		noVerifiedCacheJwtUtils.validateJwt(jwt);
+		return noVerifiedCacheJwtUtils.getUsernameFromJwt(jwt);
+	}
+	
+	@Benchmark
+	public String parseOnce() {
+		ParsedJwt parsedJwt = noVerifiedCacheJwtUtils.parseJwt(jwt);
+		noVerifiedCacheJwtUtils.validateJwt(parsedJwt);
+		return parsedJwt.getSubject();
+	}
+	
+	@Benchmark
+	public String parseVerified() {
+		ParsedJwt parsedJwt = jwtUtils.parseJwt(jwt);
+		jwtUtils.validateJwt(parsedJwt);
+		return parsedJwt.getSubject();
+	}
+	
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JwtUtilsBenchmark.class.getSimpleName()).build()).run();
+	}
+	
+	private JwtUtils jwtUtils(SecurityUtils securityUtils, int verifiedCacheSize) {
+		JwtUtils jwtUtils = new JwtUtils();
+		jwtUtils.setSecurityUtils(securityUtils);
+		jwtUtils.setAudience("workshop.pro/internal");
+		jwtUtils.setIssuer("workshop.pro");
+		jwtUtils.setExpirationTime(30 * 60);
+		jwtUtils.setVerifiedCacheSize(verifiedCacheSize);
+		return jwtUtils;
+	}
+}
@@ -2,7 +2,9 @@ package workshop.security;
 
 import workshop.internal.entities.Department;
 import workshop.internal.entities.Employee;
+import workshop.internal.entities.InternalAuthority;
 import workshop.internal.entities.Position;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,7 +44,6 @@ class JwtUtilsTest {
 			userDetailsEmployee, employee.getPassword(), Arrays.asList(grantedAuthorityAdmin, grantedAuthorityUser));
 		
 		securityUtils = new SecurityUtils();
-		securityUtils.setSecretWord("WORKSHOP");
 		
 		jwtUtils = new JwtUtils();
 		jwtUtils.setSecurityUtils(securityUtils);
@@ -167,6 +168,70 @@ class JwtUtilsTest {
 		assertFalse(isExpired);
 	}
 	
+	@Test
+	@DisplayName("The recently verified JWT has to be parsed once and its claims have to be reused")
+	public void verified_JWT_is_parsed_once() {
+		//GIVEN
+		String jwt = jwtUtils.generateJwt(authentication);
+		
+		//WHEN
+		ParsedJwt parsedJwt = jwtUtils.parseJwt(jwt);
+		ParsedJwt reparsedJwt = jwtUtils.parseJwt(jwt);
+		
+		//THEN
+		assertSame(parsedJwt, reparsedJwt);
+		assertEquals("TestUser@pro.pro", parsedJwt.getSubject());
+		assertEquals("workshop.pro/internal", parsedJwt.getAudience());
+		assertEquals("workshop.pro", parsedJwt.getIssuer());
+		assertFalse(parsedJwt.hasAuthorities(), "The SimpleGrantedAuthorities cannot be restored from the JWT");
+		assertFalse(parsedJwt.isExpired());
+		assertTrue(jwtUtils.validateJwt(parsedJwt));
+	}
+	
+	@Test
+	@DisplayName("The Employee JWT has to contain its InternalAuthorities identifiers and the permissions version")
+	public void employee_JWT_contains_authorities_identifiers() {
+		//GIVEN
+		Position position = Position.builder().name("Position").department(new Department()).build();
+		Employee employee = new Employee("TestUser", "ln", "ppppp", "TestUser@pro.pro",
+			LocalDate.now().minusYears(17), position);
+		employee.setIdentifier(5L);
+		InternalAuthority admin = new InternalAuthority(administratorAuthorityName);
+		admin.setIdentifier(7L);
+		InternalAuthority user = new InternalAuthority(userAuthorityName);
+		user.setIdentifier(8L);
+		UserDetailsEmployee userDetailsEmployee = new UserDetailsEmployee(employee);
+		userDetailsEmployee.setPermissionsVersion(3L);
+		Authentication employeeAuthentication = new UsernamePasswordAuthenticationToken(
+			userDetailsEmployee, "", Arrays.asList(admin, user));
+		
+		//WHEN
+		ParsedJwt parsedJwt = jwtUtils.parseJwt(jwtUtils.generateJwt(employeeAuthentication));
+		
+		//THEN
+		assertTrue(parsedJwt.hasAuthorities());
+		assertEquals(Long.valueOf(5L), parsedJwt.getEmployeeIdentifier());
+		assertEquals(Arrays.asList(7L, 8L), parsedJwt.getAuthoritiesIdentifiers());
+		assertEquals(Long.valueOf(3L), parsedJwt.getPermissionsVersion());
+		assertEquals(Boolean.TRUE, parsedJwt.getEmployeeEnabled());
+	}
+	
+	@Test
+	@DisplayName("The recently verified JWT has to be expired as well")
+	public void verified_JWT_expires() throws InterruptedException {
+		//GIVEN
+		jwtUtils.setExpirationTime(1);
+		String jwt = jwtUtils.generateJwt(authentication);
+		jwtUtils.parseJwt(jwt);
+		
+		//WHEN sleep to fake expiration
+		Thread.sleep(1100);
+		
+		//THEN
+		assertThrows(ExpiredJwtException.class, () -> jwtUtils.parseJwt(jwt));
+		assertTrue(jwtUtils.isJwtExpired(jwt));
+	}
+	
 	@Test
 	@DisplayName("Max Cookie size is 4kb")
 	public void jwt_Size_Doesnt_Exceed_Four_kb_Of_Cookies_Limitation_in_UTF() {
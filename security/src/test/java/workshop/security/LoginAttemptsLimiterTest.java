@@ -0,0 +1,92 @@
+package workshop.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import workshop.exceptions.TooManyRequestsException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptsLimiterTest {
+
+	private LoginAttemptsLimiter loginAttemptsLimiter;
+
+	@BeforeEach
+	public void methodPreparation() {
+		loginAttemptsLimiter = new LoginAttemptsLimiter();
+		loginAttemptsLimiter.setPerIpCapacity(3);
+		loginAttemptsLimiter.setPerIpRefillSeconds(60);
+		loginAttemptsLimiter.setPerAccountCapacity(2);
+		loginAttemptsLimiter.setPerAccountRefillSeconds(60);
+	}
+
+	@Test
+	@DisplayName("The attempts over the account capacity have to be rejected whatever the email case is")
+	public void attempts_over_account_capacity_have_to_be_rejected() {
+		//GIVEN
+		loginAttemptsLimiter.acquire("10.0.0.1", "Employee@workshop.pro");
+		loginAttemptsLimiter.acquire("10.0.0.2", "employee@workshop.pro ");
+
+		//WHEN
+		TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+			() -> loginAttemptsLimiter.acquire("10.0.0.3", "EMPLOYEE@workshop.pro"));
+
+		//THEN
+		assertTrue(exception.getRetryAfterSeconds() > 0 && exception.getRetryAfterSeconds() <= 60);
+		assertDoesNotThrow(() -> loginAttemptsLimiter.acquire("10.0.0.3", "another@workshop.pro"));
+	}
+
+	@Test
+	@DisplayName("The attempts over the IP capacity have to be rejected whatever the accounts are")
+	public void attempts_over_IP_capacity_have_to_be_rejected() {
+		//GIVEN
+		loginAttemptsLimiter.acquire("10.0.0.1", "first@workshop.pro");
+		loginAttemptsLimiter.acquire("10.0.0.1", "second@workshop.pro");
+		loginAttemptsLimiter.acquire("10.0.0.1", "third@workshop.pro");
+
+		//WHEN //THEN
+		assertThrows(TooManyRequestsException.class,
+			() -> loginAttemptsLimiter.acquire("10.0.0.1", "fourth@workshop.pro"));
+		assertDoesNotThrow(() -> loginAttemptsLimiter.acquire("10.0.0.2", "fourth@workshop.pro"));
+	}
+
+	@Test
+	@DisplayName("The refilled buckets have to be removed")
+	public void refilled_buckets_have_to_be_removed() throws InterruptedException {
+		//GIVEN
+		loginAttemptsLimiter.setPerIpRefillSeconds(1);
+		loginAttemptsLimiter.setPerAccountRefillSeconds(1);
+		loginAttemptsLimiter.acquire("10.0.0.1", "first@workshop.pro");
+		assertEquals(2, loginAttemptsLimiter.size());
+
+		//WHEN
+		Thread.sleep(1100);
+		loginAttemptsLimiter.removeRefilledBuckets();
+
+		//THEN
+		assertEquals(0, loginAttemptsLimiter.size());
+	}
+
+	@Test
+	@DisplayName("The least recently attempted buckets have to be evicted for the new IPs and accounts over the max amount")
+	public void least_recently_attempted_buckets_have_to_be_evicted_over_max_buckets() throws InterruptedException {
+		//GIVEN the drained account buckets
+		loginAttemptsLimiter.setMaxBuckets(2);
+		loginAttemptsLimiter.acquire("10.0.0.1", "first@workshop.pro");
+		loginAttemptsLimiter.acquire("10.0.0.1", "first@workshop.pro");
+		assertThrows(TooManyRequestsException.class,
+			() -> loginAttemptsLimiter.acquire("10.0.0.1", "first@workshop.pro"));
+		Thread.sleep(5);
+		loginAttemptsLimiter.acquire("10.0.0.2", "second@workshop.pro");
+		loginAttemptsLimiter.acquire("10.0.0.2", "second@workshop.pro");
+
+		//WHEN the new IPs and accounts come over the max amount
+		assertDoesNotThrow(() -> loginAttemptsLimiter.acquire("10.0.0.3", "third@workshop.pro"));
+
+		//THEN they aren't rejected and the least recently attempted buckets are evicted
+		assertEquals(4, loginAttemptsLimiter.size());
+		assertThrows(TooManyRequestsException.class,
+			() -> loginAttemptsLimiter.acquire("10.0.0.3", "second@workshop.pro"),
+			"The recently attempted account has to be limited as usual");
+	}
+}
@@ -9,6 +9,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -117,4 +119,22 @@ class LoginAuthenticationFilterTest {
 		Assertions.assertEquals(response, responseCaptor.getValue());
 		Assertions.assertEquals(cookieUtils.getAuthenticationCookieName(), cookieNameCaptor.getValue());
 	}
+	
+	@Test
+	public void doFilter_over_login_attempts_limit_responds_429_without_authentication() throws IOException, ServletException {
+		//GIVEN the account with the only login attempt
+		LoginAttemptsLimiter loginAttemptsLimiter = new LoginAttemptsLimiter();
+		loginAttemptsLimiter.setPerAccountCapacity(1);
+		loginAuthenticationFilter.setLoginAttemptsLimiter(loginAttemptsLimiter);
+		Mockito.when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+		
+		//WHEN
+		loginAuthenticationFilter.doFilter(request, response, filterChain);
+		loginAuthenticationFilter.doFilter(request, response, filterChain);
+		
+		//THEN the second attempt doesn't reach the AuthenticationManager
+		Mockito.verify(authenticationManager, Mockito.times(1)).authenticate(Mockito.any(Authentication.class));
+		Mockito.verify(response).setHeader(Mockito.eq(HttpHeaders.RETRY_AFTER), Mockito.anyString());
+		Mockito.verify(response).sendError(Mockito.eq(HttpStatus.TOO_MANY_REQUESTS.value()), Mockito.anyString());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,209 @@
+package workshop.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.PlatformTransactionManager;
+import workshop.applicationEvents.AuthenticationsChangedEvent;
+import workshop.internal.dao.EmployeesDao;
+import workshop.internal.entities.AuthorityPermission;
+import workshop.internal.entities.Department;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.InternalAuthority;
+import workshop.internal.entities.Position;
+import workshop.internal.entities.WorkshopEntityType;
+import workshop.internal.entities.utils.PermissionType;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionMatrixTest {
+
+	private PermissionMatrix permissionMatrix;
+	private WorkshopEntityType orderType;
+	private WorkshopEntityType taskType;
+
+	@BeforeEach
+	public void methodPreparation() {
+		permissionMatrix = new PermissionMatrix(Mockito.mock(PlatformTransactionManager.class));
+		orderType = new WorkshopEntityType("Order");
+		orderType.setIdentifier(1L);
+		taskType = new WorkshopEntityType("Task");
+		taskType.setIdentifier(2L);
+	}
+
+	@Test
+	@DisplayName("Only the compiled PermissionTypes of the compiled WorkshopEntityTypes have to be permitted")
+	public void compiled_Permissions_Have_To_Be_Permitted() {
+		//GIVEN
+		InternalAuthority manager = internalAuthority(1L, "Manager",
+			authorityPermission(1L, PermissionType.GET, orderType, taskType),
+			authorityPermission(2L, PermissionType.PUT, orderType));
+		List<GrantedAuthority> grantedAuthorities = Collections.singletonList(new SimpleGrantedAuthority("Manager"));
+
+		//WHEN
+		permissionMatrix.updateRow(manager);
+
+		//THEN
+		assertTrue(permissionMatrix.isPermitted(grantedAuthorities, PermissionType.GET, "Order"));
+		assertTrue(permissionMatrix.isPermitted(grantedAuthorities, PermissionType.GET, "Task"));
+		assertTrue(permissionMatrix.isPermitted(grantedAuthorities, PermissionType.PUT, "Order"));
+		assertFalse(permissionMatrix.isPermitted(grantedAuthorities, PermissionType.PUT, "Task"));
+		assertFalse(permissionMatrix.isPermitted(grantedAuthorities, PermissionType.DELETE, "Order"));
+		assertFalse(permissionMatrix.isPermitted(grantedAuthorities, PermissionType.GET, "Employee"));
+	}
+
+	@Test
+	@DisplayName("Any of the GrantedAuthorities has to be enough and the unknown ones have to be ignored")
+	public void any_Of_GrantedAuthorities_Has_To_Be_Enough() {
+		//GIVEN
+		permissionMatrix.updateRow(internalAuthority(1L, "Manager",
+			authorityPermission(1L, PermissionType.GET, orderType)));
+		permissionMatrix.updateRow(internalAuthority(2L, "Admin",
+			authorityPermission(2L, PermissionType.DELETE, orderType)));
+		List<GrantedAuthority> grantedAuthorities = Arrays.asList(
+			new SimpleGrantedAuthority("Unknown"), new SimpleGrantedAuthority("Manager"), new SimpleGrantedAuthority("Admin"));
+
+		//WHEN //THEN
+		assertTrue(permissionMatrix.isPermitted(grantedAuthorities, PermissionType.GET, "Order"));
+		assertTrue(permissionMatrix.isPermitted(grantedAuthorities, PermissionType.DELETE, "Order"));
+		assertFalse(permissionMatrix.isPermitted(grantedAuthorities, PermissionType.POST, "Order"));
+		assertFalse(permissionMatrix.isPermitted(null, PermissionType.GET, "Order"));
+	}
+
+	@Test
+	@DisplayName("The updated InternalAuthority has to replace its previous row and name")
+	public void updated_InternalAuthority_Has_To_Replace_Its_Previous_Row() {
+		//GIVEN
+		permissionMatrix.updateRow(internalAuthority(1L, "Manager",
+			authorityPermission(1L, PermissionType.GET, orderType)));
+
+		//WHEN
+		permissionMatrix.updateRow(internalAuthority(1L, "Chief",
+			authorityPermission(1L, PermissionType.PUT, taskType)));
+
+		//THEN
+		List<GrantedAuthority> oldName = Collections.singletonList(new SimpleGrantedAuthority("Manager"));
+		List<GrantedAuthority> newName = Collections.singletonList(new SimpleGrantedAuthority("Chief"));
+		assertFalse(permissionMatrix.isPermitted(oldName, PermissionType.GET, "Order"));
+		assertFalse(permissionMatrix.isPermitted(newName, PermissionType.GET, "Order"));
+		assertTrue(permissionMatrix.isPermitted(newName, PermissionType.PUT, "Task"));
+	}
+
+	@Test
+	@DisplayName("The JWT authorities have to be current until they or the Employee are changed after the JWT version")
+	public void JWT_authorities_have_to_be_current_until_changed() {
+		//GIVEN
+		permissionMatrix.updateRow(internalAuthority(1L, "Manager",
+			authorityPermission(1L, PermissionType.GET, orderType)));
+		long jwtVersion = permissionMatrix.getVersion();
+
+		//WHEN the permissions only are changed
+		permissionMatrix.updateRow(internalAuthority(1L, "Manager",
+			authorityPermission(1L, PermissionType.PUT, orderType)));
+
+		//THEN
+		Optional<List<GrantedAuthority>> currentAuthorities =
+			permissionMatrix.getCurrentAuthorities(10L, Collections.singletonList(1L), jwtVersion);
+		assertTrue(currentAuthorities.isPresent());
+		assertEquals("Manager", currentAuthorities.get().get(0).getAuthority());
+		assertFalse(permissionMatrix.getCurrentAuthorities(10L, Collections.singletonList(2L), jwtVersion).isPresent(),
+			"The unknown InternalAuthority cannot be current");
+
+		//WHEN the InternalAuthority is renamed
+		permissionMatrix.updateRow(internalAuthority(1L, "Chief",
+			authorityPermission(1L, PermissionType.PUT, orderType)));
+
+		//THEN
+		assertFalse(permissionMatrix.getCurrentAuthorities(10L, Collections.singletonList(1L), jwtVersion).isPresent());
+		assertTrue(permissionMatrix.getCurrentAuthorities(
+			10L, Collections.singletonList(1L), permissionMatrix.getVersion()).isPresent());
+	}
+
+	@Test
+	@DisplayName("The changed Employee or any changed Position have to make the previous JWTs authorities stale")
+	public void changed_Employee_and_Position_make_JWT_authorities_stale() {
+		//GIVEN
+		permissionMatrix.updateRow(internalAuthority(1L, "Manager",
+			authorityPermission(1L, PermissionType.GET, orderType)));
+		long jwtVersion = permissionMatrix.getVersion();
+		Position position = new Position("Position", new Department());
+		position.setIdentifier(1L);
+		Employee employee = new Employee(
+			"TestUser", "ln", "ppppp", "TestUser@pro.pro", LocalDate.now().minusYears(17), position);
+		employee.setIdentifier(10L);
+
+		//WHEN
+		permissionMatrix.onAuthenticationsChanged(new AuthenticationsChangedEvent(employee));
+
+		//THEN
+		assertFalse(permissionMatrix.getCurrentAuthorities(10L, Collections.singletonList(1L), jwtVersion).isPresent());
+		assertTrue(permissionMatrix.getCurrentAuthorities(11L, Collections.singletonList(1L), jwtVersion).isPresent());
+
+		//WHEN
+		permissionMatrix.onAuthenticationsChanged(new AuthenticationsChangedEvent(position));
+
+		//THEN
+		assertFalse(permissionMatrix.getCurrentAuthorities(11L, Collections.singletonList(1L), jwtVersion).isPresent());
+	}
+
+	@Test
+	@DisplayName("The Employee changed or removed in the database after the JWT version has to make its JWT stale")
+	public void employee_changed_in_database_makes_JWT_authorities_stale() {
+		//GIVEN the changes made by another application instance are only seen in the database
+		EmployeesDao employeesDao = Mockito.mock(EmployeesDao.class);
+		permissionMatrix.setEmployeesDao(employeesDao);
+		permissionMatrix.updateRow(internalAuthority(1L, "Manager",
+			authorityPermission(1L, PermissionType.GET, orderType)));
+		long jwtVersion = permissionMatrix.getVersion();
+		Map<Long, Long> modifiedMillis = new HashMap<>();
+		modifiedMillis.put(10L, jwtVersion - 1);
+		modifiedMillis.put(11L, jwtVersion);
+		Mockito.when(employeesDao.findAuthenticationsModifiedMillis(Mockito.anyCollection())).thenReturn(modifiedMillis);
+
+		//WHEN the requests never query the database
+		for (long employeeIdentifier = 10L; employeeIdentifier <= 12L; employeeIdentifier++) {
+			assertTrue(permissionMatrix.getCurrentAuthorities(
+				employeeIdentifier, Collections.singletonList(1L), jwtVersion).isPresent());
+		}
+		Mockito.verifyZeroInteractions(employeesDao);
+
+		//WHEN
+		permissionMatrix.checkRevocations();
+
+		//THEN the restored Employees are checked at once
+		Mockito.verify(employeesDao).findAuthenticationsModifiedMillis(
+			Mockito.argThat(identifiers -> new HashSet<>(identifiers).equals(new HashSet<>(Arrays.asList(10L, 11L, 12L)))));
+		assertTrue(permissionMatrix.getCurrentAuthorities(10L, Collections.singletonList(1L), jwtVersion).isPresent());
+		assertFalse(permissionMatrix.getCurrentAuthorities(11L, Collections.singletonList(1L), jwtVersion).isPresent());
+		assertFalse(permissionMatrix.getCurrentAuthorities(12L, Collections.singletonList(1L), jwtVersion).isPresent(),
+			"The removed Employee cannot be current");
+	}
+
+	private InternalAuthority internalAuthority(long identifier, String name, AuthorityPermission... permissions) {
+		InternalAuthority internalAuthority = new InternalAuthority(name);
+		internalAuthority.setIdentifier(identifier);
+		internalAuthority.setAuthorityPermissions(new HashSet<>(Arrays.asList(permissions)));
+		return internalAuthority;
+	}
+
+	private AuthorityPermission authorityPermission(
+		long identifier, PermissionType permissionType, WorkshopEntityType... workshopEntityTypes) {
+		AuthorityPermission authorityPermission = new AuthorityPermission();
+		authorityPermission.setIdentifier(identifier);
+		authorityPermission.setPermissionType(permissionType);
+		authorityPermission.setWorkshopEntityTypes(new HashSet<>(Arrays.asList(workshopEntityTypes)));
+		return authorityPermission;
+	}
+}
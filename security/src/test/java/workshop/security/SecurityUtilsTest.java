@@ -0,0 +1,162 @@
+package workshop.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import workshop.internal.entities.Department;
+import workshop.internal.entities.Employee;
+import workshop.internal.entities.Position;
+
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityUtilsTest {
+
+	@Test
+	@DisplayName("The keys have to be persisted in the keystore and reloaded by the other instances")
+	public void keys_have_to_be_persisted_and_reloaded(@TempDir Path tempDir) {
+		//GIVEN
+		SecurityUtils securityUtils = securityUtils(tempDir, 86400000);
+		String keyId = securityUtils.getSigningKey().getKeyId();
+
+		//WHEN
+		SecurityUtils restartedSecurityUtils = securityUtils(tempDir, 86400000);
+
+		//THEN
+		assertEquals(keyId, restartedSecurityUtils.getSigningKey().getKeyId(), "The key has to be the same until rotated");
+		assertEquals(securityUtils.getKey(), restartedSecurityUtils.getKey(keyId));
+	}
+
+	@Test
+	@DisplayName("The reloads of the unchanged keystore have to keep the same keys")
+	public void unchanged_keys_have_to_be_kept_after_reload(@TempDir Path tempDir) {
+		//GIVEN
+		SecurityUtils securityUtils = securityUtils(tempDir, 86400000);
+		String keyId = securityUtils.getSigningKey().getKeyId();
+		Key key = securityUtils.getKey();
+
+		//WHEN
+		securityUtils.rotateKeys();
+
+		//THEN
+		assertSame(key, securityUtils.getKey(keyId));
+		assertTrue(securityUtils.isInKeyRing(keyId, key));
+	}
+
+	@Test
+	@DisplayName("The rotated keys have to keep the previous ones up to 'jwt.keys.previous' of them")
+	public void rotated_keys_have_to_keep_previous_ones(@TempDir Path tempDir) {
+		//GIVEN
+		SecurityUtils securityUtils = securityUtils(tempDir, 0);
+		String firstKeyId = securityUtils.getSigningKey().getKeyId();
+
+		//WHEN
+		securityUtils.rotateKeys();
+		String secondKeyId = securityUtils.getSigningKey().getKeyId();
+		securityUtils.rotateKeys();
+
+		//THEN
+		assertNotEquals(firstKeyId, secondKeyId);
+		assertNotEquals(secondKeyId, securityUtils.getSigningKey().getKeyId());
+		assertNotNull(securityUtils.getKey(firstKeyId));
+		assertNotNull(securityUtils.getKey(secondKeyId));
+
+		//WHEN
+		securityUtils.rotateKeys();
+
+		//THEN
+		assertThrows(SignatureException.class, () -> securityUtils.getKey(firstKeyId),
+			"The oldest key over the 'jwt.keys.previous' has to be removed");
+		assertNotNull(securityUtils.getKey(secondKeyId));
+	}
+
+	@Test
+	@DisplayName("The JWT signed by one instance has to be verified by another one until its key is removed")
+	public void JWT_signed_by_one_instance_has_to_be_verified_by_another(@TempDir Path tempDir) {
+		//GIVEN
+		JwtUtils signingJwtUtils = jwtUtils(securityUtils(tempDir, 0));
+		String jwt = signingJwtUtils.generateJwt(authentication());
+		SecurityUtils verifyingSecurityUtils = securityUtils(tempDir, 0);
+		JwtUtils verifyingJwtUtils = jwtUtils(verifyingSecurityUtils);
+
+		//WHEN
+		ParsedJwt parsedJwt = verifyingJwtUtils.parseJwt(jwt);
+
+		//THEN
+		assertEquals("TestUser@pro.pro", parsedJwt.getSubject());
+
+		//WHEN
+		verifyingSecurityUtils.rotateKeys();
+		verifyingSecurityUtils.rotateKeys();
+
+		//THEN the JWT isn't accepted even from the recently verified ones
+		assertThrows(SignatureException.class, () -> verifyingJwtUtils.parseJwt(jwt));
+		assertThrows(SignatureException.class, () -> jwtUtils(verifyingSecurityUtils).parseJwt(jwt));
+	}
+
+	@Test
+	@DisplayName("Without the keystore every instance has to sign the JWTs with its own random key")
+	public void without_keystore_random_key_has_to_be_generated() {
+		//GIVEN
+		SecurityUtils securityUtils = new SecurityUtils();
+		securityUtils.loadKeys();
+		SecurityUtils restartedSecurityUtils = new SecurityUtils();
+		restartedSecurityUtils.loadKeys();
+
+		//WHEN
+		String jwt = jwtUtils(securityUtils).generateJwt(authentication());
+
+		//THEN the restarted instance has another key
+		assertEquals("TestUser@pro.pro", jwtUtils(securityUtils).parseJwt(jwt).getSubject());
+		assertThrows(JwtException.class, () -> jwtUtils(restartedSecurityUtils).parseJwt(jwt));
+		assertThrows(SignatureException.class, () -> restartedSecurityUtils.getKey("unknown"));
+	}
+
+	@Test
+	@DisplayName("The keystore without the supplied password has to fail the startup")
+	public void keystore_without_password_has_to_fail(@TempDir Path tempDir) {
+		//GIVEN
+		SecurityUtils securityUtils = new SecurityUtils();
+		securityUtils.setKeyStorePath(tempDir.resolve("jwt.jceks").toString());
+		securityUtils.setKeyStorePassword("");
+
+		//WHEN //THEN
+		assertThrows(IllegalStateException.class, securityUtils::loadKeys);
+	}
+
+	private SecurityUtils securityUtils(Path tempDir, long rotationMillis) {
+		SecurityUtils securityUtils = new SecurityUtils();
+		securityUtils.setKeyStorePath(tempDir.resolve("keys").resolve("jwt.jceks").toString());
+		securityUtils.setKeyStorePassword("WORKSHOP");
+		securityUtils.setPreviousKeysCount(2);
+		securityUtils.setRotationMillis(rotationMillis);
+		securityUtils.loadKeys();
+		return securityUtils;
+	}
+
+	private JwtUtils jwtUtils(SecurityUtils securityUtils) {
+		JwtUtils jwtUtils = new JwtUtils();
+		jwtUtils.setSecurityUtils(securityUtils);
+		jwtUtils.setAudience("workshop.pro/internal");
+		jwtUtils.setIssuer("workshop.pro");
+		jwtUtils.setExpirationTime(30 * 60);
+		return jwtUtils;
+	}
+
+	private Authentication authentication() {
+		Position position = Position.builder().name("Position").department(new Department()).build();
+		Employee employee = new Employee("TestUser", "ln", "ppppp", "TestUser@pro.pro",
+			LocalDate.now().minusYears(17), position);
+		return new UsernamePasswordAuthenticationToken(new UserDetailsEmployee(employee), employee.getPassword(),
+			Collections.singletonList(new SimpleGrantedAuthority("Administrator")));
+	}
+}
@@ -5,76 +5,76 @@
 CREATE SCHEMA IF NOT EXISTS INTERNAL;
 CREATE SCHEMA IF NOT EXISTS EXTERNAL;
 ;
-INSERT INTO INTERNAL.DEPARTMENTS (ID, NAME, CREATED)
-VALUES (1001, 'SITE MANAGEMENT', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.DEPARTMENTS (ID, NAME, CREATED)
-VALUES (1002, 'HR', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.DEPARTMENTS (ID, NAME, CREATED)
-VALUES (1003, 'MANAGEMENT', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.DEPARTMENTS (ID, NAME, CREATED)
-VALUES (1004, 'TECHNICAL DEPARTMENT', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.DEPARTMENTS (ID, VERSION, NAME, CREATED)
+VALUES (1001, 0, 'SITE MANAGEMENT', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.DEPARTMENTS (ID, VERSION, NAME, CREATED)
+VALUES (1002, 0, 'HR', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.DEPARTMENTS (ID, VERSION, NAME, CREATED)
+VALUES (1003, 0, 'MANAGEMENT', CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.DEPARTMENTS (ID, VERSION, NAME, CREATED)
+VALUES (1004, 0, 'TECHNICAL DEPARTMENT', CURRENT_TIMESTAMP());
 /*
 -- ALL PASSWORDS ARE THE SAME AS BCryptPasswordEncoder.encode STRING "12345" FOR THE SIMPLICITY
 */
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
-VALUES (1021, DATE '1970-02-14', 'admin@workshop.pro', 'Feofan', 'Mudovski',
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
+VALUES (1021, 0, DATE '1970-02-14', 'admin@workshop.pro', 'Feofan', 'Mudovski',
 		'$2a$10$3ZP75a6hiK0jjPgIYSqDPeAHy954ynYFDK6OibhJg4Wc4F4JfVOqa', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
-VALUES (1022, DATE '1985-11-18', 'neotlozhka@workshop.pro', 'Ambulatoriya', 'Neotlozhnaya',
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
+VALUES (1022, 0, DATE '1985-11-18', 'neotlozhka@workshop.pro', 'Ambulatoriya', 'Neotlozhnaya',
 		'$2a$10$IOQse1xvam3Wqm6MC5fc4.IxZNTnNLQXiRR4CRkOQ8ynkJakzHqqu', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
-VALUES (1023, DATE '1999-01-05', 'bozhena@workshop.pro', 'Skolota', 'Bozhenova',
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
+VALUES (1023, 0, DATE '1999-01-05', 'bozhena@workshop.pro', 'Skolota', 'Bozhenova',
 		'$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
-VALUES (1024, DATE '1991-10-09', 'petro@workshop.pro', 'Oktavian', 'Petrov',
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
+VALUES (1024, 0, DATE '1991-10-09', 'petro@workshop.pro', 'Oktavian', 'Petrov',
 		'$2a$10$zvHjaq7bDWCD' || '.mAm/RPgDOK1F6Mp7RK5OvJPVyZpl96bbForV/LcG', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
-VALUES (1025, DATE '1973-03-21', 'sobolev@workshop.pro', 'Kirill', 'Sobolev',
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
+VALUES (1025, 0, DATE '1973-03-21', 'sobolev@workshop.pro', 'Kirill', 'Sobolev',
 		'$2a$10$EgyGzvUTWH' || '.uOqTT6LkzgeixVYug7ixwZ85TbqXvtyoudCIlSP1v.', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
-VALUES (1026, DATE '1983-07-25', 'kukushkin@workshop.pro', 'Leonid', 'Kukishkind',
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
+VALUES (1026, 0, DATE '1983-07-25', 'kukushkin@workshop.pro', 'Leonid', 'Kukishkind',
 		'$2a$10$5pGjiQHPqtinyM0PaIwjx' || '.NdNfK6vbBlzIk.6sLW9Z3UEmbj5Rz12', CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.EMPLOYEES (ID, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
-VALUES (1027, DATE '1979-08-20', 'puzdoy@workshop.pro', 'Semion', 'Puzdoy',
+INSERT INTO INTERNAL.EMPLOYEES (ID, VERSION, BIRTHDAY, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD, EMPLOYED)
+VALUES (1027, 0, DATE '1979-08-20', 'puzdoy@workshop.pro', 'Semion', 'Puzdoy',
 		'$2a$10$9wFRh0Sr4bu2JmWWX/3pjetFJOPmJf4kj2EyU65IxJUiN8TDqILH.', CURRENT_TIMESTAMP());
 ;
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
-VALUES (1011, 'Administrator', 'Администратор сайта с доступом ко всем разделам.', CURRENT_TIMESTAMP(), 1021, 1001);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
-VALUES (1012, 'Senior personnel manager', 'Старший работник отдела кадров', CURRENT_TIMESTAMP(), 1021, 1002);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
-VALUES (1013, 'Personnel manager', 'Работник отдела кадров', CURRENT_TIMESTAMP(), 1023, 1002);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
-VALUES (1014, 'Senior manager', 'Старший менеджер по управлению заказами', CURRENT_TIMESTAMP(), 1023, 1003);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
-VALUES (1015, 'Manager', 'Менеджер по управлению заказами', CURRENT_TIMESTAMP(), 1023, 1003);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
-VALUES (1016, 'Senior technician', 'Старший техник', CURRENT_TIMESTAMP(), 1021, 1004);
-INSERT INTO INTERNAL.POSITIONS (ID, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
-VALUES (1017, 'Technician', 'Техник', CURRENT_TIMESTAMP(), 1021, 1004);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
+VALUES (1011, 0, 'Administrator', 'Администратор сайта с доступом ко всем разделам.', CURRENT_TIMESTAMP(), 1021, 1001);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
+VALUES (1012, 0, 'Senior personnel manager', 'Старший работник отдела кадров', CURRENT_TIMESTAMP(), 1021, 1002);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
+VALUES (1013, 0, 'Personnel manager', 'Работник отдела кадров', CURRENT_TIMESTAMP(), 1023, 1002);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
+VALUES (1014, 0, 'Senior manager', 'Старший менеджер по управлению заказами', CURRENT_TIMESTAMP(), 1023, 1003);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
+VALUES (1015, 0, 'Manager', 'Менеджер по управлению заказами', CURRENT_TIMESTAMP(), 1023, 1003);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
+VALUES (1016, 0, 'Senior technician', 'Старший техник', CURRENT_TIMESTAMP(), 1021, 1004);
+INSERT INTO INTERNAL.POSITIONS (ID, VERSION, NAME, DESCRIPTION, CREATED, CREATED_BY, DEPARTMENT_ID)
+VALUES (1017, 0, 'Technician', 'Техник', CURRENT_TIMESTAMP(), 1021, 1004);
 ;
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1031, 'Mobile', '1-234-56-35', 1021, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1032, 'Mobile', '1-863-45-23', 1022, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1033, 'Mobile', '1-843-42-58', 1022, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1034, 'Mobile', '1-356-35-38', 1023, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1035, 'Mobile', '1-864-34-34', 1024, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1036, 'Mobile', '1-883-25-53', 1024, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1037, 'Mobile', '1-267-46-53', 1025, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1038, 'Mobile', '1-927-93-82', 1025, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1039, 'Mobile', '1-294-72-99', 1026, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1040, 'Mobile', '1-924-77-42', 1027, CURRENT_TIMESTAMP());
-INSERT INTO INTERNAL.PHONES (ID, NAME, PHONE, EMPLOYEE_ID, CREATED)
-VALUES (1041, 'Mobile', '1-864-72-62', 1027, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1031, 0, 'Mobile', '1-234-56-35', 1021, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1032, 0, 'Mobile', '1-863-45-23', 1022, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1033, 0, 'Mobile', '1-843-42-58', 1022, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1034, 0, 'Mobile', '1-356-35-38', 1023, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1035, 0, 'Mobile', '1-864-34-34', 1024, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1036, 0, 'Mobile', '1-883-25-53', 1024, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1037, 0, 'Mobile', '1-267-46-53', 1025, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1038, 0, 'Mobile', '1-927-93-82', 1025, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1039, 0, 'Mobile', '1-294-72-99', 1026, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1040, 0, 'Mobile', '1-924-77-42', 1027, CURRENT_TIMESTAMP());
+INSERT INTO INTERNAL.PHONES (ID, VERSION, NAME, PHONE, EMPLOYEE_ID, CREATED)
+VALUES (1041, 0, 'Mobile', '1-864-72-62', 1027, CURRENT_TIMESTAMP());
 ;
 ;
 INSERT INTO INTERNAL.EMPLOYEES_TO_POSITIONS (EMPLOYEE_ID, POSITION_ID)
@@ -92,28 +92,28 @@ VALUES (1026, 1016);
 INSERT INTO INTERNAL.EMPLOYEES_TO_POSITIONS (EMPLOYEE_ID, POSITION_ID)
 VALUES (1027, 1017);
 ;
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
-VALUES ( 1091, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userOne@mail.pro', 'UserOneFirst', 'UserOneLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
-VALUES ( 1092, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userTwo@meail.pro', 'UserTwoFirst', 'UserTwoLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
-VALUES ( 1093, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userThree@mailto.ru', 'UserThreeFirst', 'UserThreeLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
-VALUES ( 1094, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userFour@mail.eu', 'UserFourFirst', 'UserFourLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
-VALUES ( 1095, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userFive@mailing.org', 'UserFiveFirst', 'UserFiveLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
-VALUES ( 1096, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userSix@mail.prod', 'UserSixFirst', 'UserSixLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
-VALUES ( 1097, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userSeven@email.lv', 'UserSevenFirst', 'UserSevenLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
-VALUES ( 1098, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userEight@email.alb', 'UserEightFirst', 'UserEightLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
-INSERT INTO EXTERNAL.USERS (ID, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
-VALUES ( 1099, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userNine@pro.mail', 'UserNineFirst', 'UserNineLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
+VALUES ( 1091, 0, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userOne@mail.pro', 'UserOneFirst', 'UserOneLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
+VALUES ( 1092, 0, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userTwo@meail.pro', 'UserTwoFirst', 'UserTwoLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
+VALUES ( 1093, 0, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userThree@mailto.ru', 'UserThreeFirst', 'UserThreeLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
+VALUES ( 1094, 0, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userFour@mail.eu', 'UserFourFirst', 'UserFourLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
+VALUES ( 1095, 0, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userFive@mailing.org', 'UserFiveFirst', 'UserFiveLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
+VALUES ( 1096, 0, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userSix@mail.prod', 'UserSixFirst', 'UserSixLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
+VALUES ( 1097, 0, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userSeven@email.lv', 'UserSevenFirst', 'UserSevenLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
+VALUES ( 1098, 0, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userEight@email.alb', 'UserEightFirst', 'UserEightLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
+INSERT INTO EXTERNAL.USERS (ID, VERSION, BIRTHDAY, CREATED, EMAIL, FIRST_NAME, LAST_NAME, PASSWORD)
+VALUES ( 1099, 0, CURRENT_DATE, CURRENT_TIMESTAMP(), 'userNine@pro.mail', 'UserNineFirst', 'UserNineLast', '$2a$10$xT0XO4QAEwkdBQpExuYOXOq0uzSkxBvFiwPKXapsziUoGFQW0B4xS');
 ;
-INSERT INTO INTERNAL.ORDERS (ID, CREATED, DEADLINE, DESCRIPTION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID)
-VALUES ( 1051, CURRENT_TIMESTAMP(),  CURRENT_TIMESTAMP(), 'Order one', 1024, 1025, 1091);
-INSERT INTO INTERNAL.ORDERS (ID, CREATED, FINISHED, DEADLINE, DESCRIPTION, OVERALL_PRICE, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID)
-VALUES ( 1052, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), 'Order two', 78.56, 1027, 1025, 1092 );
-INSERT INTO INTERNAL.ORDERS (ID, CREATED, FINISHED, DEADLINE, DESCRIPTION, OVERALL_PRICE, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID)
-VALUES ( 1053, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), 'Order three', 25.50, 1022, 1026, 1093 );
\ No newline at end of file
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED, DEADLINE, DESCRIPTION, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID)
+VALUES ( 1051, 0, CURRENT_TIMESTAMP(),  CURRENT_TIMESTAMP(), 'Order one', 1024, 1025, 1091);
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED, FINISHED, DEADLINE, DESCRIPTION, OVERALL_PRICE, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID)
+VALUES ( 1052, 0, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), 'Order two', 78.56, 1027, 1025, 1092 );
+INSERT INTO INTERNAL.ORDERS (ID, VERSION, CREATED, FINISHED, DEADLINE, DESCRIPTION, OVERALL_PRICE, CREATED_BY, MODIFIED_BY, CREATED_FOR_ID)
+VALUES ( 1053, 0, CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), 'Order three', 25.50, 1022, 1026, 1093 );
\ No newline at end of file